@@ -0,0 +1,255 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.microprofile.jdt.quarkus;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.lsp4mp.jdt.core.ArtifactResolver;
+import org.eclipse.lsp4mp.jdt.core.ArtifactResolver.Artifact;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.redhat.microprofile.jdt.internal.quarkus.providers.QuarkusDeploymentClasspathResolver;
+
+/**
+ * Test for {@link QuarkusDeploymentClasspathResolver} with a local file-based
+ * Maven repository.
+ *
+ */
+public class QuarkusDeploymentClasspathResolverTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private FileArtifactResolver resolver;
+
+	/**
+	 * Artifact resolver which resolves artifacts from a local file-based Maven
+	 * repository.
+	 */
+	private static class FileArtifactResolver implements ArtifactResolver {
+
+		private final File repository;
+
+		private final Map<String /* groupId:artifactId:version */, Set<Artifact>> dependencies;
+
+		private final AtomicInteger resolvedCount;
+
+		public FileArtifactResolver(File repository) {
+			this.repository = repository;
+			this.dependencies = new HashMap<>();
+			this.resolvedCount = new AtomicInteger();
+		}
+
+		@Override
+		public String getArtifact(Artifact artifact, IProgressMonitor monitor) {
+			resolvedCount.incrementAndGet();
+			File file = getFile(artifact.getGroupId(), artifact.getArtifactId(), artifact.getVersion(),
+					artifact.getClassifier());
+			return file.exists() ? file.getAbsolutePath() : null;
+		}
+
+		@Override
+		public Set<Artifact> getDependencies(Artifact artifact, IProgressMonitor monitor) {
+			Set<Artifact> result = dependencies.get(getKey(artifact));
+			return result != null ? result : Collections.emptySet();
+		}
+
+		public File install(String groupId, String artifactId, String version, String classifier)
+				throws IOException {
+			File file = getFile(groupId, artifactId, version, classifier);
+			file.getParentFile().mkdirs();
+			file.createNewFile();
+			return file;
+		}
+
+		public void addDependencies(Artifact artifact, Artifact... artifactDependencies) {
+			dependencies.put(getKey(artifact), new LinkedHashSet<>(Arrays.asList(artifactDependencies)));
+		}
+
+		public int getResolvedCount() {
+			return resolvedCount.get();
+		}
+
+		private File getFile(String groupId, String artifactId, String version, String classifier) {
+			String fileName = artifactId + "-" + version
+					+ (classifier != null && !classifier.isEmpty() ? "-" + classifier : "") + ".jar";
+			return new File(repository,
+					groupId.replace('.', '/') + "/" + artifactId + "/" + version + "/" + fileName);
+		}
+
+		private static String getKey(Artifact artifact) {
+			return artifact.getGroupId() + ":" + artifact.getArtifactId() + ":" + artifact.getVersion();
+		}
+	}
+
+	@Before
+	public void setUp() throws IOException {
+		resolver = new FileArtifactResolver(folder.newFolder("repository"));
+	}
+
+	@Test
+	public void resolveDeploymentClasspath() throws IOException {
+		File arcJar = resolver.install("io.quarkus", "quarkus-arc-deployment", "1.0.0", null);
+		File arcSourcesJar = resolver.install("io.quarkus", "quarkus-arc-deployment", "1.0.0",
+				ArtifactResolver.CLASSIFIER_SOURCES);
+		File openApiJar = resolver.install("io.quarkus", "quarkus-smallrye-openapi-deployment", "1.0.0", null);
+		File openApiDependencyJar = resolver.install("io.smallrye", "smallrye-open-api-core", "2.0.0", null);
+		resolver.install("io.quarkus", "quarkus-core-deployment", "1.0.0", null);
+		resolver.addDependencies(new Artifact("io.quarkus", "quarkus-smallrye-openapi-deployment", "1.0.0"),
+				new Artifact("io.smallrye", "smallrye-open-api-core", "2.0.0"),
+				new Artifact("io.quarkus", "quarkus-arc-deployment", "1.0.0"));
+
+		List<Artifact> deploymentArtifacts = Arrays.asList( //
+				new Artifact("io.quarkus", "quarkus-arc-deployment", "1.0.0"), //
+				new Artifact("io.quarkus", "quarkus-smallrye-openapi-deployment", "1.0.0"), //
+				new Artifact("io.quarkus", "quarkus-core-deployment", "1.0.0"));
+		// quarkus-core-deployment is already in the project classpath
+		Set<String> existingJars = new HashSet<>(Arrays.asList("quarkus-core-deployment-1.0.0.jar"));
+
+		List<IClasspathEntry> entries = QuarkusDeploymentClasspathResolver.getDeploymentClasspath(
+				"resolveDeploymentClasspath", "fingerprint", () -> deploymentArtifacts, existingJars, resolver,
+				"quarkus-smallrye-openapi-deployment"::equals, new NullProgressMonitor());
+
+		assertEquals(3, entries.size());
+		assertEntry(arcJar, arcSourcesJar, entries.get(0));
+		assertEntry(openApiJar, null, entries.get(1));
+		// quarkus-arc-deployment dependency is not added twice
+		assertEntry(openApiDependencyJar, null, entries.get(2));
+	}
+
+	@Test
+	public void resolveSharedDependencyOnce() throws IOException {
+		File arcJar = resolver.install("io.quarkus", "quarkus-arc-deployment", "1.0.0", null);
+		File restJar = resolver.install("io.quarkus", "quarkus-resteasy-deployment", "1.0.0", null);
+		File jandexJar = resolver.install("io.smallrye", "jandex", "3.0.0", null);
+		resolver.install("io.quarkus", "quarkus-core", "1.0.0", null);
+		resolver.addDependencies(new Artifact("io.quarkus", "quarkus-arc-deployment", "1.0.0"),
+				new Artifact("io.smallrye", "jandex", "3.0.0"), new Artifact("io.quarkus", "quarkus-core", "1.0.0"));
+		resolver.addDependencies(new Artifact("io.quarkus", "quarkus-resteasy-deployment", "1.0.0"),
+				new Artifact("io.smallrye", "jandex", "3.0.0"), new Artifact("io.quarkus", "quarkus-core", "1.0.0"));
+
+		List<Artifact> deploymentArtifacts = Arrays.asList( //
+				new Artifact("io.quarkus", "quarkus-arc-deployment", "1.0.0"), //
+				new Artifact("io.quarkus", "quarkus-resteasy-deployment", "1.0.0"));
+		// quarkus-core is already in the project classpath
+		Set<String> existingJars = new HashSet<>(Arrays.asList("quarkus-core-1.0.0.jar"));
+
+		List<IClasspathEntry> entries = QuarkusDeploymentClasspathResolver.getDeploymentClasspath(
+				"resolveSharedDependencyOnce", "fingerprint", () -> deploymentArtifacts, existingJars, resolver,
+				artifactId -> true, new NullProgressMonitor());
+
+		assertEquals(3, entries.size());
+		assertEntry(arcJar, null, entries.get(0));
+		assertEntry(jandexJar, null, entries.get(1));
+		assertEntry(restJar, null, entries.get(2));
+		// 2 deployment JARs + 2 sources JARs + jandex JAR + jandex sources JAR,
+		// quarkus-core is never resolved
+		assertEquals(6, resolver.getResolvedCount());
+	}
+
+	@Test
+	public void cacheWithFingerprint() throws IOException {
+		File arcJar = resolver.install("io.quarkus", "quarkus-arc-deployment", "1.0.0", null);
+		List<Artifact> deploymentArtifacts = Arrays
+				.asList(new Artifact("io.quarkus", "quarkus-arc-deployment", "1.0.0"));
+
+		List<IClasspathEntry> entries = getDeploymentClasspath("cacheWithFingerprint", "fingerprint-1",
+				deploymentArtifacts);
+		assertEquals(1, entries.size());
+		assertEntry(arcJar, null, entries.get(0));
+		int resolvedCount = resolver.getResolvedCount();
+
+		// Same fingerprint -> the deployment classpath comes from the cache
+		entries = getDeploymentClasspath("cacheWithFingerprint", "fingerprint-1", deploymentArtifacts);
+		assertEquals(1, entries.size());
+		assertEquals(resolvedCount, resolver.getResolvedCount());
+
+		// Fingerprint changed -> the deployment classpath is resolved again
+		entries = getDeploymentClasspath("cacheWithFingerprint", "fingerprint-2", deploymentArtifacts);
+		assertEquals(1, entries.size());
+		assertEquals(resolvedCount * 2, resolver.getResolvedCount());
+	}
+
+	@Test
+	public void evictProject() throws IOException {
+		resolver.install("io.quarkus", "quarkus-arc-deployment", "1.0.0", null);
+		List<Artifact> deploymentArtifacts = Arrays
+				.asList(new Artifact("io.quarkus", "quarkus-arc-deployment", "1.0.0"));
+
+		getDeploymentClasspath("evictProject#main", "fingerprint", deploymentArtifacts);
+		int resolvedCount = resolver.getResolvedCount();
+		getDeploymentClasspath("evictProject2#main", "fingerprint", deploymentArtifacts);
+		assertEquals(resolvedCount * 2, resolver.getResolvedCount());
+
+		// The project is closed -> the deployment classpath is resolved again
+		QuarkusDeploymentClasspathResolver.evict("evictProject");
+		getDeploymentClasspath("evictProject#main", "fingerprint", deploymentArtifacts);
+		assertEquals(resolvedCount * 3, resolver.getResolvedCount());
+
+		// The other project is kept in the cache
+		getDeploymentClasspath("evictProject2#main", "fingerprint", deploymentArtifacts);
+		assertEquals(resolvedCount * 3, resolver.getResolvedCount());
+	}
+
+	@Test
+	public void noCacheWhenDeploymentArtifactIsMissing() throws IOException {
+		List<Artifact> deploymentArtifacts = Arrays
+				.asList(new Artifact("io.quarkus", "quarkus-arc-deployment", "1.0.0"));
+
+		// quarkus-arc-deployment is not available in the repository
+		List<IClasspathEntry> entries = getDeploymentClasspath("noCacheWhenDeploymentArtifactIsMissing",
+				"fingerprint", deploymentArtifacts);
+		assertEquals(0, entries.size());
+
+		// quarkus-arc-deployment is now available, it must be resolved with the same
+		// fingerprint
+		File arcJar = resolver.install("io.quarkus", "quarkus-arc-deployment", "1.0.0", null);
+		entries = getDeploymentClasspath("noCacheWhenDeploymentArtifactIsMissing", "fingerprint",
+				deploymentArtifacts);
+		assertEquals(1, entries.size());
+		assertEntry(arcJar, null, entries.get(0));
+	}
+
+	private List<IClasspathEntry> getDeploymentClasspath(String cacheKey, String fingerprint,
+			List<Artifact> deploymentArtifacts) {
+		return QuarkusDeploymentClasspathResolver.getDeploymentClasspath(cacheKey, fingerprint,
+				() -> deploymentArtifacts, Collections.emptySet(), resolver, artifactId -> false,
+				new NullProgressMonitor());
+	}
+
+	private static void assertEntry(File expectedJar, File expectedSourcesJar, IClasspathEntry entry) {
+		assertEquals(IClasspathEntry.CPE_LIBRARY, entry.getEntryKind());
+		assertEquals(expectedJar.getAbsolutePath(), entry.getPath().toOSString());
+		if (expectedSourcesJar == null) {
+			assertNull(entry.getSourceAttachmentPath());
+		} else {
+			assertEquals(expectedSourcesJar.getAbsolutePath(), entry.getSourceAttachmentPath().toOSString());
+		}
+	}
+}
@@ -0,0 +1,89 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.microprofile.jdt.quarkus;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.redhat.microprofile.jdt.internal.quarkus.providers.QuarkusJavadocIndex;
+
+/**
+ * Test for {@link QuarkusJavadocIndex}.
+ *
+ */
+public class QuarkusJavadocIndexTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void memoryIndex() throws IOException {
+		File jarFile = createJar("quarkus-core-1.0.0.jar", "jar");
+		AtomicInteger loadCount = new AtomicInteger();
+
+		QuarkusJavadocIndex index = new QuarkusJavadocIndex(null);
+		Properties javadoc = index.getJavadoc(jarFile, createLoader(loadCount));
+		assertEquals("Enable native SSL support.", javadoc.getProperty("io.quarkus.deployment.SslConfig.native_"));
+		assertEquals(1, loadCount.get());
+
+		// The JAR is loaded only once
+		assertSame(javadoc, index.getJavadoc(jarFile, createLoader(loadCount)));
+		assertEquals(1, loadCount.get());
+	}
+
+	@Test
+	public void persistedIndex() throws IOException {
+		File jarFile = createJar("quarkus-core-1.0.0.jar", "jar");
+		Path indexDir = folder.newFolder("index").toPath();
+		AtomicInteger loadCount = new AtomicInteger();
+
+		new QuarkusJavadocIndex(indexDir).getJavadoc(jarFile, createLoader(loadCount));
+		assertEquals(1, loadCount.get());
+
+		// Another index (ex : after a restart) reads the Javadoc from the disk
+		Properties javadoc = new QuarkusJavadocIndex(indexDir).getJavadoc(jarFile, createLoader(loadCount));
+		assertEquals(1, loadCount.get());
+		assertEquals(1, javadoc.size());
+		assertEquals("Enable native SSL support.", javadoc.getProperty("io.quarkus.deployment.SslConfig.native_"));
+
+		// The JAR changes, it must be loaded again
+		Files.write(jarFile.toPath(), "updated jar".getBytes(StandardCharsets.UTF_8));
+		new QuarkusJavadocIndex(indexDir).getJavadoc(jarFile, createLoader(loadCount));
+		assertEquals(2, loadCount.get());
+	}
+
+	private File createJar(String fileName, String content) throws IOException {
+		File jarFile = folder.newFile(fileName);
+		Files.write(jarFile.toPath(), content.getBytes(StandardCharsets.UTF_8));
+		return jarFile;
+	}
+
+	private static Callable<Properties> createLoader(AtomicInteger loadCount) {
+		return () -> {
+			loadCount.incrementAndGet();
+			Properties javadoc = new Properties();
+			javadoc.setProperty("io.quarkus.deployment.SslConfig.native_", "Enable native SSL support.");
+			return javadoc;
+		};
+	}
+}
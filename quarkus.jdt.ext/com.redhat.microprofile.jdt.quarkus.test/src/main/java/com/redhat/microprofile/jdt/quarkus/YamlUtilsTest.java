@@ -14,8 +14,11 @@ import static org.junit.Assert.assertTrue;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Properties;
 
+import org.eclipse.lsp4j.Position;
 import org.junit.Test;
 
 import com.redhat.microprofile.jdt.internal.quarkus.utils.YamlUtils;
@@ -68,9 +71,78 @@ public class YamlUtilsTest {
 		assertTrue(properties.containsKey("quarkus.http.port.unknown_property"));
 		assertEquals("123", properties.getProperty("quarkus.http.port.unknown_property"));
 	}
-	
-	
-	
+	@Test
+	public void list() {
+		Properties properties = loadYamlAsProperties("a:\n" + //
+				"  b: [1, 'two', {c: 3}, [4, 5]]\n" + //
+				"  c:\n" + //
+				"    - x\n" + //
+				"    - ~\n" + //
+				"    - y");
+		assertEquals(2, properties.size());
+		assertEquals("1,two,3,4,5", properties.getProperty("a.b"));
+		assertEquals("x,,y", properties.getProperty("a.c"));
+	}
+
+	@Test
+	public void scalarTypes() {
+		Properties properties = loadYamlAsProperties("int: 1_000\n" + //
+				"hex: 0x10\n" + //
+				"octal: 010\n" + //
+				"float: 1.0e+3\n" + //
+				"bool: yes\n" + //
+				"empty: ~\n" + //
+				"quoted: \"0x10\"");
+		assertEquals("1000", properties.getProperty("int"));
+		assertEquals("16", properties.getProperty("hex"));
+		assertEquals("8", properties.getProperty("octal"));
+		assertEquals("1000.0", properties.getProperty("float"));
+		assertEquals("true", properties.getProperty("bool"));
+		assertEquals("", properties.getProperty("empty"));
+		assertEquals("0x10", properties.getProperty("quoted"));
+	}
+
+	@Test
+	public void anchorAndMerge() {
+		Properties properties = loadYamlAsProperties("defaults: &defaults\n" + //
+				"  port: 8080\n" + //
+				"  host: localhost\n" + //
+				"dev:\n" + //
+				"  <<: *defaults\n" + //
+				"  port: 8081\n" + //
+				"test: *defaults");
+		assertEquals(6, properties.size());
+		assertEquals("8080", properties.getProperty("defaults.port"));
+		assertEquals("8081", properties.getProperty("dev.port"));
+		assertEquals("localhost", properties.getProperty("dev.host"));
+		assertEquals("8080", properties.getProperty("test.port"));
+		assertEquals("localhost", properties.getProperty("test.host"));
+	}
+
+	@Test
+	public void multipleDocuments() {
+		Properties properties = loadYamlAsProperties("a: 1\n" + //
+				"b: 2\n" + //
+				"---\n" + //
+				"b: 3");
+		assertEquals(2, properties.size());
+		assertEquals("1", properties.getProperty("a"));
+		assertEquals("3", properties.getProperty("b"));
+	}
+
+	@Test
+	public void positions() {
+		Map<String, Position> positions = new HashMap<>();
+		InputStream input = new ByteArrayInputStream(("quarkus:\n" + //
+				"  http:\n" + //
+				"    port: 8080\n" + //
+				"  application:\n" + //
+				"    name: name").getBytes());
+		YamlUtils.loadYamlAsProperties(input, positions);
+		assertEquals(new Position(2, 4), positions.get("quarkus.http.port"));
+		assertEquals(new Position(4, 4), positions.get("quarkus.application.name"));
+	}
+
 	private static Properties loadYamlAsProperties(String yamlContent) {
 		InputStream input = new ByteArrayInputStream(yamlContent.getBytes());
 		return YamlUtils.loadYamlAsProperties(input);
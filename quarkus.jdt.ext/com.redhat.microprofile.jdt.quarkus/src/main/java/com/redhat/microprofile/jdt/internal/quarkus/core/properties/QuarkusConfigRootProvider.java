@@ -30,45 +30,34 @@ import static org.eclipse.lsp4mp.jdt.core.utils.JDTTypeUtils.isOptional;
 import static org.eclipse.lsp4mp.jdt.core.utils.JDTTypeUtils.isPrimitiveBoolean;
 import static org.eclipse.lsp4mp.jdt.core.utils.JDTTypeUtils.isPrimitiveType;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
-import java.util.Set;
-import java.util.logging.Level;
-import java.util.logging.Logger;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
-import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
-import org.eclipse.core.runtime.Path;
-import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.jdt.core.Flags;
 import org.eclipse.jdt.core.IAnnotatable;
 import org.eclipse.jdt.core.IAnnotation;
 import org.eclipse.jdt.core.IClasspathEntry;
 import org.eclipse.jdt.core.IField;
-import org.eclipse.jdt.core.IJarEntryResource;
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.jdt.core.IType;
-import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
 import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
 import org.eclipse.lsp4mp.jdt.core.AbstractAnnotationTypeReferencePropertiesProvider;
 import org.eclipse.lsp4mp.jdt.core.ArtifactResolver;
-import org.eclipse.lsp4mp.jdt.core.ArtifactResolver.Artifact;
 import org.eclipse.lsp4mp.jdt.core.BuildingScopeContext;
 import org.eclipse.lsp4mp.jdt.core.IPropertiesCollector;
 import org.eclipse.lsp4mp.jdt.core.SearchContext;
-import org.eclipse.lsp4mp.jdt.core.utils.JDTTypeUtils;
 
 import com.redhat.microprofile.jdt.internal.quarkus.QuarkusConstants;
 import com.redhat.microprofile.jdt.internal.quarkus.providers.QuarkusContext;
+import com.redhat.microprofile.jdt.internal.quarkus.providers.QuarkusDeploymentClasspathResolver;
+import com.redhat.microprofile.jdt.internal.quarkus.providers.QuarkusJavadocIndex;
 import com.redhat.microprofile.jdt.internal.quarkus.providers.QuarkusSearchContext;
 import com.redhat.microprofile.jdt.quarkus.JDTQuarkusUtils;
 
@@ -84,8 +73,6 @@ import io.quarkus.runtime.annotations.ConfigPhase;
  */
 public class QuarkusConfigRootProvider extends AbstractAnnotationTypeReferencePropertiesProvider {
 
-	private static final Logger LOGGER = Logger.getLogger(QuarkusConfigRootProvider.class.getName());
-
 	private static final String[] ANNOTATION_NAMES = { QuarkusConstants.CONFIG_ROOT_ANNOTATION };
 
 	private static final String JAVADOC_CACHE_KEY = QuarkusConfigRootProvider.class.getName() + "#javadoc";
@@ -114,118 +101,9 @@ public class QuarkusConfigRootProvider extends AbstractAnnotationTypeReferencePr
 			return;
 		}
 
-		// Get existings JARs from the classpath
-		List<String> existingJars = Stream.of(resolvedClasspath)
-				// filter entry to collect only JAR
-				.filter(entry -> entry.getEntryKind() == IClasspathEntry.CPE_LIBRARY)
-				// filter Quarkus deployment JAR marked as test scope. Ex:
-				// 'quarkus-core-deployment' can be marked as test scope, we must exclude them
-				// to avoid to ignore it in the next step.
-				.filter(entry -> !excludeTestCode || (excludeTestCode && !entry.isTest())) //
-				.map(entry -> entry.getPath().lastSegment()).collect(Collectors.toList());
-
-		// Loop for each JAR and try to load the /META-INF/quarkus-extension.properties
-		// file which contains the Quarkus deployment artifact information
-		List<Artifact> deploymentArtifacts = new ArrayList<>();
-		for (IClasspathEntry entry : resolvedClasspath) {
-			if (excludeTestCode && entry.isTest()) {
-				continue;
-			}
-			switch (entry.getEntryKind()) {
-
-			case IClasspathEntry.CPE_LIBRARY:
-				String jarPath = entry.getPath().toOSString();
-				IPackageFragmentRoot root = project.getPackageFragmentRoot(jarPath);
-				if (root != null) {
-					Artifact deploymentArtifact = getDeploymentArtifact(root);
-					if (deploymentArtifact != null) {
-						deploymentArtifacts.add(deploymentArtifact);
-					}
-				}
-				break;
-			}
-		}
-
-		// Donwload or get the deployment artifact and their dependencies and add them
-		// in the
-		// classpath
-		SubMonitor mainMonitor = SubMonitor.convert(monitor, "Loading Quarkus deployment dependencies",
-				deploymentArtifacts.size());
-		try {
-			for (Artifact deploymentArtifact : deploymentArtifacts) {
-				mainMonitor.subTask("Loading Quarkus deployment '" + deploymentArtifact.getGroupId()
-						+ deploymentArtifact.getArtifactId() + deploymentArtifact.getVersion()
-						+ "' and their dependencies...");
-				SubMonitor m = mainMonitor.split(1);
-				if (addArtifactInClasspath(deploymentArtifact, existingJars, searchJarEntries, artifactResolver, m)) {
-					if (quarkusContext.isCollectDependenciesFor(deploymentArtifact.getArtifactId())) {
-						// Collect dependencies of the deployment artifact and add them for the seach
-						Set<Artifact> dependencies = artifactResolver.getDependencies(deploymentArtifact, m);
-						for (Artifact dependency : dependencies) {
-							addArtifactInClasspath(dependency, existingJars, searchJarEntries, artifactResolver, m);
-						}
-					}
-				}
-			}
-		} finally {
-			mainMonitor.done();
-		}
-	}
-
-	private static boolean addArtifactInClasspath(Artifact deploymentArtifact, List<String> existingJars,
-			List<IClasspathEntry> deploymentJarEntries, ArtifactResolver artifactResolver, IProgressMonitor monitor) {
-		// Get or download deployment artifact
-		String deploymentJarFile = artifactResolver.getArtifact(deploymentArtifact, monitor);
-		if (deploymentJarFile != null) {
-			IPath deploymentJarFilePath = Path.fromOSString(deploymentJarFile);
-			String deploymentJarName = deploymentJarFilePath.lastSegment();
-			if (!existingJars.contains(deploymentJarName)) {
-				// The *-deployment artifact is not included in the classpath project, add it.
-				existingJars.add(deploymentJarName);
-				IPath sourceAttachmentPath = null;
-				// Get or download deployment sources artifact
-				Artifact sourceArtifact = new Artifact(deploymentArtifact.getGroupId(),
-						deploymentArtifact.getArtifactId(), deploymentArtifact.getVersion(),
-						ArtifactResolver.CLASSIFIER_SOURCES);
-				String sourceJarFile = artifactResolver.getArtifact(sourceArtifact, monitor);
-				if (sourceJarFile != null) {
-					sourceAttachmentPath = Path.fromOSString(sourceJarFile);
-				}
-				deploymentJarEntries.add(JavaCore.newLibraryEntry(deploymentJarFilePath, sourceAttachmentPath, null));
-				return true;
-			}
-		}
-		return false;
-	}
-
-	/**
-	 * Returns the deployment artifact declared in the
-	 * 'quarkus-extension.properties' file and null otherwise.
-	 * 
-	 * @param root the JAR
-	 * @return the deployment artifact declared in the
-	 *         'quarkus-extension.properties' file and null otherwise.
-	 */
-	private static Artifact getDeploymentArtifact(IPackageFragmentRoot root) {
-		try {
-			IJarEntryResource resource = JDTTypeUtils.findPropertiesResource(root,
-					QuarkusConstants.QUARKUS_EXTENSION_PROPERTIES_FILE);
-			if (resource == null) {
-				return null;
-			}
-			Properties properties = new Properties();
-			properties.load(resource.getContents());
-			// deployment-artifact=io.quarkus\:quarkus-undertow-deployment\:0.21.1
-			String deploymentArtifact = properties.getProperty(QuarkusConstants.DEPLOYMENT_ARTIFACT_PROPERTY);
-			String[] result = deploymentArtifact.split(":");
-			String groupId = result[0];
-			String artifactId = result[1];
-			String version = result[2];
-			return new Artifact(groupId, artifactId, version);
-		} catch (Exception e) {
-			LOGGER.log(Level.SEVERE, "Error while downloading deployment JAR '" + root.getElementName() + "'.", e);
-			return null;
-		}
+		List<IClasspathEntry> deploymentJarEntries = QuarkusDeploymentClasspathResolver.getDeploymentClasspath(project,
+				resolvedClasspath, excludeTestCode, artifactResolver, quarkusContext, monitor);
+		searchJarEntries.addAll(deploymentJarEntries);
 	}
 
 	@Override
@@ -593,17 +471,10 @@ public class QuarkusConfigRootProvider extends AbstractAnnotationTypeReferencePr
 		IPackageFragmentRoot packageRoot = (IPackageFragmentRoot) field.getAncestor(IJavaElement.PACKAGE_FRAGMENT_ROOT);
 		Properties properties = javadocCache.get(packageRoot);
 		if (properties == null) {
-			properties = new Properties();
+			// The Javadoc of the JAR is shared between scans and projects by the Javadoc
+			// index
+			properties = QuarkusJavadocIndex.getInstance().getJavadoc(packageRoot);
 			javadocCache.put(packageRoot, properties);
-			IJarEntryResource quarkusJavadocResource = findJavadocFromQuakusJavadocProperties(packageRoot);
-			if (quarkusJavadocResource != null) {
-				try {
-					properties.load(quarkusJavadocResource.getContents());
-				} catch (Exception e) {
-					// TODO : log it
-					e.printStackTrace();
-				}
-			}
 		}
 		if (properties.isEmpty()) {
 			return null;
@@ -621,11 +492,6 @@ public class QuarkusConfigRootProvider extends AbstractAnnotationTypeReferencePr
 		return properties.getProperty(fieldKey);
 	}
 
-	private static IJarEntryResource findJavadocFromQuakusJavadocProperties(IPackageFragmentRoot packageRoot)
-			throws JavaModelException {
-		return JDTTypeUtils.findPropertiesResource(packageRoot, QuarkusConstants.QUARKUS_JAVADOC_PROPERTIES_FILE);
-	}
-
 	private static int getPhase(ConfigPhase configPhase) {
 		switch (configPhase) {
 		case BUILD_TIME:
@@ -9,6 +9,7 @@
 *******************************************************************************/
 package com.redhat.microprofile.jdt.internal.quarkus.providers;
 
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -67,4 +68,13 @@ public class QuarkusContext {
 		return dependenciesToCollect.contains(deploymentArtifact);
 	}
 
+	/**
+	 * Returns the deployment artifacts for which dependencies must be downloaded.
+	 * 
+	 * @return the deployment artifacts for which dependencies must be downloaded.
+	 */
+	public Set<String> getDependenciesToCollect() {
+		return Collections.unmodifiableSet(dependenciesToCollect);
+	}
+
 }
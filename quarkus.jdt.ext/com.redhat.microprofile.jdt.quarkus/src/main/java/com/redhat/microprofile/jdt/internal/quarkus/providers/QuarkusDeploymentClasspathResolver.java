@@ -0,0 +1,512 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.microprofile.jdt.internal.quarkus.providers;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.IJarEntryResource;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.lsp4mp.jdt.core.ArtifactResolver;
+import org.eclipse.lsp4mp.jdt.core.ArtifactResolver.Artifact;
+import org.eclipse.lsp4mp.jdt.core.utils.JDTTypeUtils;
+
+import com.redhat.microprofile.jdt.internal.quarkus.QuarkusConstants;
+
+/**
+ * Resolves the Quarkus deployment JARs (and their sources) of the extensions
+ * declared in the classpath of a Java project.
+ *
+ * <p>
+ * The resulting classpath entries are cached per project with a fingerprint of
+ * the resolved classpath. The deployment classpath is computed again only when
+ * this fingerprint changes, and the cache entries of a project are evicted when
+ * the project is closed or deleted.
+ * </p>
+ *
+ * <p>
+ * The deployment artifacts are resolved in parallel. The calls to the artifact
+ * resolver are guarded per artifact coordinate, so that the same artifact is
+ * never downloaded twice at the same time (even when the deployment classpaths
+ * of several projects are computed at the same time), and an artifact shared
+ * by several deployment artifacts is resolved only once per deployment
+ * classpath computation. The JARs which are already in the project classpath
+ * are skipped before calling the artifact resolver.
+ * </p>
+ *
+ */
+public class QuarkusDeploymentClasspathResolver {
+
+	private static final Logger LOGGER = Logger.getLogger(QuarkusDeploymentClasspathResolver.class.getName());
+
+	private static final int MAX_PARALLEL_RESOLUTIONS = Math.max(1,
+			Math.min(8, Runtime.getRuntime().availableProcessors()));
+
+	private static final Map<String /* project name#scope */, DeploymentClasspath> cache = new ConcurrentHashMap<>();
+
+	private static final Map<String /* groupId:artifactId:version:classifier */, Object> artifactLocks = new ConcurrentHashMap<>();
+
+	private static volatile IResourceChangeListener projectListener;
+
+	/**
+	 * The resolved deployment classpath.
+	 */
+	private static class DeploymentClasspath {
+
+		private final String fingerprint;
+
+		private final List<IClasspathEntry> entries;
+
+		private final boolean complete;
+
+		public DeploymentClasspath(String fingerprint, List<IClasspathEntry> entries, boolean complete) {
+			this.fingerprint = fingerprint;
+			this.entries = entries;
+			this.complete = complete;
+		}
+	}
+
+	/**
+	 * A resolved artifact JAR with its sources JAR and its resolved dependencies.
+	 */
+	private static class ResolvedArtifact {
+
+		private final String jarFile;
+
+		private final String sourceJarFile;
+
+		private final List<ResolvedArtifact> dependencies;
+
+		public ResolvedArtifact(String jarFile, String sourceJarFile, List<ResolvedArtifact> dependencies) {
+			this.jarFile = jarFile;
+			this.sourceJarFile = sourceJarFile;
+			this.dependencies = dependencies;
+		}
+	}
+
+	private static final ResolvedArtifact SKIPPED_ARTIFACT = new ResolvedArtifact(null, null,
+			Collections.emptyList());
+
+	/**
+	 * The state shared by the resolution tasks of a deployment classpath.
+	 */
+	private static class ArtifactResolution {
+
+		private final ArtifactResolver artifactResolver;
+
+		private final IProgressMonitor monitor;
+
+		private final Set<String> existingJars;
+
+		private final Map<String /* groupId:artifactId:version:classifier */, CompletableFuture<String>> jarFiles = new ConcurrentHashMap<>();
+
+		public ArtifactResolution(Set<String> existingJars, ArtifactResolver artifactResolver,
+				IProgressMonitor monitor) {
+			this.artifactResolver = artifactResolver;
+			this.monitor = monitor;
+			this.existingJars = existingJars;
+		}
+
+		/**
+		 * Returns true if the given JAR name is included in the project classpath and
+		 * false otherwise.
+		 *
+		 * @param jarName the JAR name.
+		 * @return true if the given JAR name is included in the project classpath and
+		 *         false otherwise.
+		 */
+		public boolean isInClasspath(String jarName) {
+			return existingJars.contains(jarName);
+		}
+
+		/**
+		 * Returns the JAR file of the given artifact, resolved once per deployment
+		 * classpath computation.
+		 *
+		 * @param artifact the artifact.
+		 * @return the JAR file of the given artifact.
+		 */
+		public String getArtifact(Artifact artifact) {
+			String coordinate = getCoordinate(artifact);
+			CompletableFuture<String> jarFile = new CompletableFuture<>();
+			CompletableFuture<String> existing = jarFiles.putIfAbsent(coordinate, jarFile);
+			if (existing != null) {
+				return existing.join();
+			}
+			try {
+				String resolved;
+				synchronized (artifactLocks.computeIfAbsent(coordinate, k -> new Object())) {
+					resolved = artifactResolver.getArtifact(artifact, monitor);
+				}
+				jarFile.complete(resolved);
+				return resolved;
+			} catch (RuntimeException e) {
+				jarFile.completeExceptionally(e);
+				throw e;
+			}
+		}
+
+		/**
+		 * Returns the dependencies of the given artifact.
+		 *
+		 * @param artifact the artifact.
+		 * @return the dependencies of the given artifact.
+		 */
+		public Set<Artifact> getDependencies(Artifact artifact) {
+			synchronized (artifactLocks.computeIfAbsent(getCoordinate(artifact), k -> new Object())) {
+				return artifactResolver.getDependencies(artifact, monitor);
+			}
+		}
+	}
+
+	private QuarkusDeploymentClasspathResolver() {
+
+	}
+
+	/**
+	 * Returns the Quarkus deployment classpath entries which must be added to the
+	 * search of the given Java project.
+	 *
+	 * @param project           the Java project.
+	 * @param resolvedClasspath the resolved classpath of the Java project.
+	 * @param excludeTestCode   true if test code must be excluded and false
+	 *                          otherwise.
+	 * @param artifactResolver  the artifact resolver.
+	 * @param quarkusContext    the Quarkus context.
+	 * @param monitor           the progress monitor.
+	 * @return the Quarkus deployment classpath entries which must be added to the
+	 *         search of the given Java project.
+	 */
+	public static List<IClasspathEntry> getDeploymentClasspath(IJavaProject project,
+			IClasspathEntry[] resolvedClasspath, boolean excludeTestCode, ArtifactResolver artifactResolver,
+			QuarkusContext quarkusContext, IProgressMonitor monitor) {
+		// Get existings JARs from the classpath
+		Set<String> existingJars = new HashSet<>();
+		StringBuilder fingerprint = new StringBuilder();
+		for (IClasspathEntry entry : resolvedClasspath) {
+			// filter entry to collect only JAR
+			// filter Quarkus deployment JAR marked as test scope. Ex:
+			// 'quarkus-core-deployment' can be marked as test scope, we must exclude them
+			// to avoid to ignore it in the next step.
+			if (entry.getEntryKind() != IClasspathEntry.CPE_LIBRARY || (excludeTestCode && entry.isTest())) {
+				continue;
+			}
+			IPath path = entry.getPath();
+			existingJars.add(path.lastSegment());
+			File file = path.toFile();
+			fingerprint.append(path.toString()) //
+					.append('@').append(file.lastModified()) //
+					.append(':').append(file.length()) //
+					.append('\n');
+		}
+		List<String> dependenciesToCollect = new ArrayList<>(quarkusContext.getDependenciesToCollect());
+		Collections.sort(dependenciesToCollect);
+		fingerprint.append(dependenciesToCollect);
+
+		String cacheKey = project.getElementName() + (excludeTestCode ? "#main" : "#test");
+		addProjectListenerIfNeeded();
+		return getDeploymentClasspath(cacheKey, fingerprint.toString(),
+				() -> getDeploymentArtifacts(project, resolvedClasspath, excludeTestCode), existingJars,
+				artifactResolver, quarkusContext::isCollectDependenciesFor, monitor);
+	}
+
+	/**
+	 * Returns the cached deployment classpath entries for the given cache key if
+	 * the fingerprint has not changed and resolve the deployment classpath
+	 * otherwise.
+	 *
+	 * @param cacheKey               the cache key (project name).
+	 * @param fingerprint            the fingerprint of the resolved classpath.
+	 * @param deploymentArtifacts    the deployment artifacts provider, called only
+	 *                               if the deployment classpath must be resolved.
+	 * @param existingJars           the JAR names of the project classpath.
+	 * @param artifactResolver       the artifact resolver.
+	 * @param collectDependenciesFor returns true if dependencies of the given
+	 *                               deployment artifact id must be collected.
+	 * @param monitor                the progress monitor.
+	 * @return the deployment classpath entries.
+	 */
+	public static List<IClasspathEntry> getDeploymentClasspath(String cacheKey, String fingerprint,
+			Supplier<List<Artifact>> deploymentArtifacts, Set<String> existingJars,
+			ArtifactResolver artifactResolver, Predicate<String> collectDependenciesFor, IProgressMonitor monitor) {
+		DeploymentClasspath classpath = cache.get(cacheKey);
+		if (classpath != null && classpath.fingerprint.equals(fingerprint)) {
+			return classpath.entries;
+		}
+		classpath = resolveDeploymentClasspath(fingerprint, deploymentArtifacts.get(), existingJars,
+				artifactResolver, collectDependenciesFor, monitor);
+		if (classpath.complete && !monitor.isCanceled()) {
+			// Cache the deployment classpath only when all deployment JARs have been
+			// resolved (ex : offline mode could fail to download some JARs).
+			cache.put(cacheKey, classpath);
+		} else {
+			cache.remove(cacheKey);
+		}
+		return classpath.entries;
+	}
+
+	/**
+	 * Evict the cached deployment classpaths of the given project.
+	 *
+	 * @param projectName the project name.
+	 */
+	public static void evict(String projectName) {
+		String prefix = projectName + "#";
+		cache.keySet().removeIf(cacheKey -> cacheKey.equals(projectName) || cacheKey.startsWith(prefix));
+	}
+
+	private static void addProjectListenerIfNeeded() {
+		if (projectListener != null) {
+			return;
+		}
+		synchronized (cache) {
+			if (projectListener != null) {
+				return;
+			}
+			IResourceChangeListener listener = event -> {
+				IResource resource = event.getResource();
+				if (resource != null && resource.getType() == IResource.PROJECT) {
+					evict(resource.getName());
+				}
+			};
+			ResourcesPlugin.getWorkspace().addResourceChangeListener(listener,
+					IResourceChangeEvent.PRE_CLOSE | IResourceChangeEvent.PRE_DELETE);
+			projectListener = listener;
+		}
+	}
+
+	private static DeploymentClasspath resolveDeploymentClasspath(String fingerprint,
+			List<Artifact> deploymentArtifacts, Set<String> existingJars, ArtifactResolver artifactResolver,
+			Predicate<String> collectDependenciesFor, IProgressMonitor monitor) {
+		if (deploymentArtifacts.isEmpty()) {
+			return new DeploymentClasspath(fingerprint, Collections.emptyList(), true);
+		}
+
+		// Donwload or get the deployment artifacts and their dependencies in parallel
+		SubMonitor mainMonitor = SubMonitor.convert(monitor, "Loading Quarkus deployment dependencies",
+				deploymentArtifacts.size());
+		// The progress monitor is not thread safe, the resolution tasks use a monitor
+		// which only delegates the cancellation.
+		IProgressMonitor taskMonitor = new NullProgressMonitor() {
+
+			@Override
+			public boolean isCanceled() {
+				return monitor.isCanceled();
+			}
+		};
+		ArtifactResolution resolution = new ArtifactResolution(existingJars, artifactResolver, taskMonitor);
+		List<ResolvedArtifact> resolvedArtifacts = new ArrayList<>(deploymentArtifacts.size());
+		ExecutorService executor = Executors.newFixedThreadPool(
+				Math.min(deploymentArtifacts.size(), MAX_PARALLEL_RESOLUTIONS), runnable -> {
+					Thread thread = new Thread(runnable, "Quarkus deployment classpath resolver");
+					thread.setDaemon(true);
+					return thread;
+				});
+		try {
+			List<CompletableFuture<ResolvedArtifact>> futures = new ArrayList<>(deploymentArtifacts.size());
+			for (Artifact deploymentArtifact : deploymentArtifacts) {
+				boolean collectDependencies = collectDependenciesFor.test(deploymentArtifact.getArtifactId());
+				futures.add(CompletableFuture.supplyAsync(
+						() -> resolveArtifact(deploymentArtifact, collectDependencies, resolution), executor));
+			}
+			for (int i = 0; i < futures.size(); i++) {
+				Artifact deploymentArtifact = deploymentArtifacts.get(i);
+				mainMonitor.subTask("Loading Quarkus deployment '" + deploymentArtifact.getGroupId()
+						+ deploymentArtifact.getArtifactId() + deploymentArtifact.getVersion()
+						+ "' and their dependencies...");
+				resolvedArtifacts.add(futures.get(i).join());
+				mainMonitor.worked(1);
+			}
+		} finally {
+			executor.shutdownNow();
+			mainMonitor.done();
+		}
+
+		// Add the deployment JARs and their dependencies in the classpath, in the
+		// order of the deployment artifacts.
+		boolean complete = true;
+		Set<String> addedJars = new HashSet<>(existingJars);
+		List<IClasspathEntry> entries = new ArrayList<>();
+		for (ResolvedArtifact resolvedArtifact : resolvedArtifacts) {
+			if (resolvedArtifact == null) {
+				complete = false;
+				continue;
+			}
+			if (resolvedArtifact == SKIPPED_ARTIFACT) {
+				continue;
+			}
+			if (addArtifactInClasspath(resolvedArtifact, addedJars, entries)) {
+				for (ResolvedArtifact dependency : resolvedArtifact.dependencies) {
+					if (dependency != SKIPPED_ARTIFACT) {
+						addArtifactInClasspath(dependency, addedJars, entries);
+					}
+				}
+			}
+		}
+		return new DeploymentClasspath(fingerprint, Collections.unmodifiableList(entries), complete);
+	}
+
+	private static ResolvedArtifact resolveArtifact(Artifact artifact, boolean collectDependencies,
+			ArtifactResolution resolution) {
+		if (resolution.monitor.isCanceled()) {
+			return null;
+		}
+		try {
+			if (resolution.isInClasspath(getJarName(artifact))) {
+				// The artifact is included in the classpath project, it will be ignored
+				// without calling the artifact resolver.
+				return SKIPPED_ARTIFACT;
+			}
+			// Get or download deployment artifact
+			String jarFile = resolution.getArtifact(artifact);
+			if (jarFile == null) {
+				return null;
+			}
+			if (resolution.isInClasspath(Path.fromOSString(jarFile).lastSegment())) {
+				// The artifact is included in the classpath project, it will be ignored.
+				return SKIPPED_ARTIFACT;
+			}
+			// Get or download sources artifact
+			Artifact sourceArtifact = new Artifact(artifact.getGroupId(), artifact.getArtifactId(),
+					artifact.getVersion(), ArtifactResolver.CLASSIFIER_SOURCES);
+			String sourceJarFile = resolution.getArtifact(sourceArtifact);
+			List<ResolvedArtifact> dependencies = Collections.emptyList();
+			if (collectDependencies) {
+				// Collect dependencies of the deployment artifact and add them for the seach
+				dependencies = new ArrayList<>();
+				for (Artifact dependency : resolution.getDependencies(artifact)) {
+					ResolvedArtifact resolvedDependency = resolveArtifact(dependency, false, resolution);
+					if (resolvedDependency != null) {
+						dependencies.add(resolvedDependency);
+					}
+				}
+			}
+			return new ResolvedArtifact(jarFile, sourceJarFile, dependencies);
+		} catch (Exception e) {
+			LOGGER.log(Level.SEVERE, "Error while resolving Quarkus deployment artifact '" + artifact.getGroupId()
+					+ ":" + artifact.getArtifactId() + ":" + artifact.getVersion() + "'.", e);
+			return null;
+		}
+	}
+
+	private static String getCoordinate(Artifact artifact) {
+		return artifact.getGroupId() + ":" + artifact.getArtifactId() + ":" + artifact.getVersion() + ":"
+				+ (artifact.getClassifier() != null ? artifact.getClassifier() : "");
+	}
+
+	private static String getJarName(Artifact artifact) {
+		return artifact.getArtifactId() + "-" + artifact.getVersion()
+				+ (artifact.getClassifier() != null ? "-" + artifact.getClassifier() : "") + ".jar";
+	}
+
+	private static boolean addArtifactInClasspath(ResolvedArtifact artifact, Set<String> existingJars,
+			List<IClasspathEntry> entries) {
+		IPath jarFilePath = Path.fromOSString(artifact.jarFile);
+		if (!existingJars.add(jarFilePath.lastSegment())) {
+			// The artifact is already included in the classpath project.
+			return false;
+		}
+		IPath sourceAttachmentPath = artifact.sourceJarFile != null ? Path.fromOSString(artifact.sourceJarFile)
+				: null;
+		entries.add(JavaCore.newLibraryEntry(jarFilePath, sourceAttachmentPath, null));
+		return true;
+	}
+
+	/**
+	 * Returns the deployment artifacts declared in the
+	 * 'quarkus-extension.properties' file of the JARs of the given classpath.
+	 *
+	 * @param project           the Java project.
+	 * @param resolvedClasspath the resolved classpath.
+	 * @param excludeTestCode   true if test code must be excluded and false
+	 *                          otherwise.
+	 * @return the deployment artifacts declared in the
+	 *         'quarkus-extension.properties' file of the JARs of the given
+	 *         classpath.
+	 */
+	private static List<Artifact> getDeploymentArtifacts(IJavaProject project, IClasspathEntry[] resolvedClasspath,
+			boolean excludeTestCode) {
+		// Loop for each JAR and try to load the /META-INF/quarkus-extension.properties
+		// file which contains the Quarkus deployment artifact information
+		List<Artifact> deploymentArtifacts = new ArrayList<>();
+		for (IClasspathEntry entry : resolvedClasspath) {
+			if (excludeTestCode && entry.isTest()) {
+				continue;
+			}
+			if (entry.getEntryKind() == IClasspathEntry.CPE_LIBRARY) {
+				String jarPath = entry.getPath().toOSString();
+				IPackageFragmentRoot root = project.getPackageFragmentRoot(jarPath);
+				if (root != null) {
+					Artifact deploymentArtifact = getDeploymentArtifact(root);
+					if (deploymentArtifact != null) {
+						deploymentArtifacts.add(deploymentArtifact);
+					}
+				}
+			}
+		}
+		return deploymentArtifacts;
+	}
+
+	/**
+	 * Returns the deployment artifact declared in the
+	 * 'quarkus-extension.properties' file and null otherwise.
+	 *
+	 * @param root the JAR
+	 * @return the deployment artifact declared in the
+	 *         'quarkus-extension.properties' file and null otherwise.
+	 */
+	private static Artifact getDeploymentArtifact(IPackageFragmentRoot root) {
+		try {
+			IJarEntryResource resource = JDTTypeUtils.findPropertiesResource(root,
+					QuarkusConstants.QUARKUS_EXTENSION_PROPERTIES_FILE);
+			if (resource == null) {
+				return null;
+			}
+			Properties properties = new Properties();
+			properties.load(resource.getContents());
+			// deployment-artifact=io.quarkus\:quarkus-undertow-deployment\:0.21.1
+			String deploymentArtifact = properties.getProperty(QuarkusConstants.DEPLOYMENT_ARTIFACT_PROPERTY);
+			String[] result = deploymentArtifact.split(":");
+			String groupId = result[0];
+			String artifactId = result[1];
+			String version = result[2];
+			return new Artifact(groupId, artifactId, version);
+		} catch (Exception e) {
+			LOGGER.log(Level.SEVERE, "Error while downloading deployment JAR '" + root.getElementName() + "'.", e);
+			return null;
+		}
+	}
+}
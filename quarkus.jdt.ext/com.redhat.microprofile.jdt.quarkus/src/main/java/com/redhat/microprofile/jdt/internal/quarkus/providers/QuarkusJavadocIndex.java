@@ -0,0 +1,258 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.microprofile.jdt.internal.quarkus.providers;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.jdt.core.IJarEntryResource;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.lsp4mp.jdt.core.utils.JDTTypeUtils;
+import org.osgi.framework.Bundle;
+import org.osgi.framework.FrameworkUtil;
+
+import com.redhat.microprofile.jdt.internal.quarkus.QuarkusConstants;
+
+/**
+ * Index of the Javadoc stored in the 'META-INF/quarkus-javadoc.properties' file
+ * of the Quarkus JARs.
+ *
+ * <p>
+ * The index is shared by all projects and all scans. It is keyed by the JAR
+ * path and a checksum of the JAR file (last modified time and size), and
+ * persisted on the disk, so that the same Quarkus JARs are read only once even
+ * after a restart.
+ * </p>
+ *
+ */
+public class QuarkusJavadocIndex {
+
+	private static final Logger LOGGER = Logger.getLogger(QuarkusJavadocIndex.class.getName());
+
+	/**
+	 * Key used to store the checksum of the JAR in the persisted index file. This
+	 * key cannot conflict with a Javadoc key which is a Java field name.
+	 */
+	private static final String CHECKSUM_KEY = "@checksum";
+
+	private static final String INDEX_FOLDER = "quarkus-javadoc-index";
+
+	private static QuarkusJavadocIndex INSTANCE;
+
+	/**
+	 * Returns the shared Javadoc index.
+	 *
+	 * @return the shared Javadoc index.
+	 */
+	public static synchronized QuarkusJavadocIndex getInstance() {
+		if (INSTANCE == null) {
+			INSTANCE = new QuarkusJavadocIndex(getDefaultIndexDir());
+		}
+		return INSTANCE;
+	}
+
+	private static class IndexEntry {
+
+		private final String checksum;
+
+		private final Properties javadoc;
+
+		public IndexEntry(String checksum, Properties javadoc) {
+			this.checksum = checksum;
+			this.javadoc = javadoc;
+		}
+	}
+
+	private final Path indexDir;
+
+	private final Map<String /* JAR path */, IndexEntry> entries;
+
+	/**
+	 * Create a Javadoc index.
+	 *
+	 * @param indexDir the folder where the index is persisted and null if the index
+	 *                 must be kept only in memory.
+	 */
+	public QuarkusJavadocIndex(Path indexDir) {
+		this.indexDir = indexDir;
+		this.entries = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Returns the Javadoc properties of the given package root.
+	 *
+	 * <p>
+	 * The returned properties are shared and must not be updated.
+	 * </p>
+	 *
+	 * @param packageRoot the package root (JAR, source folder).
+	 * @return the Javadoc properties of the given package root.
+	 */
+	public Properties getJavadoc(IPackageFragmentRoot packageRoot) {
+		File jarFile = getJarFile(packageRoot);
+		if (jarFile == null) {
+			// Source folder, the Javadoc properties file can be updated at any time, don't
+			// index it.
+			try {
+				return loadJavadoc(packageRoot);
+			} catch (Exception e) {
+				LOGGER.log(Level.SEVERE,
+						"Error while loading Quarkus Javadoc from '" + packageRoot.getElementName() + "'.", e);
+				return new Properties();
+			}
+		}
+		return getJavadoc(jarFile, () -> loadJavadoc(packageRoot));
+	}
+
+	/**
+	 * Returns the Javadoc properties of the given JAR file from the index and from
+	 * the given loader if the JAR is not indexed or has changed.
+	 *
+	 * <p>
+	 * The returned properties are shared and must not be updated.
+	 * </p>
+	 *
+	 * @param jarFile the JAR file.
+	 * @param loader  the loader which reads the Javadoc properties from the JAR.
+	 * @return the Javadoc properties of the given JAR file.
+	 */
+	public Properties getJavadoc(File jarFile, Callable<Properties> loader) {
+		String jarPath = jarFile.getAbsolutePath();
+		String checksum = getChecksum(jarFile);
+		IndexEntry entry = entries.get(jarPath);
+		if (entry != null && entry.checksum.equals(checksum)) {
+			return entry.javadoc;
+		}
+		Properties javadoc = readIndexFile(jarPath, checksum);
+		if (javadoc == null) {
+			try {
+				javadoc = loader.call();
+			} catch (Exception e) {
+				LOGGER.log(Level.SEVERE, "Error while loading Quarkus Javadoc from '" + jarPath + "'.", e);
+				return new Properties();
+			}
+			writeIndexFile(jarPath, checksum, javadoc);
+		}
+		entries.put(jarPath, new IndexEntry(checksum, javadoc));
+		return javadoc;
+	}
+
+	private Properties readIndexFile(String jarPath, String checksum) {
+		Path indexFile = getIndexFile(jarPath);
+		if (indexFile == null || !Files.exists(indexFile)) {
+			return null;
+		}
+		Properties javadoc = new Properties();
+		try (InputStream input = Files.newInputStream(indexFile)) {
+			javadoc.load(input);
+		} catch (IOException e) {
+			LOGGER.log(Level.WARNING, "Error while reading Quarkus Javadoc index file '" + indexFile + "'.", e);
+			return null;
+		}
+		if (!checksum.equals(javadoc.remove(CHECKSUM_KEY))) {
+			// The JAR has changed since it has been indexed
+			return null;
+		}
+		return javadoc;
+	}
+
+	private void writeIndexFile(String jarPath, String checksum, Properties javadoc) {
+		Path indexFile = getIndexFile(jarPath);
+		if (indexFile == null) {
+			return;
+		}
+		Properties content = new Properties();
+		content.putAll(javadoc);
+		content.setProperty(CHECKSUM_KEY, checksum);
+		try {
+			Files.createDirectories(indexDir);
+			// Write in a temporary file and move it to avoid reading a partial index file
+			// from another process
+			Path tempFile = Files.createTempFile(indexDir, null, ".tmp");
+			try (OutputStream output = Files.newOutputStream(tempFile)) {
+				content.store(output, jarPath);
+			}
+			Files.move(tempFile, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			LOGGER.log(Level.WARNING, "Error while writing Quarkus Javadoc index file '" + indexFile + "'.", e);
+		}
+	}
+
+	private Path getIndexFile(String jarPath) {
+		if (indexDir == null) {
+			return null;
+		}
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-1");
+			StringBuilder fileName = new StringBuilder();
+			for (byte b : digest.digest(jarPath.getBytes(StandardCharsets.UTF_8))) {
+				fileName.append(String.format("%02x", b));
+			}
+			return indexDir.resolve(fileName.append(".properties").toString());
+		} catch (NoSuchAlgorithmException e) {
+			return null;
+		}
+	}
+
+	private static String getChecksum(File jarFile) {
+		return jarFile.lastModified() + ":" + jarFile.length();
+	}
+
+	private static File getJarFile(IPackageFragmentRoot packageRoot) {
+		if (!packageRoot.isArchive()) {
+			return null;
+		}
+		IResource resource = packageRoot.getResource();
+		IPath location = resource != null ? resource.getLocation() : packageRoot.getPath();
+		return location != null ? location.toFile() : null;
+	}
+
+	private static Properties loadJavadoc(IPackageFragmentRoot packageRoot) throws Exception {
+		Properties javadoc = new Properties();
+		IJarEntryResource quarkusJavadocResource = JDTTypeUtils.findPropertiesResource(packageRoot,
+				QuarkusConstants.QUARKUS_JAVADOC_PROPERTIES_FILE);
+		if (quarkusJavadocResource != null) {
+			try (InputStream input = quarkusJavadocResource.getContents()) {
+				javadoc.load(input);
+			}
+		}
+		return javadoc;
+	}
+
+	private static Path getDefaultIndexDir() {
+		try {
+			Bundle bundle = FrameworkUtil.getBundle(QuarkusJavadocIndex.class);
+			if (bundle != null) {
+				return Platform.getStateLocation(bundle).append(INDEX_FOLDER).toFile().toPath();
+			}
+		} catch (Exception e) {
+			LOGGER.log(Level.WARNING, "Error while getting the Quarkus Javadoc index folder.", e);
+		}
+		// Keep the index only in memory
+		return null;
+	}
+}
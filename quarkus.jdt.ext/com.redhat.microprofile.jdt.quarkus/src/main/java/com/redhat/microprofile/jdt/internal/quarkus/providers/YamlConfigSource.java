@@ -11,9 +11,13 @@ package com.redhat.microprofile.jdt.internal.quarkus.providers;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Properties;
 
 import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.lsp4j.Position;
 import org.eclipse.lsp4mp.jdt.core.project.PropertiesConfigSource;
 
 import com.redhat.microprofile.jdt.internal.quarkus.utils.YamlUtils;
@@ -26,6 +30,8 @@ import com.redhat.microprofile.jdt.internal.quarkus.utils.YamlUtils;
  */
 public class YamlConfigSource extends PropertiesConfigSource {
 
+	private volatile Map<String /* property key */, Position> propertyPositions = Collections.emptyMap();
+
 	public YamlConfigSource(String configFileName, IJavaProject javaProject) {
 		super(configFileName, javaProject);
 	}
@@ -33,7 +39,22 @@ public class YamlConfigSource extends PropertiesConfigSource {
 	@Override
 	protected Properties loadConfig(InputStream input) throws IOException {
 		// Convert Yaml document into flattern properties
-		return YamlUtils.loadYamlAsProperties(input);
+		Map<String, Position> positions = new HashMap<>();
+		Properties properties = YamlUtils.loadYamlAsProperties(input, positions);
+		this.propertyPositions = positions;
+		return properties;
+	}
+
+	/**
+	 * Returns the position of the key of the given property in the Yaml file and
+	 * null otherwise.
+	 *
+	 * @param propertyKey the flattened property key.
+	 * @return the position of the key of the given property in the Yaml file and
+	 *         null otherwise.
+	 */
+	public Position getPropertyPosition(String propertyKey) {
+		return propertyPositions.get(propertyKey);
 	}
 
 	@Override
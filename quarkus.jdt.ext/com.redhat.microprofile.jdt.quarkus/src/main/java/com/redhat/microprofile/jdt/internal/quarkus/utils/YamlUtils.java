@@ -10,85 +10,444 @@
 package com.redhat.microprofile.jdt.internal.quarkus.utils;
 
 import java.io.InputStream;
-import java.util.Collection;
-import java.util.Collections;
-import java.util.LinkedHashMap;
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Properties;
 
+import org.eclipse.lsp4j.Position;
 import org.yaml.snakeyaml.Yaml;
-import org.yaml.snakeyaml.constructor.SafeConstructor;
+import org.yaml.snakeyaml.error.Mark;
+import org.yaml.snakeyaml.events.AliasEvent;
+import org.yaml.snakeyaml.events.Event;
+import org.yaml.snakeyaml.events.NodeEvent;
+import org.yaml.snakeyaml.events.ScalarEvent;
+import org.yaml.snakeyaml.nodes.NodeId;
+import org.yaml.snakeyaml.nodes.Tag;
+import org.yaml.snakeyaml.reader.UnicodeReader;
+import org.yaml.snakeyaml.resolver.Resolver;
 
 /**
  * Yaml utilities.
- * 
+ *
  * @author Angelo ZERR
  *
  */
 public class YamlUtils {
 
+	private static final Resolver RESOLVER = new Resolver();
+
 	private YamlUtils() {
 	}
 
 	/**
 	 * Load the Yaml document from the given <code>input</code> and flattern the
 	 * properties to return an instance of {@link Properties}.
-	 * 
+	 *
 	 * @param input the
-	 * 
+	 *
 	 * @return the flattern properties.
 	 */
 	public static Properties loadYamlAsProperties(InputStream input) {
+		return loadYamlAsProperties(input, null);
+	}
+
+	/**
+	 * Load the Yaml document from the given <code>input</code> and flattern the
+	 * properties to return an instance of {@link Properties}.
+	 *
+	 * <p>
+	 * The Yaml document is flattened with the SnakeYAML events API, without
+	 * building the Yaml object graph.
+	 * </p>
+	 *
+	 * @param input     the Yaml input stream.
+	 * @param positions the map to fill with the position of the key of each
+	 *                  property and null otherwise.
+	 *
+	 * @return the flattern properties.
+	 */
+	public static Properties loadYamlAsProperties(InputStream input, Map<String, Position> positions) {
 		Properties properties = new Properties();
-		// Load Yaml document
-		Yaml yaml = new Yaml(new SafeConstructor());
-		Object yamlDocument = yaml.load(input);
-		if (yamlDocument != null) {
-			// flattern Yaml document to properties.
-			Map<String, Object> yamlMap = toMap(yamlDocument);
-			properties.putAll(flattenMap(yamlMap));
-		}
+		Iterator<Event> events = new Yaml().parse(new UnicodeReader(input)).iterator();
+		new YamlFlattener(new YamlEventReader(events), (key, value, mark, merge) -> {
+			if (merge && properties.containsKey(key)) {
+				// An explicit key has precedence over a merged key (<<: *alias)
+				return;
+			}
+			properties.put(key, value);
+			if (positions != null) {
+				positions.put(key, new Position(mark.getLine(), mark.getColumn()));
+			}
+		}).flatten();
 		return properties;
 	}
 
-	private static Map<String, Object> toMap(Object object) {
-		if (object instanceof Map) {
-			return (Map<String, Object>) object;
+	/**
+	 * Collector of flattened Yaml properties.
+	 */
+	@FunctionalInterface
+	private static interface YamlPropertyCollector {
+
+		/**
+		 * Collect the given property.
+		 *
+		 * @param key   the flattened property key.
+		 * @param value the property value.
+		 * @param mark  the start mark of the (last segment of the) property key.
+		 * @param merge true if the property comes from a merge key and false
+		 *              otherwise.
+		 */
+		void collect(String key, String value, Mark mark, boolean merge);
+	}
+
+	/**
+	 * Yaml events reader which replays the events of the anchored node for an
+	 * alias.
+	 */
+	private static class YamlEventReader {
+
+		private final Iterator<Event> events;
+
+		private final Deque<Iterator<Event>> replays;
+
+		private final Map<String /* anchor */, List<Event>> anchors;
+
+		private final List<AnchorRecorder> recorders;
+
+		private static class AnchorRecorder {
+
+			private final String anchor;
+
+			private final List<Event> events;
+
+			private int depth;
+
+			public AnchorRecorder(String anchor) {
+				this.anchor = anchor;
+				this.events = new ArrayList<>();
+			}
+		}
+
+		public YamlEventReader(Iterator<Event> events) {
+			this.events = events;
+			this.replays = new ArrayDeque<>();
+			this.anchors = new HashMap<>();
+			this.recorders = new ArrayList<>();
+		}
+
+		public boolean hasNext() {
+			return !replays.isEmpty() || events.hasNext();
+		}
+
+		public Event next() {
+			Event event = null;
+			while (event == null) {
+				Iterator<Event> replay = replays.peek();
+				if (replay == null) {
+					event = events.next();
+				} else if (replay.hasNext()) {
+					event = replay.next();
+				} else {
+					replays.pop();
+				}
+				if (event instanceof AliasEvent) {
+					List<Event> anchoredEvents = anchors.get(((AliasEvent) event).getAnchor());
+					if (anchoredEvents != null) {
+						replays.push(anchoredEvents.iterator());
+						event = null;
+					}
+				}
+			}
+			record(event);
+			return event;
+		}
+
+		private void record(Event event) {
+			if (event instanceof NodeEvent && !(event instanceof AliasEvent)
+					&& ((NodeEvent) event).getAnchor() != null) {
+				recorders.add(new AnchorRecorder(((NodeEvent) event).getAnchor()));
+			}
+			for (Iterator<AnchorRecorder> it = recorders.iterator(); it.hasNext();) {
+				AnchorRecorder recorder = it.next();
+				recorder.events.add(event);
+				if (event.is(Event.ID.MappingStart) || event.is(Event.ID.SequenceStart)) {
+					recorder.depth++;
+				} else if (event.is(Event.ID.MappingEnd) || event.is(Event.ID.SequenceEnd)) {
+					recorder.depth--;
+				}
+				if (recorder.depth == 0) {
+					// The anchored node is fully recorded
+					anchors.put(recorder.anchor, recorder.events);
+					it.remove();
+				}
+			}
 		}
-		return null;
 	}
 
-	private static Map<String, String> flattenMap(Map<String, Object> sourceMap) {
-		Map<String, String> resultMap = new LinkedHashMap<>();
-		// Loop for key/values of source Map
-		for (Map.Entry<String, Object> sourceMapEntry : sourceMap.entrySet()) {
-			String key = sourceMapEntry.getKey();
-			Object value = sourceMapEntry.getValue();
-
-			// flatten the value
-			if (value instanceof Map) {
-				@SuppressWarnings("unchecked")
-				Map<String, String> valueMap = flattenMap((Map<String, Object>) value);
-				for (Map.Entry<String, String> valueMapEntry : valueMap.entrySet()) {
-					String subKey = valueMapEntry.getKey();
-					String subValue = valueMapEntry.getValue();
-					resultMap.put(subKey != null ? key + "." + subKey : key, subValue);
+	/**
+	 * Flatten the Yaml events into properties.
+	 */
+	private static class YamlFlattener {
+
+		private final YamlEventReader reader;
+
+		private final YamlPropertyCollector collector;
+
+		public YamlFlattener(YamlEventReader reader, YamlPropertyCollector collector) {
+			this.reader = reader;
+			this.collector = collector;
+		}
+
+		public void flatten() {
+			while (reader.hasNext()) {
+				Event event = reader.next();
+				if (event.is(Event.ID.MappingStart)) {
+					// Root mapping of a Yaml document
+					flattenMapping(null, false);
+				} else {
+					skipNode(event);
+				}
+			}
+		}
+
+		private void flattenMapping(String prefix, boolean merge) {
+			while (true) {
+				Event keyEvent = reader.next();
+				if (keyEvent.is(Event.ID.MappingEnd)) {
+					return;
 				}
-			} else if (value instanceof Collection) {
-				StringBuilder joiner = new StringBuilder();
-				String separator = "";
-				for (Object element : ((Collection<?>) value)) {
-					Map<String, String> subMap = flattenMap(Collections.singletonMap(key, element));
-					joiner.append(separator).append(subMap.entrySet().iterator().next().getValue().toString());
-					separator = ",";
+				if (!keyEvent.is(Event.ID.Scalar)) {
+					// Complex key is not supported, ignore the key and its value.
+					skipNode(keyEvent);
+					skipNode(reader.next());
+					continue;
 				}
-				resultMap.put(key, joiner.toString());
+				ScalarEvent keyScalar = (ScalarEvent) keyEvent;
+				if (Tag.MERGE.equals(getTag(keyScalar))) {
+					// <<: *alias
+					flattenMerge(prefix);
+					continue;
+				}
+				String key = getKey(keyScalar);
+				String path = key == null ? prefix : (prefix == null ? key : prefix + "." + key);
+				flattenValue(path, keyEvent.getStartMark(), merge);
+			}
+		}
+
+		private void flattenMerge(String prefix) {
+			Event event = reader.next();
+			if (event.is(Event.ID.MappingStart)) {
+				flattenMapping(prefix, true);
+			} else if (event.is(Event.ID.SequenceStart)) {
+				while (!(event = reader.next()).is(Event.ID.SequenceEnd)) {
+					if (event.is(Event.ID.MappingStart)) {
+						flattenMapping(prefix, true);
+					} else {
+						skipNode(event);
+					}
+				}
+			} else {
+				skipNode(event);
+			}
+		}
+
+		private void flattenValue(String path, Mark mark, boolean merge) {
+			Event event = reader.next();
+			if (event.is(Event.ID.MappingStart)) {
+				flattenMapping(path, merge);
+			} else if (event.is(Event.ID.SequenceStart)) {
+				collect(path, flattenSequence(), mark, merge);
+			} else if (event.is(Event.ID.Scalar)) {
+				String value = getValue((ScalarEvent) event);
+				collect(path, value != null ? value : "", mark, merge);
 			} else {
-				// Simple value (String, Integer, Boolean, etc)
-				resultMap.put(key, value != null ? value.toString() : "");
+				skipNode(event);
+			}
+		}
+
+		/**
+		 * Returns the values of the current sequence joined with ','.
+		 *
+		 * @return the values of the current sequence joined with ','.
+		 */
+		private String flattenSequence() {
+			StringBuilder joiner = new StringBuilder();
+			String separator = "";
+			Event event;
+			while (!(event = reader.next()).is(Event.ID.SequenceEnd)) {
+				String value = null;
+				if (event.is(Event.ID.Scalar)) {
+					value = getValue((ScalarEvent) event);
+				} else if (event.is(Event.ID.SequenceStart)) {
+					value = flattenSequence();
+				} else if (event.is(Event.ID.MappingStart)) {
+					// Use the first flattened value of the mapping
+					String[] firstValue = new String[1];
+					new YamlFlattener(reader, (key, v, mark, merge) -> {
+						if (firstValue[0] == null) {
+							firstValue[0] = v;
+						}
+					}).flattenMapping("", false);
+					value = firstValue[0];
+				} else {
+					skipNode(event);
+				}
+				joiner.append(separator).append(value != null ? value : "");
+				separator = ",";
+			}
+			return joiner.toString();
+		}
+
+		private void collect(String path, String value, Mark mark, boolean merge) {
+			if (path == null) {
+				return;
+			}
+			collector.collect(path, value, mark, merge);
+		}
+
+		private void skipNode(Event event) {
+			if (!(event.is(Event.ID.MappingStart) || event.is(Event.ID.SequenceStart))) {
+				return;
+			}
+			int depth = 1;
+			while (depth > 0) {
+				Event next = reader.next();
+				if (next.is(Event.ID.MappingStart) || next.is(Event.ID.SequenceStart)) {
+					depth++;
+				} else if (next.is(Event.ID.MappingEnd) || next.is(Event.ID.SequenceEnd)) {
+					depth--;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the tag of the given scalar.
+	 *
+	 * @param scalar the scalar event.
+	 * @return the tag of the given scalar.
+	 */
+	private static Tag getTag(ScalarEvent scalar) {
+		String tag = scalar.getTag();
+		if (tag != null && !"!".equals(tag)) {
+			return new Tag(tag);
+		}
+		if (!scalar.getImplicit().canOmitTagInPlainScalar()) {
+			// Quoted scalar
+			return Tag.STR;
+		}
+		return RESOLVER.resolve(NodeId.scalar, scalar.getValue(), true);
+	}
+
+	/**
+	 * Returns the key of the given scalar and null if the key is a null value (ex :
+	 * '~').
+	 *
+	 * @param scalar the scalar event.
+	 * @return the key of the given scalar and null if the key is a null value.
+	 */
+	private static String getKey(ScalarEvent scalar) {
+		if (Tag.NULL.equals(getTag(scalar))) {
+			return null;
+		}
+		return scalar.getValue();
+	}
+
+	/**
+	 * Returns the value of the given scalar as the toString() of the object
+	 * created by the SnakeYAML safe constructor and null if the scalar is a null
+	 * value.
+	 *
+	 * @param scalar the scalar event.
+	 * @return the value of the given scalar.
+	 */
+	private static String getValue(ScalarEvent scalar) {
+		Tag tag = getTag(scalar);
+		String value = scalar.getValue();
+		try {
+			if (Tag.NULL.equals(tag)) {
+				return null;
+			}
+			if (Tag.BOOL.equals(tag)) {
+				String bool = value.toLowerCase(Locale.ROOT);
+				return String.valueOf("true".equals(bool) || "yes".equals(bool) || "on".equals(bool));
+			}
+			if (Tag.INT.equals(tag)) {
+				return toInt(value);
+			}
+			if (Tag.FLOAT.equals(tag)) {
+				return toFloat(value);
+			}
+		} catch (NumberFormatException e) {
+			// Keep the value as is
+		}
+		return value;
+	}
+
+	private static String toInt(String value) {
+		String number = value.replace("_", "");
+		String sign = "";
+		if (number.startsWith("-")) {
+			sign = "-";
+			number = number.substring(1);
+		} else if (number.startsWith("+")) {
+			number = number.substring(1);
+		}
+		if ("0".equals(number)) {
+			return "0";
+		}
+		int radix = 10;
+		if (number.startsWith("0b")) {
+			number = number.substring(2);
+			radix = 2;
+		} else if (number.startsWith("0x")) {
+			number = number.substring(2);
+			radix = 16;
+		} else if (number.startsWith("0")) {
+			number = number.substring(1);
+			radix = 8;
+		} else if (number.indexOf(':') != -1) {
+			// Sexagesimal integer (ex : 190:20:30)
+			BigInteger result = BigInteger.ZERO;
+			for (String digits : number.split(":")) {
+				result = result.multiply(BigInteger.valueOf(60)).add(new BigInteger(digits));
+			}
+			return (sign.isEmpty() ? result : result.negate()).toString();
+		}
+		return new BigInteger(sign + number, radix).toString();
+	}
+
+	private static String toFloat(String value) {
+		String number = value.replace("_", "").toLowerCase(Locale.ROOT);
+		int sign = 1;
+		if (number.startsWith("-")) {
+			sign = -1;
+			number = number.substring(1);
+		} else if (number.startsWith("+")) {
+			number = number.substring(1);
+		}
+		if (".inf".equals(number)) {
+			return String.valueOf(sign * Double.POSITIVE_INFINITY);
+		}
+		if (".nan".equals(number)) {
+			return String.valueOf(Double.NaN);
+		}
+		if (number.indexOf(':') != -1) {
+			// Sexagesimal float (ex : 190:20:30.15)
+			double result = 0;
+			for (String digits : number.split(":")) {
+				result = result * 60 + Double.parseDouble(digits);
 			}
+			return String.valueOf(sign * result);
 		}
-		return resultMap;
+		return String.valueOf(sign * Double.parseDouble(number));
 	}
 
 }
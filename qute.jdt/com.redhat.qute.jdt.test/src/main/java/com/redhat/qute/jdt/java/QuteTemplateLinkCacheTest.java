@@ -0,0 +1,86 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.jdt.java;
+
+import static com.redhat.qute.jdt.QuteProjectTest.getJDTUtils;
+import static com.redhat.qute.jdt.QuteProjectTest.loadMavenProject;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaCore;
+import org.junit.Test;
+
+import com.redhat.qute.jdt.QuteProjectTest.QuteMavenProjectName;
+import com.redhat.qute.jdt.internal.java.QuteTemplateLink;
+import com.redhat.qute.jdt.internal.java.QuteTemplateLinkCache;
+import com.redhat.qute.jdt.utils.JDTQuteProjectUtils;
+
+/**
+ * Tests for {@link QuteTemplateLinkCache}.
+ *
+ */
+public class QuteTemplateLinkCacheTest {
+
+	@Test
+	public void cacheHit() throws CoreException, Exception {
+		ICompilationUnit cu = getHelloResource();
+
+		List<QuteTemplateLink> links = QuteTemplateLinkCache.getTemplateLinks(cu, getJDTUtils());
+		assertFalse(links.isEmpty());
+		// The Java file has not changed, the links are not computed again
+		assertSame(links, QuteTemplateLinkCache.getTemplateLinks(cu, getJDTUtils()));
+	}
+
+	@Test
+	public void evictWhenProjectChanges() throws CoreException, Exception {
+		ICompilationUnit cu = getHelloResource();
+
+		List<QuteTemplateLink> links = QuteTemplateLinkCache.getTemplateLinks(cu, getJDTUtils());
+		QuteTemplateLinkCache
+				.evict(Collections.singleton(JDTQuteProjectUtils.getProjectUri(cu.getJavaProject())));
+		List<QuteTemplateLink> linksAfterEviction = QuteTemplateLinkCache.getTemplateLinks(cu, getJDTUtils());
+		assertNotSame(links, linksAfterEviction);
+		assertEquals(links.size(), linksAfterEviction.size());
+	}
+
+	@Test
+	public void evictWhenBufferChanges() throws CoreException, Exception {
+		ICompilationUnit cu = getHelloResource();
+		cu.becomeWorkingCopy(null);
+		try {
+			List<QuteTemplateLink> links = QuteTemplateLinkCache.getTemplateLinks(cu, getJDTUtils());
+			assertSame(links, QuteTemplateLinkCache.getTemplateLinks(cu, getJDTUtils()));
+
+			// Edit the working copy without saving it
+			cu.getBuffer().append("// comment");
+			assertNotSame(links, QuteTemplateLinkCache.getTemplateLinks(cu, getJDTUtils()));
+		} finally {
+			cu.discardWorkingCopy();
+		}
+	}
+
+	private static ICompilationUnit getHelloResource() throws CoreException, Exception {
+		IJavaProject javaProject = loadMavenProject(QuteMavenProjectName.qute_quickstart);
+		IFile javaFile = javaProject.getProject().getFile(new Path("src/main/java/org/acme/qute/HelloResource.java"));
+		return JavaCore.createCompilationUnitFrom(javaFile);
+	}
+}
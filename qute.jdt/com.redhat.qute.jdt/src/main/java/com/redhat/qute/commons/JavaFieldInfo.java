@@ -27,6 +27,8 @@ public class JavaFieldInfo extends JavaMemberInfo {
 
 	private transient String type;
 
+	private transient JavaTypeInfo javaFieldType;
+
 	/**
 	 * Returns the Java field signature.
 	 *
@@ -84,7 +86,7 @@ public class JavaFieldInfo extends JavaMemberInfo {
 		String signature = getSignature();
 		int index = signature != null ? signature.indexOf(':') : -1;
 		if (index != -1) {
-			name = signature.substring(0, index).trim();
+			name = signature.substring(0, index).trim().intern();
 		}
 		return name;
 	}
@@ -111,11 +113,27 @@ public class JavaFieldInfo extends JavaMemberInfo {
 			// Compute field type from the signature
 			String signature = getSignature();
 			int index = signature.lastIndexOf(':');
-			type = index != -1 ? signature.substring(index + 1, signature.length()).trim() : NO_VALUE;
+			type = index != -1 ? signature.substring(index + 1, signature.length()).trim().intern() : NO_VALUE;
 		}
 		return NO_VALUE.equals(type) ? null : type;
 	}
 
+	/**
+	 * Returns the field Java type and null otherwise.
+	 *
+	 * @return the field Java type and null otherwise.
+	 */
+	public JavaTypeInfo getJavaFieldType() {
+		if (getType() == null) {
+			return null;
+		}
+		if (javaFieldType == null) {
+			javaFieldType = new JavaTypeInfo();
+			javaFieldType.setSignature(getType());
+		}
+		return javaFieldType;
+	}
+
 	@Override
 	public JavaElementKind getJavaElementKind() {
 		return JavaElementKind.FIELD;
@@ -157,7 +175,12 @@ public class JavaFieldInfo extends JavaMemberInfo {
 		StringBuilder newSignature = new StringBuilder();
 		newSignature.append(field.getName());
 		newSignature.append(" : ");
-		JavaTypeInfo.applyGenericTypeInvocation(field.getType(), genericMap, newSignature);
+		JavaTypeInfo fieldType = field.getJavaFieldType();
+		if (fieldType != null) {
+			JavaTypeInfo.applyGenericTypeInvocation(fieldType, genericMap, newSignature);
+		} else {
+			JavaTypeInfo.applyGenericTypeInvocation(field.getType(), genericMap, newSignature);
+		}
 		newField.setSignature(newSignature.toString());
 		newField.setGenericMember(field);
 		return newField;
@@ -23,6 +23,8 @@ public class ProjectInfo {
 
 	private String templateBaseDir;
 
+	private String classpathFingerprint;
+
 	public ProjectInfo() {
 	}
 
@@ -66,4 +68,24 @@ public class ProjectInfo {
 	public void setTemplateBaseDir(String templateBaseDir) {
 		this.templateBaseDir = templateBaseDir;
 	}
+
+	/**
+	 * Returns the fingerprint of the project classpath (libraries with their last
+	 * modification) and null otherwise.
+	 * 
+	 * @return the fingerprint of the project classpath (libraries with their last
+	 *         modification) and null otherwise.
+	 */
+	public String getClasspathFingerprint() {
+		return classpathFingerprint;
+	}
+
+	/**
+	 * Set the fingerprint of the project classpath.
+	 * 
+	 * @param classpathFingerprint the fingerprint of the project classpath.
+	 */
+	public void setClasspathFingerprint(String classpathFingerprint) {
+		this.classpathFingerprint = classpathFingerprint;
+	}
 }
@@ -16,8 +16,10 @@ import java.util.List;
 
 import org.eclipse.xtext.xbase.lib.util.ToStringBuilder;
 
+import com.google.gson.annotations.JsonAdapter;
 import com.redhat.qute.commons.annotations.RegisterForReflectionAnnotation;
 import com.redhat.qute.commons.annotations.TemplateDataAnnotation;
+import com.redhat.qute.commons.json.ResolvedJavaTypeInfoTypeAdapterFactory;
 
 /**
  * Resolved Java type information.
@@ -25,6 +27,7 @@ import com.redhat.qute.commons.annotations.TemplateDataAnnotation;
  * @author Angelo ZERR
  *
  */
+@JsonAdapter(ResolvedJavaTypeInfoTypeAdapterFactory.class)
 public class ResolvedJavaTypeInfo extends JavaTypeInfo {
 
 	private static final String ITERABLE_TYPE = "Iterable";
@@ -39,6 +42,8 @@ public class ResolvedJavaTypeInfo extends JavaTypeInfo {
 
 	private Boolean binary;
 
+	private String binaryLocation;
+
 	private RegisterForReflectionAnnotation registerForReflectionAnnotation;
 
 	private List<TemplateDataAnnotation> templateDataAnnotations;
@@ -165,6 +170,28 @@ public class ResolvedJavaTypeInfo extends JavaTypeInfo {
 		this.binary = binary;
 	}
 
+	/**
+	 * Returns the location of the binary (JAR, JDK module) which defines this Java
+	 * type and null if the Java type comes from a source file.
+	 * 
+	 * @return the location of the binary (JAR, JDK module) which defines this Java
+	 *         type and null if the Java type comes from a source file.
+	 */
+	public String getBinaryLocation() {
+		return binaryLocation;
+	}
+
+	/**
+	 * Set the location of the binary (JAR, JDK module) which defines this Java
+	 * type.
+	 * 
+	 * @param binaryLocation the location of the binary (JAR, JDK module) which
+	 *                       defines this Java type.
+	 */
+	public void setBinaryLocation(String binaryLocation) {
+		this.binaryLocation = binaryLocation;
+	}
+
 	/**
 	 * Returns true if the Java type is an integer and false otherwise.
 	 * 
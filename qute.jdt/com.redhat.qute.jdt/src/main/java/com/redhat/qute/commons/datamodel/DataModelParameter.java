@@ -13,12 +13,16 @@ package com.redhat.qute.commons.datamodel;
 
 import org.eclipse.xtext.xbase.lib.util.ToStringBuilder;
 
+import com.google.gson.annotations.JsonAdapter;
+import com.redhat.qute.commons.json.DataModelParameterTypeAdapter;
+
 /**
  * A parameter information for a data model template {@link DataModelTemplate}.
  * 
  * @author Angelo ZERR
  *
  */
+@JsonAdapter(DataModelParameterTypeAdapter.class)
 public class DataModelParameter {
 
 	private String key;
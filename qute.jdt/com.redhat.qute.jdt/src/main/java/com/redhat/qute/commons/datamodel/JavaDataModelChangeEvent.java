@@ -23,6 +23,8 @@ public class JavaDataModelChangeEvent {
 
 	private Set<String> projectURIs;
 
+	private Set<String> typeNames;
+
 	/**
 	 * Returns the project URIs impacted by the type scope changed.
 	 *
@@ -41,4 +43,25 @@ public class JavaDataModelChangeEvent {
 		this.projectURIs = projectURIs;
 	}
 
+	/**
+	 * Returns the full qualified names of the changed Java types and null if the
+	 * changed Java types are unknown (ex : classpath changed).
+	 *
+	 * @return the full qualified names of the changed Java types and null if the
+	 *         changed Java types are unknown.
+	 */
+	public Set<String> getTypeNames() {
+		return typeNames;
+	}
+
+	/**
+	 * Set the full qualified names of the changed Java types.
+	 *
+	 * @param typeNames the full qualified names of the changed Java types and null
+	 *                  if the changed Java types are unknown.
+	 */
+	public void setTypeNames(Set<String> typeNames) {
+		this.typeNames = typeNames;
+	}
+
 }
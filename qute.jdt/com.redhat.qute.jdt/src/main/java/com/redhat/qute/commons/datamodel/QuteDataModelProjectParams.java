@@ -21,6 +21,10 @@ public class QuteDataModelProjectParams {
 
 	private String projectUri;
 
+	private String generation;
+
+	private String fullGeneration;
+
 	public QuteDataModelProjectParams() {
 
 	}
@@ -37,4 +41,48 @@ public class QuteDataModelProjectParams {
 		this.projectUri = projectUri;
 	}
 
+	/**
+	 * Returns the generation of the data model project already loaded by the
+	 * client and null otherwise.
+	 * 
+	 * @return the generation of the data model project already loaded by the
+	 *         client and null otherwise.
+	 */
+	public String getGeneration() {
+		return generation;
+	}
+
+	/**
+	 * Set the generation of the data model project already loaded by the client.
+	 * 
+	 * @param generation the generation of the data model project already loaded
+	 *                   by the client.
+	 */
+	public void setGeneration(String generation) {
+		this.generation = generation;
+	}
+
+	/**
+	 * Returns the generation of a data model project which must be returned as a
+	 * whole (ex : the client cannot apply the delta of this generation) and null
+	 * otherwise.
+	 * 
+	 * @return the generation of a data model project which must be returned as a
+	 *         whole and null otherwise.
+	 */
+	public String getFullGeneration() {
+		return fullGeneration;
+	}
+
+	/**
+	 * Set the generation of a data model project which must be returned as a
+	 * whole.
+	 * 
+	 * @param fullGeneration the generation of a data model project which must be
+	 *                       returned as a whole.
+	 */
+	public void setFullGeneration(String fullGeneration) {
+		this.fullGeneration = fullGeneration;
+	}
+
 }
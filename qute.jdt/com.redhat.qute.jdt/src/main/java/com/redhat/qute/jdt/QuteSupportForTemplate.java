@@ -13,6 +13,7 @@ package com.redhat.qute.jdt;
 
 import static com.redhat.qute.jdt.utils.JDTTypeUtils.findType;
 
+import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -24,7 +25,9 @@ import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IResource;
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.jdt.core.Flags;
@@ -36,6 +39,7 @@ import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.ILocalVariable;
 import org.eclipse.jdt.core.IMember;
 import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.ITypeHierarchy;
 import org.eclipse.jdt.core.JavaModelException;
@@ -74,6 +78,7 @@ import com.redhat.qute.jdt.internal.template.JavaTypesSearch;
 import com.redhat.qute.jdt.internal.template.QuarkusIntegrationForQute;
 import com.redhat.qute.jdt.internal.template.QuteSupportForTemplateGenerateMissingJavaMemberHandler;
 import com.redhat.qute.jdt.internal.template.TemplateDataSupport;
+import com.redhat.qute.jdt.internal.template.datamodel.DataModelProjectGenerations;
 import com.redhat.qute.jdt.utils.IJDTUtils;
 import com.redhat.qute.jdt.utils.JDTQuteProjectUtils;
 import com.redhat.qute.jdt.utils.JDTTypeUtils;
@@ -128,6 +133,14 @@ public class QuteSupportForTemplate {
 	 * https://quarkus.io/guides/qute-reference#template_extension_methods</li>
 	 * </ul>
 	 *
+	 * <p>
+	 * When the given parameters hosts the generation of the data model project
+	 * already loaded by the client, only the delta with this generation is
+	 * returned. When the client cannot apply a delta, it gives the generation of
+	 * this delta and the last collected data model project is returned as a whole,
+	 * without collecting it again.
+	 * </p>
+	 *
 	 * @param params  the project uri.
 	 * @param utils   JDT LS utilities
 	 * @param monitor the progress monitor
@@ -143,7 +156,14 @@ public class QuteSupportForTemplate {
 		if (javaProject == null) {
 			return null;
 		}
-		return QuarkusIntegrationForQute.getDataModelProject(javaProject, monitor);
+		DataModelProject<DataModelTemplate<DataModelParameter>> lastProject = DataModelProjectGenerations
+				.getLastProject(projectUri, params.getFullGeneration());
+		if (lastProject != null) {
+			return lastProject;
+		}
+		DataModelProject<DataModelTemplate<DataModelParameter>> project = QuarkusIntegrationForQute
+				.getDataModelProject(javaProject, monitor);
+		return DataModelProjectGenerations.update(projectUri, project, params.getGeneration());
 	}
 
 	/**
@@ -369,6 +389,7 @@ public class QuteSupportForTemplate {
 		ResolvedJavaTypeInfo resolvedType = new ResolvedJavaTypeInfo();
 		String typeSignature = AbstractTypeResolver.resolveJavaTypeSignature(type);
 		resolvedType.setBinary(type.isBinary());
+		resolvedType.setBinaryLocation(getBinaryLocation(type));
 		resolvedType.setSignature(typeSignature);
 		resolvedType.setFields(fieldsInfo);
 		resolvedType.setMethods(methodsInfo);
@@ -379,6 +400,39 @@ public class QuteSupportForTemplate {
 		return resolvedType;
 	}
 
+	/**
+	 * Returns the location of the JAR / JDK module which defines the given binary
+	 * type and null otherwise.
+	 *
+	 * <p>
+	 * The location contains the last modified time of the JAR to identify the
+	 * binary across all projects which share the same JAR.
+	 * </p>
+	 *
+	 * @param type the Java type.
+	 *
+	 * @return the location of the JAR / JDK module which defines the given binary
+	 *         type and null otherwise.
+	 */
+	private static String getBinaryLocation(IType type) {
+		if (!type.isBinary()) {
+			return null;
+		}
+		IPackageFragmentRoot root = (IPackageFragmentRoot) type.getAncestor(IJavaElement.PACKAGE_FRAGMENT_ROOT);
+		if (root == null || !root.isArchive()) {
+			// Class folder, the class files can be updated at any time
+			return null;
+		}
+		IResource resource = root.getResource();
+		IPath path = resource != null ? resource.getLocation() : root.getPath();
+		if (path == null) {
+			return null;
+		}
+		File file = path.toFile();
+		// The element name is the module name for a JDK image (ex : java.base)
+		return path.toPortableString() + "!/" + root.getElementName() + "@" + file.lastModified();
+	}
+
 	private static boolean isValidField(IField field, IType type) throws JavaModelException {
 		if (type.isEnum()) {
 			return true;
@@ -26,14 +26,19 @@ import org.eclipse.core.resources.IResourceDeltaVisitor;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IElementChangedListener;
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IJavaElementDelta;
 import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
 
 import com.redhat.qute.commons.datamodel.JavaDataModelChangeEvent;
 import com.redhat.qute.jdt.IJavaDataModelChangedListener;
+import com.redhat.qute.jdt.internal.java.QuteTemplateLinkCache;
+import com.redhat.qute.jdt.internal.template.datamodel.DataModelProjectGenerations;
 import com.redhat.qute.jdt.utils.JDTQuteProjectUtils;
 
 /**
@@ -67,9 +72,6 @@ public class JavaDataModelListenerManager {
 
 		@Override
 		public void elementChanged(ElementChangedEvent event) {
-			if (listeners.isEmpty()) {
-				return;
-			}
 			// Collect project names which have classpath changed.
 			JavaDataModelChangeEvent mpEvent = processDelta(event.getDelta(), null);
 			if (mpEvent != null) {
@@ -100,7 +102,13 @@ public class JavaDataModelListenerManager {
 						event.setProjectURIs(new HashSet<String>());
 					}
 					IJavaProject project = (IJavaProject) element;
-					event.getProjectURIs().add(JDTQuteProjectUtils.getProjectUri(project));
+					String projectUri = JDTQuteProjectUtils.getProjectUri(project);
+					if (delta.getKind() == IJavaElementDelta.REMOVED
+							|| (delta.getFlags() & IJavaElementDelta.F_CLOSED) != 0) {
+						// The project is removed or closed, its last data model project is useless
+						DataModelProjectGenerations.evict(projectUri);
+					}
+					event.getProjectURIs().add(projectUri);
 				}
 				break;
 			default:
@@ -155,6 +163,9 @@ public class JavaDataModelListenerManager {
 					JavaDataModelChangeEvent event = new JavaDataModelChangeEvent();
 					event.setProjectURIs(new HashSet<String>());
 					event.getProjectURIs().add(JDTQuteProjectUtils.getProjectURI(file.getProject()));
+					// The Qute language server revalidates only the templates which use those
+					// Java types.
+					event.setTypeNames(getTypeNames(file));
 					fireAsyncEvent(event);
 				}
 			}
@@ -162,6 +173,9 @@ public class JavaDataModelListenerManager {
 		}
 
 		private void fireAsyncEvent(JavaDataModelChangeEvent event) {
+			// The Qute template links hold data which comes from the bindings of the Java
+			// files of the project, evict them before notifying the Qute language server.
+			QuteTemplateLinkCache.evict(event.getProjectURIs());
 			// IMPORTANT: The LSP notification 'qute/javaDataModelChanged' must be
 			// executed
 			// in background otherwise it breaks everything (JDT LS for Java completion,
@@ -180,6 +194,37 @@ public class JavaDataModelListenerManager {
 			});
 		}
 
+		/**
+		 * Returns the full qualified names of the Java types declared in the given
+		 * Java file and null if they cannot be computed.
+		 *
+		 * @param file the Java file.
+		 *
+		 * @return the full qualified names of the Java types declared in the given
+		 *         Java file and null if they cannot be computed.
+		 */
+		private Set<String> getTypeNames(IFile file) {
+			ICompilationUnit unit = JavaCore.createCompilationUnitFrom(file);
+			if (unit == null) {
+				return null;
+			}
+			try {
+				Set<String> typeNames = new HashSet<>();
+				for (IType type : unit.getAllTypes()) {
+					typeNames.add(type.getFullyQualifiedName());
+				}
+				// The type named like the Java file could have been renamed or removed, the
+				// templates which use it must be revalidated too.
+				String packageName = unit.getParent().getElementName();
+				String primaryTypeName = file.getFullPath().removeFileExtension().lastSegment();
+				typeNames.add(packageName.isEmpty() ? primaryTypeName : packageName + "." + primaryTypeName);
+				return typeNames;
+			} catch (JavaModelException e) {
+				LOGGER.log(Level.WARNING, "Error while collecting Java types of '" + file.getFullPath() + "'.", e);
+				return null;
+			}
+		}
+
 		private boolean isJavaFile(IFile file) {
 			return JAVA_FILE_EXTENSION.equals(file.getFileExtension());
 		}
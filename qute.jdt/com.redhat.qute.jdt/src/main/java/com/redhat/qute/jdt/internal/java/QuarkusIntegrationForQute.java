@@ -11,7 +11,6 @@
 *******************************************************************************/
 package com.redhat.qute.jdt.internal.java;
 
-import static com.redhat.qute.jdt.utils.JDTQuteProjectUtils.getASTRoot;
 import static com.redhat.qute.jdt.utils.JDTQuteProjectUtils.hasQuteSupport;
 
 import java.util.ArrayList;
@@ -20,7 +19,6 @@ import java.util.List;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.jdt.core.ITypeRoot;
-import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.lsp4j.CodeLens;
 import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.DocumentLink;
@@ -40,8 +38,8 @@ public class QuarkusIntegrationForQute {
 			return Collections.emptyList();
 		}
 		List<CodeLens> lenses = new ArrayList<>();
-		CompilationUnit cu = getASTRoot(typeRoot);
-		cu.accept(new QuteJavaCodeLensCollector(typeRoot, lenses, utils, monitor));
+		List<QuteTemplateLink> templateLinks = QuteTemplateLinkCache.getTemplateLinks(typeRoot, utils);
+		new QuteJavaCodeLensCollector(typeRoot, lenses, utils, monitor).collect(templateLinks);
 		return lenses;
 	}
 
@@ -50,8 +48,8 @@ public class QuarkusIntegrationForQute {
 		if (typeRoot == null || !hasQuteSupport(typeRoot.getJavaProject())) {
 			return;
 		}
-		CompilationUnit cu = getASTRoot(typeRoot);
-		cu.accept(new QuteJavaDiagnosticsCollector(typeRoot, diagnostics, utils, monitor));
+		List<QuteTemplateLink> templateLinks = QuteTemplateLinkCache.getTemplateLinks(typeRoot, utils);
+		new QuteJavaDiagnosticsCollector(typeRoot, diagnostics, utils, monitor).collect(templateLinks);
 	}
 
 	public static List<DocumentLink> documentLink(ITypeRoot typeRoot, IJDTUtils utils,
@@ -60,8 +58,8 @@ public class QuarkusIntegrationForQute {
 			return Collections.emptyList();
 		}
 		List<DocumentLink> links = new ArrayList<>();
-		CompilationUnit cu = getASTRoot(typeRoot);
-		cu.accept(new QuteJavaDocumentLinkCollector(typeRoot, links, utils, monitor));
+		List<QuteTemplateLink> templateLinks = QuteTemplateLinkCache.getTemplateLinks(typeRoot, utils);
+		new QuteJavaDocumentLinkCollector(typeRoot, links, utils, monitor).collect(templateLinks);
 		return links;
 	}
 }
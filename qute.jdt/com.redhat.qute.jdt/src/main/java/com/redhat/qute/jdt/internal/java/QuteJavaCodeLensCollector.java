@@ -12,21 +12,13 @@
 package com.redhat.qute.jdt.internal.java;
 
 import java.text.MessageFormat;
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.jdt.core.ITypeRoot;
 import org.eclipse.jdt.core.JavaModelException;
-import org.eclipse.jdt.core.dom.ASTNode;
-import org.eclipse.jdt.core.dom.ITypeBinding;
-import org.eclipse.jdt.core.dom.MethodDeclaration;
-import org.eclipse.jdt.core.dom.SingleVariableDeclaration;
-import org.eclipse.jdt.core.dom.Type;
-import org.eclipse.jdt.core.dom.TypeDeclaration;
 import org.eclipse.lsp4j.CodeLens;
 import org.eclipse.lsp4j.Command;
 import org.eclipse.lsp4j.Range;
@@ -66,9 +58,8 @@ public class QuteJavaCodeLensCollector extends AbstractQuteTemplateLinkCollector
 	}
 
 	@Override
-	protected void collectTemplateLink(ASTNode fieldOrMethod, ASTNode locationAnnotation, TypeDeclaration type,
-			String className, String fieldOrMethodName, String location, IFile templateFile,
-			TemplatePathInfo templatePathInfo) throws JavaModelException {
+	protected void collectTemplateLink(QuteTemplateLink link, IFile templateFile, TemplatePathInfo templatePathInfo)
+			throws JavaModelException {
 		if (!templatePathInfo.isValid()) {
 			// It is an empty fragment which is not valid, don't generate a codelens.
 			return;
@@ -84,7 +75,7 @@ public class QuteJavaCodeLensCollector extends AbstractQuteTemplateLinkCollector
 					QuteCommandConstants.QUTE_COMMAND_OPEN_URI,
 					Arrays.asList(templateFile.getLocationURI().toString(), fragmentId));
 		} else {
-			List<DataModelParameter> parameters = createParameters(fieldOrMethod);
+			List<DataModelParameter> parameters = link.getParameters();
 			GenerateTemplateInfo info = new GenerateTemplateInfo();
 			info.setParameters(parameters);
 			info.setProjectUri(JDTQuteProjectUtils.getProjectUri(typeRoot.getJavaProject()));
@@ -93,33 +84,9 @@ public class QuteJavaCodeLensCollector extends AbstractQuteTemplateLinkCollector
 			command = new Command(MessageFormat.format(QUTE_COMMAND_GENERATE_TEMPLATE_MESSAGE, templateUri), //
 					QuteCommandConstants.QUTE_COMMAND_GENERATE_TEMPLATE_FILE, Arrays.asList(info));
 		}
-		Range range = utils.toRange(typeRoot, fieldOrMethod.getStartPosition(), fieldOrMethod.getLength());
+		Range range = link.getRange();
 		CodeLens codeLens = new CodeLens(range, command, null);
 		lenses.add(codeLens);
 	}
 
-	private static List<DataModelParameter> createParameters(ASTNode node) {
-		if (node.getNodeType() == ASTNode.METHOD_DECLARATION) {
-			return createParameter((MethodDeclaration) node);
-		}
-		return Collections.emptyList();
-	}
-
-	private static List<DataModelParameter> createParameter(MethodDeclaration method) {
-		List<DataModelParameter> parameters = new ArrayList<>();
-		@SuppressWarnings("rawtypes")
-		List methodParameters = method.parameters();
-		for (Object methodParameter : methodParameters) {
-			SingleVariableDeclaration variable = (SingleVariableDeclaration) methodParameter;
-			String parameterName = variable.getName().getFullyQualifiedName();
-			Type parameterType = variable.getType();
-			ITypeBinding binding = parameterType.resolveBinding();
-			DataModelParameter parameter = new DataModelParameter();
-			parameter.setKey(parameterName);
-			parameter.setSourceType(binding.getQualifiedName());
-			parameters.add(parameter);
-		}
-		return parameters;
-	}
-
 }
@@ -15,12 +15,8 @@ import java.util.List;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.runtime.IProgressMonitor;
-import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.ITypeRoot;
 import org.eclipse.jdt.core.JavaModelException;
-import org.eclipse.jdt.core.dom.ASTNode;
-import org.eclipse.jdt.core.dom.ITypeBinding;
-import org.eclipse.jdt.core.dom.TypeDeclaration;
 import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.DiagnosticSeverity;
 import org.eclipse.lsp4j.Range;
@@ -52,21 +48,20 @@ public class QuteJavaDiagnosticsCollector extends AbstractQuteTemplateLinkCollec
 	}
 
 	@Override
-	protected void collectTemplateLink(ASTNode fieldOrMethod, ASTNode locationAnnotation, TypeDeclaration type,
-			String className, String fieldOrMethodName, String location, IFile templateFile,
-			TemplatePathInfo templatePathInfo) throws JavaModelException {
+	protected void collectTemplateLink(QuteTemplateLink link, IFile templateFile, TemplatePathInfo templatePathInfo)
+			throws JavaModelException {
 		QuteErrorCode error = getQuteErrorCode(templatePathInfo, templateFile);
 		if (error == null) {
 			return;
 		}
 
-		String path = createPath(className, fieldOrMethodName, location);
+		String path = createPath(link.getClassName(), link.getFieldOrMethodName(), link.getLocation());
 		String fragmentId = templatePathInfo.getFragmentId();
 		if (templatePathInfo.hasFragment() && path.endsWith(fragmentId)) {
 			// Adjust path by removing fragment information
 			path = path.substring(0, path.length() - (1 /* '$') */ + fragmentId.length()));
 		}
-		Range range = createRange(locationAnnotation != null ? locationAnnotation : fieldOrMethod);
+		Range range = link.getSelectionRange();
 		
 		switch (error) {
 		case FragmentNotDefined: {
@@ -75,8 +70,7 @@ public class QuteJavaDiagnosticsCollector extends AbstractQuteTemplateLinkCollec
 			break;
 		}
 		case NoMatchingTemplate: {			
-			ITypeBinding binding = type.resolveBinding();
-			String fullQualifiedName = ((IType) binding.getJavaElement()).getFullyQualifiedName();
+			String fullQualifiedName = link.getTypeName();
 			Diagnostic diagnostic = createDiagnostic(range, DiagnosticSeverity.Error, error, path, fullQualifiedName);
 			this.diagnostics.add(diagnostic);
 			break;
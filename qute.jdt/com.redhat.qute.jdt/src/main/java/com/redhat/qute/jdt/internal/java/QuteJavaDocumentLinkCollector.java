@@ -18,8 +18,6 @@ import org.eclipse.core.resources.IFile;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.jdt.core.ITypeRoot;
 import org.eclipse.jdt.core.JavaModelException;
-import org.eclipse.jdt.core.dom.ASTNode;
-import org.eclipse.jdt.core.dom.TypeDeclaration;
 import org.eclipse.lsp4j.DocumentLink;
 import org.eclipse.lsp4j.Range;
 
@@ -52,16 +50,15 @@ public class QuteJavaDocumentLinkCollector extends AbstractQuteTemplateLinkColle
 	}
 
 	@Override
-	protected void collectTemplateLink(ASTNode fieldOrMethod, ASTNode locationAnnotation, TypeDeclaration type,
-			String className, String fieldOrMethodName, String location, IFile templateFile,
-			TemplatePathInfo templatePathInfo) throws JavaModelException {
+	protected void collectTemplateLink(QuteTemplateLink link, IFile templateFile, TemplatePathInfo templatePathInfo)
+			throws JavaModelException {
 		if (!templatePathInfo.isValid()) {
 			// It is an empty fragment which is not valid, don't generate a document link.
 			return;
 		}
 		String templateUri = templateFile.getLocationURI().toString();
 		String tooltip = getTooltip(templateFile, templatePathInfo.getTemplateUri());
-		Range range = createRange(locationAnnotation != null ? locationAnnotation : fieldOrMethod);
+		Range range = link.getSelectionRange();
 		DocumentLink link = new DocumentLink(range, templateUri, null, tooltip);
 		links.add(link);
 	}
@@ -0,0 +1,142 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.jdt.internal.java;
+
+import java.util.List;
+
+import org.eclipse.lsp4j.Range;
+
+import com.redhat.qute.commons.datamodel.DataModelParameter;
+
+/**
+ * Qute template link collected from the AST of a Java file for:
+ *
+ * <ul>
+ * <li>declared method which have class annotated with @CheckedTemplate.</li>
+ * <li>declared field which have Template as type.</li>
+ * </ul>
+ *
+ * <p>
+ * The link stores only the information computed from the AST (names, ranges,
+ * etc) and not the AST nodes, to be cached by {@link QuteTemplateLinkCache}
+ * and shared by codelens, diagnostics and document links.
+ * </p>
+ *
+ */
+public class QuteTemplateLink {
+
+	private final String className;
+
+	private final String fieldOrMethodName;
+
+	private final String location;
+
+	private final boolean ignoreFragment;
+
+	private final Range range;
+
+	private final Range selectionRange;
+
+	private final String typeName;
+
+	private final List<DataModelParameter> parameters;
+
+	public QuteTemplateLink(String className, String fieldOrMethodName, String location, boolean ignoreFragment,
+			Range range, Range selectionRange, String typeName, List<DataModelParameter> parameters) {
+		this.className = className;
+		this.fieldOrMethodName = fieldOrMethodName;
+		this.location = location;
+		this.ignoreFragment = ignoreFragment;
+		this.range = range;
+		this.selectionRange = selectionRange;
+		this.typeName = typeName;
+		this.parameters = parameters;
+	}
+
+	/**
+	 * Returns the simple class name of the Java file when the template is declared
+	 * in an inner class and null otherwise.
+	 *
+	 * @return the simple class name of the Java file when the template is declared
+	 *         in an inner class and null otherwise.
+	 */
+	public String getClassName() {
+		return className;
+	}
+
+	/**
+	 * Returns the field or method name.
+	 *
+	 * @return the field or method name.
+	 */
+	public String getFieldOrMethodName() {
+		return fieldOrMethodName;
+	}
+
+	/**
+	 * Returns the value of the @Location annotation and null otherwise.
+	 *
+	 * @return the value of the @Location annotation and null otherwise.
+	 */
+	public String getLocation() {
+		return location;
+	}
+
+	/**
+	 * Returns true if fragments must be ignored and false otherwise.
+	 *
+	 * @return true if fragments must be ignored and false otherwise.
+	 */
+	public boolean isIgnoreFragment() {
+		return ignoreFragment;
+	}
+
+	/**
+	 * Returns the range of the field or method declaration.
+	 *
+	 * @return the range of the field or method declaration.
+	 */
+	public Range getRange() {
+		return range;
+	}
+
+	/**
+	 * Returns the range of the @Location annotation if it exists and the range of
+	 * the field or method name otherwise.
+	 *
+	 * @return the range of the @Location annotation if it exists and the range of
+	 *         the field or method name otherwise.
+	 */
+	public Range getSelectionRange() {
+		return selectionRange;
+	}
+
+	/**
+	 * Returns the full qualified name of the Java type which declares the field or
+	 * method.
+	 *
+	 * @return the full qualified name of the Java type which declares the field or
+	 *         method.
+	 */
+	public String getTypeName() {
+		return typeName;
+	}
+
+	/**
+	 * Returns the parameters of the method and an empty list for a field.
+	 *
+	 * @return the parameters of the method and an empty list for a field.
+	 */
+	public List<DataModelParameter> getParameters() {
+		return parameters;
+	}
+}
@@ -0,0 +1,193 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.jdt.internal.java;
+
+import static com.redhat.qute.jdt.utils.JDTQuteProjectUtils.getASTRoot;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.core.resources.IResource;
+import org.eclipse.jdt.core.IBuffer;
+import org.eclipse.jdt.core.IBufferChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IOpenable;
+import org.eclipse.jdt.core.ITypeRoot;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+
+import com.redhat.qute.jdt.utils.IJDTUtils;
+import com.redhat.qute.jdt.utils.JDTQuteProjectUtils;
+
+/**
+ * Cache of {@link QuteTemplateLink} per Java file.
+ *
+ * <p>
+ * Codelens, diagnostics and document links are requested for the same Java
+ * file version one after the other. The AST of the Java file is built and
+ * visited once for a given version, and the collected links are shared by the
+ * three features.
+ * </p>
+ *
+ * <p>
+ * A version is identified by the modification stamp of the Java file resource.
+ * The links of a Java file are evicted when the buffer of the Java file changes
+ * (ex : when the working copy of the Java file is edited) without comparing the
+ * source content.
+ * </p>
+ *
+ * <p>
+ * The links hold data which comes from the bindings of the Java file (ex : the
+ * fields of a record which is used as template), so the links of a project are
+ * evicted when the classpath or a Java file of the project changes.
+ * </p>
+ *
+ */
+public class QuteTemplateLinkCache {
+
+	private static final Logger LOGGER = Logger.getLogger(QuteTemplateLinkCache.class.getName());
+
+	private static final int MAX_ENTRIES = 20;
+
+	private static class CacheEntry {
+
+		private final String projectUri;
+
+		private final long modificationStamp;
+
+		private final List<QuteTemplateLink> links;
+
+		public CacheEntry(String projectUri, long modificationStamp, List<QuteTemplateLink> links) {
+			this.projectUri = projectUri;
+			this.modificationStamp = modificationStamp;
+			this.links = links;
+		}
+	}
+
+	/**
+	 * Evict the links of a Java file when its buffer changes. The same listener
+	 * instance is registered once per buffer.
+	 */
+	private static final IBufferChangedListener BUFFER_LISTENER = event -> {
+		IOpenable owner = event.getBuffer() != null ? event.getBuffer().getOwner() : null;
+		if (owner instanceof IJavaElement) {
+			evict(((IJavaElement) owner).getHandleIdentifier());
+		}
+	};
+
+	private static long generation;
+
+	private static final Map<String /* handle identifier */, CacheEntry> cache = new LinkedHashMap<>(16, 0.75f,
+			true) {
+
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+			return size() > MAX_ENTRIES;
+		}
+	};
+
+	private QuteTemplateLinkCache() {
+
+	}
+
+	/**
+	 * Returns the Qute template links of the given Java file.
+	 *
+	 * <p>
+	 * The links are computed from the AST of the Java file only if the Java file
+	 * has changed since the last call.
+	 * </p>
+	 *
+	 * @param typeRoot the Java file.
+	 * @param utils    the JDT utilities.
+	 *
+	 * @return the Qute template links of the given Java file.
+	 */
+	public static List<QuteTemplateLink> getTemplateLinks(ITypeRoot typeRoot, IJDTUtils utils) {
+		String key = typeRoot.getHandleIdentifier();
+		long modificationStamp = getModificationStamp(typeRoot);
+		long startGeneration;
+		synchronized (cache) {
+			startGeneration = generation;
+			CacheEntry entry = cache.get(key);
+			if (entry != null && entry.modificationStamp == modificationStamp) {
+				return entry.links;
+			}
+		}
+
+		// Listen to the buffer before building the AST to evict the links if the buffer
+		// changes while they are computed
+		boolean listened = listenBuffer(typeRoot);
+
+		CompilationUnit cu = getASTRoot(typeRoot);
+		QuteTemplateLinkASTVisitor visitor = new QuteTemplateLinkASTVisitor(typeRoot, utils);
+		cu.accept(visitor);
+		List<QuteTemplateLink> links = Collections.unmodifiableList(visitor.getLinks());
+		if (listened) {
+			String projectUri = JDTQuteProjectUtils.getProjectUri(typeRoot.getJavaProject());
+			synchronized (cache) {
+				// Don't cache links which could have been computed with the bindings before
+				// an eviction
+				if (startGeneration == generation) {
+					cache.put(key, new CacheEntry(projectUri, modificationStamp, links));
+				}
+			}
+		}
+		return links;
+	}
+
+	/**
+	 * Evict the Qute template links of the Java files of the given projects (ex :
+	 * when the classpath or a Java file of the project has changed).
+	 *
+	 * @param projectUris the project URIs.
+	 */
+	public static void evict(Set<String> projectUris) {
+		synchronized (cache) {
+			generation++;
+			cache.values().removeIf(entry -> projectUris.contains(entry.projectUri));
+		}
+	}
+
+	private static void evict(String key) {
+		synchronized (cache) {
+			generation++;
+			cache.remove(key);
+		}
+	}
+
+	private static long getModificationStamp(ITypeRoot typeRoot) {
+		IResource resource = typeRoot.getResource();
+		return resource != null ? resource.getModificationStamp() : IResource.NULL_STAMP;
+	}
+
+	private static boolean listenBuffer(ITypeRoot typeRoot) {
+		try {
+			IBuffer buffer = typeRoot.getBuffer();
+			if (buffer == null || buffer.isClosed()) {
+				return false;
+			}
+			buffer.addBufferChangedListener(BUFFER_LISTENER);
+			return true;
+		} catch (JavaModelException e) {
+			LOGGER.log(Level.WARNING, "Error while getting buffer of Java file.", e);
+			return false;
+		}
+	}
+}
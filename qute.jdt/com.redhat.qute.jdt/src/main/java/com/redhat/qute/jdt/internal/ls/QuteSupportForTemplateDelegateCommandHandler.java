@@ -59,6 +59,8 @@ public class QuteSupportForTemplateDelegateCommandHandler extends AbstractQuteDe
 
 	private static final String PROJECT_URI_ATTR = "projectUri";
 
+	private static final String GENERATION_ATTR = "generation";
+
 	private static final String PATTERN_ATTR = "pattern";
 
 	private static final String SOURCE_TYPE_ATTR = "sourceType";
@@ -175,7 +177,9 @@ public class QuteSupportForTemplateDelegateCommandHandler extends AbstractQuteDe
 			throw new UnsupportedOperationException(String.format(
 					"Command '%s' must be called with required QuteProjectDataModelParams.projectUri!", commandId));
 		}
-		return new QuteDataModelProjectParams(projectUri);
+		QuteDataModelProjectParams params = new QuteDataModelProjectParams(projectUri);
+		params.setGeneration(getString(obj, GENERATION_ATTR));
+		return params;
 	}
 
 	/**
@@ -1,5 +1,9 @@
 package com.redhat.qute.jdt.internal.template;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -13,7 +17,16 @@ import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.ITypeRoot;
 import org.eclipse.jdt.core.dom.ASTNode;
 import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.FieldAccess;
+import org.eclipse.jdt.core.dom.IBinding;
+import org.eclipse.jdt.core.dom.IMethodBinding;
+import org.eclipse.jdt.core.dom.IVariableBinding;
+import org.eclipse.jdt.core.dom.MethodInvocation;
+import org.eclipse.jdt.core.dom.Name;
 import org.eclipse.jdt.core.dom.NodeFinder;
+import org.eclipse.jdt.core.dom.QualifiedName;
+import org.eclipse.jdt.core.dom.SimpleName;
+import org.eclipse.jdt.core.dom.SuperFieldAccess;
 import org.eclipse.jdt.core.search.IJavaSearchConstants;
 import org.eclipse.jdt.core.search.IJavaSearchScope;
 import org.eclipse.jdt.core.search.SearchEngine;
@@ -24,13 +37,23 @@ import org.eclipse.jdt.core.search.SearchRequestor;
 import org.eclipse.jdt.internal.core.manipulation.dom.ASTResolving;
 import org.eclipse.lsp4j.Location;
 
-import com.redhat.qute.commons.datamodel.DataModelParameter;
 import com.redhat.qute.commons.datamodel.DataModelBaseTemplate;
+import com.redhat.qute.commons.datamodel.DataModelParameter;
+import com.redhat.qute.jdt.template.datamodel.SearchContext;
 import com.redhat.qute.jdt.utils.IJDTUtils;
 
 /**
  * Support with template data method invocation template#data(name, value).
- * 
+ *
+ * <p>
+ * When the data model is collected, the template fields and methods are
+ * registered in the search context with
+ * {@link #collectParametersFromDataMethodInvocation(IMember, DataModelBaseTemplate, SearchContext)}
+ * and the method invocation of template#data(name, value) are searched for all
+ * of them with one search by
+ * {@link #collectParametersFromDataMethodInvocations(SearchContext, IProgressMonitor)}.
+ * </p>
+ *
  * @author Angelo ZERR
  *
  */
@@ -38,27 +61,239 @@ public class TemplateDataSupport {
 
 	private static final Logger LOGGER = Logger.getLogger(TemplateDataSupport.class.getName());
 
+	private static final String KEY = TemplateDataSupport.class.getName() + "#";
+
+	/**
+	 * Template field or method with the data model template to update with the
+	 * template#data(name, value) method invocations.
+	 */
+	private static class TemplateMember {
+
+		private final IMember fieldOrMethod;
+
+		private final DataModelBaseTemplate<DataModelParameter> template;
+
+		private final boolean searchInJavaProject;
+
+		public TemplateMember(IMember fieldOrMethod, DataModelBaseTemplate<DataModelParameter> template) {
+			this.fieldOrMethod = fieldOrMethod;
+			this.template = template;
+			this.searchInJavaProject = isSearchInJavaProject(fieldOrMethod);
+		}
+
+		/**
+		 * Returns true if the given compilation unit can reference the template
+		 * member and false otherwise.
+		 *
+		 * @param cu the compilation unit.
+		 *
+		 * @return true if the given compilation unit can reference the template
+		 *         member and false otherwise.
+		 */
+		public boolean isInScope(ICompilationUnit cu) {
+			return searchInJavaProject || cu.equals(fieldOrMethod.getCompilationUnit());
+		}
+	}
+
 	/**
-	 * Search all method invocation of template#data(name, value) to collect data
-	 * model parameters for the given template.
-	 * 
+	 * Register the given template field or method to search all method invocation
+	 * of template#data(name, value) to collect data model parameters for the given
+	 * template.
+	 *
+	 * <p>
+	 * The search is done for all registered template fields and methods with
+	 * {@link #collectParametersFromDataMethodInvocations(SearchContext, IProgressMonitor)}
+	 * at the end of the data model search.
+	 * </p>
+	 *
 	 * @param fieldOrMethod the template field (ex : Template hello;) or method
 	 *                      which returns TemplateInstance.
 	 * @param template      the data model template to update with collect of data
 	 *                      model parameters.
-	 * @param monitor       the progress monitor.
+	 * @param context       the search context.
 	 */
 	public static void collectParametersFromDataMethodInvocation(IMember fieldOrMethod,
-			DataModelBaseTemplate<DataModelParameter> template, IProgressMonitor monitor) {
+			DataModelBaseTemplate<DataModelParameter> template, SearchContext context) {
+		getTemplateMembers(context).add(new TemplateMember(fieldOrMethod, template));
+	}
+
+	/**
+	 * Search all method invocation of template#data(name, value) for the template
+	 * fields and methods registered in the given search context to collect data
+	 * model parameters of their templates.
+	 *
+	 * <p>
+	 * One reference search is done for all template fields and methods, and the
+	 * AST of each compilation unit which references them is created once.
+	 * </p>
+	 *
+	 * @param context the search context.
+	 * @param monitor the progress monitor.
+	 */
+	public static void collectParametersFromDataMethodInvocations(SearchContext context, IProgressMonitor monitor) {
+		List<TemplateMember> members = getTemplateMembers(context);
+		if (members.isEmpty()) {
+			return;
+		}
+		List<TemplateMember> toSearch = new ArrayList<>(members);
+		// Clear the registered template members to search them only once even if
+		// several data model providers call this method.
+		members.clear();
 		try {
-			search(fieldOrMethod, new TemplateDataCollector(template, monitor), monitor);
+			searchAll(toSearch, context, monitor);
 		} catch (CoreException e) {
-			LOGGER.log(Level.SEVERE,
-					"Error while getting collecting template parameters for '" + fieldOrMethod.getElementName() + "'.",
-					e);
+			LOGGER.log(Level.SEVERE, "Error while getting collecting template parameters.", e);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static List<TemplateMember> getTemplateMembers(SearchContext context) {
+		List<TemplateMember> members = (List<TemplateMember>) context.get(KEY);
+		if (members == null) {
+			members = new ArrayList<>();
+			context.put(KEY, members);
+		}
+		return members;
+	}
+
+	private static void searchAll(List<TemplateMember> members, SearchContext context, IProgressMonitor monitor)
+			throws CoreException {
+		// Group template members by the Java element which is referenced
+		Map<IJavaElement, List<TemplateMember>> membersByElement = new LinkedHashMap<>();
+		SearchPattern pattern = null;
+		for (TemplateMember member : members) {
+			List<TemplateMember> elementMembers = membersByElement.get(member.fieldOrMethod);
+			if (elementMembers == null) {
+				elementMembers = new ArrayList<>();
+				membersByElement.put(member.fieldOrMethod, elementMembers);
+				SearchPattern memberPattern = SearchPattern.createPattern(member.fieldOrMethod,
+						IJavaSearchConstants.REFERENCES);
+				if (memberPattern != null) {
+					pattern = pattern == null ? memberPattern : SearchPattern.createOrPattern(pattern, memberPattern);
+				}
+			}
+			elementMembers.add(member);
+		}
+		if (pattern == null) {
+			return;
+		}
+
+		// Collect the search matches grouped by compilation unit
+		Map<ICompilationUnit, List<SearchMatch>> matchesByUnit = new LinkedHashMap<>();
+		SearchEngine engine = new SearchEngine();
+		IJavaSearchScope scope = SearchEngine.createJavaSearchScope(true,
+				new IJavaElement[] { context.getJavaProject() }, IJavaSearchScope.SOURCES);
+		engine.search(pattern, new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() }, scope,
+				new SearchRequestor() {
+
+					@Override
+					public void acceptSearchMatch(SearchMatch match) throws CoreException {
+						Object o = match.getElement();
+						if (o instanceof IMethod) {
+							ICompilationUnit cu = ((IMethod) o).getCompilationUnit();
+							if (cu != null) {
+								List<SearchMatch> unitMatches = matchesByUnit.get(cu);
+								if (unitMatches == null) {
+									unitMatches = new ArrayList<>();
+									matchesByUnit.put(cu, unitMatches);
+								}
+								unitMatches.add(match);
+							}
+						}
+					}
+				}, monitor);
+
+		// Visit the method declarations which reference the template members
+		for (Map.Entry<ICompilationUnit, List<SearchMatch>> entry : matchesByUnit.entrySet()) {
+			if (monitor.isCanceled()) {
+				return;
+			}
+			ICompilationUnit unit = entry.getKey();
+			// Create the AST of the compilation unit only once
+			CompilationUnit cu = getASTRoot(unit);
+			for (SearchMatch match : entry.getValue()) {
+				IMethod method = (IMethod) match.getElement();
+				for (TemplateMember member : getReferencedMembers(match, cu, unit, membersByElement)) {
+					TemplateDataCollector visitor = new TemplateDataCollector(member.template, monitor);
+					visitor.setMethod(method);
+					visitMethodDeclaration(method, cu, visitor);
+				}
+			}
 		}
 	}
 
+	/**
+	 * Returns the template members referenced by the given search match.
+	 *
+	 * @param match            the search match.
+	 * @param cu               the AST of the compilation unit of the match.
+	 * @param unit             the compilation unit of the match.
+	 * @param membersByElement the template members grouped by Java element.
+	 *
+	 * @return the template members referenced by the given search match.
+	 */
+	private static List<TemplateMember> getReferencedMembers(SearchMatch match, CompilationUnit cu,
+			ICompilationUnit unit, Map<IJavaElement, List<TemplateMember>> membersByElement) {
+		List<TemplateMember> members = null;
+		IJavaElement referencedElement = getReferencedElement(match, cu);
+		if (referencedElement != null) {
+			members = membersByElement.get(referencedElement);
+		}
+		if (members == null) {
+			// The binding cannot be resolved, use the name of the reference
+			String name = getReferenceName(match, cu);
+			members = new ArrayList<>();
+			for (Map.Entry<IJavaElement, List<TemplateMember>> entry : membersByElement.entrySet()) {
+				if (entry.getKey().getElementName().equals(name)) {
+					members.addAll(entry.getValue());
+				}
+			}
+		}
+		List<TemplateMember> referencedMembers = new ArrayList<>(members.size());
+		for (TemplateMember member : members) {
+			if (member.isInScope(unit)) {
+				referencedMembers.add(member);
+			}
+		}
+		return referencedMembers;
+	}
+
+	private static IJavaElement getReferencedElement(SearchMatch match, CompilationUnit cu) {
+		ASTNode node = new NodeFinder(cu, match.getOffset(), match.getLength()).getCoveringNode();
+		IBinding binding = null;
+		if (node instanceof Name) {
+			binding = ((Name) node).resolveBinding();
+		} else if (node instanceof MethodInvocation) {
+			binding = ((MethodInvocation) node).resolveMethodBinding();
+		} else if (node instanceof FieldAccess) {
+			binding = ((FieldAccess) node).resolveFieldBinding();
+		} else if (node instanceof SuperFieldAccess) {
+			binding = ((SuperFieldAccess) node).resolveFieldBinding();
+		}
+		if (binding instanceof IMethodBinding) {
+			binding = ((IMethodBinding) binding).getMethodDeclaration();
+		} else if (binding instanceof IVariableBinding) {
+			binding = ((IVariableBinding) binding).getVariableDeclaration();
+		}
+		return binding != null ? binding.getJavaElement() : null;
+	}
+
+	private static String getReferenceName(SearchMatch match, CompilationUnit cu) {
+		ASTNode node = new NodeFinder(cu, match.getOffset(), match.getLength()).getCoveringNode();
+		if (node instanceof SimpleName) {
+			return ((SimpleName) node).getIdentifier();
+		} else if (node instanceof QualifiedName) {
+			return ((QualifiedName) node).getName().getIdentifier();
+		} else if (node instanceof MethodInvocation) {
+			return ((MethodInvocation) node).getName().getIdentifier();
+		} else if (node instanceof FieldAccess) {
+			return ((FieldAccess) node).getName().getIdentifier();
+		} else if (node instanceof SuperFieldAccess) {
+			return ((SuperFieldAccess) node).getName().getIdentifier();
+		}
+		return null;
+	}
+
 	private static void search(IMember fieldOrMethod, TemplateDataVisitor visitor, IProgressMonitor monitor)
 			throws CoreException {
 		boolean searchInJavaProject = isSearchInJavaProject(fieldOrMethod);
@@ -81,21 +316,26 @@ public class TemplateDataSupport {
 							// Get the AST of the method declaration where template field of CheckedTemplate
 							// method is referenced.
 							CompilationUnit cu = getASTRoot(method.getCompilationUnit());
-							ASTNode methodDeclarationAST = new NodeFinder(cu, method.getSourceRange().getOffset(),
-									method.getSourceRange().getLength()).getCoveringNode();
-							// Visit the body of the method declaration to collect method invocation of
-							// temlate.data(param-name, param-type);
-							methodDeclarationAST.accept(visitor);
+							visitMethodDeclaration(method, cu, visitor);
 						}
 					}
 				}, monitor);
 	}
 
+	private static void visitMethodDeclaration(IMethod method, CompilationUnit cu, TemplateDataVisitor visitor)
+			throws CoreException {
+		ASTNode methodDeclarationAST = new NodeFinder(cu, method.getSourceRange().getOffset(),
+				method.getSourceRange().getLength()).getCoveringNode();
+		// Visit the body of the method declaration to collect method invocation of
+		// temlate.data(param-name, param-type);
+		methodDeclarationAST.accept(visitor);
+	}
+
 	/**
 	 * Returns true if the search of method invocation of template#data(name, value)
 	 * must be done in Java project or inside the compilation unit of the
 	 * field/method.
-	 * 
+	 *
 	 * @param fieldOrMethod
 	 * @return
 	 */
@@ -87,10 +87,17 @@ public class CheckedTemplateSupport extends AbstractAnnotationTypeReferenceDataM
 			IType type = (IType) javaElement;
 			boolean ignoreFragments = isIgnoreFragments(checkedTemplateAnnotation);
 			collectDataModelTemplateForCheckedTemplate(type, ignoreFragments, context.getTypeResolver(type),
-					context.getDataModelProject().getTemplates(), monitor);
+					context.getDataModelProject().getTemplates(), context, monitor);
 		}
 	}
 
+	@Override
+	public void endSearch(SearchContext context, IProgressMonitor monitor) {
+		super.endSearch(context, monitor);
+		// Collect data parameters for all templates with one search
+		TemplateDataSupport.collectParametersFromDataMethodInvocations(context, monitor);
+	}
+
 	/**
 	 * Returns true if @CheckedTemplate annotation declares that fragment must be
 	 * ignored and false otherwise.
@@ -123,12 +130,13 @@ public class CheckedTemplateSupport extends AbstractAnnotationTypeReferenceDataM
 	 * @param typeResolver    the Java type resolver.
 	 * @param templates       the data model templates to update with collect of
 	 *                        template.
+	 * @param context         the search context.
 	 * @param monitor         the progress monitor.
 	 * @throws JavaModelException
 	 */
 	private static void collectDataModelTemplateForCheckedTemplate(IType type, boolean ignoreFragments,
-			ITypeResolver typeResolver, List<DataModelTemplate<DataModelParameter>> templates, IProgressMonitor monitor)
-			throws JavaModelException {
+			ITypeResolver typeResolver, List<DataModelTemplate<DataModelParameter>> templates, SearchContext context,
+			IProgressMonitor monitor) throws JavaModelException {
 		boolean innerClass = type.getParent() != null && type.getParent().getElementType() == IJavaElement.TYPE;
 		String className = !innerClass ? null
 				: JDTTypeUtils.getSimpleClassName(
@@ -167,10 +175,10 @@ public class CheckedTemplateSupport extends AbstractAnnotationTypeReferenceDataM
 				DataModelFragment<DataModelParameter> fragment = createFragmentDataModel(fragmentId, method, type);
 				template.addFragment(fragment);
 				// collect parameters for the fragment
-				collectParameters(method, typeResolver, fragment, monitor);
+				collectParameters(method, typeResolver, fragment, context, monitor);
 			} else {
 				// collect parameters for the template
-				collectParameters(method, typeResolver, template, monitor);
+				collectParameters(method, typeResolver, template, context, monitor);
 			}
 		}
 	}
@@ -201,7 +209,8 @@ public class CheckedTemplateSupport extends AbstractAnnotationTypeReferenceDataM
 	}
 
 	public static void collectParameters(IMethod method, ITypeResolver typeResolver,
-			DataModelBaseTemplate<DataModelParameter> templateOrFragment, IProgressMonitor monitor) {
+			DataModelBaseTemplate<DataModelParameter> templateOrFragment, SearchContext context,
+			IProgressMonitor monitor) {
 		try {
 			ILocalVariable[] parameters = method.getParameters();
 			if (parameters.length > 0) {
@@ -217,7 +226,7 @@ public class CheckedTemplateSupport extends AbstractAnnotationTypeReferenceDataM
 					"Error while getting method template parameter of '" + method.getElementName() + "'.", e);
 		}
 		// Collect data parameters for the given template
-		TemplateDataSupport.collectParametersFromDataMethodInvocation(method, templateOrFragment, monitor);
+		TemplateDataSupport.collectParametersFromDataMethodInvocation(method, templateOrFragment, context);
 	}
 
 	private static DataModelParameter createParameterDataModel(ILocalVariable methodParameter, boolean varags,
@@ -0,0 +1,117 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.jdt.internal.template.datamodel;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import com.redhat.qute.commons.datamodel.DataModelParameter;
+import com.redhat.qute.commons.datamodel.DataModelProject;
+import com.redhat.qute.commons.datamodel.DataModelProjectDelta;
+import com.redhat.qute.commons.datamodel.DataModelTemplate;
+
+/**
+ * Generations of the data model projects sent to the Qute language server.
+ *
+ * <p>
+ * Each collected data model project is stamped with a new generation. When the
+ * Qute language server gives the generation of the data model project it has
+ * already loaded, only the delta (added / changed / removed templates and value
+ * resolvers) is sent instead of the whole data model project.
+ * </p>
+ *
+ * <p>
+ * The last collected data model project of a project is kept until the project
+ * is closed or removed, so that it can be sent as a whole without collecting it
+ * again when the Qute language server cannot apply a delta.
+ * </p>
+ *
+ */
+public class DataModelProjectGenerations {
+
+	// The session identifier avoids to match a generation given by a language
+	// server which has been started with a previous JDT LS process.
+	private static final String SESSION_ID = UUID.randomUUID().toString();
+
+	private static long generationCounter;
+
+	private static final Map<String /* project uri */, DataModelProject<DataModelTemplate<DataModelParameter>>> lastProjects = new HashMap<>();
+
+	private DataModelProjectGenerations() {
+
+	}
+
+	/**
+	 * Returns the data model project to send to the Qute language server which
+	 * has already loaded the given generation:
+	 *
+	 * <ul>
+	 * <li>the delta with the last collected data model project if the given
+	 * generation is the generation of the last collected data model project.</li>
+	 * <li>the given data model project otherwise.</li>
+	 * </ul>
+	 *
+	 * @param projectUri       the project uri.
+	 * @param project          the collected data model project.
+	 * @param clientGeneration the generation of the data model project already
+	 *                         loaded by the Qute language server and null
+	 *                         otherwise.
+	 *
+	 * @return the data model project to send to the Qute language server.
+	 */
+	public static synchronized DataModelProject<DataModelTemplate<DataModelParameter>> update(String projectUri,
+			DataModelProject<DataModelTemplate<DataModelParameter>> project, String clientGeneration) {
+		if (project == null) {
+			lastProjects.remove(projectUri);
+			return null;
+		}
+		project.setGeneration(SESSION_ID + "#" + (++generationCounter));
+		DataModelProject<DataModelTemplate<DataModelParameter>> lastProject = lastProjects.put(projectUri,
+				project);
+		if (lastProject != null && clientGeneration != null && clientGeneration.equals(lastProject.getGeneration())) {
+			DataModelProject<DataModelTemplate<DataModelParameter>> delta = DataModelProjectDelta
+					.createDelta(lastProject, project);
+			if (delta != null) {
+				return delta;
+			}
+		}
+		return project;
+	}
+
+	/**
+	 * Returns the last collected data model project of the given project if it has
+	 * the given generation and null otherwise.
+	 *
+	 * @param projectUri the project uri.
+	 * @param generation the generation of the data model project.
+	 *
+	 * @return the last collected data model project of the given project if it has
+	 *         the given generation and null otherwise.
+	 */
+	public static synchronized DataModelProject<DataModelTemplate<DataModelParameter>> getLastProject(
+			String projectUri, String generation) {
+		DataModelProject<DataModelTemplate<DataModelParameter>> lastProject = lastProjects.get(projectUri);
+		return lastProject != null && generation != null && generation.equals(lastProject.getGeneration())
+				? lastProject
+				: null;
+	}
+
+	/**
+	 * Evict the last collected data model project of the given project.
+	 *
+	 * @param projectUri the project uri.
+	 */
+	public static synchronized void evict(String projectUri) {
+		lastProjects.remove(projectUri);
+	}
+}
@@ -84,7 +84,14 @@ public class TemplateFieldSupport extends AbstractFieldDeclarationTypeReferenceD
 		StringLiteral location = annotationLocationSupport
 				.getLocationExpressionFromConstructorParameter(field.getElementName());
 		collectDataModelTemplateForTemplateField(field, context.getDataModelProject().getTemplates(),
-				location != null ? location.getLiteralValue() : null, monitor);
+				location != null ? location.getLiteralValue() : null, context);
+	}
+
+	@Override
+	public void endSearch(SearchContext context, IProgressMonitor monitor) {
+		super.endSearch(context, monitor);
+		// Collect data parameters for all templates with one search
+		TemplateDataSupport.collectParametersFromDataMethodInvocations(context, monitor);
 	}
 
 	private static AnnotationLocationSupport getAnnotationLocationSupport(ICompilationUnit compilationUnit,
@@ -108,13 +115,13 @@ public class TemplateFieldSupport extends AbstractFieldDeclarationTypeReferenceD
 	}
 
 	private static void collectDataModelTemplateForTemplateField(IField field,
-			List<DataModelTemplate<DataModelParameter>> templates, String location, IProgressMonitor monitor) {
-		DataModelTemplate<DataModelParameter> template = createTemplateDataModel(field, location, monitor);
+			List<DataModelTemplate<DataModelParameter>> templates, String location, SearchContext context) {
+		DataModelTemplate<DataModelParameter> template = createTemplateDataModel(field, location, context);
 		templates.add(template);
 	}
 
 	private static DataModelTemplate<DataModelParameter> createTemplateDataModel(IField field,
-			String locationFromConstructorParameter, IProgressMonitor monitor) {
+			String locationFromConstructorParameter, SearchContext context) {
 
 		String location = locationFromConstructorParameter != null ? locationFromConstructorParameter
 				: getLocation(field);
@@ -132,7 +139,7 @@ public class TemplateFieldSupport extends AbstractFieldDeclarationTypeReferenceD
 		template.setSourceType(field.getDeclaringType().getFullyQualifiedName());
 		template.setSourceField(fieldName);
 		// Collect data parameters for the given template
-		TemplateDataSupport.collectParametersFromDataMethodInvocation(field, template, monitor);
+		TemplateDataSupport.collectParametersFromDataMethodInvocation(field, template, context);
 		return template;
 	}
 
@@ -11,11 +11,23 @@
 *******************************************************************************/
 package com.redhat.qute.jdt.utils;
 
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
 import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.jdt.core.IClasspathEntry;
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.ITypeRoot;
+import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.internal.core.manipulation.dom.ASTResolving;
 
@@ -30,6 +42,8 @@ import com.redhat.qute.jdt.internal.QuteJavaConstants;
  */
 public class JDTQuteProjectUtils {
 
+	private static final Logger LOGGER = Logger.getLogger(JDTQuteProjectUtils.class.getName());
+
 	private static final String TEMPLATES_BASE_DIR = "src/main/resources/templates/";
 
 	private JDTQuteProjectUtils() {
@@ -40,7 +54,70 @@ public class JDTQuteProjectUtils {
 		IProject project = javaProject.getProject();
 		String projectUri = getProjectURI(project);
 		String templateBaseDir = project.getFile(TEMPLATES_BASE_DIR).getLocationURI().toString();
-		return new ProjectInfo(projectUri, templateBaseDir);
+		ProjectInfo projectInfo = new ProjectInfo(projectUri, templateBaseDir);
+		projectInfo.setClasspathFingerprint(getClasspathFingerprint(javaProject));
+		return projectInfo;
+	}
+
+	/**
+	 * Returns the fingerprint of the resolved classpath of the given Java project
+	 * and null otherwise.
+	 *
+	 * <p>
+	 * The fingerprint is computed with the path, the last modification and the
+	 * size of each library (the JAR content is not read).
+	 * </p>
+	 *
+	 * @param javaProject the Java project.
+	 *
+	 * @return the fingerprint of the resolved classpath of the given Java project
+	 *         and null otherwise.
+	 */
+	public static String getClasspathFingerprint(IJavaProject javaProject) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-1");
+			for (IClasspathEntry entry : javaProject.getResolvedClasspath(true)) {
+				StringBuilder entryKey = new StringBuilder();
+				entryKey.append(entry.getEntryKind());
+				entryKey.append(entry.getPath().toPortableString());
+				if (entry.getEntryKind() == IClasspathEntry.CPE_LIBRARY) {
+					File file = getLibraryFile(entry.getPath());
+					entryKey.append('@');
+					entryKey.append(file.lastModified());
+					entryKey.append('#');
+					entryKey.append(file.length());
+				}
+				digest.update(entryKey.toString().getBytes(StandardCharsets.UTF_8));
+			}
+			StringBuilder fingerprint = new StringBuilder();
+			for (byte b : digest.digest()) {
+				fingerprint.append(String.format("%02x", b));
+			}
+			return fingerprint.toString();
+		} catch (JavaModelException | NoSuchAlgorithmException e) {
+			LOGGER.log(Level.WARNING, "Error while computing the classpath fingerprint", e);
+			return null;
+		}
+	}
+
+	/**
+	 * Returns the file of the given library path, which is either an absolute file
+	 * system path (ex : a JAR of the Maven repository) or a path relative to the
+	 * workspace (ex : a JAR stored in a project).
+	 *
+	 * @param path the library path.
+	 *
+	 * @return the file of the given library path.
+	 */
+	private static File getLibraryFile(IPath path) {
+		IResource resource = ResourcesPlugin.getWorkspace().getRoot().findMember(path);
+		if (resource != null) {
+			IPath location = resource.getLocation();
+			if (location != null) {
+				return location.toFile();
+			}
+		}
+		return path.toFile();
 	}
 
 	/**
@@ -127,7 +127,7 @@ public class JavaMethodInfo extends JavaMemberInfo {
 		String signature = getSignature();
 		int index = signature != null ? signature.indexOf('(') : -1;
 		if (index != -1) {
-			methodName = signature.substring(0, index);
+			methodName = signature.substring(0, index).intern();
 		}
 		return methodName;
 	}
@@ -152,9 +152,10 @@ public class JavaMethodInfo extends JavaMemberInfo {
 	public String getReturnType() {
 		if (returnType == null) {
 			// Compute return type from the signature
+			// Search the ':' after the parameters to ignore the ':' of the parameters
 			String signature = getSignature();
-			int index = signature.lastIndexOf(':');
-			returnType = index != -1 ? signature.substring(index + 1, signature.length()).trim() : NO_VALUE;
+			int index = signature.indexOf(':', Math.max(signature.indexOf(')'), 0));
+			returnType = index != -1 ? signature.substring(index + 1, signature.length()).trim().intern() : NO_VALUE;
 		}
 		return NO_VALUE.equals(returnType) ? null : returnType;
 	}
@@ -213,10 +214,7 @@ public class JavaMethodInfo extends JavaMemberInfo {
 	 * @return true if the method have parameters and false otherwise.
 	 */
 	public boolean hasParameters() {
-		String signature = getSignature();
-		int start = signature.indexOf('(');
-		int end = signature.indexOf(')', start - 1);
-		return end - start > 1;
+		return !getParameters().isEmpty();
 	}
 
 	/**
@@ -261,7 +259,7 @@ public class JavaMethodInfo extends JavaMemberInfo {
 		boolean paramTypeParsing = false;
 		StringBuilder paramName = new StringBuilder();
 		StringBuilder paramType = new StringBuilder();
-		int daemon = 0;
+		int depth = 0;
 		for (int i = start + 1; i < end; i++) {
 			char c = signature.charAt(i);
 			if (!paramTypeParsing) {
@@ -283,20 +281,19 @@ public class JavaMethodInfo extends JavaMemberInfo {
 					// ignore space
 					break;
 				case '<':
-					daemon++;
+					depth++;
 					paramType.append(c);
 					break;
 				case '>':
-					daemon--;
+					depth--;
 					paramType.append(c);
 					break;
 				case ',':
-					if (daemon == 0) {
-						parameters.add(new JavaParameterInfo(paramName.toString(), paramType.toString()));
+					if (depth == 0) {
+						parameters.add(createParameter(paramName, paramType));
 						paramName.setLength(0);
 						paramType.setLength(0);
 						paramTypeParsing = false;
-						daemon = 0;
 					} else {
 						paramType.append(c);
 					}
@@ -307,11 +304,17 @@ public class JavaMethodInfo extends JavaMemberInfo {
 			}
 		}
 		if (paramName.length() > 0) {
-			parameters.add(new JavaParameterInfo(paramName.toString(), paramType.toString()));
+			parameters.add(createParameter(paramName, paramType));
 		}
 		return parameters;
 	}
 
+	private static JavaParameterInfo createParameter(StringBuilder paramName, StringBuilder paramType) {
+		// The parameter types are shared by a lot of methods (ex : java.lang.String),
+		// intern them to store them only once.
+		return new JavaParameterInfo(paramName.toString(), paramType.toString().intern());
+	}
+
 	@Override
 	public JavaElementKind getJavaElementKind() {
 		return JavaElementKind.METHOD;
@@ -44,6 +44,8 @@ public class JavaTypeInfo extends JavaElementInfo {
 
 	private String name;
 
+	private transient Boolean genericType;
+
 	private Map<String /* invalid method name */, InvalidMethodReason> invalidMethods;
 
 	/**
@@ -134,6 +136,15 @@ public class JavaTypeInfo extends JavaElementInfo {
 		this.invalidMethods.put(methodName, reason);
 	}
 
+	/**
+	 * Returns the invalid methods map and null otherwise.
+	 *
+	 * @return the invalid methods map and null otherwise.
+	 */
+	public Map<String /* method name */, InvalidMethodReason> getInvalidMethods() {
+		return invalidMethods;
+	}
+
 	/**
 	 * Set the invalid methods map.
 	 *
@@ -164,7 +175,7 @@ public class JavaTypeInfo extends JavaElementInfo {
 				name = signature;
 				parameters = Collections.emptyList();
 			} else {
-				name = signature.substring(0, index);
+				name = signature.substring(0, index).intern();
 				parameters = parseTypeParameters(signature, index);
 			}
 		}
@@ -176,24 +187,25 @@ public class JavaTypeInfo extends JavaElementInfo {
 		int end = signature.lastIndexOf('>');
 		// ex : java.util.Map<K,V> will return an array of K,V
 		StringBuilder paramName = new StringBuilder();
-		boolean ignore = false;
+		// depth of the nested type parameters (ex : java.util.Map<K,java.util.List<V>>)
+		int depth = 0;
 		for (int i = start + 1; i < end; i++) {
 			char c = signature.charAt(i);
 			// ex query :
 			switch (c) {
 			case '<':
-				ignore = true;
+				depth++;
 				paramName.append(c);
 				break;
 			case '>':
-				ignore = false;
+				depth--;
 				paramName.append(c);
 				break;
 			case ',':
-				if (ignore) {
+				if (depth > 0) {
 					paramName.append(c);
 				} else {
-					parameters.add(new JavaParameterInfo(null, paramName.toString()));
+					parameters.add(new JavaParameterInfo(null, paramName.toString().intern()));
 					paramName.setLength(0);
 				}
 				break;
@@ -202,7 +214,7 @@ public class JavaTypeInfo extends JavaElementInfo {
 			}
 		}
 		if (paramName.length() > 0) {
-			parameters.add(new JavaParameterInfo(null, paramName.toString()));
+			parameters.add(new JavaParameterInfo(null, paramName.toString().intern()));
 		}
 		return parameters;
 	}
@@ -220,6 +232,13 @@ public class JavaTypeInfo extends JavaElementInfo {
 	 * @return true if the java type is a generic type and false otherwise.
 	 */
 	public boolean isGenericType() {
+		if (genericType == null) {
+			genericType = computeGenericType();
+		}
+		return genericType.booleanValue();
+	}
+
+	private boolean computeGenericType() {
 		if (isSingleGenericType()) {
 			return true;
 		}
@@ -315,9 +334,7 @@ public class JavaTypeInfo extends JavaElementInfo {
 				if (i > 0) {
 					result.append(",");
 				}
-				JavaParameterInfo parameter = parameters.get(i);
-				String type = parameter.getType();
-				applyGenericTypeInvocation(type, genericMap, result);
+				applyGenericTypeInvocation(parameters.get(i), genericMap, result);
 			}
 			result.append(">");
 		} else {
@@ -327,6 +344,19 @@ public class JavaTypeInfo extends JavaElementInfo {
 		}
 	}
 
+	private static void applyGenericTypeInvocation(JavaParameterInfo parameter, Map<String, String> genericMap,
+			StringBuilder result) {
+		String type = parameter.getType();
+		String paramType = genericMap.getOrDefault(type, type);
+		if (paramType == type && containsGenericParameter(type)) {
+			// The type parameter is not a generic name (ex : java.util.Map$Entry<K,V>),
+			// apply the generic type invocation on the parsed Java type of the parameter.
+			applyGenericTypeInvocation(parameter.getJavaType(), genericMap, result);
+		} else {
+			applyGenericTypeInvocation(paramType, genericMap, result);
+		}
+	}
+
 	/**
 	 * Returns the result of apply generic type invocation for the given
 	 * <code>javaType</code> with the given <code>genericMap</code>.
@@ -43,6 +43,14 @@ public class DataModelProject<T extends DataModelTemplate<?>> {
 
 	private List<ValueResolverInfo> valueResolvers;
 
+	private String generation;
+
+	private String baseGeneration;
+
+	private List<String> removedTemplates;
+
+	private List<String> removedValueResolvers;
+
 	/**
 	 * Returns the list of data model templates which belong to this project.
 	 * 
@@ -78,6 +86,100 @@ public class DataModelProject<T extends DataModelTemplate<?>> {
 		this.valueResolvers = valueResolvers;
 	}
 
+	/**
+	 * Returns the generation of this data model project and null otherwise.
+	 * 
+	 * @return the generation of this data model project and null otherwise.
+	 */
+	public String getGeneration() {
+		return generation;
+	}
+
+	/**
+	 * Set the generation of this data model project.
+	 * 
+	 * @param generation the generation of this data model project.
+	 */
+	public void setGeneration(String generation) {
+		this.generation = generation;
+	}
+
+	/**
+	 * Returns the generation of the data model project on which this delta must
+	 * be applied and null if this data model project is complete.
+	 * 
+	 * @return the generation of the data model project on which this delta must
+	 *         be applied and null if this data model project is complete.
+	 */
+	public String getBaseGeneration() {
+		return baseGeneration;
+	}
+
+	/**
+	 * Set the generation of the data model project on which this delta must be
+	 * applied.
+	 * 
+	 * @param baseGeneration the generation of the data model project on which
+	 *                       this delta must be applied.
+	 */
+	public void setBaseGeneration(String baseGeneration) {
+		this.baseGeneration = baseGeneration;
+	}
+
+	/**
+	 * Returns true if this data model project is a delta which hosts only the
+	 * added / changed templates and value resolvers and false otherwise.
+	 * 
+	 * @return true if this data model project is a delta which hosts only the
+	 *         added / changed templates and value resolvers and false otherwise.
+	 */
+	public boolean isDelta() {
+		return baseGeneration != null;
+	}
+
+	/**
+	 * Returns the template uris of the removed data model templates (when this
+	 * data model project is a delta) and null otherwise.
+	 * 
+	 * @return the template uris of the removed data model templates (when this
+	 *         data model project is a delta) and null otherwise.
+	 */
+	public List<String> getRemovedTemplates() {
+		return removedTemplates;
+	}
+
+	/**
+	 * Set the template uris of the removed data model templates.
+	 * 
+	 * @param removedTemplates the template uris of the removed data model
+	 *                         templates.
+	 */
+	public void setRemovedTemplates(List<String> removedTemplates) {
+		this.removedTemplates = removedTemplates;
+	}
+
+	/**
+	 * Returns the keys of the removed value resolvers (when this data model
+	 * project is a delta) and null otherwise.
+	 * 
+	 * @return the keys of the removed value resolvers (when this data model
+	 *         project is a delta) and null otherwise.
+	 * 
+	 * @see DataModelProjectDelta#getValueResolverKey(ValueResolverInfo)
+	 */
+	public List<String> getRemovedValueResolvers() {
+		return removedValueResolvers;
+	}
+
+	/**
+	 * Set the keys of the removed value resolvers.
+	 * 
+	 * @param removedValueResolvers the keys of the removed value resolvers.
+	 */
+	public void setRemovedValueResolvers(List<String> removedValueResolvers) {
+		this.removedValueResolvers = removedValueResolvers;
+	}
+
 	/**
 	 * Returns data model template find by the given template uri and null
 	 * otherwise.
@@ -137,6 +239,8 @@ public class DataModelProject<T extends DataModelTemplate<?>> {
 		ToStringBuilder b = new ToStringBuilder(this);
 		b.add("templates", this.getTemplates());
 		b.add("valueResolvers", this.getValueResolvers());
+		b.add("generation", this.getGeneration());
+		b.add("baseGeneration", this.getBaseGeneration());
 		return b.toString();
 	}
 }
@@ -0,0 +1,222 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.commons.datamodel;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.function.Function;
+
+import com.redhat.qute.commons.datamodel.resolvers.ValueResolverInfo;
+
+/**
+ * Data model project delta utilities.
+ *
+ * <p>
+ * A data model project delta hosts only the data model templates and the value
+ * resolvers which have been added / changed since a given generation of the
+ * data model project, and the keys of the removed ones:
+ * </p>
+ *
+ * <ul>
+ * <li>a data model template is identified by its template uri.</li>
+ * <li>a value resolver is identified by all its properties (see
+ * {@link #getValueResolverKey(ValueResolverInfo)}), a changed value resolver is
+ * a removed value resolver and an added value resolver.</li>
+ * </ul>
+ *
+ */
+public class DataModelProjectDelta {
+
+	private static final char KEY_SEPARATOR = '|';
+
+	private DataModelProjectDelta() {
+
+	}
+
+	/**
+	 * Returns the delta between the given old and new data model projects and
+	 * null if the delta cannot be computed (ex : several data model templates
+	 * have the same template uri).
+	 *
+	 * @param <T>        data model template.
+	 * @param oldProject the data model project already loaded by the client.
+	 * @param newProject the new data model project.
+	 *
+	 * @return the delta between the given old and new data model projects and
+	 *         null if the delta cannot be computed.
+	 */
+	public static <T extends DataModelTemplate<?>> DataModelProject<T> createDelta(DataModelProject<T> oldProject,
+			DataModelProject<T> newProject) {
+		Map<String, T> oldTemplates = toMap(oldProject.getTemplates(), DataModelTemplate::getTemplateUri);
+		Map<String, T> newTemplates = toMap(newProject.getTemplates(), DataModelTemplate::getTemplateUri);
+		Map<String, ValueResolverInfo> oldResolvers = toMap(oldProject.getValueResolvers(),
+				DataModelProjectDelta::getValueResolverKey);
+		Map<String, ValueResolverInfo> newResolvers = toMap(newProject.getValueResolvers(),
+				DataModelProjectDelta::getValueResolverKey);
+		if (oldTemplates == null || newTemplates == null || oldResolvers == null || newResolvers == null) {
+			return null;
+		}
+
+		// Templates
+		List<T> changedTemplates = new ArrayList<>();
+		for (Entry<String, T> entry : newTemplates.entrySet()) {
+			T oldTemplate = oldTemplates.get(entry.getKey());
+			if (oldTemplate == null || !isSameTemplate(oldTemplate, entry.getValue())) {
+				changedTemplates.add(entry.getValue());
+			}
+		}
+		List<String> removedTemplates = new ArrayList<>();
+		for (String templateUri : oldTemplates.keySet()) {
+			if (!newTemplates.containsKey(templateUri)) {
+				removedTemplates.add(templateUri);
+			}
+		}
+
+		// Value resolvers
+		List<ValueResolverInfo> addedResolvers = new ArrayList<>();
+		for (Entry<String, ValueResolverInfo> entry : newResolvers.entrySet()) {
+			if (!oldResolvers.containsKey(entry.getKey())) {
+				addedResolvers.add(entry.getValue());
+			}
+		}
+		List<String> removedResolvers = new ArrayList<>();
+		for (String key : oldResolvers.keySet()) {
+			if (!newResolvers.containsKey(key)) {
+				removedResolvers.add(key);
+			}
+		}
+
+		DataModelProject<T> delta = new DataModelProject<>();
+		delta.setGeneration(newProject.getGeneration());
+		delta.setBaseGeneration(oldProject.getGeneration());
+		delta.setTemplates(changedTemplates);
+		delta.setRemovedTemplates(removedTemplates);
+		delta.setValueResolvers(addedResolvers);
+		delta.setRemovedValueResolvers(removedResolvers);
+		// The namespace resolvers are few, they are always sent.
+		delta.setNamespaceResolverInfos(newProject.getNamespaceResolverInfos());
+		return delta;
+	}
+
+	/**
+	 * Returns true if the given delta has no added / changed / removed data model
+	 * templates and value resolvers and false otherwise.
+	 *
+	 * @param delta the data model project delta.
+	 *
+	 * @return true if the given delta has no added / changed / removed data model
+	 *         templates and value resolvers and false otherwise.
+	 */
+	public static boolean isEmpty(DataModelProject<?> delta) {
+		return isEmpty(delta.getTemplates()) && isEmpty(delta.getRemovedTemplates())
+				&& isEmpty(delta.getValueResolvers()) && isEmpty(delta.getRemovedValueResolvers());
+	}
+
+	private static boolean isEmpty(List<?> items) {
+		return items == null || items.isEmpty();
+	}
+
+	/**
+	 * Returns the key of the given value resolver.
+	 *
+	 * @param resolver the value resolver.
+	 *
+	 * @return the key of the given value resolver.
+	 */
+	public static String getValueResolverKey(ValueResolverInfo resolver) {
+		StringBuilder key = new StringBuilder();
+		key.append(resolver.getKind());
+		key.append(KEY_SEPARATOR);
+		key.append(resolver.getSourceType());
+		key.append(KEY_SEPARATOR);
+		key.append(resolver.getSignature());
+		key.append(KEY_SEPARATOR);
+		key.append(resolver.getNamespace());
+		key.append(KEY_SEPARATOR);
+		key.append(resolver.getNamed());
+		key.append(KEY_SEPARATOR);
+		key.append(resolver.getMatchName());
+		key.append(KEY_SEPARATOR);
+		key.append(resolver.isBinary());
+		key.append(KEY_SEPARATOR);
+		key.append(resolver.isGlobalVariable());
+		return key.toString();
+	}
+
+	/**
+	 * Returns the given items indexed by the given key and null if several items
+	 * have the same key.
+	 */
+	private static <T> Map<String, T> toMap(List<T> items, Function<T, String> keyProvider) {
+		if (items == null || items.isEmpty()) {
+			return Collections.emptyMap();
+		}
+		Map<String, T> map = new LinkedHashMap<>();
+		for (T item : items) {
+			if (map.put(keyProvider.apply(item), item) != null) {
+				return null;
+			}
+		}
+		return map;
+	}
+
+	private static boolean isSameTemplate(DataModelTemplate<?> oldTemplate, DataModelTemplate<?> newTemplate) {
+		if (!isSameBaseTemplate(oldTemplate, newTemplate)
+				|| !Objects.equals(oldTemplate.getSourceField(), newTemplate.getSourceField())) {
+			return false;
+		}
+		List<? extends DataModelFragment<?>> oldFragments = oldTemplate.getFragments();
+		List<? extends DataModelFragment<?>> newFragments = newTemplate.getFragments();
+		int size = oldFragments != null ? oldFragments.size() : 0;
+		if (size != (newFragments != null ? newFragments.size() : 0)) {
+			return false;
+		}
+		for (int i = 0; i < size; i++) {
+			DataModelFragment<?> oldFragment = oldFragments.get(i);
+			DataModelFragment<?> newFragment = newFragments.get(i);
+			if (!Objects.equals(oldFragment.getId(), newFragment.getId())
+					|| !isSameBaseTemplate(oldFragment, newFragment)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isSameBaseTemplate(DataModelBaseTemplate<?> oldTemplate,
+			DataModelBaseTemplate<?> newTemplate) {
+		if (!Objects.equals(oldTemplate.getSourceType(), newTemplate.getSourceType())
+				|| !Objects.equals(oldTemplate.getSourceMethod(), newTemplate.getSourceMethod())) {
+			return false;
+		}
+		List<? extends DataModelParameter> oldParameters = oldTemplate.getParameters();
+		List<? extends DataModelParameter> newParameters = newTemplate.getParameters();
+		int size = oldParameters != null ? oldParameters.size() : 0;
+		if (size != (newParameters != null ? newParameters.size() : 0)) {
+			return false;
+		}
+		for (int i = 0; i < size; i++) {
+			DataModelParameter oldParameter = oldParameters.get(i);
+			DataModelParameter newParameter = newParameters.get(i);
+			if (!Objects.equals(oldParameter.getKey(), newParameter.getKey())
+					|| !Objects.equals(oldParameter.getSourceType(), newParameter.getSourceType())
+					|| oldParameter.isDataMethodInvocation() != newParameter.isDataMethodInvocation()) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
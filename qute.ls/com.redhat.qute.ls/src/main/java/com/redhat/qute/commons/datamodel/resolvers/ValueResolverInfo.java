@@ -13,7 +13,9 @@ package com.redhat.qute.commons.datamodel.resolvers;
 
 import org.eclipse.xtext.xbase.lib.util.ToStringBuilder;
 
+import com.google.gson.annotations.JsonAdapter;
 import com.redhat.qute.commons.JavaElementKind;
+import com.redhat.qute.commons.json.ValueResolverInfoTypeAdapterFactory;
 
 /**
  * Value resolver information.
@@ -21,6 +23,7 @@ import com.redhat.qute.commons.JavaElementKind;
  * @author Angelo ZERR
  *
  */
+@JsonAdapter(ValueResolverInfoTypeAdapterFactory.class)
 public class ValueResolverInfo {
 
 	private String named;
@@ -0,0 +1,75 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.commons.json;
+
+import static com.redhat.qute.commons.json.JsonStreamUtils.nextBoolean;
+import static com.redhat.qute.commons.json.JsonStreamUtils.nextInternedString;
+import static com.redhat.qute.commons.json.JsonStreamUtils.writeString;
+import static com.redhat.qute.commons.json.JsonStreamUtils.writeTrue;
+
+import java.io.IOException;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import com.redhat.qute.commons.datamodel.DataModelParameter;
+
+/**
+ * Streaming Gson type adapter for {@link DataModelParameter}.
+ *
+ */
+public class DataModelParameterTypeAdapter extends TypeAdapter<DataModelParameter> {
+
+	@Override
+	public DataModelParameter read(JsonReader in) throws IOException {
+		if (in.peek() == JsonToken.NULL) {
+			in.nextNull();
+			return null;
+		}
+		DataModelParameter parameter = new DataModelParameter();
+		in.beginObject();
+		while (in.hasNext()) {
+			switch (in.nextName()) {
+			case "key":
+				parameter.setKey(nextInternedString(in));
+				break;
+			case "sourceType":
+				parameter.setSourceType(nextInternedString(in));
+				break;
+			case "dataMethodInvocation":
+				Boolean dataMethodInvocation = nextBoolean(in);
+				if (dataMethodInvocation != null) {
+					parameter.setDataMethodInvocation(dataMethodInvocation);
+				}
+				break;
+			default:
+				in.skipValue();
+			}
+		}
+		in.endObject();
+		return parameter;
+	}
+
+	@Override
+	public void write(JsonWriter out, DataModelParameter parameter) throws IOException {
+		if (parameter == null) {
+			out.nullValue();
+			return;
+		}
+		out.beginObject();
+		writeString(out, "key", parameter.getKey());
+		writeString(out, "sourceType", parameter.getSourceType());
+		writeTrue(out, "dataMethodInvocation", parameter.isDataMethodInvocation());
+		out.endObject();
+	}
+}
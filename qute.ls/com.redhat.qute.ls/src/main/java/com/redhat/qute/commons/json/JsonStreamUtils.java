@@ -0,0 +1,159 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.commons.json;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * Utilities to read / write JSON with the Gson streaming API.
+ *
+ */
+public class JsonStreamUtils {
+
+	private JsonStreamUtils() {
+
+	}
+
+	/**
+	 * Returns the next string value and null if the value is null.
+	 *
+	 * @param in the JSON reader.
+	 *
+	 * @return the next string value and null if the value is null.
+	 *
+	 * @throws IOException
+	 */
+	public static String nextString(JsonReader in) throws IOException {
+		if (in.peek() == JsonToken.NULL) {
+			in.nextNull();
+			return null;
+		}
+		return in.nextString();
+	}
+
+	/**
+	 * Returns the next string value interned and null if the value is null.
+	 *
+	 * <p>
+	 * This method must be used for values which are shared by a lot of JSON
+	 * objects (ex : Java type names, signatures) to store them only once in the
+	 * memory.
+	 * </p>
+	 *
+	 * @param in the JSON reader.
+	 *
+	 * @return the next string value interned and null if the value is null.
+	 *
+	 * @throws IOException
+	 */
+	public static String nextInternedString(JsonReader in) throws IOException {
+		String value = nextString(in);
+		return value != null ? value.intern() : null;
+	}
+
+	/**
+	 * Returns the next boolean value and null if the value is null.
+	 *
+	 * @param in the JSON reader.
+	 *
+	 * @return the next boolean value and null if the value is null.
+	 *
+	 * @throws IOException
+	 */
+	public static Boolean nextBoolean(JsonReader in) throws IOException {
+		if (in.peek() == JsonToken.NULL) {
+			in.nextNull();
+			return null;
+		}
+		return in.nextBoolean();
+	}
+
+	/**
+	 * Returns the next list of interned strings and null if the value is null.
+	 *
+	 * @param in the JSON reader.
+	 *
+	 * @return the next list of interned strings and null if the value is null.
+	 *
+	 * @throws IOException
+	 */
+	public static List<String> nextInternedStringList(JsonReader in) throws IOException {
+		if (in.peek() == JsonToken.NULL) {
+			in.nextNull();
+			return null;
+		}
+		List<String> values = new ArrayList<>();
+		in.beginArray();
+		while (in.hasNext()) {
+			values.add(nextInternedString(in));
+		}
+		in.endArray();
+		return values;
+	}
+
+	/**
+	 * Write the given string property if the value is not null.
+	 *
+	 * @param out   the JSON writer.
+	 * @param name  the property name.
+	 * @param value the property value.
+	 *
+	 * @throws IOException
+	 */
+	public static void writeString(JsonWriter out, String name, String value) throws IOException {
+		if (value != null) {
+			out.name(name).value(value);
+		}
+	}
+
+	/**
+	 * Write the given boolean property if the value is true (false is the default
+	 * value).
+	 *
+	 * @param out   the JSON writer.
+	 * @param name  the property name.
+	 * @param value the property value.
+	 *
+	 * @throws IOException
+	 */
+	public static void writeTrue(JsonWriter out, String name, boolean value) throws IOException {
+		if (value) {
+			out.name(name).value(true);
+		}
+	}
+
+	/**
+	 * Write the given list of strings property if the list is not null.
+	 *
+	 * @param out    the JSON writer.
+	 * @param name   the property name.
+	 * @param values the property values.
+	 *
+	 * @throws IOException
+	 */
+	public static void writeStringList(JsonWriter out, String name, List<String> values) throws IOException {
+		if (values != null) {
+			out.name(name);
+			out.beginArray();
+			for (String value : values) {
+				out.value(value);
+			}
+			out.endArray();
+		}
+	}
+}
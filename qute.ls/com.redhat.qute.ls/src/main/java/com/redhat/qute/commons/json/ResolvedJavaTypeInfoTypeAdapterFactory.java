@@ -0,0 +1,223 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.commons.json;
+
+import static com.redhat.qute.commons.json.JsonStreamUtils.nextBoolean;
+import static com.redhat.qute.commons.json.JsonStreamUtils.nextInternedString;
+import static com.redhat.qute.commons.json.JsonStreamUtils.nextInternedStringList;
+import static com.redhat.qute.commons.json.JsonStreamUtils.nextString;
+import static com.redhat.qute.commons.json.JsonStreamUtils.writeString;
+import static com.redhat.qute.commons.json.JsonStreamUtils.writeStringList;
+import static com.redhat.qute.commons.json.JsonStreamUtils.writeTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import com.redhat.qute.commons.InvalidMethodReason;
+import com.redhat.qute.commons.JavaFieldInfo;
+import com.redhat.qute.commons.JavaMemberInfo;
+import com.redhat.qute.commons.JavaMethodInfo;
+import com.redhat.qute.commons.JavaTypeKind;
+import com.redhat.qute.commons.ResolvedJavaTypeInfo;
+import com.redhat.qute.commons.annotations.RegisterForReflectionAnnotation;
+import com.redhat.qute.commons.annotations.TemplateDataAnnotation;
+
+/**
+ * Streaming Gson type adapter for {@link ResolvedJavaTypeInfo}.
+ *
+ * <p>
+ * The fields and methods of the Java type are read / written without
+ * reflection, and the Java type names and signatures are interned while
+ * reading. The Java type information which can be computed from the signature
+ * (name, type parameters) is not written.
+ * </p>
+ *
+ */
+public class ResolvedJavaTypeInfoTypeAdapterFactory implements TypeAdapterFactory {
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+		if (type.getRawType() != ResolvedJavaTypeInfo.class) {
+			return null;
+		}
+		return (TypeAdapter<T>) new ResolvedJavaTypeInfoTypeAdapter(gson);
+	}
+
+	private static class ResolvedJavaTypeInfoTypeAdapter extends TypeAdapter<ResolvedJavaTypeInfo> {
+
+		private final TypeAdapter<JavaTypeKind> typeKindAdapter;
+
+		private final TypeAdapter<Map<String, InvalidMethodReason>> invalidMethodsAdapter;
+
+		private final TypeAdapter<RegisterForReflectionAnnotation> registerForReflectionAdapter;
+
+		private final TypeAdapter<List<TemplateDataAnnotation>> templateDataAdapter;
+
+		public ResolvedJavaTypeInfoTypeAdapter(Gson gson) {
+			// The enums and the annotations are not a lot, use the Gson adapters to keep
+			// the same JSON format.
+			this.typeKindAdapter = gson.getAdapter(JavaTypeKind.class);
+			this.invalidMethodsAdapter = gson.getAdapter(new TypeToken<Map<String, InvalidMethodReason>>() {
+			});
+			this.registerForReflectionAdapter = gson.getAdapter(RegisterForReflectionAnnotation.class);
+			this.templateDataAdapter = gson.getAdapter(new TypeToken<List<TemplateDataAnnotation>>() {
+			});
+		}
+
+		@Override
+		public ResolvedJavaTypeInfo read(JsonReader in) throws IOException {
+			if (in.peek() == JsonToken.NULL) {
+				in.nextNull();
+				return null;
+			}
+			ResolvedJavaTypeInfo javaType = new ResolvedJavaTypeInfo();
+			in.beginObject();
+			while (in.hasNext()) {
+				switch (in.nextName()) {
+				case "signature":
+					javaType.setSignature(nextInternedString(in));
+					break;
+				case "documentation":
+					javaType.setDocumentation(nextString(in));
+					break;
+				case "typeKind":
+					javaType.setJavaTypeKind(typeKindAdapter.read(in));
+					break;
+				case "invalidMethods":
+					javaType.setInvalidMethods(invalidMethodsAdapter.read(in));
+					break;
+				case "extendedTypes":
+					javaType.setExtendedTypes(nextInternedStringList(in));
+					break;
+				case "fields":
+					javaType.setFields(readMembers(in, JavaFieldInfo::new));
+					break;
+				case "methods":
+					javaType.setMethods(readMembers(in, JavaMethodInfo::new));
+					break;
+				case "binary":
+					javaType.setBinary(nextBoolean(in));
+					break;
+				case "binaryLocation":
+					javaType.setBinaryLocation(nextInternedString(in));
+					break;
+				case "registerForReflectionAnnotation":
+					javaType.setRegisterForReflectionAnnotation(registerForReflectionAdapter.read(in));
+					break;
+				case "templateDataAnnotations":
+					javaType.setTemplateDataAnnotations(templateDataAdapter.read(in));
+					break;
+				default:
+					// - name, parameters are computed from the signature
+					// - unknown property
+					in.skipValue();
+				}
+			}
+			in.endObject();
+			return javaType;
+		}
+
+		private static <T extends JavaMemberInfo> List<T> readMembers(JsonReader in, Supplier<T> factory)
+				throws IOException {
+			if (in.peek() == JsonToken.NULL) {
+				in.nextNull();
+				return null;
+			}
+			List<T> members = new ArrayList<>();
+			in.beginArray();
+			while (in.hasNext()) {
+				if (in.peek() == JsonToken.NULL) {
+					in.nextNull();
+					continue;
+				}
+				T member = factory.get();
+				in.beginObject();
+				while (in.hasNext()) {
+					switch (in.nextName()) {
+					case "signature":
+						member.setSignature(nextInternedString(in));
+						break;
+					case "documentation":
+						member.setDocumentation(nextString(in));
+						break;
+					default:
+						in.skipValue();
+					}
+				}
+				in.endObject();
+				members.add(member);
+			}
+			in.endArray();
+			return members;
+		}
+
+		@Override
+		public void write(JsonWriter out, ResolvedJavaTypeInfo javaType) throws IOException {
+			if (javaType == null) {
+				out.nullValue();
+				return;
+			}
+			out.beginObject();
+			writeString(out, "signature", javaType.getSignature());
+			writeString(out, "documentation", javaType.getDocumentation());
+			if (javaType.getJavaTypeKind() != null) {
+				out.name("typeKind");
+				typeKindAdapter.write(out, javaType.getJavaTypeKind());
+			}
+			if (javaType.getInvalidMethods() != null && !javaType.getInvalidMethods().isEmpty()) {
+				out.name("invalidMethods");
+				invalidMethodsAdapter.write(out, javaType.getInvalidMethods());
+			}
+			writeStringList(out, "extendedTypes", javaType.getExtendedTypes());
+			writeMembers(out, "fields", javaType.getFields());
+			writeMembers(out, "methods", javaType.getMethods());
+			writeTrue(out, "binary", javaType.isBinary());
+			writeString(out, "binaryLocation", javaType.getBinaryLocation());
+			if (javaType.getRegisterForReflectionAnnotation() != null) {
+				out.name("registerForReflectionAnnotation");
+				registerForReflectionAdapter.write(out, javaType.getRegisterForReflectionAnnotation());
+			}
+			if (javaType.getTemplateDataAnnotations() != null) {
+				out.name("templateDataAnnotations");
+				templateDataAdapter.write(out, javaType.getTemplateDataAnnotations());
+			}
+			out.endObject();
+		}
+
+		private static void writeMembers(JsonWriter out, String name, List<? extends JavaMemberInfo> members)
+				throws IOException {
+			if (members.isEmpty()) {
+				return;
+			}
+			out.name(name);
+			out.beginArray();
+			for (JavaMemberInfo member : members) {
+				out.beginObject();
+				writeString(out, "signature", member.getSignature());
+				writeString(out, "documentation", member.getDocumentation());
+				out.endObject();
+			}
+			out.endArray();
+		}
+	}
+}
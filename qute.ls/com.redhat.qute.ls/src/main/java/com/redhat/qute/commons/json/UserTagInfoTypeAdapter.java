@@ -0,0 +1,70 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.commons.json;
+
+import static com.redhat.qute.commons.json.JsonStreamUtils.nextString;
+import static com.redhat.qute.commons.json.JsonStreamUtils.writeString;
+
+import java.io.IOException;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import com.redhat.qute.commons.usertags.UserTagInfo;
+
+/**
+ * Streaming Gson type adapter for {@link UserTagInfo}.
+ *
+ */
+public class UserTagInfoTypeAdapter extends TypeAdapter<UserTagInfo> {
+
+	@Override
+	public UserTagInfo read(JsonReader in) throws IOException {
+		if (in.peek() == JsonToken.NULL) {
+			in.nextNull();
+			return null;
+		}
+		UserTagInfo tagInfo = new UserTagInfo();
+		in.beginObject();
+		while (in.hasNext()) {
+			switch (in.nextName()) {
+			case "fileName":
+				tagInfo.setFileName(nextString(in));
+				break;
+			case "uri":
+				tagInfo.setUri(nextString(in));
+				break;
+			case "content":
+				tagInfo.setContent(nextString(in));
+				break;
+			default:
+				in.skipValue();
+			}
+		}
+		in.endObject();
+		return tagInfo;
+	}
+
+	@Override
+	public void write(JsonWriter out, UserTagInfo tagInfo) throws IOException {
+		if (tagInfo == null) {
+			out.nullValue();
+			return;
+		}
+		out.beginObject();
+		writeString(out, "fileName", tagInfo.getFileName());
+		writeString(out, "uri", tagInfo.getUri());
+		writeString(out, "content", tagInfo.getContent());
+		out.endObject();
+	}
+}
@@ -0,0 +1,123 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.commons.json;
+
+import static com.redhat.qute.commons.json.JsonStreamUtils.nextBoolean;
+import static com.redhat.qute.commons.json.JsonStreamUtils.nextInternedString;
+import static com.redhat.qute.commons.json.JsonStreamUtils.writeString;
+import static com.redhat.qute.commons.json.JsonStreamUtils.writeTrue;
+
+import java.io.IOException;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import com.redhat.qute.commons.datamodel.resolvers.ValueResolverInfo;
+import com.redhat.qute.commons.datamodel.resolvers.ValueResolverKind;
+
+/**
+ * Streaming Gson type adapter for {@link ValueResolverInfo}.
+ *
+ */
+public class ValueResolverInfoTypeAdapterFactory implements TypeAdapterFactory {
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+		if (type.getRawType() != ValueResolverInfo.class) {
+			return null;
+		}
+		return (TypeAdapter<T>) new ValueResolverInfoTypeAdapter(gson.getAdapter(ValueResolverKind.class));
+	}
+
+	private static class ValueResolverInfoTypeAdapter extends TypeAdapter<ValueResolverInfo> {
+
+		private final TypeAdapter<ValueResolverKind> kindAdapter;
+
+		public ValueResolverInfoTypeAdapter(TypeAdapter<ValueResolverKind> kindAdapter) {
+			this.kindAdapter = kindAdapter;
+		}
+
+		@Override
+		public ValueResolverInfo read(JsonReader in) throws IOException {
+			if (in.peek() == JsonToken.NULL) {
+				in.nextNull();
+				return null;
+			}
+			ValueResolverInfo resolver = new ValueResolverInfo();
+			in.beginObject();
+			while (in.hasNext()) {
+				switch (in.nextName()) {
+				case "named":
+					resolver.setNamed(nextInternedString(in));
+					break;
+				case "namespace":
+					resolver.setNamespace(nextInternedString(in));
+					break;
+				case "matchName":
+					resolver.setMatchName(nextInternedString(in));
+					break;
+				case "signature":
+					resolver.setSignature(nextInternedString(in));
+					break;
+				case "sourceType":
+					resolver.setSourceType(nextInternedString(in));
+					break;
+				case "binary":
+					Boolean binary = nextBoolean(in);
+					if (binary != null) {
+						resolver.setBinary(binary);
+					}
+					break;
+				case "kind":
+					resolver.setKind(kindAdapter.read(in));
+					break;
+				case "globalVariable":
+					Boolean globalVariable = nextBoolean(in);
+					if (globalVariable != null) {
+						resolver.setGlobalVariable(globalVariable);
+					}
+					break;
+				default:
+					in.skipValue();
+				}
+			}
+			in.endObject();
+			return resolver;
+		}
+
+		@Override
+		public void write(JsonWriter out, ValueResolverInfo resolver) throws IOException {
+			if (resolver == null) {
+				out.nullValue();
+				return;
+			}
+			out.beginObject();
+			writeString(out, "named", resolver.getNamed());
+			writeString(out, "namespace", resolver.getNamespace());
+			writeString(out, "matchName", resolver.getMatchName());
+			writeString(out, "signature", resolver.getSignature());
+			writeString(out, "sourceType", resolver.getSourceType());
+			writeTrue(out, "binary", resolver.isBinary());
+			if (resolver.getKind() != null) {
+				out.name("kind");
+				kindAdapter.write(out, resolver.getKind());
+			}
+			writeTrue(out, "globalVariable", resolver.isGlobalVariable());
+			out.endObject();
+		}
+	}
+}
@@ -11,12 +11,16 @@
 *******************************************************************************/
 package com.redhat.qute.commons.usertags;
 
+import com.google.gson.annotations.JsonAdapter;
+import com.redhat.qute.commons.json.UserTagInfoTypeAdapter;
+
 /**
  * Binary user tag information.
  * 
  * @author Angelo ZERR
  *
  */
+@JsonAdapter(UserTagInfoTypeAdapter.class)
 public class UserTagInfo {
 
 	private String fileName;
@@ -14,6 +14,7 @@ package com.redhat.qute.ls;
 import static com.redhat.qute.utils.VersionHelper.getVersion;
 import static org.eclipse.lsp4j.jsonrpc.CompletableFutures.computeAsync;
 
+import java.nio.file.Paths;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executors;
@@ -61,6 +62,7 @@ import com.redhat.qute.ls.commons.ParentProcessWatcher.ProcessLanguageServer;
 import com.redhat.qute.ls.commons.client.ExtendedClientCapabilities;
 import com.redhat.qute.ls.commons.client.InitializationOptionsExtendedClientCapabilities;
 import com.redhat.qute.project.QuteProjectRegistry;
+import com.redhat.qute.project.QuteProjectSnapshotStore;
 import com.redhat.qute.project.datamodel.JavaDataModelCache;
 import com.redhat.qute.services.QuteLanguageService;
 import com.redhat.qute.settings.AllQuteSettings;
@@ -81,6 +83,12 @@ public class QuteLanguageServer implements LanguageServer, ProcessLanguageServer
 
 	private static final Logger LOGGER = Logger.getLogger(QuteLanguageServer.class.getName());
 
+	/**
+	 * System property of the directory where the Qute project snapshots are
+	 * stored to warm start the projects. An empty value disables the warm start.
+	 */
+	private static final String SNAPSHOT_DIR_PROPERTY = "qute.snapshotDir";
+
 	private final JavaDataModelCache dataModelCache;
 
 	private final SharedSettings sharedSettings;
@@ -118,6 +126,8 @@ public class QuteLanguageServer implements LanguageServer, ProcessLanguageServer
 				.getExtendedClientCapabilities(params);
 		capabilityManager.setClientCapabilities(params.getCapabilities(), extendedClientCapabilities);
 		updateSettings(InitializationOptionsSettings.getSettings(params));
+		projectRegistry.setSnapshotStore(createSnapshotStore(), this::dataModelChanged);
+		projectRegistry.setIndexChangedListener(project -> refreshCodeLenses());
 
 		textDocumentService.updateClientCapabilities(params.getCapabilities(), extendedClientCapabilities);
 		ServerCapabilities serverCapabilities = ServerCapabilitiesInitializer
@@ -174,8 +184,34 @@ public class QuteLanguageServer implements LanguageServer, ProcessLanguageServer
 		}
 	}
 
+	/**
+	 * Ask the client to refresh all code lenses (ex : the references code lens of
+	 * #insert sections when the template indexes have changed) if the client
+	 * supports it.
+	 */
+	private void refreshCodeLenses() {
+		QuteLanguageClientAPI languageClient = getLanguageClient();
+		if (languageClient != null && capabilityManager.getClientCapabilities().isCodeLensRefreshSupported()) {
+			languageClient.refreshCodeLenses();
+		}
+	}
+
+	private static QuteProjectSnapshotStore createSnapshotStore() {
+		String snapshotDir = System.getProperty(SNAPSHOT_DIR_PROPERTY);
+		if (snapshotDir == null) {
+			snapshotDir = Paths.get(System.getProperty("user.home"), ".cache", "qute-ls", "snapshots").toString();
+		}
+		if (snapshotDir.isEmpty()) {
+			return null;
+		}
+		return new QuteProjectSnapshotStore(Paths.get(snapshotDir));
+	}
+
 	@Override
 	public CompletableFuture<Object> shutdown() {
+		// Save the loaded data model / Java types to warm start the projects on the
+		// next start.
+		projectRegistry.saveSnapshots();
 		if (capabilityManager.getClientCapabilities().shouldLanguageServerExitOnShutdown()) {
 			ScheduledExecutorService delayer = Executors.newScheduledThreadPool(1);
 			delayer.schedule(() -> exit(0), 1, TimeUnit.SECONDS);
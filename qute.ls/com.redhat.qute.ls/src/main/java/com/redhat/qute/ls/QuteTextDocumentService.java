@@ -47,6 +47,11 @@ import org.eclipse.lsp4j.Location;
 import org.eclipse.lsp4j.LocationLink;
 import org.eclipse.lsp4j.ReferenceParams;
 import org.eclipse.lsp4j.RenameParams;
+import org.eclipse.lsp4j.SemanticTokens;
+import org.eclipse.lsp4j.SemanticTokensDelta;
+import org.eclipse.lsp4j.SemanticTokensDeltaParams;
+import org.eclipse.lsp4j.SemanticTokensParams;
+import org.eclipse.lsp4j.SemanticTokensRangeParams;
 import org.eclipse.lsp4j.SymbolInformation;
 import org.eclipse.lsp4j.TextDocumentClientCapabilities;
 import org.eclipse.lsp4j.TextDocumentIdentifier;
@@ -257,6 +262,34 @@ public class QuteTextDocumentService implements TextDocumentService {
 		}
 		return CompletableFuture.completedFuture(null);
 	}
+
+	@Override
+	public CompletableFuture<SemanticTokens> semanticTokensFull(SemanticTokensParams params) {
+		AbstractTextDocumentService service = getTextDocumentService(params.getTextDocument());
+		if (service != null) {
+			return service.semanticTokensFull(params);
+		}
+		return CompletableFuture.completedFuture(null);
+	}
+
+	@Override
+	public CompletableFuture<Either<SemanticTokens, SemanticTokensDelta>> semanticTokensFullDelta(
+			SemanticTokensDeltaParams params) {
+		AbstractTextDocumentService service = getTextDocumentService(params.getTextDocument());
+		if (service != null) {
+			return service.semanticTokensFullDelta(params);
+		}
+		return CompletableFuture.completedFuture(null);
+	}
+
+	@Override
+	public CompletableFuture<SemanticTokens> semanticTokensRange(SemanticTokensRangeParams params) {
+		AbstractTextDocumentService service = getTextDocumentService(params.getTextDocument());
+		if (service != null) {
+			return service.semanticTokensRange(params);
+		}
+		return CompletableFuture.completedFuture(null);
+	}
 	
 	@Override
 	public CompletableFuture<CodeAction> resolveCodeAction(CodeAction codeAction) {
@@ -0,0 +1,149 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.ls;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.eclipse.lsp4j.DiagnosticSeverity;
+
+import com.redhat.qute.project.QuteProjectSnapshot;
+import com.redhat.qute.settings.QuteNativeSettings;
+import com.redhat.qute.settings.QuteValidationSettings;
+import com.redhat.qute.validator.QuteTemplateValidator;
+import com.redhat.qute.validator.QuteValidationReport;
+import com.redhat.qute.validator.QuteValidationReport.Format;
+import com.redhat.qute.validator.TemplateValidationResult;
+
+/**
+ * Qute validator launcher which validates all the templates of a template base
+ * dir without a language client (ex : to validate templates in a CI build).
+ *
+ * <pre>
+ * java -cp com.redhat.qute.ls-uber.jar com.redhat.qute.ls.QuteValidatorLauncher \
+ *   --templates src/main/resources/templates \
+ *   --snapshot target/qute-snapshot.json \
+ *   --format sarif \
+ *   --output target/qute.sarif
+ * </pre>
+ *
+ * The exit code is 1 if a template has an error, 2 if the arguments are
+ * invalid and 0 otherwise.
+ *
+ */
+public class QuteValidatorLauncher {
+
+	private static final int EXIT_OK = 0;
+
+	private static final int EXIT_ERRORS = 1;
+
+	private static final int EXIT_USAGE = 2;
+
+	private static final String USAGE = "Usage: QuteValidatorLauncher --templates <dir> [--snapshot <file.json>] [--format json|sarif] [--output <file>] [--threads <n>] [--parallelism <n>] [--native]";
+
+	public static void main(String[] args) {
+		System.exit(run(args, System.out, System.err));
+	}
+
+	/**
+	 * Validate the templates with the given arguments.
+	 *
+	 * @param args the command line arguments.
+	 * @param out  the output stream used when there is no '--output' argument.
+	 * @param err  the error stream.
+	 *
+	 * @return the exit code.
+	 */
+	public static int run(String[] args, PrintStream out, PrintStream err) {
+		Path templatesDir = null;
+		Path snapshotFile = null;
+		Path outputFile = null;
+		Format format = Format.json;
+		int nbThreads = Runtime.getRuntime().availableProcessors();
+		int parallelism = 1;
+		boolean nativeImages = false;
+		try {
+			for (int i = 0; i < args.length; i++) {
+				String arg = args[i];
+				switch (arg) {
+				case "--templates":
+					templatesDir = Paths.get(args[++i]);
+					break;
+				case "--snapshot":
+					snapshotFile = Paths.get(args[++i]);
+					break;
+				case "--format":
+					format = Format.valueOf(args[++i]);
+					break;
+				case "--output":
+					outputFile = Paths.get(args[++i]);
+					break;
+				case "--threads":
+					nbThreads = Integer.parseInt(args[++i]);
+					break;
+				case "--parallelism":
+					parallelism = Integer.parseInt(args[++i]);
+					break;
+				case "--native":
+					nativeImages = true;
+					break;
+				default:
+					err.println("Unknown argument: " + arg);
+					err.println(USAGE);
+					return EXIT_USAGE;
+				}
+			}
+		} catch (RuntimeException e) {
+			// Missing value, invalid format or invalid number of threads
+			err.println(USAGE);
+			return EXIT_USAGE;
+		}
+		if (templatesDir == null) {
+			err.println(USAGE);
+			return EXIT_USAGE;
+		}
+
+		try {
+			QuteProjectSnapshot snapshot = snapshotFile != null ? QuteProjectSnapshot.load(snapshotFile)
+					: new QuteProjectSnapshot();
+			QuteNativeSettings nativeSettings = new QuteNativeSettings();
+			nativeSettings.setEnabled(nativeImages);
+			QuteValidationSettings validationSettings = new QuteValidationSettings();
+			validationSettings.setParallelism(parallelism);
+			QuteTemplateValidator validator = new QuteTemplateValidator(templatesDir, snapshot,
+					validationSettings, nativeSettings);
+			List<TemplateValidationResult> results = validator.validate(nbThreads);
+
+			QuteValidationReport report = new QuteValidationReport(results);
+			String content = report.toString(format);
+			if (outputFile != null) {
+				Files.write(outputFile, content.getBytes(StandardCharsets.UTF_8));
+			} else {
+				out.println(content);
+			}
+			err.println(results.size() + " template(s) validated: " + report.getCount(DiagnosticSeverity.Error)
+					+ " error(s), " + report.getCount(DiagnosticSeverity.Warning) + " warning(s).");
+			return report.hasErrors() ? EXIT_ERRORS : EXIT_OK;
+		} catch (IOException e) {
+			err.println("Error while validating Qute templates: " + e.getMessage());
+			return EXIT_USAGE;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return EXIT_USAGE;
+		}
+	}
+}
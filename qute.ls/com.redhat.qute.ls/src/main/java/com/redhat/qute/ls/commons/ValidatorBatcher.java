@@ -0,0 +1,118 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.ls.commons;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Validate documents in batch.
+ *
+ * <p>
+ * The documents to validate are collected during a short window and then
+ * given to the validator in batches of at most a given size, so that the
+ * validation of several documents is done with one request instead of one
+ * request per document.
+ * </p>
+ *
+ * @param <T>
+ */
+public class ValidatorBatcher<T extends TextDocument> {
+
+	private static final long DEFAULT_BATCH_WINDOW_MS = 100;
+
+	private static final int DEFAULT_MAX_BATCH_SIZE = 50;
+
+	private final ScheduledExecutorService executorService;
+
+	private final Consumer<List<T>> validator;
+
+	private final Map<String /* document uri */, T> pendingDocuments;
+
+	private final long batchWindowMs;
+
+	private final int maxBatchSize;
+
+	private Future<?> pendingBatch;
+
+	public ValidatorBatcher(Consumer<List<T>> validator) {
+		this(Executors.newSingleThreadScheduledExecutor(), validator, DEFAULT_BATCH_WINDOW_MS,
+				DEFAULT_MAX_BATCH_SIZE);
+	}
+
+	public ValidatorBatcher(ScheduledExecutorService executorService, Consumer<List<T>> validator,
+			long batchWindowMs, int maxBatchSize) {
+		this.executorService = executorService;
+		this.validator = validator;
+		this.pendingDocuments = new LinkedHashMap<>();
+		this.batchWindowMs = batchWindowMs;
+		this.maxBatchSize = maxBatchSize;
+	}
+
+	/**
+	 * Validate the given <code>document</code> in the next batch.
+	 *
+	 * @param document the document to validate.
+	 */
+	public void validateInBatch(T document) {
+		synchronized (pendingDocuments) {
+			pendingDocuments.put(document.getUri(), document);
+			if (pendingDocuments.size() >= maxBatchSize) {
+				// The batch is full, validate it without waiting for the end of the window
+				if (pendingBatch != null) {
+					pendingBatch.cancel(false);
+				}
+				pendingBatch = executorService.submit(this::flush);
+			} else if (pendingBatch == null) {
+				pendingBatch = executorService.schedule(this::flush, batchWindowMs, TimeUnit.MILLISECONDS);
+			}
+		}
+	}
+
+	/**
+	 * Remove the document identified by the given <code>uri</code> from the next
+	 * batch.
+	 *
+	 * @param uri the document URI.
+	 */
+	public void cleanPendingValidation(String uri) {
+		synchronized (pendingDocuments) {
+			pendingDocuments.remove(uri);
+		}
+	}
+
+	private void flush() {
+		List<List<T>> batches = new ArrayList<>();
+		synchronized (pendingDocuments) {
+			pendingBatch = null;
+			List<T> batch = null;
+			for (T document : pendingDocuments.values()) {
+				if (batch == null || batch.size() == maxBatchSize) {
+					batch = new ArrayList<>(maxBatchSize);
+					batches.add(batch);
+				}
+				batch.add(document);
+			}
+			pendingDocuments.clear();
+		}
+		for (List<T> batch : batches) {
+			validator.accept(batch);
+		}
+	}
+}
@@ -0,0 +1,134 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.ls.commons.snippets;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.lsp4j.MarkupContent;
+
+/**
+ * Snippet compiled once when there is no model to merge:
+ *
+ * <ul>
+ * <li>the body lines with the snippet syntax (ex : <code>${1:item}</code>)
+ * and without snippet syntax (ex : <code>item</code>) are computed once.</li>
+ * <li>the insert text and the documentation are cached per line delimiter and
+ * indentation.</li>
+ * </ul>
+ *
+ * With this compiled form, a completion request only needs to update the
+ * replace range of the completion item.
+ *
+ * <p>
+ * The compiled snippet doesn't reference its snippet, so it can be stored as
+ * value of a weak map whose key is the snippet.
+ * </p>
+ *
+ */
+public class CompiledSnippet {
+
+	private final List<String> body;
+
+	private final List<String> snippetLines;
+
+	private final List<String> plainTextLines;
+
+	private final Map<String /* snippet support, delimiter, indent */, String> insertTexts;
+
+	private final Map<String /* markdown, delimiter */, MarkupContent> documentations;
+
+	public CompiledSnippet(Snippet snippet) {
+		this.body = snippet.getBody();
+		this.snippetLines = compile(body, false);
+		this.plainTextLines = compile(body, true);
+		this.insertTexts = new ConcurrentHashMap<>();
+		this.documentations = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Returns true if the snippet body has been updated since the compilation and
+	 * false otherwise.
+	 *
+	 * @param snippet the compiled snippet.
+	 *
+	 * @return true if the snippet body has been updated since the compilation and
+	 *         false otherwise.
+	 */
+	public boolean isOutOfDate(Snippet snippet) {
+		return body != snippet.getBody();
+	}
+
+	/**
+	 * Returns the insert text of the snippet for the given line delimiter and
+	 * indentation.
+	 *
+	 * @param snippetsSupported true if the client supports snippet syntax and false
+	 *                          otherwise.
+	 * @param lineDelimiter     the line delimiter.
+	 * @param whitespacesIndent white spaces indent to use for new lines and null
+	 *                          otherwise.
+	 *
+	 * @return the insert text of the snippet for the given line delimiter and
+	 *         indentation.
+	 */
+	public String getInsertText(boolean snippetsSupported, String lineDelimiter, String whitespacesIndent) {
+		String key = (snippetsSupported ? "s" : "p") + lineDelimiter + '|'
+				+ (whitespacesIndent != null ? whitespacesIndent : "");
+		return insertTexts.computeIfAbsent(key,
+				k -> join(snippetsSupported ? snippetLines : plainTextLines, lineDelimiter, whitespacesIndent));
+	}
+
+	/**
+	 * Returns the documentation of the snippet for the given line delimiter.
+	 *
+	 * @param snippet            the compiled snippet.
+	 * @param canSupportMarkdown true if markdown is supported to generate
+	 *                           documentation and false otherwise.
+	 * @param lineDelimiter      the line delimiter.
+	 *
+	 * @return the documentation of the snippet for the given line delimiter.
+	 */
+	public MarkupContent getDocumentation(Snippet snippet, boolean canSupportMarkdown, String lineDelimiter) {
+		String key = (canSupportMarkdown ? "m" : "p") + lineDelimiter;
+		return documentations.computeIfAbsent(key, k -> SnippetRegistry.createDocumentation(snippet,
+				getInsertText(false, lineDelimiter, null), canSupportMarkdown));
+	}
+
+	private static List<String> compile(List<String> body, boolean replace) {
+		if (body == null) {
+			return Collections.emptyList();
+		}
+		List<String> lines = new ArrayList<>(body.size());
+		for (String bodyLine : body) {
+			lines.add(SnippetRegistry.merge(bodyLine, Collections.emptyMap(), replace));
+		}
+		return lines;
+	}
+
+	private static String join(List<String> lines, String lineDelimiter, String whitespacesIndent) {
+		StringBuilder text = new StringBuilder();
+		for (int i = 0; i < lines.size(); i++) {
+			if (i > 0) {
+				text.append(lineDelimiter);
+				if (whitespacesIndent != null) {
+					text.append(whitespacesIndent);
+				}
+			}
+			text.append(lines.get(i));
+		}
+		return text.toString();
+	}
+}
@@ -19,14 +19,15 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.ServiceLoader;
+import java.util.WeakHashMap;
 import java.util.function.BiPredicate;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
 import org.eclipse.lsp4j.CompletionItem;
 import org.eclipse.lsp4j.CompletionItemKind;
@@ -58,6 +59,8 @@ public class SnippetRegistry<T extends Snippet> {
 
 	private final List<T> snippets;
 
+	private final Map<Snippet, CompiledSnippet> compiledSnippets;
+
 	public SnippetRegistry() {
 		this(null, true);
 	}
@@ -71,6 +74,9 @@ public class SnippetRegistry<T extends Snippet> {
 	 */
 	public SnippetRegistry(String languageId, boolean loadDefault) {
 		snippets = new ArrayList<>();
+		// The list of snippets can be updated directly (ex : user tags), use a weak
+		// map to release the compiled snippets of removed snippets.
+		compiledSnippets = Collections.synchronizedMap(new WeakHashMap<>());
 		// Load snippets from SPI
 		if (loadDefault) {
 			ServiceLoader<ISnippetRegistryLoader> loaders = ServiceLoader.load(ISnippetRegistryLoader.class);
@@ -255,15 +261,34 @@ public class SnippetRegistry<T extends Snippet> {
 			return Collections.emptyList();
 		}
 		Map<String, String> model = new HashMap<>();
-		return getSnippets().stream().filter(snippet -> {
-			return snippet.match(contextFilter, model);
-		}).map(snippet -> {
+		// Evaluate each snippet context only once (several snippets can share the same
+		// context)
+		Map<ISnippetContext<?>, Boolean> matchedContexts = new IdentityHashMap<>();
+		List<T> matchedSnippets = new ArrayList<>();
+		for (T snippet : getSnippets()) {
+			if (isMatch(snippet, contextFilter, model, matchedContexts)) {
+				matchedSnippets.add(snippet);
+			}
+		}
+		// When the snippet contexts don't fill the model, the compiled snippets can be
+		// used.
+		boolean useCompiledSnippet = model.isEmpty();
+		List<CompletionItem> items = new ArrayList<>(matchedSnippets.size());
+		for (T snippet : matchedSnippets) {
 			CompletionItem item = new CompletionItem();
 			item.setLabel(snippet.getLabel());
-			String insertText = getInsertText(snippet, model, !snippetsSupported, lineDelimiter, whitespacesIndent);
+			String insertText = null;
+			if (useCompiledSnippet) {
+				CompiledSnippet compiledSnippet = getCompiledSnippet(snippet);
+				insertText = compiledSnippet.getInsertText(snippetsSupported, lineDelimiter, whitespacesIndent);
+				item.setDocumentation(
+						Either.forRight(compiledSnippet.getDocumentation(snippet, canSupportMarkdown, lineDelimiter)));
+			} else {
+				insertText = getInsertText(snippet, model, !snippetsSupported, lineDelimiter, whitespacesIndent);
+				item.setDocumentation(
+						Either.forRight(createDocumentation(snippet, model, canSupportMarkdown, lineDelimiter)));
+			}
 			item.setKind(CompletionItemKind.Snippet);
-			item.setDocumentation(
-					Either.forRight(createDocumentation(snippet, model, canSupportMarkdown, lineDelimiter)));
 			String prefix = snippet.getPrefixes().get(0);
 			item.setFilterText(prefixFilter + prefix);
 			item.setDetail(snippet.getDescription());
@@ -284,9 +309,38 @@ public class SnippetRegistry<T extends Snippet> {
 			updateInsertTextMode(item,
 					whitespacesIndent == null ? InsertTextMode.AdjustIndentation : InsertTextMode.AsIs,
 					defaultInsertTextMode);
-			return item;
+			items.add(item);
+		}
+		return items;
+	}
+
+	private static boolean isMatch(Snippet snippet, BiPredicate<ISnippetContext<?>, Map<String, String>> contextFilter,
+			Map<String, String> model, Map<ISnippetContext<?>, Boolean> matchedContexts) {
+		if (!snippet.hasContext()) {
+			return true;
+		}
+		Boolean matched = matchedContexts.get(snippet.getContext());
+		if (matched == null) {
+			matched = snippet.match(contextFilter, model);
+			matchedContexts.put(snippet.getContext(), matched);
+		}
+		return matched;
+	}
 
-		}).collect(Collectors.toList());
+	/**
+	 * Returns the compiled form of the given snippet.
+	 *
+	 * @param snippet the snippet.
+	 *
+	 * @return the compiled form of the given snippet.
+	 */
+	private CompiledSnippet getCompiledSnippet(T snippet) {
+		CompiledSnippet compiledSnippet = compiledSnippets.get(snippet);
+		if (compiledSnippet == null || compiledSnippet.isOutOfDate(snippet)) {
+			compiledSnippet = new CompiledSnippet(snippet);
+			compiledSnippets.put(snippet, compiledSnippet);
+		}
+		return compiledSnippet;
 	}
 
 	private void updateInsertTextMode(CompletionItem item, InsertTextMode insertTextMode,
@@ -298,6 +352,11 @@ public class SnippetRegistry<T extends Snippet> {
 
 	private static MarkupContent createDocumentation(Snippet snippet, Map<String, String> model,
 			boolean canSupportMarkdown, String lineDelimiter) {
+		String insertText = getInsertText(snippet, model, true, lineDelimiter, null);
+		return createDocumentation(snippet, insertText, canSupportMarkdown);
+	}
+
+	static MarkupContent createDocumentation(Snippet snippet, String insertText, boolean canSupportMarkdown) {
 		StringBuilder doc = new StringBuilder();
 		if (canSupportMarkdown) {
 			doc.append(System.lineSeparator());
@@ -308,7 +367,6 @@ public class SnippetRegistry<T extends Snippet> {
 			}
 			doc.append(System.lineSeparator());
 		}
-		String insertText = getInsertText(snippet, model, true, lineDelimiter, null);
 		doc.append(insertText);
 		if (canSupportMarkdown) {
 			doc.append(System.lineSeparator());
@@ -373,7 +431,7 @@ public class SnippetRegistry<T extends Snippet> {
 		return text.toString();
 	}
 
-	private static String merge(String line, Map<String, String> model, boolean replace) {
+	static String merge(String line, Map<String, String> model, boolean replace) {
 		return replace(line, 0, model, replace, null);
 	}
 
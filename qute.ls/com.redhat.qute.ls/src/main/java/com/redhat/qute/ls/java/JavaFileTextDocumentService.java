@@ -12,11 +12,11 @@
 package com.redhat.qute.ls.java;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
-import java.util.stream.Collectors;
 
 import org.eclipse.lsp4j.ClientCapabilities;
 import org.eclipse.lsp4j.CodeLens;
@@ -37,6 +37,7 @@ import com.redhat.qute.ls.AbstractTextDocumentService;
 import com.redhat.qute.ls.QuteLanguageServer;
 import com.redhat.qute.ls.commons.TextDocument;
 import com.redhat.qute.ls.commons.TextDocuments;
+import com.redhat.qute.ls.commons.ValidatorBatcher;
 import com.redhat.qute.ls.commons.ValidatorDelayer;
 import com.redhat.qute.settings.SharedSettings;
 
@@ -44,12 +45,16 @@ public class JavaFileTextDocumentService extends AbstractTextDocumentService {
 
 	private final TextDocuments<TextDocument> textDocuments;
 	private final ValidatorDelayer<TextDocument> validatorDelayer;
+	private final ValidatorBatcher<TextDocument> validatorBatcher;
 
 	public JavaFileTextDocumentService(QuteLanguageServer quteLanguageServer, SharedSettings sharedSettings) {
 		super(quteLanguageServer, sharedSettings);
 		textDocuments = new TextDocuments<>();
+		validatorBatcher = new ValidatorBatcher<>((documents) -> {
+			triggerValidationFor(documents);
+		});
 		validatorDelayer = new ValidatorDelayer<>((textDocument) -> {
-			triggerValidationFor(textDocument);
+			validatorBatcher.validateInBatch(textDocument);
 		});
 	}
 
@@ -70,6 +75,8 @@ public class JavaFileTextDocumentService extends AbstractTextDocumentService {
 	@Override
 	public void didClose(DidCloseTextDocumentParams params) {
 		TextDocument textDocument = textDocuments.onDidCloseTextDocument(params);
+		validatorDelayer.cleanPendingValidation(textDocument.getUri());
+		validatorBatcher.cleanPendingValidation(textDocument.getUri());
 		quteLanguageServer.getLanguageClient()
 				.publishDiagnostics(new PublishDiagnosticsParams(textDocument.getUri(), new ArrayList<Diagnostic>()));
 	}
@@ -108,35 +115,59 @@ public class JavaFileTextDocumentService extends AbstractTextDocumentService {
 		if (delay) {
 			validatorDelayer.validateWithDelay(textDocument);
 		} else {
-			triggerValidationFor(textDocument);
+			validatorBatcher.validateInBatch(textDocument);
 		}
 	}
 
-	private void triggerValidationFor(TextDocument textDocument) {
-		triggerValidationFor(Arrays.asList(textDocument));
-	}
-
 	/**
-	 * Validate all given Java files uris.
+	 * Validate all given Java files uris with one request.
 	 *
-	 * @param textDocuments Java files uris to validate.
+	 * @param documents Java files to validate.
 	 */
-	private void triggerValidationFor(List<TextDocument> textDocuments) {
-		if (textDocuments.isEmpty()) {
+	private void triggerValidationFor(List<TextDocument> documents) {
+		if (documents.isEmpty()) {
 			return;
 		}
-		List<String> uris = textDocuments.stream().map(textDocument -> textDocument.getUri())
-				.collect(Collectors.toList());
-		QuteJavaDiagnosticsParams params = new QuteJavaDiagnosticsParams(uris);
+		Map<String /* Java file uri */, Integer> versions = new HashMap<>();
+		for (TextDocument document : documents) {
+			versions.put(document.getUri(), document.getVersion());
+		}
+		QuteJavaDiagnosticsParams params = new QuteJavaDiagnosticsParams(new ArrayList<>(versions.keySet()));
 		quteLanguageServer.getLanguageClient().getJavaDiagnostics(params) //
 				.thenApply(diagnostics -> {
 					if (diagnostics == null) {
 						return null;
 					}
 					for (PublishDiagnosticsParams diagnostic : diagnostics) {
-						quteLanguageServer.getLanguageClient().publishDiagnostics(diagnostic);
+						if (isUpToDate(diagnostic.getUri(), versions.get(diagnostic.getUri()))) {
+							quteLanguageServer.getLanguageClient().publishDiagnostics(diagnostic);
+						}
 					}
 					return null;
 				});
 	}
+
+	/**
+	 * Returns true if the Java file with the given uri is opened with the given
+	 * version and false otherwise.
+	 *
+	 * <p>
+	 * When the Java file has changed (or has been closed) during the validation,
+	 * the diagnostics are obsolete and a new validation will publish the
+	 * diagnostics of the last version.
+	 * </p>
+	 *
+	 * @param uri     the Java file uri.
+	 * @param version the version of the validated Java file.
+	 *
+	 * @return true if the Java file with the given uri is opened with the given
+	 *         version and false otherwise.
+	 */
+	private boolean isUpToDate(String uri, Integer version) {
+		if (version == null) {
+			return true;
+		}
+		TextDocument document = textDocuments.get(uri);
+		return document != null && document.getVersion() == version;
+	}
 }
@@ -14,9 +14,17 @@ package com.redhat.qute.ls.template;
 import static com.redhat.qute.utils.FileUtils.createPath;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.BiFunction;
 
+import org.eclipse.lsp4j.CodeLens;
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.SemanticTokens;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
 import org.eclipse.lsp4j.TextDocumentItem;
 import org.eclipse.lsp4j.jsonrpc.CancelChecker;
 
@@ -44,6 +52,20 @@ public class QuteTextDocument extends ModelTextDocument<Template> implements Tem
 
 	private String templateId;
 
+	private volatile int focusStartLine;
+
+	private volatile int focusEndLine;
+
+	private volatile List<Diagnostic> dataModelDiagnostics;
+
+	private SemanticTokens semanticTokens;
+
+	private int semanticTokensVersion;
+
+	private List<? extends CodeLens> codeLenses;
+
+	private String codeLensesInputs;
+
 	public QuteTextDocument(TextDocumentItem document, BiFunction<TextDocument, CancelChecker, Template> parse,
 			QuteProjectInfoProvider projectInfoProvider, QuteProjectRegistry projectRegistry) {
 		super(document, parse);
@@ -110,4 +132,197 @@ public class QuteTextDocument extends ModelTextDocument<Template> implements Tem
 		return null;
 	}
 
+	/**
+	 * Set the lines where the user is working (last edit, completion, hover,
+	 * visible range of the inlay hints) to validate them first.
+	 *
+	 * @param startLine the start line.
+	 * @param endLine   the end line.
+	 */
+	public void setFocus(int startLine, int endLine) {
+		this.focusStartLine = startLine;
+		this.focusEndLine = Math.max(startLine, endLine);
+	}
+
+	/**
+	 * Returns the start line where the user is working.
+	 *
+	 * @return the start line where the user is working.
+	 */
+	public int getFocusStartLine() {
+		return focusStartLine;
+	}
+
+	/**
+	 * Returns the end line where the user is working.
+	 *
+	 * @return the end line where the user is working.
+	 */
+	public int getFocusEndLine() {
+		return focusEndLine;
+	}
+
+	/**
+	 * Returns the data model diagnostics of the last complete progressive
+	 * validation and null otherwise.
+	 *
+	 * @return the data model diagnostics of the last complete progressive
+	 *         validation and null otherwise.
+	 */
+	public List<Diagnostic> getDataModelDiagnostics() {
+		return dataModelDiagnostics;
+	}
+
+	/**
+	 * Set the data model diagnostics of the last complete progressive validation
+	 * if the document has not changed since the given version.
+	 *
+	 * @param dataModelDiagnostics the data model diagnostics.
+	 * @param version              the document version used to compute the
+	 *                             diagnostics.
+	 */
+	public synchronized void setDataModelDiagnostics(List<Diagnostic> dataModelDiagnostics, int version) {
+		if (version == getVersion()) {
+			this.dataModelDiagnostics = dataModelDiagnostics;
+		}
+	}
+
+	/**
+	 * Update the data model diagnostics of the last complete progressive
+	 * validation with the given content changes: the diagnostics after the edited
+	 * lines are shifted by the line delta of the changes and the diagnostics of the
+	 * edited lines are dropped.
+	 *
+	 * @param changes the content changes.
+	 */
+	public synchronized void updateDataModelDiagnostics(List<TextDocumentContentChangeEvent> changes) {
+		List<Diagnostic> diagnostics = dataModelDiagnostics;
+		if (diagnostics != null && changes != null) {
+			dataModelDiagnostics = shiftDiagnostics(diagnostics, changes);
+		}
+	}
+
+	/**
+	 * Returns the given diagnostics updated with the given content changes and
+	 * null if a change replaces the whole content.
+	 *
+	 * @param diagnostics the diagnostics of the previous version of the document.
+	 * @param changes     the content changes.
+	 *
+	 * @return the given diagnostics updated with the given content changes and null
+	 *         if a change replaces the whole content.
+	 */
+	static List<Diagnostic> shiftDiagnostics(List<Diagnostic> diagnostics,
+			List<TextDocumentContentChangeEvent> changes) {
+		List<Diagnostic> result = diagnostics;
+		for (TextDocumentContentChangeEvent change : changes) {
+			Range range = change.getRange();
+			if (range == null) {
+				// The whole content is replaced
+				return null;
+			}
+			int startLine = range.getStart().getLine();
+			int endLine = range.getEnd().getLine();
+			String text = change.getText();
+			int insertedLines = text != null ? (int) text.chars().filter(c -> c == '\n').count() : 0;
+			int lineDelta = insertedLines - (endLine - startLine);
+			List<Diagnostic> shifted = new ArrayList<>(result.size());
+			for (Diagnostic diagnostic : result) {
+				Range diagnosticRange = diagnostic.getRange();
+				if (diagnosticRange.getEnd().getLine() < startLine) {
+					// Before the edited lines
+					shifted.add(diagnostic);
+				} else if (diagnosticRange.getStart().getLine() > endLine) {
+					// After the edited lines
+					shifted.add(lineDelta == 0 ? diagnostic : shiftDiagnostic(diagnostic, lineDelta));
+				}
+				// else : the diagnostic is on the edited lines, its range is unknown until the
+				// lines are validated again.
+			}
+			result = shifted;
+		}
+		return result;
+	}
+
+	private static Diagnostic shiftDiagnostic(Diagnostic diagnostic, int lineDelta) {
+		Range range = diagnostic.getRange();
+		Diagnostic shifted = new Diagnostic(
+				new Range(new Position(range.getStart().getLine() + lineDelta, range.getStart().getCharacter()),
+						new Position(range.getEnd().getLine() + lineDelta, range.getEnd().getCharacter())),
+				diagnostic.getMessage(), diagnostic.getSeverity(), diagnostic.getSource(), null);
+		shifted.setCode(diagnostic.getCode());
+		shifted.setCodeDescription(diagnostic.getCodeDescription());
+		shifted.setTags(diagnostic.getTags());
+		shifted.setRelatedInformation(diagnostic.getRelatedInformation());
+		shifted.setData(diagnostic.getData());
+		return shifted;
+	}
+
+	/**
+	 * Returns the last semantic tokens sent to the client and null otherwise.
+	 *
+	 * @return the last semantic tokens sent to the client and null otherwise.
+	 */
+	public synchronized SemanticTokens getSemanticTokens() {
+		return semanticTokens;
+	}
+
+	/**
+	 * Returns the semantic tokens computed for the given version of the document
+	 * and null otherwise.
+	 *
+	 * @param version the document version.
+	 *
+	 * @return the semantic tokens computed for the given version of the document
+	 *         and null otherwise.
+	 */
+	public synchronized SemanticTokens getSemanticTokens(int version) {
+		return semanticTokens != null && semanticTokensVersion == version ? semanticTokens : null;
+	}
+
+	/**
+	 * Set the semantic tokens sent to the client.
+	 *
+	 * @param semanticTokens the semantic tokens.
+	 * @param version        the document version used to compute the tokens and
+	 *                       -1 if the tokens must not be reused (some Java types
+	 *                       were not loaded).
+	 */
+	public synchronized void setSemanticTokens(SemanticTokens semanticTokens, int version) {
+		this.semanticTokens = semanticTokens;
+		this.semanticTokensVersion = version;
+	}
+
+	/**
+	 * Invalidate the semantic tokens (ex : when the data model changed), the last
+	 * semantic tokens are kept to compute the next delta.
+	 */
+	public synchronized void invalidateSemanticTokens() {
+		this.semanticTokensVersion = -1;
+	}
+
+	/**
+	 * Returns the code lenses computed with the given inputs and null otherwise.
+	 *
+	 * @param inputs the key of the inputs (document version, data model
+	 *               generation, index generation) used to compute the code
+	 *               lenses.
+	 *
+	 * @return the code lenses computed with the given inputs and null otherwise.
+	 */
+	public synchronized List<? extends CodeLens> getCodeLenses(String inputs) {
+		return codeLenses != null && inputs.equals(codeLensesInputs) ? codeLenses : null;
+	}
+
+	/**
+	 * Set the code lenses computed with the given inputs.
+	 *
+	 * @param codeLenses the code lenses.
+	 * @param inputs     the key of the inputs used to compute the code lenses.
+	 */
+	public synchronized void setCodeLenses(List<? extends CodeLens> codeLenses, String inputs) {
+		this.codeLenses = codeLenses;
+		this.codeLensesInputs = inputs;
+	}
+
 }
\ No newline at end of file
@@ -14,8 +14,14 @@ package com.redhat.qute.ls.template;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiFunction;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import org.eclipse.lsp4j.CodeAction;
@@ -47,25 +53,41 @@ import org.eclipse.lsp4j.LinkedEditingRangeParams;
 import org.eclipse.lsp4j.LinkedEditingRanges;
 import org.eclipse.lsp4j.Location;
 import org.eclipse.lsp4j.LocationLink;
+import org.eclipse.lsp4j.Position;
 import org.eclipse.lsp4j.PublishDiagnosticsParams;
+import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4j.ReferenceParams;
 import org.eclipse.lsp4j.RenameParams;
+import org.eclipse.lsp4j.SemanticTokens;
+import org.eclipse.lsp4j.SemanticTokensDelta;
+import org.eclipse.lsp4j.SemanticTokensDeltaParams;
+import org.eclipse.lsp4j.SemanticTokensParams;
+import org.eclipse.lsp4j.SemanticTokensRangeParams;
 import org.eclipse.lsp4j.SymbolInformation;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
 import org.eclipse.lsp4j.TextDocumentIdentifier;
 import org.eclipse.lsp4j.WorkspaceEdit;
 import org.eclipse.lsp4j.jsonrpc.CancelChecker;
 import org.eclipse.lsp4j.jsonrpc.messages.Either;
 
+import com.redhat.qute.commons.ProjectInfo;
 import com.redhat.qute.commons.datamodel.JavaDataModelChangeEvent;
 import com.redhat.qute.ls.AbstractTextDocumentService;
 import com.redhat.qute.ls.QuteLanguageServer;
 import com.redhat.qute.ls.api.QuteLanguageClientAPI;
+import com.redhat.qute.ls.commons.BadLocationException;
 import com.redhat.qute.ls.commons.ModelTextDocument;
 import com.redhat.qute.ls.commons.ValidatorDelayer;
+import com.redhat.qute.parser.template.RangeOffset;
 import com.redhat.qute.parser.template.Template;
 import com.redhat.qute.parser.template.TemplateParser;
+import com.redhat.qute.project.JavaTypeDependencies;
+import com.redhat.qute.project.QuteProject;
 import com.redhat.qute.services.QuteLanguageService;
+import com.redhat.qute.services.QuteSemanticTokens;
 import com.redhat.qute.services.ResolvingJavaTypeContext;
+import com.redhat.qute.settings.QuteNativeSettings;
+import com.redhat.qute.settings.QuteValidationSettings;
 import com.redhat.qute.settings.SharedSettings;
 import com.redhat.qute.utils.QutePositionUtility;
 
@@ -75,6 +97,21 @@ import com.redhat.qute.utils.QutePositionUtility;
  */
 public class TemplateFileTextDocumentService extends AbstractTextDocumentService {
 
+	private static final Logger LOGGER = Logger.getLogger(TemplateFileTextDocumentService.class.getName());
+
+	/**
+	 * Number of lines from which a template is validated progressively: the lines
+	 * where the user is working are validated and published first, then the whole
+	 * template is validated by chunks in background.
+	 */
+	private static final int PROGRESSIVE_VALIDATION_MIN_LINES = 2000;
+
+	private static final int FOCUS_MARGIN_LINES = 100;
+
+	private static final int VALIDATION_CHUNK_LINES = 500;
+
+	private static final AtomicLong SEMANTIC_TOKENS_RESULT_ID = new AtomicLong();
+
 	private final QuteTextDocuments documents;
 	private ValidatorDelayer<ModelTextDocument<Template>> validatorDelayer;
 	private final QuteLanguageServer languageServer;
@@ -93,29 +130,48 @@ public class TemplateFileTextDocumentService extends AbstractTextDocumentService
 	@Override
 	public void didOpen(DidOpenTextDocumentParams params) {
 		QuteTextDocument document = (QuteTextDocument) documents.onDidOpenTextDocument(params);
-		document.getProjectInfoFuture() //
-				.thenAccept(projectInfo -> {
-					if (projectInfo != null) {
-						// At this step we get informations about the Java project (used to collect Java
-						// classes available for the given Qute template)
-						// We retrigger the validation to validate data model.
-						triggerValidationFor(document, false);
+		CompletableFuture<ProjectInfo> projectInfoFuture = document.getProjectInfoFuture();
+		if (!projectInfoFuture.isDone()) {
+			// The Java project is not available, validate the template syntax without
+			// waiting for it.
+			triggerValidationFor(document, false);
+		}
+		projectInfoFuture //
+				.thenCompose(projectInfo -> {
+					if (projectInfo == null) {
+						return CompletableFuture.completedFuture(null);
 					}
+					// At this step we get informations about the Java project (used to collect Java
+					// classes available for the given Qute template).
+					// We resolve in one batch the Java types used by the template to validate the
+					// data model in one pass.
+					return quteLanguageServer.getDataModelCache().prefetchJavaTypes(document.getModel());
+				}) //
+				.whenComplete((result, error) -> {
+					triggerValidationFor(document, false);
 				});
-		triggerValidationFor(document, false);
 	}
 
 	@Override
 	public void didChange(DidChangeTextDocumentParams params) {
 		QuteTextDocument document = (QuteTextDocument) documents.onDidChangeTextDocument(params);
+		updateFocus(document, params.getContentChanges());
+		if (document != null) {
+			// Keep the previous data model diagnostics in sync with the new content
+			document.updateDataModelDiagnostics(params.getContentChanges());
+		}
 		triggerValidationFor(document, true);
 	}
 
 	@Override
 	public void didClose(DidCloseTextDocumentParams params) {
-		documents.onDidCloseTextDocument(params);
 		TextDocumentIdentifier document = params.getTextDocument();
 		String uri = document.getUri();
+		QuteProject project = getProject(getDocument(uri));
+		if (project != null) {
+			project.getJavaTypeDependencies().remove(uri);
+		}
+		documents.onDidCloseTextDocument(params);
 		quteLanguageServer.getLanguageClient()
 				.publishDiagnostics(new PublishDiagnosticsParams(uri, new ArrayList<Diagnostic>()));
 	}
@@ -127,6 +183,7 @@ public class TemplateFileTextDocumentService extends AbstractTextDocumentService
 
 	@Override
 	public CompletableFuture<Either<List<CompletionItem>, CompletionList>> completion(CompletionParams params) {
+		updateFocus(params.getTextDocument(), params.getPosition().getLine(), params.getPosition().getLine());
 		return getTemplateCompose(params.getTextDocument(),
 				(template, cancelChecker) -> {
 					return getQuteLanguageService()
@@ -147,7 +204,38 @@ public class TemplateFileTextDocumentService extends AbstractTextDocumentService
 		}
 		return getTemplateCompose(params.getTextDocument(),
 				(template, cancelChecker) -> {
-					return getQuteLanguageService().getCodeLens(template, sharedSettings, cancelChecker);
+					QuteTextDocument document = getDocument(params.getTextDocument().getUri());
+					return getCodeLens(document, template, cancelChecker);
+				});
+	}
+
+	/**
+	 * Returns the code lenses of the given template, reused while the template,
+	 * the data model project and the template indexes don't change.
+	 */
+	private CompletableFuture<List<? extends CodeLens>> getCodeLens(QuteTextDocument document, Template template,
+			CancelChecker cancelChecker) {
+		QuteProject project = template.getProject();
+		if (document == null || project == null) {
+			return getQuteLanguageService().getCodeLens(template, sharedSettings, cancelChecker);
+		}
+		return project.getDataModelProject() //
+				.handle((dataModel, error) -> {
+					// The inputs are read before computing the code lenses, if one of them changes
+					// during the computation, the next request will compute again the code lenses.
+					return document.getVersion() + ":" + project.getDataModelGeneration() + ":"
+							+ project.getIndexGeneration();
+				}) //
+				.thenCompose(inputs -> {
+					List<? extends CodeLens> codeLenses = document.getCodeLenses(inputs);
+					if (codeLenses != null) {
+						return CompletableFuture.completedFuture(codeLenses);
+					}
+					return getQuteLanguageService().getCodeLens(template, sharedSettings, cancelChecker) //
+							.thenApply(lenses -> {
+								document.setCodeLenses(lenses, inputs);
+								return lenses;
+							});
 				});
 	}
 
@@ -176,6 +264,7 @@ public class TemplateFileTextDocumentService extends AbstractTextDocumentService
 
 	@Override
 	public CompletableFuture<Hover> hover(HoverParams params) {
+		updateFocus(params.getTextDocument(), params.getPosition().getLine(), params.getPosition().getLine());
 		return getTemplateCompose(params.getTextDocument(),
 				(template, cancelChecker) -> {
 					return getQuteLanguageService().doHover(template, params.getPosition(), sharedSettings,
@@ -270,6 +359,9 @@ public class TemplateFileTextDocumentService extends AbstractTextDocumentService
 		if (!sharedSettings.getInlayHintSettings().isEnabled()) {
 			return CompletableFuture.completedFuture(Collections.emptyList());
 		}
+		// The inlay hints are requested for the visible range of the editor
+		updateFocus(params.getTextDocument(), params.getRange().getStart().getLine(),
+				params.getRange().getEnd().getLine());
 		return getTemplateCompose(params.getTextDocument(),
 				(template, cancelChecker) -> {
 					// Collect inlay hints
@@ -294,6 +386,74 @@ public class TemplateFileTextDocumentService extends AbstractTextDocumentService
 				});
 	}
 	
+	@Override
+	public CompletableFuture<SemanticTokens> semanticTokensFull(SemanticTokensParams params) {
+		return getTemplate(params.getTextDocument(), (template, cancelChecker) -> {
+			QuteTextDocument document = getDocument(params.getTextDocument().getUri());
+			return getSemanticTokens(document, template, cancelChecker);
+		});
+	}
+
+	@Override
+	public CompletableFuture<Either<SemanticTokens, SemanticTokensDelta>> semanticTokensFullDelta(
+			SemanticTokensDeltaParams params) {
+		return getTemplate(params.getTextDocument(), (template, cancelChecker) -> {
+			QuteTextDocument document = getDocument(params.getTextDocument().getUri());
+			SemanticTokens previous = document != null ? document.getSemanticTokens() : null;
+			SemanticTokens current = getSemanticTokens(document, template, cancelChecker);
+			if (previous != null && previous.getResultId().equals(params.getPreviousResultId())) {
+				// The client has the previous tokens, send only the changed tokens
+				return Either.forRight(new SemanticTokensDelta(
+						QuteSemanticTokens.computeEdits(previous.getData(), current.getData()),
+						current.getResultId()));
+			}
+			return Either.forLeft(current);
+		});
+	}
+
+	@Override
+	public CompletableFuture<SemanticTokens> semanticTokensRange(SemanticTokensRangeParams params) {
+		return getTemplate(params.getTextDocument(), (template, cancelChecker) -> {
+			ResolvingJavaTypeContext resolvingJavaTypeContext = new ResolvingJavaTypeContext(template,
+					quteLanguageServer.getDataModelCache());
+			List<Integer> data = getQuteLanguageService().getSemanticTokens(template, params.getRange(),
+					resolvingJavaTypeContext, cancelChecker);
+			return new SemanticTokens(data);
+		});
+	}
+
+	/**
+	 * Returns the semantic tokens of the whole template, reused while the
+	 * document doesn't change.
+	 */
+	private SemanticTokens getSemanticTokens(QuteTextDocument document, Template template,
+			CancelChecker cancelChecker) {
+		int version = document != null ? document.getVersion() : -1;
+		if (document != null) {
+			SemanticTokens semanticTokens = document.getSemanticTokens(version);
+			if (semanticTokens != null) {
+				return semanticTokens;
+			}
+		}
+		ResolvingJavaTypeContext resolvingJavaTypeContext = new ResolvingJavaTypeContext(template,
+				quteLanguageServer.getDataModelCache());
+		List<Integer> data = getQuteLanguageService().getSemanticTokens(template, null, resolvingJavaTypeContext,
+				cancelChecker);
+		SemanticTokens semanticTokens = new SemanticTokens(String.valueOf(SEMANTIC_TOKENS_RESULT_ID.incrementAndGet()),
+				data);
+		if (document != null) {
+			document.setSemanticTokens(semanticTokens, resolvingJavaTypeContext.isEmpty() ? version : -1);
+		}
+		if (!resolvingJavaTypeContext.isEmpty()) {
+			// Some Java types was not loaded, wait for that all Java types are resolved to
+			// ask the client to refresh the semantic tokens.
+			CompletableFuture.allOf(resolvingJavaTypeContext
+					.toArray(new CompletableFuture[resolvingJavaTypeContext.size()])) //
+					.thenRun(() -> refreshSemanticTokens());
+		}
+		return semanticTokens;
+	}
+
 	@Override
 	public CompletableFuture<CodeAction> resolveCodeAction(CodeAction codeAction) {
 		return getQuteLanguageService().resolveCodeAction(codeAction, getLanguageClient());
@@ -316,6 +476,12 @@ public class TemplateFileTextDocumentService extends AbstractTextDocumentService
 	private void validate(QuteTextDocument document) {
 		var template = document.getModel();
 
+		int lineCount = getLineCount(template);
+		if (lineCount >= PROGRESSIVE_VALIDATION_MIN_LINES) {
+			validateProgressively(document, template, lineCount);
+			return;
+		}
+
 		// Collect diagnostics
 		ResolvingJavaTypeContext resolvingJavaTypeContext = new ResolvingJavaTypeContext(template,
 				quteLanguageServer.getDataModelCache());
@@ -328,6 +494,151 @@ public class TemplateFileTextDocumentService extends AbstractTextDocumentService
 		// document has changed since diagnostics collect.
 		template.checkCanceled();
 
+		publishDiagnostics(document, template, resolvingJavaTypeContext, diagnostics);
+	}
+
+	/**
+	 * Validate a large template progressively:
+	 *
+	 * <ul>
+	 * <li>the syntax and the data model of the lines where the user is working
+	 * are validated and published first.</li>
+	 * <li>then the data model of the whole template is validated by chunks in
+	 * background. After each chunk, the diagnostics of the validated chunks are
+	 * merged with the diagnostics of the focus and republished.</li>
+	 * </ul>
+	 *
+	 * <p>
+	 * Until the whole template is validated, the data model diagnostics of the
+	 * previous validation which are outside the focus are published again to
+	 * avoid clearing them at each keystroke.
+	 * </p>
+	 *
+	 * <p>
+	 * Each step checks that the template has not changed, a new version of the
+	 * template stops the validation of the remaining chunks.
+	 * </p>
+	 *
+	 * @param document  the template document.
+	 * @param template  the template to validate.
+	 * @param lineCount the number of lines of the template.
+	 */
+	private void validateProgressively(QuteTextDocument document, Template template, int lineCount) {
+		int version = document.getVersion();
+		QuteValidationSettings validationSettings = getSharedSettings().getValidationSettings(template.getUri());
+		QuteNativeSettings nativeSettings = getSharedSettings().getNativeSettings();
+		ResolvingJavaTypeContext resolvingJavaTypeContext = new ResolvingJavaTypeContext(template,
+				quteLanguageServer.getDataModelCache());
+		CancelChecker cancelChecker = () -> template.checkCanceled();
+
+		List<Diagnostic> syntaxDiagnostics = getQuteLanguageService().doSyntaxDiagnostics(template,
+				validationSettings, cancelChecker);
+
+		// Validate and publish first the lines where the user is working
+		int focusStartLine = Math.max(0, document.getFocusStartLine() - FOCUS_MARGIN_LINES);
+		int focusEndLine = Math.min(lineCount, document.getFocusEndLine() + FOCUS_MARGIN_LINES + 1);
+		List<Diagnostic> focusDiagnostics = getQuteLanguageService().doDataModelDiagnostics(template,
+				validationSettings, nativeSettings, resolvingJavaTypeContext,
+				createRegion(template, focusStartLine, focusEndLine, lineCount), cancelChecker);
+		template.checkCanceled();
+
+		// The previous data model diagnostics outside the focus are kept until their
+		// lines are validated again (their ranges are shifted by the content changes
+		// since the last complete validation).
+		List<Diagnostic> pendingDiagnostics = new ArrayList<>(focusDiagnostics);
+		List<Diagnostic> previousDiagnostics = document.getDataModelDiagnostics();
+		if (previousDiagnostics != null) {
+			for (Diagnostic diagnostic : previousDiagnostics) {
+				int line = diagnostic.getRange().getStart().getLine();
+				if (line < focusStartLine || line >= focusEndLine) {
+					pendingDiagnostics.add(diagnostic);
+				}
+			}
+		}
+
+		List<Diagnostic> diagnostics = new ArrayList<>(syntaxDiagnostics);
+		diagnostics.addAll(pendingDiagnostics);
+		quteLanguageServer.getLanguageClient()
+				.publishDiagnostics(new PublishDiagnosticsParams(template.getUri(), diagnostics));
+
+		// Validate the whole template by chunks in background
+		validateChunk(document, template, validationSettings, nativeSettings, resolvingJavaTypeContext,
+				syntaxDiagnostics, new ArrayList<>(), pendingDiagnostics, 0, lineCount, version);
+	}
+
+	private void validateChunk(QuteTextDocument document, Template template,
+			QuteValidationSettings validationSettings, QuteNativeSettings nativeSettings,
+			ResolvingJavaTypeContext resolvingJavaTypeContext, List<Diagnostic> syntaxDiagnostics,
+			List<Diagnostic> dataModelDiagnostics, List<Diagnostic> pendingDiagnostics, int startLine,
+			int lineCount, int version) {
+		int endLine = Math.min(lineCount, startLine + VALIDATION_CHUNK_LINES);
+		CompletableFuture.runAsync(() -> {
+			template.checkCanceled();
+			dataModelDiagnostics.addAll(getQuteLanguageService().doDataModelDiagnostics(template,
+					validationSettings, nativeSettings, resolvingJavaTypeContext,
+					createRegion(template, startLine, endLine, lineCount), () -> template.checkCanceled()));
+			template.checkCanceled();
+
+			if (endLine >= lineCount) {
+				// The whole template is validated
+				document.setDataModelDiagnostics(new ArrayList<>(dataModelDiagnostics), version);
+				List<Diagnostic> diagnostics = new ArrayList<>(syntaxDiagnostics);
+				diagnostics.addAll(dataModelDiagnostics);
+				publishDiagnostics(document, template, resolvingJavaTypeContext, diagnostics);
+				return;
+			}
+
+			// Publish the diagnostics of the validated chunks with the focus and previous
+			// diagnostics which are not covered by those chunks.
+			quteLanguageServer.getLanguageClient().publishDiagnostics(new PublishDiagnosticsParams(
+					template.getUri(), mergeDiagnostics(syntaxDiagnostics, dataModelDiagnostics,
+							pendingDiagnostics, endLine)));
+
+			validateChunk(document, template, validationSettings, nativeSettings, resolvingJavaTypeContext,
+					syntaxDiagnostics, dataModelDiagnostics, pendingDiagnostics, endLine, lineCount, version);
+		}).exceptionally(e -> {
+			Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+			if (cause instanceof CancellationException) {
+				// The template has changed, a new validation is started
+				return null;
+			}
+			LOGGER.log(Level.SEVERE, "Error while validating the lines " + startLine + "-" + endLine
+					+ " of the template '" + template.getUri() + "'", cause);
+			// Publish all the known diagnostics, the diagnostics of the next chunks are the
+			// focus and previous diagnostics.
+			quteLanguageServer.getLanguageClient().publishDiagnostics(new PublishDiagnosticsParams(
+					template.getUri(), mergeDiagnostics(syntaxDiagnostics, dataModelDiagnostics,
+							pendingDiagnostics, startLine)));
+			return null;
+		});
+	}
+
+	/**
+	 * Returns the syntax diagnostics, the diagnostics of the validated chunks and
+	 * the pending diagnostics which start from the given line.
+	 */
+	private static List<Diagnostic> mergeDiagnostics(List<Diagnostic> syntaxDiagnostics,
+			List<Diagnostic> dataModelDiagnostics, List<Diagnostic> pendingDiagnostics, int fromLine) {
+		List<Diagnostic> diagnostics = new ArrayList<>(syntaxDiagnostics);
+		diagnostics.addAll(dataModelDiagnostics);
+		for (Diagnostic diagnostic : pendingDiagnostics) {
+			if (diagnostic.getRange().getStart().getLine() >= fromLine) {
+				diagnostics.add(diagnostic);
+			}
+		}
+		return diagnostics;
+	}
+
+	private void publishDiagnostics(QuteTextDocument document, Template template,
+			ResolvingJavaTypeContext resolvingJavaTypeContext, List<Diagnostic> diagnostics) {
+		// Track the Java types used by this version of the template to revalidate it
+		// only when one of them changes.
+		QuteProject project = template.getProject();
+		if (project != null && resolvingJavaTypeContext.isProjectResolved()) {
+			project.getJavaTypeDependencies().update(document.getUri(),
+					resolvingJavaTypeContext.getJavaTypeDependencies());
+		}
+
 		// Publish diagnostics
 		quteLanguageServer.getLanguageClient()
 				.publishDiagnostics(new PublishDiagnosticsParams(template.getUri(), diagnostics));
@@ -343,6 +654,49 @@ public class TemplateFileTextDocumentService extends AbstractTextDocumentService
 		}
 	}
 
+	private static int getLineCount(Template template) {
+		try {
+			return template.positionAt(template.getText().length()).getLine() + 1;
+		} catch (BadLocationException e) {
+			return 0;
+		}
+	}
+
+	private static RangeOffset createRegion(Template template, int startLine, int endLine, int lineCount) {
+		try {
+			int start = template.offsetAt(new Position(startLine, 0));
+			int end = endLine >= lineCount ? template.getText().length()
+					: template.offsetAt(new Position(endLine, 0));
+			return new RangeOffset(start, end);
+		} catch (BadLocationException e) {
+			// Should never occur, validate the whole template
+			return new RangeOffset(0, template.getText().length());
+		}
+	}
+
+	private void updateFocus(TextDocumentIdentifier documentIdentifier, int startLine, int endLine) {
+		QuteTextDocument document = getDocument(documentIdentifier.getUri());
+		if (document != null) {
+			document.setFocus(startLine, endLine);
+		}
+	}
+
+	private static void updateFocus(QuteTextDocument document, List<TextDocumentContentChangeEvent> changes) {
+		if (document == null || changes == null) {
+			return;
+		}
+		for (TextDocumentContentChangeEvent change : changes) {
+			Range range = change.getRange();
+			if (range != null) {
+				// The focus is the lines of the inserted text
+				int startLine = range.getStart().getLine();
+				String text = change.getText();
+				int insertedLines = text != null ? (int) text.chars().filter(c -> c == '\n').count() : 0;
+				document.setFocus(startLine, startLine + insertedLines);
+			}
+		}
+	}
+
 	/**
 	 * Returns the text document from the given uri.
 	 *
@@ -401,19 +755,69 @@ public class TemplateFileTextDocumentService extends AbstractTextDocumentService
 	}
 
 	public void dataModelChanged(JavaDataModelChangeEvent event) {
-		// trigger validation for all opened Qute template files
+		// The semantic tokens of Java members, namespaces, etc could have changed
 		documents.all().stream().forEach(document -> {
-			triggerValidationFor((QuteTextDocument) document, false);
+			((QuteTextDocument) document).invalidateSemanticTokens();
 		});
+		refreshSemanticTokens();
+		Set<String> projectUris = event.getProjectURIs();
+		if (projectUris == null) {
+			// trigger validation for all opened Qute template files
+			documents.all().stream().forEach(document -> {
+				triggerValidationFor((QuteTextDocument) document, false);
+			});
+			return;
+		}
+		for (String projectUri : projectUris) {
+			QuteProject project = languageServer.getProjectRegistry().getProject(projectUri);
+			if (project == null) {
+				continue;
+			}
+			Set<String> typeNames = event.getTypeNames();
+			CompletableFuture<Boolean> revalidateAll = typeNames == null ? CompletableFuture.completedFuture(true)
+					: project.isDataModelProjectChanged();
+			revalidateAll.thenAccept(all -> {
+				// When only some Java types have changed, trigger validation only for the
+				// opened Qute template files of the project which use them.
+				JavaTypeDependencies dependencies = project.getJavaTypeDependencies();
+				Set<String> dependentTemplateUris = all ? null : dependencies.getDependentTemplates(typeNames);
+				documents.all().stream() //
+						.filter(document -> project == getProject((QuteTextDocument) document)) //
+						.filter(document -> all || dependentTemplateUris.contains(document.getUri())
+								|| !dependencies.isValidated(document.getUri())) //
+						.forEach(document -> {
+							triggerValidationFor((QuteTextDocument) document, false);
+						});
+			});
+		}
+	}
+
+	private QuteProject getProject(QuteTextDocument document) {
+		if (document == null) {
+			return null;
+		}
+		String projectUri = document.getProjectUri();
+		return projectUri != null ? languageServer.getProjectRegistry().getProject(projectUri) : null;
 	}
 
 	public void didChangeWatchedFiles(DidChangeWatchedFilesParams params) {
+		// update the template files snapshot of the Qute projects
+		languageServer.getProjectRegistry().onDidChangeWatchedFiles(params.getChanges());
 		// trigger validation for all opened Qute template files
 		documents.all().stream().forEach(document -> {
 			triggerValidationFor((QuteTextDocument) document, true);
 		});
 	}
 
+	/**
+	 * Ask the client to refresh the semantic tokens if it supports it.
+	 */
+	private void refreshSemanticTokens() {
+		if (languageServer.getCapabilityManager().getClientCapabilities().isSemanticTokensRefreshSupported()) {
+			getLanguageClient().refreshSemanticTokens();
+		}
+	}
+
 	private QuteLanguageClientAPI getLanguageClient() {
 		return languageServer.getLanguageClient();
 	}
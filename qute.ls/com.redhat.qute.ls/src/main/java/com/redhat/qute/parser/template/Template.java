@@ -50,6 +50,8 @@ public class Template extends Node {
 
 	private TemplateInfoProvider templateInfoProvider;
 
+	private TemplateSymbolTable symbolTable;
+
 	Template(TextDocument textDocument) {
 		super(0, textDocument.getText().length());
 		this.textDocument = textDocument;
@@ -294,6 +296,18 @@ public class Template extends Node {
 		visitor.endVisit(this);
 	}
 
+	/**
+	 * Returns the symbol table of the template.
+	 *
+	 * @return the symbol table of the template.
+	 */
+	public synchronized TemplateSymbolTable getSymbolTable() {
+		if (symbolTable == null) {
+			symbolTable = new TemplateSymbolTable();
+		}
+		return symbolTable;
+	}
+
 	public void setTemplateInfoProvider(TemplateInfoProvider templateInfoProvider) {
 		this.templateInfoProvider = templateInfoProvider;
 	}
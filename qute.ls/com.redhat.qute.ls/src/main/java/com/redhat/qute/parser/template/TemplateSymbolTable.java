@@ -0,0 +1,118 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.parser.template;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import org.eclipse.lsp4j.Range;
+
+import com.redhat.qute.parser.expression.ObjectPart;
+
+/**
+ * Symbol table of a parsed template which stores:
+ *
+ * <ul>
+ * <li>for a declaration (parameter declaration, #for alias, #let/#set
+ * parameter, etc), the object parts which reference it.</li>
+ * <li>for an object part, its declaration.</li>
+ * </ul>
+ *
+ * <p>
+ * A template is parsed again when the text document changes, so the symbol
+ * table is bound to one version of the template and the symbols are collected
+ * only once, the first time they are searched (ex : with document highlight,
+ * references, rename, linked editing).
+ * </p>
+ *
+ */
+public class TemplateSymbolTable {
+
+	/**
+	 * A symbol (declaration or reference) with the range to select.
+	 */
+	public static class Symbol {
+
+		private final Node node;
+
+		private final Range range;
+
+		public Symbol(Node node, Range range) {
+			this.node = node;
+			this.range = range;
+		}
+
+		/**
+		 * Returns the node of the symbol.
+		 *
+		 * @return the node of the symbol.
+		 */
+		public Node getNode() {
+			return node;
+		}
+
+		/**
+		 * Returns the range of the symbol.
+		 *
+		 * @return the range of the symbol.
+		 */
+		public Range getRange() {
+			return range;
+		}
+	}
+
+	private final Map<Node /* declaration */, List<Symbol>> references;
+
+	private final Map<ObjectPart, List<Symbol>> declarations;
+
+	public TemplateSymbolTable() {
+		this.references = new ConcurrentHashMap<>();
+		this.declarations = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Returns the object parts which reference the given declaration node.
+	 *
+	 * @param declaration the declaration node (parameter declaration, parameter).
+	 * @param search      the search used to collect the references if they are
+	 *                    not in the symbol table.
+	 *
+	 * @return the object parts which reference the given declaration node.
+	 */
+	public List<Symbol> getReferences(Node declaration, Consumer<BiConsumer<Node, Range>> search) {
+		return references.computeIfAbsent(declaration, k -> collect(search));
+	}
+
+	/**
+	 * Returns the declarations of the given object part.
+	 *
+	 * @param part   the object part.
+	 * @param search the search used to collect the declarations if they are not
+	 *               in the symbol table.
+	 *
+	 * @return the declarations of the given object part.
+	 */
+	public List<Symbol> getDeclarations(ObjectPart part, Consumer<BiConsumer<Node, Range>> search) {
+		return declarations.computeIfAbsent(part, k -> collect(search));
+	}
+
+	private static List<Symbol> collect(Consumer<BiConsumer<Node, Range>> search) {
+		List<Symbol> symbols = new ArrayList<>();
+		search.accept((node, range) -> symbols.add(new Symbol(node, range)));
+		return symbols.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(symbols);
+	}
+}
@@ -11,7 +11,6 @@
 *******************************************************************************/
 package com.redhat.qute.parser.template.sections;
 
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
 
@@ -19,6 +18,7 @@ import com.redhat.qute.parser.template.ASTVisitor;
 import com.redhat.qute.parser.template.Parameter;
 import com.redhat.qute.parser.template.Section;
 import com.redhat.qute.parser.template.SectionKind;
+import com.redhat.qute.project.QuteProject;
 
 /**
  * Include section.
@@ -56,20 +56,37 @@ public class IncludeSection extends Section {
 			return null;
 		}
 
-		Path templateBaseDir = getOwnerTemplate().getTemplateBaseDir();
-		if (templateBaseDir == null) {
+		QuteProject project = getOwnerTemplate().getProject();
+		if (project == null || project.getTemplateBaseDir() == null) {
 			return null;
 		}
-		for (String suffix : suffixes) {
-			Path referencedTemplateFile = templateBaseDir.resolve(referencedTemplateId + suffix);
-			if (Files.exists(referencedTemplateFile)) {
-				// The template file exists
-				return referencedTemplateFile;
-			}
+		Path referencedTemplateFile = project.getTemplateFileTree().findTemplateFile(referencedTemplateId, suffixes);
+		if (referencedTemplateFile != null) {
+			// The template file exists
+			return referencedTemplateFile;
 		}
 		// The template file doesn't exists, we return a file to create it if user wants
 		// to do that (only available on vscode when Ctrl+Click is processed).
-		return templateBaseDir.resolve(referencedTemplateId + ".qute.html");
+		return project.getTemplateBaseDir().resolve(referencedTemplateId + ".qute.html");
+	}
+
+	/**
+	 * Returns true if the template file defined in the first parameter of the
+	 * section exists and false otherwise.
+	 * 
+	 * @return true if the template file defined in the first parameter of the
+	 *         section exists and false otherwise.
+	 */
+	public boolean isReferencedTemplateFileExists() {
+		String referencedTemplateId = getReferencedTemplateId();
+		if (referencedTemplateId == null) {
+			return false;
+		}
+		QuteProject project = getOwnerTemplate().getProject();
+		if (project == null) {
+			return false;
+		}
+		return project.getTemplateFileTree().findTemplateFile(referencedTemplateId, suffixes) != null;
 	}
 
 	/**
@@ -0,0 +1,114 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.project;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Java types used by the last validation of the opened templates of a Qute
+ * project.
+ *
+ * <p>
+ * The Java types are indexed by template uri and by Java type name to
+ * revalidate only the templates which depend on the changed Java types.
+ * </p>
+ *
+ */
+public class JavaTypeDependencies {
+
+	private final Map<String /* template uri */, Set<String /* Java type name */>> javaTypesByTemplate;
+
+	private final Map<String /* Java type name */, Set<String /* template uri */>> templatesByJavaType;
+
+	public JavaTypeDependencies() {
+		this.javaTypesByTemplate = new HashMap<>();
+		this.templatesByJavaType = new HashMap<>();
+	}
+
+	/**
+	 * Update the Java types used by the last validation of the given template.
+	 *
+	 * @param templateUri the template uri.
+	 * @param javaTypes   the names (without generic) of the Java types used by the
+	 *                    validation.
+	 */
+	public synchronized void update(String templateUri, Set<String> javaTypes) {
+		remove(templateUri);
+		Set<String> dependencies = new HashSet<>(javaTypes);
+		javaTypesByTemplate.put(templateUri, dependencies);
+		for (String javaType : dependencies) {
+			templatesByJavaType.computeIfAbsent(javaType, k -> new HashSet<>()).add(templateUri);
+		}
+	}
+
+	/**
+	 * Remove the Java types used by the given template.
+	 *
+	 * @param templateUri the template uri.
+	 */
+	public synchronized void remove(String templateUri) {
+		Set<String> dependencies = javaTypesByTemplate.remove(templateUri);
+		if (dependencies == null) {
+			return;
+		}
+		for (String javaType : dependencies) {
+			Set<String> templateUris = templatesByJavaType.get(javaType);
+			if (templateUris != null) {
+				templateUris.remove(templateUri);
+				if (templateUris.isEmpty()) {
+					templatesByJavaType.remove(javaType);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the uris of the templates which depend on one of the given Java
+	 * types.
+	 *
+	 * @param javaTypes the names (without generic) of the changed Java types.
+	 *
+	 * @return the uris of the templates which depend on one of the given Java
+	 *         types.
+	 */
+	public synchronized Set<String> getDependentTemplates(Collection<String> javaTypes) {
+		Set<String> templateUris = null;
+		for (String javaType : javaTypes) {
+			Set<String> dependents = templatesByJavaType.get(javaType);
+			if (dependents != null) {
+				if (templateUris == null) {
+					templateUris = new HashSet<>();
+				}
+				templateUris.addAll(dependents);
+			}
+		}
+		return templateUris != null ? templateUris : Collections.emptySet();
+	}
+
+	/**
+	 * Returns true if the Java types used by the given template are known and
+	 * false otherwise.
+	 *
+	 * @param templateUri the template uri.
+	 *
+	 * @return true if the Java types used by the given template are known and
+	 *         false otherwise.
+	 */
+	public synchronized boolean isValidated(String templateUri) {
+		return javaTypesByTemplate.containsKey(templateUri);
+	}
+}
@@ -13,24 +13,28 @@ package com.redhat.qute.project;
 
 import static com.redhat.qute.utils.FileUtils.createPath;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.lsp4j.CompletionItem;
+import org.eclipse.lsp4j.FileChangeType;
 import org.eclipse.lsp4j.Position;
 
 import com.redhat.qute.commons.ProjectInfo;
+import com.redhat.qute.commons.QuteResolvedJavaTypeParams;
 import com.redhat.qute.commons.ResolvedJavaTypeInfo;
 import com.redhat.qute.commons.annotations.TemplateDataAnnotation;
 import com.redhat.qute.commons.datamodel.DataModelParameter;
 import com.redhat.qute.commons.datamodel.DataModelProject;
+import com.redhat.qute.commons.datamodel.DataModelProjectDelta;
 import com.redhat.qute.commons.datamodel.DataModelTemplate;
 import com.redhat.qute.commons.datamodel.QuteDataModelProjectParams;
 import com.redhat.qute.ls.api.QuteDataModelProjectProvider;
@@ -50,9 +54,11 @@ import com.redhat.qute.project.indexing.QuteTemplateIndex;
 import com.redhat.qute.project.tags.UserTag;
 import com.redhat.qute.project.tags.UserTagRegistry;
 import com.redhat.qute.services.completions.CompletionRequest;
+import com.redhat.qute.services.completions.JavaMemberCompletionItems;
 import com.redhat.qute.services.nativemode.JavaTypeAccessibiltyRule;
 import com.redhat.qute.services.nativemode.JavaTypeFilter;
 import com.redhat.qute.services.nativemode.NativeModeJavaTypeFilter;
+import com.redhat.qute.utils.SimilarNamesIndex;
 import com.redhat.qute.utils.StringUtils;
 
 /**
@@ -67,15 +73,41 @@ public class QuteProject {
 
 	private final Path templateBaseDir;
 
+	private final String classpathFingerprint;
+
 	private final QuteIndexer indexer;
 
+	private final TemplateFileTree templateFileTree;
+
 	private final Map<String /* template id */, TemplateInfoProvider> openedDocuments;
 
 	private final Map<String /* Full qualified name of Java class */, CompletableFuture<ResolvedJavaTypeInfo>> resolvedJavaTypes;
 
-	private Map<String /* Full qualified name of Java class */, JavaTypeAccessibiltyRule> targetAnnotations;
+	private final Map<String /* Full qualified name of Java class */, ResolvedJavaTypeInfo> loadedJavaTypes;
+
+	private final Map<ResolvedJavaTypeInfo /* Java type without generic */, Map<Map<String, String> /* generic Map */, ResolvedJavaTypeInfo>> genericTypeInvocations;
+
+	private final Map<String /* Java member completion key */, JavaMemberCompletionItems> javaMemberCompletionItems;
+
+	private final Map<String /* Java member names key */, SimilarNamesIndex> similarNamesIndexes;
+
+	private volatile Map<String /* Full qualified name of Java class */, JavaTypeAccessibiltyRule> targetAnnotations;
+
+	private volatile CompletableFuture<ExtendedDataModelProject> dataModelProjectFuture;
+
+	private volatile ExtendedDataModelProject lastDataModelProject;
+
+	private volatile QuteProjectSnapshotProvider warmStartProvider;
+
+	private volatile boolean dataModelProjectChanged;
+
+	private volatile long dataModelGeneration;
 
-	private CompletableFuture<ExtendedDataModelProject> dataModelProjectFuture;
+	private volatile Runnable indexChangedListener;
+
+	private volatile Runnable dataModelLoadedListener;
+
+	private final JavaTypeDependencies javaTypeDependencies;
 
 	private final QuteDataModelProjectProvider dataModelProvider;
 
@@ -87,12 +119,19 @@ public class QuteProject {
 			QuteUserTagProvider userTagProvider) {
 		this.uri = projectInfo.getUri();
 		this.templateBaseDir = createPath(projectInfo.getTemplateBaseDir());
+		this.classpathFingerprint = projectInfo.getClasspathFingerprint();
+		this.templateFileTree = new TemplateFileTree(templateBaseDir);
 		this.indexer = new QuteIndexer(this);
-		this.openedDocuments = new HashMap<>();
+		this.openedDocuments = new ConcurrentHashMap<>();
 		this.dataModelProvider = dataModelProvider;
-		this.resolvedJavaTypes = new HashMap<>();
+		this.resolvedJavaTypes = new ConcurrentHashMap<>();
+		this.loadedJavaTypes = new ConcurrentHashMap<>();
+		this.genericTypeInvocations = new ConcurrentHashMap<>();
+		this.javaMemberCompletionItems = new ConcurrentHashMap<>();
+		this.similarNamesIndexes = new ConcurrentHashMap<>();
 		this.tagRegistry = new UserTagRegistry(uri, templateBaseDir, userTagProvider);
 		this.filterInNativeMode = new NativeModeJavaTypeFilter(this);
+		this.javaTypeDependencies = new JavaTypeDependencies();
 	}
 
 	/**
@@ -106,6 +145,17 @@ public class QuteProject {
 		return templateBaseDir;
 	}
 
+	/**
+	 * Returns the in-memory snapshot of the template files of the template base
+	 * dir.
+	 *
+	 * @return the in-memory snapshot of the template files of the template base
+	 *         dir.
+	 */
+	public TemplateFileTree getTemplateFileTree() {
+		return templateFileTree;
+	}
+
 	public String getTemplateId(Path templatePath) {
 		if (templatePath == null || templateBaseDir == null) {
 			return null;
@@ -126,10 +176,74 @@ public class QuteProject {
 		return uri;
 	}
 
+	/**
+	 * Returns the number of custom sections which reference the #insert section
+	 * with the given tag of the given template, in the templates which include it.
+	 *
+	 * <p>
+	 * The count comes from the published template indexes and doesn't start a
+	 * scan (the scan is started when a template is opened).
+	 * </p>
+	 *
+	 * @param templateId the template id which declares the #insert section.
+	 * @param tag        the tag name of the #insert section.
+	 *
+	 * @return the number of custom sections which reference the #insert section.
+	 */
 	public int findNbreferencesOfInsertTag(String templateId, String tag) {
-		indexer.scanAsync();
-		List<QuteIndex> indexes = indexer.find(null, tag, null);
-		return indexes.size();
+		return indexer.getReferenceCount(templateId, tag);
+	}
+
+	/**
+	 * Returns the generation of the template indexes, updated at the end of each
+	 * scan.
+	 *
+	 * @return the generation of the template indexes.
+	 */
+	public long getIndexGeneration() {
+		return indexer.getGeneration();
+	}
+
+	/**
+	 * Set the listener called when the template indexes have changed.
+	 *
+	 * @param indexChangedListener the listener called when the template indexes
+	 *                             have changed.
+	 */
+	void setIndexChangedListener(Runnable indexChangedListener) {
+		this.indexChangedListener = indexChangedListener;
+	}
+
+	/**
+	 * Set the listener called when a data model project different from the
+	 * previous loaded one has been loaded from the Java component (and not from
+	 * the warm start snapshot).
+	 *
+	 * @param dataModelLoadedListener the listener called when a data model project
+	 *                                has been loaded from the Java component.
+	 */
+	void setDataModelLoadedListener(Runnable dataModelLoadedListener) {
+		this.dataModelLoadedListener = dataModelLoadedListener;
+	}
+
+	/**
+	 * Notify that the template indexes have been published by the indexer.
+	 */
+	public void indexChanged() {
+		Runnable listener = indexChangedListener;
+		if (listener != null) {
+			listener.run();
+		}
+	}
+
+	/**
+	 * Returns the generation of the data model project, updated each time a
+	 * different data model project is loaded.
+	 *
+	 * @return the generation of the data model project.
+	 */
+	public long getDataModelGeneration() {
+		return dataModelGeneration;
 	}
 
 	public List<QuteIndex> findInsertTagParameter(String templateId, String insertParamater) {
@@ -154,6 +268,8 @@ public class QuteProject {
 	 */
 	public void onDidOpenTextDocument(TemplateInfoProvider document) {
 		openedDocuments.put(document.getTemplateId(), document);
+		// Index the templates of the project, used by the #insert code lens
+		indexer.scanAsync();
 	}
 
 	/**
@@ -162,8 +278,39 @@ public class QuteProject {
 	 * @param document the Qute template.
 	 */
 	public void onDidCloseTextDocument(TemplateInfoProvider document) {
-		openedDocuments.remove(document.getTemplateId());
-		indexer.scanAsync(true);
+		String templateId = document.getTemplateId();
+		openedDocuments.remove(templateId);
+		if (templateId != null && templateBaseDir != null) {
+			// Re-index only the closed template which could have been saved with a
+			// different content
+			indexer.updateAsync(templateBaseDir.resolve(templateId));
+		}
+	}
+
+	/**
+	 * Update the template files snapshot and the index when a file of the template
+	 * base dir is created, changed or deleted.
+	 *
+	 * @param file       the created / deleted file.
+	 * @param changeType the file change type.
+	 */
+	public void onDidChangeWatchedFile(Path file, FileChangeType changeType) {
+		switch (changeType) {
+		case Created:
+			if (Files.isRegularFile(file)) {
+				templateFileTree.addTemplateFile(file);
+			}
+			break;
+		case Deleted:
+			templateFileTree.removeTemplateFile(file);
+			break;
+		default:
+			break;
+		}
+		if (templateBaseDir != null && file.startsWith(templateBaseDir)
+				&& !openedDocuments.containsKey(getTemplateId(file))) {
+			indexer.updateAsync(file);
+		}
 	}
 
 	private void collectInsert(String insertParamater, Node parent, Template template, List<QuteIndex> indexes) {
@@ -198,53 +345,319 @@ public class QuteProject {
 		return resolvedJavaTypes.get(typeName);
 	}
 
+	/**
+	 * Returns the given Java type with the given generic Map applied (ex :
+	 * java.util.List<java.lang.String> for java.util.List<E> with
+	 * E=java.lang.String).
+	 *
+	 * <p>
+	 * The Java type is created the first time and shared for the next calls with
+	 * the same generic Map in this project. It is not shared with the other
+	 * projects, even if the Java type without generic is a binary Java type shared
+	 * between projects, because the Java type with generic is updated with the
+	 * Java types resolved in this project (ex : iterable).
+	 * </p>
+	 *
+	 * @param javaType   the Java type without generic.
+	 * @param genericMap the generic Map.
+	 *
+	 * @return the given Java type with the given generic Map applied.
+	 */
+	ResolvedJavaTypeInfo getGenericTypeInvocation(ResolvedJavaTypeInfo javaType, Map<String, String> genericMap) {
+		return genericTypeInvocations.computeIfAbsent(javaType, k -> new ConcurrentHashMap<>()) //
+				.computeIfAbsent(genericMap, map -> new ResolvedGenericJavaTypeInfo(javaType, map));
+	}
+
 	void registerResolvedJavaType(String typeName, CompletableFuture<ResolvedJavaTypeInfo> future) {
 		resolvedJavaTypes.put(typeName, future);
 		future //
 				.thenApply(c -> {
-					if (targetAnnotations != null) {
+					Map<String, JavaTypeAccessibiltyRule> currentTargetAnnotations = targetAnnotations;
+					if (currentTargetAnnotations != null) {
 						// Update target annotations @TemplateData, @RegisterForReflection
-						updateTargetAnnotation(c, targetAnnotations);
+						updateTargetAnnotation(c, currentTargetAnnotations);
+					}
+					if (hasTargetAnnotation(c)) {
+						// The native mode accessibility of some Java types could change, evict the
+						// cached completion items.
+						javaMemberCompletionItems.clear();
+						similarNamesIndexes.clear();
 					}
 					return c;
 				});
 	}
 
+	/**
+	 * Returns the cached completion items for the members of a Java type with the
+	 * given key and null otherwise.
+	 *
+	 * @param key the completion key (Java type signature, native mode, etc).
+	 *
+	 * @return the cached completion items for the members of a Java type with the
+	 *         given key and null otherwise.
+	 */
+	public JavaMemberCompletionItems getJavaMemberCompletionItems(String key) {
+		return javaMemberCompletionItems.get(key);
+	}
+
+	/**
+	 * Cache the given completion items for the members of a Java type with the
+	 * given key.
+	 *
+	 * <p>
+	 * The items are not cached if the data model project (which hosts the value
+	 * resolvers) is not loaded, because the completion items are not complete.
+	 * </p>
+	 *
+	 * @param key   the completion key (Java type signature, native mode, etc).
+	 * @param items the completion items to cache.
+	 */
+	public void registerJavaMemberCompletionItems(String key, JavaMemberCompletionItems items) {
+		CompletableFuture<ExtendedDataModelProject> future = dataModelProjectFuture;
+		if (future == null || !future.isDone() || future.isCompletedExceptionally()) {
+			return;
+		}
+		javaMemberCompletionItems.put(key, items);
+	}
+
+	/**
+	 * Returns the cached similar names index for the members of a Java type with
+	 * the given key and null otherwise.
+	 *
+	 * @param key the names key (Java type signature, member kind).
+	 *
+	 * @return the cached similar names index for the members of a Java type with
+	 *         the given key and null otherwise.
+	 */
+	public SimilarNamesIndex getSimilarNamesIndex(String key) {
+		return similarNamesIndexes.get(key);
+	}
+
+	/**
+	 * Cache the given similar names index for the members of a Java type with the
+	 * given key.
+	 *
+	 * <p>
+	 * The index is not cached if the data model project (which hosts the value
+	 * resolvers) is not loaded, because the index is not complete.
+	 * </p>
+	 *
+	 * @param key   the names key (Java type signature, member kind).
+	 * @param index the similar names index to cache.
+	 */
+	public void registerSimilarNamesIndex(String key, SimilarNamesIndex index) {
+		CompletableFuture<ExtendedDataModelProject> future = dataModelProjectFuture;
+		if (future == null || !future.isDone() || future.isCompletedExceptionally()) {
+			return;
+		}
+		similarNamesIndexes.put(key, index);
+	}
+
 	public CompletableFuture<ExtendedDataModelProject> getDataModelProject() {
-		if (dataModelProjectFuture == null || dataModelProjectFuture.isCancelled()
-				|| dataModelProjectFuture.isCompletedExceptionally()) {
+		CompletableFuture<ExtendedDataModelProject> future = dataModelProjectFuture;
+		if (future == null || future.isCancelled() || future.isCompletedExceptionally()) {
+			future = reloadDataModelProject();
+		}
+		return future;
+	}
+
+	private synchronized CompletableFuture<ExtendedDataModelProject> reloadDataModelProject() {
+		CompletableFuture<ExtendedDataModelProject> future = dataModelProjectFuture;
+		if (future == null || future.isCancelled() || future.isCompletedExceptionally()) {
 			dataModelProjectFuture = null;
-			dataModelProjectFuture = loadDataModelProject();
+			boolean warmStarted = isWarmStarted();
+			future = loadDataModelProject();
+			dataModelProjectFuture = future;
+			future.thenAccept(dataModel -> {
+				Runnable listener = dataModelLoadedListener;
+				if (listener != null && dataModel != null && !warmStarted && dataModelProjectChanged) {
+					listener.run();
+				}
+			});
 		}
-		return dataModelProjectFuture;
+		return future;
 	}
 
 	protected synchronized CompletableFuture<ExtendedDataModelProject> loadDataModelProject() {
 		if (dataModelProjectFuture != null) {
 			return dataModelProjectFuture;
 		}
+		ExtendedDataModelProject lastDataModel = lastDataModelProject;
 		QuteDataModelProjectParams params = new QuteDataModelProjectParams();
 		params.setProjectUri(getUri());
+		if (lastDataModel != null) {
+			// Ask only for the changes since the last loaded data model project
+			params.setGeneration(lastDataModel.getGeneration());
+		}
 		return getDataModelProject(params) //
-				.thenApply(project -> {
-					if (project == null) {
-						return null;
+				.thenCompose(project -> {
+					if (project != null && project.isDelta()) {
+						if (lastDataModel != null && lastDataModel.applyDelta(project)) {
+							dataModelProjectChanged = !DataModelProjectDelta.isEmpty(project);
+							if (dataModelProjectChanged) {
+								dataModelGeneration++;
+							}
+							return CompletableFuture.completedFuture(lastDataModel);
+						}
+						// The delta cannot be applied, ask for the whole data model project of this
+						// generation, which is returned without collecting it again.
+						QuteDataModelProjectParams fullParams = new QuteDataModelProjectParams(getUri());
+						fullParams.setFullGeneration(project.getGeneration());
+						return getDataModelProject(fullParams) //
+								.thenApply(this::createDataModelProject);
 					}
-					return new ExtendedDataModelProject(project);
+					return CompletableFuture.completedFuture(createDataModelProject(project));
 				});
 	}
 
+	private ExtendedDataModelProject createDataModelProject(
+			DataModelProject<DataModelTemplate<DataModelParameter>> project) {
+		if (project == null) {
+			return null;
+		}
+		ExtendedDataModelProject dataModel = new ExtendedDataModelProject(project);
+		lastDataModelProject = dataModel;
+		dataModelProjectChanged = true;
+		dataModelGeneration++;
+		return dataModel;
+	}
+
+	/**
+	 * Returns the future which returns true if the loaded data model project
+	 * (data model templates, value resolvers) could be different from the
+	 * previous loaded one and false if only Java types could have changed.
+	 *
+	 * @return the future which returns true if the loaded data model project could
+	 *         be different from the previous loaded one and false otherwise.
+	 */
+	public CompletableFuture<Boolean> isDataModelProjectChanged() {
+		return getDataModelProject() //
+				.handle((dataModel, error) -> error != null || dataModel == null || dataModelProjectChanged);
+	}
+
+	/**
+	 * Returns the Java types used by the last validation of the opened templates
+	 * of the project.
+	 *
+	 * @return the Java types used by the last validation of the opened templates
+	 *         of the project.
+	 */
+	public JavaTypeDependencies getJavaTypeDependencies() {
+		return javaTypeDependencies;
+	}
+
 	protected CompletableFuture<DataModelProject<DataModelTemplate<DataModelParameter>>> getDataModelProject(
 			QuteDataModelProjectParams params) {
+		QuteProjectSnapshotProvider warmStart = warmStartProvider;
+		if (warmStart != null) {
+			// The data model project is served from the snapshot until the snapshot is
+			// revalidated against the Java component.
+			return warmStart.getDataModelProject(params);
+		}
 		return dataModelProvider.getDataModelProject(params);
 	}
 
-	public void resetJavaTypes() {
-		if (dataModelProjectFuture != null) {
-			dataModelProjectFuture.cancel(true);
+	/**
+	 * Warm start this project with the given snapshot: the data model project and
+	 * the resolved Java types are served from the snapshot until
+	 * {@link #endWarmStart()} is called.
+	 *
+	 * @param snapshot the snapshot saved by a previous language server process.
+	 */
+	void warmStart(QuteProjectSnapshot snapshot) {
+		warmStartProvider = new QuteProjectSnapshotProvider(snapshot);
+	}
+
+	/**
+	 * Stop serving the data model project and the resolved Java types from the
+	 * warm start snapshot.
+	 */
+	void endWarmStart() {
+		warmStartProvider = null;
+	}
+
+	/**
+	 * Returns true if the data model project and the resolved Java types are
+	 * served from a warm start snapshot and false otherwise.
+	 *
+	 * @return true if the data model project and the resolved Java types are
+	 *         served from a warm start snapshot and false otherwise.
+	 */
+	public boolean isWarmStarted() {
+		return warmStartProvider != null;
+	}
+
+	/**
+	 * Returns the resolved Java type from the warm start snapshot and null
+	 * otherwise.
+	 *
+	 * @param params the resolved Java type parameters.
+	 *
+	 * @return the resolved Java type from the warm start snapshot and null
+	 *         otherwise.
+	 */
+	CompletableFuture<ResolvedJavaTypeInfo> getWarmStartResolvedJavaType(QuteResolvedJavaTypeParams params) {
+		QuteProjectSnapshotProvider warmStart = warmStartProvider;
+		if (warmStart == null) {
+			return null;
+		}
+		ResolvedJavaTypeInfo javaType = warmStart.getResolvedJavaType(params).getNow(null);
+		return javaType != null ? CompletableFuture.completedFuture(javaType) : null;
+	}
+
+	/**
+	 * Register the given Java type loaded from the Java component to save it in
+	 * the next snapshot.
+	 *
+	 * @param javaTypeName the Java type name (without generic).
+	 * @param javaType     the loaded Java type.
+	 */
+	void registerLoadedJavaType(String javaTypeName, ResolvedJavaTypeInfo javaType) {
+		if (javaType != null) {
+			loadedJavaTypes.put(javaTypeName, javaType);
+		}
+	}
+
+	/**
+	 * Returns the snapshot of the loaded data model project and Java types and
+	 * null if the data model project is not loaded or if the classpath
+	 * fingerprint of the project is unknown.
+	 *
+	 * @return the snapshot of the loaded data model project and Java types and
+	 *         null otherwise.
+	 */
+	QuteProjectSnapshot createSnapshot() {
+		if (StringUtils.isEmpty(classpathFingerprint)) {
+			return null;
+		}
+		CompletableFuture<ExtendedDataModelProject> future = dataModelProjectFuture;
+		if (future == null || !future.isDone() || future.isCompletedExceptionally()) {
+			return null;
+		}
+		ExtendedDataModelProject dataModel = future.getNow(null);
+		if (dataModel == null) {
+			return null;
+		}
+		QuteProjectSnapshot snapshot = new QuteProjectSnapshot();
+		snapshot.setProjectUri(getUri());
+		snapshot.setClasspathFingerprint(classpathFingerprint);
+		snapshot.setDataModel(dataModel.toDataModelProject());
+		snapshot.setResolvedTypes(new ArrayList<>(loadedJavaTypes.values()));
+		return snapshot;
+	}
+
+	public synchronized void resetJavaTypes() {
+		CompletableFuture<ExtendedDataModelProject> future = dataModelProjectFuture;
+		if (future != null) {
+			future.cancel(true);
 			dataModelProjectFuture = null;
 		}
+		warmStartProvider = null;
 		resolvedJavaTypes.clear();
+		loadedJavaTypes.clear();
+		genericTypeInvocations.clear();
+		javaMemberCompletionItems.clear();
+		similarNamesIndexes.clear();
 		targetAnnotations = null;
 	}
 
@@ -355,10 +768,11 @@ public class QuteProject {
 		//
 		// @RegisterForReflection(targets = {BigDecimal.class})
 		// public class Item
-		if (targetAnnotations == null) {
-			targetAnnotations = loadTargetAnnotations();
+		Map<String, JavaTypeAccessibiltyRule> currentTargetAnnotations = targetAnnotations;
+		if (currentTargetAnnotations == null) {
+			currentTargetAnnotations = loadTargetAnnotations();
 		}
-		return targetAnnotations.get(javaTypeName);
+		return currentTargetAnnotations.get(javaTypeName);
 	}
 
 	private synchronized Map<String, JavaTypeAccessibiltyRule> loadTargetAnnotations() {
@@ -366,10 +780,11 @@ public class QuteProject {
 			return targetAnnotations;
 		}
 
-		Map<String /* Full qualified name of Java class */, JavaTypeAccessibiltyRule> targetAnnotations = new HashMap<>();
+		Map<String /* Full qualified name of Java class */, JavaTypeAccessibiltyRule> targetAnnotations = new ConcurrentHashMap<>();
 		resolvedJavaTypes.values().forEach(future -> {
 			updateTargetAnnotation(future.getNow(null), targetAnnotations);
 		});
+		this.targetAnnotations = targetAnnotations;
 		return targetAnnotations;
 	}
 
@@ -406,6 +821,14 @@ public class QuteProject {
 		}
 	}
 
+	private static boolean hasTargetAnnotation(ResolvedJavaTypeInfo baseType) {
+		if (baseType == null) {
+			return false;
+		}
+		return (baseType.getTemplateDataAnnotations() != null && !baseType.getTemplateDataAnnotations().isEmpty())
+				|| baseType.getRegisterForReflectionAnnotation() != null;
+	}
+
 	private static JavaTypeAccessibiltyRule getJavaTypeAccessibiltyRule(String target,
 			Map<String, JavaTypeAccessibiltyRule> targetAnnotations) {
 		return targetAnnotations.computeIfAbsent(target, (x -> new JavaTypeAccessibiltyRule()));
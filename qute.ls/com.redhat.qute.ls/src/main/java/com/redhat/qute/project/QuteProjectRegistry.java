@@ -18,7 +18,9 @@ import static com.redhat.qute.services.QuteCompletableFutures.METHOD_VALUE_RESOL
 import static com.redhat.qute.services.QuteCompletableFutures.NAMESPACE_RESOLVER_INFO_NULL_FUTURE;
 import static com.redhat.qute.services.QuteCompletableFutures.RESOLVED_JAVA_CLASSINFO_NULL_FUTURE;
 import static com.redhat.qute.services.QuteCompletableFutures.VALUE_RESOLVERS_NULL_FUTURE;
+import static com.redhat.qute.utils.FileUtils.createPath;
 
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -27,9 +29,16 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
+import org.eclipse.lsp4j.FileEvent;
 import org.eclipse.lsp4j.Location;
 
+import com.google.gson.Gson;
+
 import com.redhat.qute.commons.JavaElementInfo;
 import com.redhat.qute.commons.JavaFieldInfo;
 import com.redhat.qute.commons.JavaMemberInfo;
@@ -44,6 +53,7 @@ import com.redhat.qute.commons.QuteResolvedJavaTypeParams;
 import com.redhat.qute.commons.ResolvedJavaTypeInfo;
 import com.redhat.qute.commons.datamodel.DataModelParameter;
 import com.redhat.qute.commons.datamodel.DataModelProject;
+import com.redhat.qute.commons.datamodel.DataModelProjectDelta;
 import com.redhat.qute.commons.datamodel.DataModelTemplate;
 import com.redhat.qute.commons.datamodel.JavaDataModelChangeEvent;
 import com.redhat.qute.commons.datamodel.QuteDataModelProjectParams;
@@ -66,10 +76,13 @@ import com.redhat.qute.project.datamodel.resolvers.MethodValueResolver;
 import com.redhat.qute.project.datamodel.resolvers.TypeValueResolver;
 import com.redhat.qute.project.datamodel.resolvers.ValueResolver;
 import com.redhat.qute.project.datamodel.resolvers.ValueResolversRegistry;
+import com.redhat.qute.services.completions.JavaMemberCompletionItems;
 import com.redhat.qute.services.nativemode.JavaTypeFilter;
 import com.redhat.qute.services.nativemode.ReflectionJavaTypeFilter;
 import com.redhat.qute.settings.QuteNativeSettings;
 import com.redhat.qute.settings.SharedSettings;
+import com.redhat.qute.utils.SimilarNamesIndex;
+import com.redhat.qute.utils.JSONUtility;
 import com.redhat.qute.utils.StringUtils;
 
 /**
@@ -113,6 +126,10 @@ public class QuteProjectRegistry
 		}
 	}
 
+	private static final Logger LOGGER = Logger.getLogger(QuteProjectRegistry.class.getName());
+
+	private static final Gson SNAPSHOT_GSON = JSONUtility.getDefaultGsonBuilder().create();
+
 	private final Map<String /* project uri */, QuteProject> projects;
 
 	private final QuteResolvedJavaTypeProvider resolvedTypeProvider;
@@ -127,17 +144,26 @@ public class QuteProjectRegistry
 
 	private final QuteJavadocProvider javadocProvider;
 
+	private final SharedBinaryJavaTypeCache binaryJavaTypes;
+
+	private volatile QuteProjectSnapshotStore snapshotStore;
+
+	private volatile Consumer<JavaDataModelChangeEvent> warmStartChangedListener;
+
+	private volatile Consumer<QuteProject> indexChangedListener;
+
 	public QuteProjectRegistry(QuteJavaTypesProvider classProvider, QuteJavaDefinitionProvider definitionProvider,
 			QuteResolvedJavaTypeProvider resolvedClassProvider, QuteDataModelProjectProvider dataModelProvider,
 			QuteUserTagProvider userTagsProvider, QuteJavadocProvider javadocProvider) {
 		this.javaTypeProvider = classProvider;
 		this.definitionProvider = definitionProvider;
-		this.projects = new HashMap<>();
+		this.projects = new ConcurrentHashMap<>();
 		this.resolvedTypeProvider = resolvedClassProvider;
 		this.dataModelProvider = dataModelProvider;
 		this.userTagProvider = userTagsProvider;
 		this.javadocProvider = javadocProvider;
 		this.valueResolversRegistry = new ValueResolversRegistry();
+		this.binaryJavaTypes = new SharedBinaryJavaTypeCache();
 	}
 
 	/**
@@ -164,28 +190,174 @@ public class QuteProjectRegistry
 		String projectUri = projectInfo.getUri();
 		QuteProject project = getProject(projectUri);
 		if (project == null) {
-			project = registerProjectSync(projectInfo);
+			// The project and its warm start snapshot (file I/O, JSON parsing) are loaded
+			// outside of the projects map, and only one project is registered even if
+			// several threads register it at the same time.
+			QuteProject newProject = createProject(projectInfo);
+			newProject.setIndexChangedListener(() -> indexChanged(newProject));
+			newProject.setDataModelLoadedListener(() -> saveSnapshotAsync(newProject));
+			QuteProjectSnapshot snapshot = loadSnapshot(projectInfo);
+			if (snapshot != null) {
+				newProject.warmStart(snapshot);
+			}
+			project = projects.putIfAbsent(projectUri, newProject);
+			if (project == null) {
+				project = newProject;
+				if (snapshot != null) {
+					CompletableFuture.runAsync(() -> revalidateWarmStart(newProject, snapshot));
+				}
+			}
 		}
 		return project;
 	}
 
-	private synchronized QuteProject registerProjectSync(ProjectInfo projectInfo) {
-		String projectUri = projectInfo.getUri();
-		QuteProject project = getProject(projectUri);
-		if (project != null) {
-			return project;
+	protected QuteProject createProject(ProjectInfo projectInfo) {
+		return new QuteProject(projectInfo, this, this);
+	}
+
+	/**
+	 * Set the store used to warm start the Qute projects.
+	 *
+	 * @param snapshotStore            the snapshot store and null to disable the
+	 *                                 warm start.
+	 * @param warmStartChangedListener the listener called when the Java component
+	 *                                 reports a data model / Java types different
+	 *                                 from the warm start snapshot of a project.
+	 */
+	public void setSnapshotStore(QuteProjectSnapshotStore snapshotStore,
+			Consumer<JavaDataModelChangeEvent> warmStartChangedListener) {
+		this.snapshotStore = snapshotStore;
+		this.warmStartChangedListener = warmStartChangedListener;
+	}
+
+	/**
+	 * Set the listener called when the template indexes of a project have changed
+	 * (ex : at the end of an index scan).
+	 *
+	 * @param indexChangedListener the listener called when the template indexes of
+	 *                             a project have changed.
+	 */
+	public void setIndexChangedListener(Consumer<QuteProject> indexChangedListener) {
+		this.indexChangedListener = indexChangedListener;
+	}
+
+	private void indexChanged(QuteProject project) {
+		Consumer<QuteProject> listener = indexChangedListener;
+		if (listener != null) {
+			listener.accept(project);
 		}
-		project = createProject(projectInfo);
-		registerProject(project);
-		return project;
 	}
 
-	protected QuteProject createProject(ProjectInfo projectInfo) {
-		return new QuteProject(projectInfo, this, this);
+	/**
+	 * Save the snapshot of the loaded projects to warm start them when the
+	 * language server will be restarted.
+	 */
+	public void saveSnapshots() {
+		QuteProjectSnapshotStore store = snapshotStore;
+		if (store == null) {
+			return;
+		}
+		for (QuteProject project : projects.values()) {
+			QuteProjectSnapshot snapshot = project.createSnapshot();
+			if (snapshot != null) {
+				store.save(snapshot);
+			}
+		}
+	}
+
+	/**
+	 * Save the snapshot of the given project in a background thread, once its data
+	 * model project has been loaded from the Java component.
+	 *
+	 * @param project the Qute project.
+	 */
+	private void saveSnapshotAsync(QuteProject project) {
+		if (snapshotStore == null) {
+			return;
+		}
+		CompletableFuture.runAsync(() -> {
+			QuteProjectSnapshotStore store = snapshotStore;
+			if (store == null || projects.get(project.getUri()) != project) {
+				return;
+			}
+			QuteProjectSnapshot snapshot = project.createSnapshot();
+			if (snapshot != null) {
+				store.save(snapshot);
+			}
+		});
+	}
+
+	private QuteProjectSnapshot loadSnapshot(ProjectInfo projectInfo) {
+		QuteProjectSnapshotStore store = snapshotStore;
+		if (store == null) {
+			return null;
+		}
+		return store.load(projectInfo.getUri(), projectInfo.getClasspathFingerprint());
 	}
 
-	protected void registerProject(QuteProject project) {
-		projects.put(project.getUri(), project);
+	/**
+	 * Compare the warm start snapshot of the given project with the data model
+	 * and the source Java types reported by the Java component. The binary Java
+	 * types are not compared because they are validated by the classpath
+	 * fingerprint.
+	 *
+	 * @param project  the warm started project.
+	 * @param snapshot the warm start snapshot.
+	 */
+	private void revalidateWarmStart(QuteProject project, QuteProjectSnapshot snapshot) {
+		String projectUri = project.getUri();
+		List<CompletableFuture<Boolean /* changed */>> revalidations = new ArrayList<>();
+		revalidations.add(getDataModelProject(new QuteDataModelProjectParams(projectUri)) //
+				.thenApply(dataModel -> isDataModelChanged(snapshot.getDataModel(), dataModel)));
+		if (snapshot.getResolvedTypes() != null) {
+			for (ResolvedJavaTypeInfo javaType : snapshot.getResolvedTypes()) {
+				if (!javaType.isBinary()) {
+					QuteResolvedJavaTypeParams params = new QuteResolvedJavaTypeParams(javaType.getName(), projectUri);
+					revalidations.add(getResolvedJavaType(params) //
+							.thenApply(actualJavaType -> isJavaTypeChanged(javaType, actualJavaType)));
+				}
+			}
+		}
+		CompletableFuture.allOf(revalidations.toArray(new CompletableFuture[revalidations.size()])) //
+				.whenComplete((result, error) -> {
+					boolean changed = error != null || revalidations.stream().anyMatch(CompletableFuture::join);
+					if (error != null) {
+						LOGGER.log(Level.WARNING,
+								"Error while revalidating the Qute project snapshot of '" + projectUri + "'.", error);
+					}
+					Consumer<JavaDataModelChangeEvent> listener = warmStartChangedListener;
+					if (changed && listener != null) {
+						JavaDataModelChangeEvent event = new JavaDataModelChangeEvent();
+						event.setProjectURIs(Collections.singleton(projectUri));
+						listener.accept(event);
+					}
+					project.endWarmStart();
+					if (!changed) {
+						// The snapshot is valid, save it with the Java types loaded during the warm
+						// start. When it has changed, the snapshot is saved once the new data model
+						// project is loaded.
+						saveSnapshotAsync(project);
+					}
+				});
+	}
+
+	private static boolean isDataModelChanged(
+			DataModelProject<DataModelTemplate<DataModelParameter>> snapshotDataModel,
+			DataModelProject<DataModelTemplate<DataModelParameter>> actualDataModel) {
+		if (snapshotDataModel == null || actualDataModel == null) {
+			return snapshotDataModel != actualDataModel;
+		}
+		DataModelProject<DataModelTemplate<DataModelParameter>> delta = DataModelProjectDelta
+				.createDelta(snapshotDataModel, actualDataModel);
+		return delta == null || !DataModelProjectDelta.isEmpty(delta);
+	}
+
+	private static boolean isJavaTypeChanged(ResolvedJavaTypeInfo snapshotJavaType,
+			ResolvedJavaTypeInfo actualJavaType) {
+		if (actualJavaType == null) {
+			return true;
+		}
+		return !SNAPSHOT_GSON.toJson(snapshotJavaType).equals(SNAPSHOT_GSON.toJson(actualJavaType));
 	}
 
 	/**
@@ -218,6 +390,25 @@ public class QuteProjectRegistry
 		}
 	}
 
+	/**
+	 * Update the Qute projects which host the given created / deleted files.
+	 *
+	 * @param changes the file events.
+	 */
+	public void onDidChangeWatchedFiles(List<FileEvent> changes) {
+		for (FileEvent change : changes) {
+			Path file = createPath(change.getUri());
+			if (file != null) {
+				for (QuteProject project : projects.values()) {
+					Path templateBaseDir = project.getTemplateBaseDir();
+					if (templateBaseDir != null && file.startsWith(templateBaseDir)) {
+						project.onDidChangeWatchedFile(file, change.getType());
+					}
+				}
+			}
+		}
+	}
+
 	public CompletableFuture<ResolvedJavaTypeInfo> resolveJavaType(String javaTypeName, String projectUri) {
 		QuteProject project = StringUtils.isEmpty(projectUri) ? null : getProject(projectUri);
 		if (project == null) {
@@ -276,7 +467,7 @@ public class QuteProjectRegistry
 								Map<String, String> generics = resolvedJavaType.createGenericMap(javaTypeName);
 								// Update the Java type (apply generic + update references of this Java type for
 								// fields / methods).
-								resolvedJavaType = updateJavaType(resolvedJavaType, generics);
+								resolvedJavaType = updateJavaType(resolvedJavaType, generics, project);
 								visited.add(resolvedJavaType.getSignature());
 
 								final ResolvedJavaTypeInfo resolvedJavaTypeWithLoadedDeps = resolvedJavaType;
@@ -309,22 +500,36 @@ public class QuteProjectRegistry
 
 	public static ResolvedJavaTypeInfo updateJavaType(ResolvedJavaTypeInfo simpleOrGenericType,
 			Map<String, String> genericMap) {
+		return updateJavaType(simpleOrGenericType, genericMap, null);
+	}
+
+	public static ResolvedJavaTypeInfo updateJavaType(ResolvedJavaTypeInfo simpleOrGenericType,
+			Map<String, String> genericMap, QuteProject project) {
 		boolean hasGeneric = genericMap != null;
 		ResolvedJavaTypeInfo javaType = simpleOrGenericType;
 		if (hasGeneric) {
-			// Create a new instance of ResolvedJavaTypeInfo with apply of generic.
-			javaType = new ResolvedGenericJavaTypeInfo(simpleOrGenericType, genericMap);
+			// Create a new instance of ResolvedJavaTypeInfo with apply of generic, or
+			// reuse the instance already created in the project for the same generic Map.
+			javaType = project != null ? project.getGenericTypeInvocation(simpleOrGenericType, genericMap)
+					: new ResolvedGenericJavaTypeInfo(simpleOrGenericType, genericMap);
 		} else {
+			// The members always reference their own (raw) Java type, so this update is
+			// idempotent for a binary Java type shared between projects.
+
 			// Update Java fields
 			for (JavaFieldInfo field : simpleOrGenericType.getFields()) {
 				// Reference the Java type for the current field
-				field.setJavaType(javaType);
+				if (field.getJavaTypeInfo() != javaType) {
+					field.setJavaType(javaType);
+				}
 			}
 
 			// Update Java methods
 			for (JavaMethodInfo method : simpleOrGenericType.getMethods()) {
 				// Reference the Java type for the current method
-				method.setJavaType(javaType);
+				if (method.getJavaTypeInfo() != javaType) {
+					method.setJavaType(javaType);
+				}
 			}
 		}
 		return javaType;
@@ -348,7 +553,10 @@ public class QuteProjectRegistry
 			}
 		}
 
-		if (iterableOf != null) {
+		// The iterable of is computed only from the extended types declared by the
+		// Java type, so the update is idempotent for a binary Java type shared between
+		// projects (the projects which share it use the same JAR / JDK).
+		if (iterableOf != null && !iterableOf.equals(resolvedJavaType.getIterableOf())) {
 			resolvedJavaType.setIterableOf(iterableOf);
 		}
 	}
@@ -371,7 +579,18 @@ public class QuteProjectRegistry
 		// The Java type (without generic) is not loaded from JDT / IJ side, load it.
 		String projectUri = project.getUri();
 		QuteResolvedJavaTypeParams params = new QuteResolvedJavaTypeParams(javaTypeWithoutGeneric, projectUri);
-		return getResolvedJavaType(params);
+		CompletableFuture<ResolvedJavaTypeInfo> loadFuture = project.getWarmStartResolvedJavaType(params);
+		if (loadFuture == null) {
+			loadFuture = getResolvedJavaType(params);
+		}
+		return loadFuture //
+				.thenApply(resolvedJavaType -> {
+					// Share the binary Java types (JDK, JAR) with the other projects which use the
+					// same JAR.
+					ResolvedJavaTypeInfo sharedJavaType = binaryJavaTypes.acquire(resolvedJavaType, projectUri);
+					project.registerLoadedJavaType(params.getClassName(), sharedJavaType);
+					return sharedJavaType;
+				});
 	}
 
 	private CompletableFuture<ResolvedJavaTypeInfo> getValidResolvedJavaTypeInCache(String javaTypeName,
@@ -392,6 +611,15 @@ public class QuteProjectRegistry
 		return future;
 	}
 
+	/**
+	 * Returns the cache of binary Java types shared by all projects.
+	 *
+	 * @return the cache of binary Java types shared by all projects.
+	 */
+	SharedBinaryJavaTypeCache getBinaryJavaTypes() {
+		return binaryJavaTypes;
+	}
+
 	protected CompletableFuture<ResolvedJavaTypeInfo> getResolvedJavaType(QuteResolvedJavaTypeParams params) {
 		return resolvedTypeProvider.getResolvedJavaType(params);
 	}
@@ -402,6 +630,7 @@ public class QuteProjectRegistry
 			QuteProject project = getProject(projectUri);
 			if (project != null) {
 				project.resetJavaTypes();
+				binaryJavaTypes.release(projectUri);
 			}
 		}
 	}
@@ -1289,6 +1518,74 @@ public class QuteProjectRegistry
 				});
 	}
 
+	/**
+	 * Returns the cached completion items for the members of a Java type with the
+	 * given key and null otherwise.
+	 *
+	 * @param key        the completion key (Java type signature, native mode,
+	 *                   etc).
+	 * @param projectUri the project Uri.
+	 *
+	 * @return the cached completion items for the members of a Java type with the
+	 *         given key and null otherwise.
+	 */
+	public JavaMemberCompletionItems getJavaMemberCompletionItems(String key, String projectUri) {
+		QuteProject project = StringUtils.isEmpty(projectUri) ? null : getProject(projectUri);
+		if (project == null) {
+			return null;
+		}
+		return project.getJavaMemberCompletionItems(key);
+	}
+
+	/**
+	 * Cache the given completion items for the members of a Java type with the
+	 * given key.
+	 *
+	 * @param key        the completion key (Java type signature, native mode,
+	 *                   etc).
+	 * @param items      the completion items to cache.
+	 * @param projectUri the project Uri.
+	 */
+	public void registerJavaMemberCompletionItems(String key, JavaMemberCompletionItems items, String projectUri) {
+		QuteProject project = StringUtils.isEmpty(projectUri) ? null : getProject(projectUri);
+		if (project != null) {
+			project.registerJavaMemberCompletionItems(key, items);
+		}
+	}
+
+	/**
+	 * Returns the cached similar names index for the members of a Java type with
+	 * the given key and null otherwise.
+	 *
+	 * @param key        the names key (Java type signature, member kind).
+	 * @param projectUri the project Uri.
+	 *
+	 * @return the cached similar names index for the members of a Java type with
+	 *         the given key and null otherwise.
+	 */
+	public SimilarNamesIndex getSimilarNamesIndex(String key, String projectUri) {
+		QuteProject project = StringUtils.isEmpty(projectUri) ? null : getProject(projectUri);
+		if (project == null) {
+			return null;
+		}
+		return project.getSimilarNamesIndex(key);
+	}
+
+	/**
+	 * Cache the given similar names index for the members of a Java type with the
+	 * given key.
+	 *
+	 * @param key        the names key (Java type signature, member kind).
+	 * @param index      the similar names index to cache.
+	 * @param projectUri the project Uri.
+	 */
+	public void registerSimilarNamesIndex(String key, SimilarNamesIndex index, String projectUri) {
+		QuteProject project = StringUtils.isEmpty(projectUri) ? null : getProject(projectUri);
+		if (project != null) {
+			project.registerSimilarNamesIndex(key, index);
+		}
+	}
+
 	/**
 	 * Returns the java type filter according the given root java type and the
 	 * native mode.
@@ -0,0 +1,215 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.project;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import com.redhat.qute.commons.ResolvedJavaTypeInfo;
+import com.redhat.qute.commons.datamodel.DataModelParameter;
+import com.redhat.qute.commons.datamodel.DataModelProject;
+import com.redhat.qute.commons.datamodel.DataModelTemplate;
+import com.redhat.qute.commons.usertags.UserTagInfo;
+import com.redhat.qute.utils.JSONUtility;
+
+/**
+ * Snapshot of the Java information of a Qute project (data model, resolved Java
+ * types, binary user tags) used to validate templates without a live Java
+ * component (JDT, IntelliJ).
+ *
+ * <p>
+ * The JSON snapshot uses the same JSON format than the LSP requests
+ * 'qute/template/project', 'qute/template/resolvedJavaType' and
+ * 'qute/template/userTags':
+ * </p>
+ *
+ * <pre>
+ * {
+ *   "projectUri": "my-project",
+ *   "dataModel": {
+ *     "templates": [...],
+ *     "valueResolvers": [...],
+ *     "namespaceResolverInfos": {...}
+ *   },
+ *   "resolvedTypes": [...],
+ *   "userTags": [...]
+ * }
+ * </pre>
+ *
+ */
+public class QuteProjectSnapshot {
+
+	private Integer version;
+
+	private String projectUri;
+
+	private String classpathFingerprint;
+
+	private DataModelProject<DataModelTemplate<DataModelParameter>> dataModel;
+
+	private List<ResolvedJavaTypeInfo> resolvedTypes;
+
+	private List<UserTagInfo> userTags;
+
+	/**
+	 * Returns the version of the snapshot format and null otherwise.
+	 *
+	 * @return the version of the snapshot format and null otherwise.
+	 */
+	public Integer getVersion() {
+		return version;
+	}
+
+	/**
+	 * Set the version of the snapshot format.
+	 *
+	 * @param version the version of the snapshot format.
+	 */
+	public void setVersion(Integer version) {
+		this.version = version;
+	}
+
+	/**
+	 * Returns the project Uri.
+	 *
+	 * @return the project Uri.
+	 */
+	public String getProjectUri() {
+		return projectUri;
+	}
+
+	/**
+	 * Set the project Uri.
+	 *
+	 * @param projectUri the project Uri.
+	 */
+	public void setProjectUri(String projectUri) {
+		this.projectUri = projectUri;
+	}
+
+	/**
+	 * Returns the fingerprint of the project classpath when the snapshot has been
+	 * created and null otherwise.
+	 *
+	 * @return the fingerprint of the project classpath when the snapshot has been
+	 *         created and null otherwise.
+	 */
+	public String getClasspathFingerprint() {
+		return classpathFingerprint;
+	}
+
+	/**
+	 * Set the fingerprint of the project classpath.
+	 *
+	 * @param classpathFingerprint the fingerprint of the project classpath.
+	 */
+	public void setClasspathFingerprint(String classpathFingerprint) {
+		this.classpathFingerprint = classpathFingerprint;
+	}
+
+	/**
+	 * Returns the data model (templates, value resolvers) of the project.
+	 *
+	 * @return the data model (templates, value resolvers) of the project.
+	 */
+	public DataModelProject<DataModelTemplate<DataModelParameter>> getDataModel() {
+		return dataModel;
+	}
+
+	/**
+	 * Set the data model (templates, value resolvers) of the project.
+	 *
+	 * @param dataModel the data model (templates, value resolvers) of the
+	 *                  project.
+	 */
+	public void setDataModel(DataModelProject<DataModelTemplate<DataModelParameter>> dataModel) {
+		this.dataModel = dataModel;
+	}
+
+	/**
+	 * Returns the resolved Java types of the project.
+	 *
+	 * @return the resolved Java types of the project.
+	 */
+	public List<ResolvedJavaTypeInfo> getResolvedTypes() {
+		return resolvedTypes;
+	}
+
+	/**
+	 * Set the resolved Java types of the project.
+	 *
+	 * @param resolvedTypes the resolved Java types of the project.
+	 */
+	public void setResolvedTypes(List<ResolvedJavaTypeInfo> resolvedTypes) {
+		this.resolvedTypes = resolvedTypes;
+	}
+
+	/**
+	 * Returns the binary user tags of the project.
+	 *
+	 * @return the binary user tags of the project.
+	 */
+	public List<UserTagInfo> getUserTags() {
+		return userTags;
+	}
+
+	/**
+	 * Set the binary user tags of the project.
+	 *
+	 * @param userTags the binary user tags of the project.
+	 */
+	public void setUserTags(List<UserTagInfo> userTags) {
+		this.userTags = userTags;
+	}
+
+	/**
+	 * Load the snapshot from the given JSON file.
+	 *
+	 * @param file the JSON file.
+	 *
+	 * @return the snapshot loaded from the given JSON file.
+	 *
+	 * @throws IOException
+	 */
+	public static QuteProjectSnapshot load(Path file) throws IOException {
+		try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+			return load(reader);
+		}
+	}
+
+	/**
+	 * Load the snapshot from the given JSON reader.
+	 *
+	 * @param reader the JSON reader.
+	 *
+	 * @return the snapshot loaded from the given JSON reader.
+	 */
+	public static QuteProjectSnapshot load(Reader reader) {
+		QuteProjectSnapshot snapshot = JSONUtility.getDefaultGsonBuilder().create().fromJson(reader,
+				QuteProjectSnapshot.class);
+		return snapshot != null ? snapshot : new QuteProjectSnapshot();
+	}
+
+	/**
+	 * Save the snapshot in the given JSON writer.
+	 *
+	 * @param writer the JSON writer.
+	 */
+	public void save(Writer writer) {
+		JSONUtility.getDefaultGsonBuilder().create().toJson(this, writer);
+	}
+}
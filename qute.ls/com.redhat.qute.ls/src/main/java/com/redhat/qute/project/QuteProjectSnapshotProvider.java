@@ -0,0 +1,109 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.project;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import com.redhat.qute.commons.QuteResolvedJavaTypeParams;
+import com.redhat.qute.commons.ResolvedJavaTypeInfo;
+import com.redhat.qute.commons.datamodel.DataModelParameter;
+import com.redhat.qute.commons.datamodel.DataModelProject;
+import com.redhat.qute.commons.datamodel.DataModelTemplate;
+import com.redhat.qute.commons.datamodel.QuteDataModelProjectParams;
+import com.redhat.qute.commons.usertags.QuteUserTagParams;
+import com.redhat.qute.commons.usertags.UserTagInfo;
+import com.redhat.qute.ls.api.QuteDataModelProjectProvider;
+import com.redhat.qute.ls.api.QuteResolvedJavaTypeProvider;
+import com.redhat.qute.ls.api.QuteUserTagProvider;
+
+/**
+ * Java information provider which uses a {@link QuteProjectSnapshot} instead
+ * of a live Java component (JDT, IntelliJ).
+ *
+ */
+public class QuteProjectSnapshotProvider
+		implements QuteResolvedJavaTypeProvider, QuteDataModelProjectProvider, QuteUserTagProvider {
+
+	private final QuteProjectSnapshot snapshot;
+
+	private final Map<String /* Java type signature */, ResolvedJavaTypeInfo> resolvedTypes;
+
+	private final Map<String /* Java type name without generic */, ResolvedJavaTypeInfo> resolvedGenericTypes;
+
+	public QuteProjectSnapshotProvider(QuteProjectSnapshot snapshot) {
+		this.snapshot = snapshot;
+		this.resolvedTypes = new HashMap<>();
+		this.resolvedGenericTypes = new HashMap<>();
+		List<ResolvedJavaTypeInfo> types = snapshot.getResolvedTypes();
+		if (types != null) {
+			for (ResolvedJavaTypeInfo type : types) {
+				String signature = type.getSignature();
+				resolvedTypes.put(signature, type);
+				int index = signature.indexOf('<');
+				if (index != -1) {
+					// ex : java.util.Map<K,V>
+					resolvedGenericTypes.putIfAbsent(signature.substring(0, index), type);
+				}
+			}
+		}
+	}
+
+	@Override
+	public CompletableFuture<ResolvedJavaTypeInfo> getResolvedJavaType(QuteResolvedJavaTypeParams params) {
+		String className = params.getClassName();
+		ResolvedJavaTypeInfo resolvedType = resolvedTypes.get(className);
+		if (resolvedType == null) {
+			resolvedType = resolvedGenericTypes.get(className);
+		}
+		return CompletableFuture.completedFuture(resolvedType);
+	}
+
+	@Override
+	public CompletableFuture<DataModelProject<DataModelTemplate<DataModelParameter>>> getDataModelProject(
+			QuteDataModelProjectParams params) {
+		DataModelProject<DataModelTemplate<DataModelParameter>> dataModel = snapshot.getDataModel();
+		if (dataModel == null) {
+			return CompletableFuture.completedFuture(null);
+		}
+		// Avoid NPE with a partial snapshot
+		if (dataModel.getTemplates() == null) {
+			dataModel.setTemplates(new ArrayList<>());
+		}
+		if (dataModel.getValueResolvers() == null) {
+			dataModel.setValueResolvers(new ArrayList<>());
+		}
+		if (dataModel.getNamespaceResolverInfos() == null) {
+			dataModel.setNamespaceResolverInfos(new HashMap<>());
+		}
+		return CompletableFuture.completedFuture(dataModel);
+	}
+
+	@Override
+	public CompletableFuture<List<UserTagInfo>> getUserTags(QuteUserTagParams params) {
+		List<UserTagInfo> userTags = snapshot.getUserTags();
+		return CompletableFuture.completedFuture(userTags != null ? userTags : Collections.emptyList());
+	}
+
+	/**
+	 * Returns the signatures of the resolved Java types of the snapshot.
+	 *
+	 * @return the signatures of the resolved Java types of the snapshot.
+	 */
+	public List<String> getResolvedTypeSignatures() {
+		return new ArrayList<>(resolvedTypes.keySet());
+	}
+}
@@ -0,0 +1,128 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.project;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.UUID;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.redhat.qute.utils.StringUtils;
+
+/**
+ * On-disk store of {@link QuteProjectSnapshot} used to warm start the Qute
+ * projects when the language server starts.
+ *
+ * <p>
+ * A snapshot is stored per project uri and is used only if it has been created
+ * with the same snapshot version and the same classpath fingerprint than the
+ * current project.
+ * </p>
+ *
+ */
+public class QuteProjectSnapshotStore {
+
+	private static final Logger LOGGER = Logger.getLogger(QuteProjectSnapshotStore.class.getName());
+
+	/**
+	 * Version of the snapshot format, must be increased when the JSON format of
+	 * the data model / resolved Java types changes.
+	 */
+	public static final int SNAPSHOT_VERSION = 1;
+
+	private static final String SNAPSHOT_FILE_EXTENSION = ".json";
+
+	private final Path directory;
+
+	public QuteProjectSnapshotStore(Path directory) {
+		this.directory = directory;
+	}
+
+	/**
+	 * Returns the snapshot of the given project uri which has been created with
+	 * the given classpath fingerprint and null otherwise.
+	 *
+	 * @param projectUri           the project uri.
+	 * @param classpathFingerprint the current classpath fingerprint of the
+	 *                             project.
+	 *
+	 * @return the snapshot of the given project uri which has been created with
+	 *         the given classpath fingerprint and null otherwise.
+	 */
+	public QuteProjectSnapshot load(String projectUri, String classpathFingerprint) {
+		if (StringUtils.isEmpty(classpathFingerprint)) {
+			// Without classpath fingerprint, the binary Java types of the snapshot could
+			// be obsolete.
+			return null;
+		}
+		Path file = getSnapshotFile(projectUri);
+		if (!Files.exists(file)) {
+			return null;
+		}
+		try {
+			QuteProjectSnapshot snapshot = QuteProjectSnapshot.load(file);
+			if (snapshot.getVersion() == null || snapshot.getVersion() != SNAPSHOT_VERSION
+					|| !projectUri.equals(snapshot.getProjectUri())
+					|| !classpathFingerprint.equals(snapshot.getClasspathFingerprint())) {
+				return null;
+			}
+			return snapshot;
+		} catch (Exception e) {
+			LOGGER.log(Level.WARNING, "Error while loading the Qute project snapshot '" + file + "'.", e);
+			return null;
+		}
+	}
+
+	/**
+	 * Save the given snapshot.
+	 *
+	 * @param snapshot the snapshot to save.
+	 */
+	public void save(QuteProjectSnapshot snapshot) {
+		snapshot.setVersion(SNAPSHOT_VERSION);
+		Path file = getSnapshotFile(snapshot.getProjectUri());
+		Path tempFile = null;
+		try {
+			Files.createDirectories(directory);
+			// Write in a temporary file to avoid loading a partial snapshot.
+			tempFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+			try (Writer writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+				snapshot.save(writer);
+			}
+			Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (Exception e) {
+			LOGGER.log(Level.WARNING, "Error while saving the Qute project snapshot '" + file + "'.", e);
+			deleteQuietly(tempFile);
+		}
+	}
+
+	private static void deleteQuietly(Path file) {
+		if (file == null) {
+			return;
+		}
+		try {
+			Files.deleteIfExists(file);
+		} catch (IOException e) {
+			// Ignore the error
+		}
+	}
+
+	private Path getSnapshotFile(String projectUri) {
+		String fileName = UUID.nameUUIDFromBytes(projectUri.getBytes(StandardCharsets.UTF_8)).toString();
+		return directory.resolve(fileName + SNAPSHOT_FILE_EXTENSION);
+	}
+}
@@ -0,0 +1,116 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.project;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+import com.redhat.qute.commons.ResolvedJavaTypeInfo;
+import com.redhat.qute.utils.StringUtils;
+
+/**
+ * Cache of binary Java types (JDK, JAR) shared by all Qute projects.
+ *
+ * <p>
+ * A binary Java type is identified by its signature and by the location of the
+ * JAR / JDK module which defines it. When several projects share the same JAR,
+ * the first resolved instance of the Java type is shared by those projects.
+ * Each instance is referenced by the projects which use it and is removed from
+ * the cache when no project uses it anymore.
+ * </p>
+ *
+ * <p>
+ * A shared Java type is updated by each project which resolves it (owner Java
+ * type of the members, iterable of). Those updates only depend on the Java type
+ * itself and on the JAR / JDK which defines it, so they are idempotent and
+ * write the same values for all projects. The information which depends on a
+ * project (ex : the generic type invocations) is kept by the project.
+ * </p>
+ *
+ */
+public class SharedBinaryJavaTypeCache {
+
+	private static class SharedJavaType {
+
+		private final ResolvedJavaTypeInfo javaType;
+
+		private final Set<String /* project uri */> projectUris;
+
+		public SharedJavaType(ResolvedJavaTypeInfo javaType) {
+			this.javaType = javaType;
+			this.projectUris = new HashSet<>();
+		}
+	}
+
+	private final Map<String /* binary location + Java type signature */, SharedJavaType> javaTypes;
+
+	public SharedBinaryJavaTypeCache() {
+		this.javaTypes = new HashMap<>();
+	}
+
+	/**
+	 * Returns the shared instance of the given Java type used by the given project
+	 * and the given Java type if it cannot be shared.
+	 *
+	 * @param javaType   the resolved Java type.
+	 * @param projectUri the project uri which uses the Java type.
+	 *
+	 * @return the shared instance of the given Java type used by the given project
+	 *         and the given Java type if it cannot be shared.
+	 */
+	public synchronized ResolvedJavaTypeInfo acquire(ResolvedJavaTypeInfo javaType, String projectUri) {
+		if (!isShareable(javaType)) {
+			return javaType;
+		}
+		String key = javaType.getBinaryLocation() + "#" + javaType.getSignature();
+		SharedJavaType sharedJavaType = javaTypes.get(key);
+		if (sharedJavaType == null) {
+			sharedJavaType = new SharedJavaType(javaType);
+			javaTypes.put(key, sharedJavaType);
+		}
+		sharedJavaType.projectUris.add(projectUri);
+		return sharedJavaType.javaType;
+	}
+
+	/**
+	 * Release all Java types used by the given project.
+	 *
+	 * @param projectUri the project uri.
+	 */
+	public synchronized void release(String projectUri) {
+		Iterator<SharedJavaType> iterator = javaTypes.values().iterator();
+		while (iterator.hasNext()) {
+			SharedJavaType sharedJavaType = iterator.next();
+			if (sharedJavaType.projectUris.remove(projectUri) && sharedJavaType.projectUris.isEmpty()) {
+				iterator.remove();
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of shared Java types.
+	 *
+	 * @return the number of shared Java types.
+	 */
+	public synchronized int size() {
+		return javaTypes.size();
+	}
+
+	private static boolean isShareable(ResolvedJavaTypeInfo javaType) {
+		return javaType != null && javaType.isBinary() && !StringUtils.isEmpty(javaType.getBinaryLocation())
+				&& javaType.getClass() == ResolvedJavaTypeInfo.class;
+	}
+
+}
@@ -0,0 +1,216 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.project;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * In-memory snapshot of the template files which exist in the template base
+ * dir of a Qute project.
+ *
+ * <p>
+ * The snapshot is loaded once (by the {@link QuteProject} or by the indexer
+ * scan) and is updated with the watched file events, to avoid checking the
+ * existence of a file on the file system each time an #include section is
+ * validated.
+ * </p>
+ *
+ */
+public class TemplateFileTree {
+
+	private static final Logger LOGGER = Logger.getLogger(TemplateFileTree.class.getName());
+
+	private final Path templateBaseDir;
+
+	private volatile Set<String /* template path (ex : 'detail/items.html') */> templatePaths;
+
+	private final List<Consumer<Set<String>>> scanChanges;
+
+	private int runningScans;
+
+	public TemplateFileTree(Path templateBaseDir) {
+		this.templateBaseDir = templateBaseDir;
+		this.scanChanges = new ArrayList<>();
+	}
+
+	/**
+	 * Returns the first existing template file of the given template id with one
+	 * of the given suffixes and null otherwise.
+	 *
+	 * <p>
+	 * When no template file is found in the snapshot, the file system is checked,
+	 * in case where the client has not sent the watched file event for a new
+	 * template file.
+	 * </p>
+	 *
+	 * @param templateId the template id (ex : 'detail/items').
+	 * @param suffixes   the suffixes to try (ex : '.html').
+	 *
+	 * @return the first existing template file of the given template id with one
+	 *         of the given suffixes and null otherwise.
+	 */
+	public Path findTemplateFile(String templateId, String... suffixes) {
+		if (templateBaseDir == null) {
+			return null;
+		}
+		Set<String> templatePaths = getTemplatePaths();
+		for (String suffix : suffixes) {
+			String templatePath = templateId + suffix;
+			if (templatePaths.contains(templatePath)) {
+				return templateBaseDir.resolve(templatePath);
+			}
+		}
+		for (String suffix : suffixes) {
+			Path templateFile = templateBaseDir.resolve(templateId + suffix);
+			if (Files.exists(templateFile)) {
+				if (Files.isRegularFile(templateFile)) {
+					addTemplateFile(templateFile);
+				}
+				return templateFile;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Add the given template file to the snapshot.
+	 *
+	 * @param templateFile the template file.
+	 */
+	public synchronized void addTemplateFile(Path templateFile) {
+		String templatePath = getTemplatePath(templateFile);
+		if (templatePath != null) {
+			applyChange(templatePaths -> templatePaths.add(templatePath));
+		}
+	}
+
+	/**
+	 * Remove the given template file (or folder) from the snapshot.
+	 *
+	 * @param templateFile the template file (or folder).
+	 */
+	public synchronized void removeTemplateFile(Path templateFile) {
+		String templatePath = getTemplatePath(templateFile);
+		if (templatePath != null) {
+			applyChange(templatePaths -> {
+				if (!templatePaths.remove(templatePath)) {
+					// the deleted file is perhaps a folder
+					String folderPath = templatePath + "/";
+					templatePaths.removeIf(path -> path.startsWith(folderPath));
+				}
+			});
+		}
+	}
+
+	private void applyChange(Consumer<Set<String>> change) {
+		change.accept(getTemplatePaths());
+		if (runningScans > 0) {
+			// Keep the change to apply it to the result of the running scans
+			scanChanges.add(change);
+		}
+	}
+
+	/**
+	 * Start a scan of the template base dir (ex : by the indexer) and returns the
+	 * position of the scan to give to {@link #endScan(int, Collection)}.
+	 *
+	 * <p>
+	 * The template files created / deleted while the scan is running are recorded
+	 * to apply them to the walked template files when the scan ends.
+	 * </p>
+	 *
+	 * @return the position of the scan to give to
+	 *         {@link #endScan(int, Collection)}.
+	 */
+	public synchronized int beginScan() {
+		runningScans++;
+		return scanChanges.size();
+	}
+
+	/**
+	 * End a scan started with {@link #beginScan()} and replace the content of the
+	 * snapshot with the given walked template files and the changes recorded since
+	 * the start of the scan.
+	 *
+	 * @param scanStart     the position returned by {@link #beginScan()}.
+	 * @param templateFiles the walked template files and null if the scan has
+	 *                      failed.
+	 */
+	public synchronized void endScan(int scanStart, Collection<Path> templateFiles) {
+		try {
+			if (templateFiles != null) {
+				Set<String> templatePaths = ConcurrentHashMap.newKeySet();
+				for (Path templateFile : templateFiles) {
+					String templatePath = getTemplatePath(templateFile);
+					if (templatePath != null) {
+						templatePaths.add(templatePath);
+					}
+				}
+				for (int i = scanStart; i < scanChanges.size(); i++) {
+					scanChanges.get(i).accept(templatePaths);
+				}
+				this.templatePaths = templatePaths;
+			}
+		} finally {
+			runningScans--;
+			if (runningScans == 0) {
+				scanChanges.clear();
+			}
+		}
+	}
+
+	private Set<String> getTemplatePaths() {
+		Set<String> templatePaths = this.templatePaths;
+		if (templatePaths == null) {
+			templatePaths = loadTemplatePaths();
+		}
+		return templatePaths;
+	}
+
+	private synchronized Set<String> loadTemplatePaths() {
+		if (templatePaths != null) {
+			return templatePaths;
+		}
+		Set<String> templatePaths = ConcurrentHashMap.newKeySet();
+		if (templateBaseDir != null && Files.isDirectory(templateBaseDir)) {
+			try (Stream<Path> files = Files.walk(templateBaseDir)) {
+				templatePaths.addAll(files //
+						.filter(Files::isRegularFile) //
+						.map(this::getTemplatePath) //
+						.collect(Collectors.toList()));
+			} catch (IOException e) {
+				LOGGER.log(Level.SEVERE, "Error while loading template files of '" + templateBaseDir + "'.", e);
+			}
+		}
+		this.templatePaths = templatePaths;
+		return templatePaths;
+	}
+
+	private String getTemplatePath(Path templateFile) {
+		if (templateFile == null || templateBaseDir == null || !templateFile.startsWith(templateBaseDir)) {
+			return null;
+		}
+		return templateBaseDir.relativize(templateFile).toString().replace('\\', '/');
+	}
+}
@@ -17,6 +17,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -26,41 +27,204 @@ import java.util.stream.Collectors;
 import com.redhat.qute.commons.JavaElementKind;
 import com.redhat.qute.commons.JavaParameterInfo;
 import com.redhat.qute.commons.JavaTypeInfo;
+import com.redhat.qute.commons.datamodel.DataModelFragment;
 import com.redhat.qute.commons.datamodel.DataModelParameter;
 import com.redhat.qute.commons.datamodel.DataModelProject;
+import com.redhat.qute.commons.datamodel.DataModelProjectDelta;
 import com.redhat.qute.commons.datamodel.DataModelTemplate;
 import com.redhat.qute.commons.datamodel.resolvers.NamespaceResolverInfo;
+import com.redhat.qute.commons.datamodel.resolvers.ValueResolverInfo;
 import com.redhat.qute.commons.datamodel.resolvers.ValueResolverKind;
 import com.redhat.qute.parser.expression.NamespacePart;
 import com.redhat.qute.project.datamodel.resolvers.FieldValueResolver;
 import com.redhat.qute.project.datamodel.resolvers.MethodValueResolver;
 import com.redhat.qute.project.datamodel.resolvers.TypeValueResolver;
+import com.redhat.qute.project.datamodel.resolvers.ValueResolver;
 import com.redhat.qute.utils.StringUtils;
 
 public class ExtendedDataModelProject extends DataModelProject<ExtendedDataModelTemplate> {
 
-	private final Set<String> allNamespaces;
+	private volatile Set<String> allNamespaces;
 
-	private final Set<String> allTemplateExtensionsClasses;
+	private volatile Set<String> allTemplateExtensionsClasses;
 
-	private final List<TypeValueResolver> typeValueResolvers;
+	private volatile List<TypeValueResolver> typeValueResolvers;
 
-	private final List<FieldValueResolver> fieldValueResolvers;
+	private volatile List<FieldValueResolver> fieldValueResolvers;
 
-	private final List<MethodValueResolver> methodValueResolvers;
+	private volatile List<MethodValueResolver> methodValueResolvers;
 
-	private final Map<String, String> similarNamespaces;
+	private volatile Map<String, String> similarNamespaces;
 
-	private Set<String> javaTypesSupportedInNativeMode;
+	/**
+	 * Immutable snapshot of the data model templates with their indexes, replaced
+	 * with one write so that the indexes always match the templates list.
+	 */
+	private static class TemplatesIndex {
+
+		private final List<ExtendedDataModelTemplate> templates;
+
+		private final Map<String /* last segment of template uri */, List<Integer /* template index */>> templatesByLastSegment;
+
+		private final List<Integer /* template index */> templatesWithoutSegment;
+
+		public TemplatesIndex(List<ExtendedDataModelTemplate> templates) {
+			this.templates = templates;
+			this.templatesByLastSegment = new HashMap<>();
+			this.templatesWithoutSegment = new ArrayList<>();
+			for (int i = 0; i < templates.size(); i++) {
+				String templateUri = templates.get(i).getTemplateUri();
+				if (templateUri == null) {
+					continue;
+				}
+				int index = templateUri.lastIndexOf('/');
+				if (index == -1) {
+					templatesWithoutSegment.add(i);
+				} else {
+					String lastSegment = templateUri.substring(index + 1);
+					templatesByLastSegment.computeIfAbsent(lastSegment, k -> new ArrayList<>()).add(i);
+				}
+			}
+		}
+	}
+
+	private volatile TemplatesIndex templatesIndex;
+
+	private List<ValueResolverInfo> valueResolverInfos;
+
+	private Map<String /* value resolver key */, ValueResolver> valueResolversByKey;
+
+	private volatile Set<String> javaTypesSupportedInNativeMode;
 
 	public ExtendedDataModelProject(DataModelProject<DataModelTemplate<DataModelParameter>> project) {
-		super.setTemplates(createTemplates(project.getTemplates()));
-		super.setNamespaceResolverInfos(project.getNamespaceResolverInfos());
+		super.setGeneration(project.getGeneration());
+		List<ValueResolverInfo> valueResolvers = project.getValueResolvers() != null ? project.getValueResolvers()
+				: Collections.emptyList();
+		update(createTemplates(project.getTemplates()), valueResolvers, project.getNamespaceResolverInfos());
+	}
+
+	/**
+	 * Apply the given data model project delta to this data model project.
+	 * 
+	 * <p>
+	 * The data model templates and the value resolvers which have not changed are
+	 * kept as is (with their cached information), only the indexes are updated.
+	 * </p>
+	 * 
+	 * @param delta the data model project delta.
+	 * 
+	 * @return true if the delta has been applied and false if the delta doesn't
+	 *         match the generation of this data model project.
+	 */
+	public synchronized boolean applyDelta(DataModelProject<DataModelTemplate<DataModelParameter>> delta) {
+		if (!delta.isDelta() || !delta.getBaseGeneration().equals(getGeneration())) {
+			return false;
+		}
+
+		// Update templates
+		List<DataModelTemplate<DataModelParameter>> changedTemplates = delta.getTemplates() != null
+				? delta.getTemplates()
+				: Collections.emptyList();
+		Map<String /* template uri */, ExtendedDataModelTemplate> changedTemplatesByUri = new LinkedHashMap<>();
+		for (DataModelTemplate<DataModelParameter> template : changedTemplates) {
+			changedTemplatesByUri.put(template.getTemplateUri(), new ExtendedDataModelTemplate(template));
+		}
+		Set<String> removedTemplates = delta.getRemovedTemplates() != null
+				? new HashSet<>(delta.getRemovedTemplates())
+				: Collections.emptySet();
+		List<ExtendedDataModelTemplate> templates = new ArrayList<>();
+		for (ExtendedDataModelTemplate template : getTemplates()) {
+			String templateUri = template.getTemplateUri();
+			if (removedTemplates.contains(templateUri)) {
+				continue;
+			}
+			ExtendedDataModelTemplate changedTemplate = changedTemplatesByUri.remove(templateUri);
+			templates.add(changedTemplate != null ? changedTemplate : template);
+		}
+		// Added templates
+		templates.addAll(changedTemplatesByUri.values());
 
-		typeValueResolvers = new ArrayList<>();
-		fieldValueResolvers = new ArrayList<>();
-		methodValueResolvers = new ArrayList<MethodValueResolver>();
-		updateValueResolvers(typeValueResolvers, fieldValueResolvers, methodValueResolvers, project);
+		// Update value resolvers
+		Set<String> removedResolvers = delta.getRemovedValueResolvers() != null
+				? new HashSet<>(delta.getRemovedValueResolvers())
+				: Collections.emptySet();
+		List<ValueResolverInfo> valueResolvers = new ArrayList<>();
+		for (ValueResolverInfo resolver : valueResolverInfos) {
+			if (!removedResolvers.contains(DataModelProjectDelta.getValueResolverKey(resolver))) {
+				valueResolvers.add(resolver);
+			}
+		}
+		if (delta.getValueResolvers() != null) {
+			valueResolvers.addAll(delta.getValueResolvers());
+		}
+
+		update(templates, valueResolvers, delta.getNamespaceResolverInfos());
+		super.setGeneration(delta.getGeneration());
+		return true;
+	}
+
+	/**
+	 * Returns the data model project (with the JSON format used by the Java
+	 * component) which hosts the templates and the value resolvers of this data
+	 * model project.
+	 * 
+	 * @return the data model project (with the JSON format used by the Java
+	 *         component) which hosts the templates and the value resolvers of
+	 *         this data model project.
+	 */
+	public synchronized DataModelProject<DataModelTemplate<DataModelParameter>> toDataModelProject() {
+		List<DataModelTemplate<DataModelParameter>> templates = new ArrayList<>();
+		for (ExtendedDataModelTemplate template : getTemplates()) {
+			DataModelTemplate<DataModelParameter> copy = new DataModelTemplate<>();
+			copy.setTemplateUri(template.getTemplateUri());
+			copy.setSourceType(template.getSourceType());
+			copy.setSourceMethod(template.getSourceMethod());
+			copy.setSourceField(template.getSourceField());
+			copy.setParameters(copyParameters(template.getParameters()));
+			if (template.getFragments() != null && !template.getFragments().isEmpty()) {
+				for (DataModelFragment<ExtendedDataModelParameter> fragment : template.getFragments()) {
+					DataModelFragment<DataModelParameter> fragmentCopy = new DataModelFragment<>();
+					fragmentCopy.setId(fragment.getId());
+					fragmentCopy.setSourceType(fragment.getSourceType());
+					fragmentCopy.setSourceMethod(fragment.getSourceMethod());
+					fragmentCopy.setParameters(copyParameters(fragment.getParameters()));
+					copy.addFragment(fragmentCopy);
+				}
+			}
+			templates.add(copy);
+		}
+		DataModelProject<DataModelTemplate<DataModelParameter>> project = new DataModelProject<>();
+		project.setGeneration(getGeneration());
+		project.setTemplates(templates);
+		project.setValueResolvers(new ArrayList<>(valueResolverInfos));
+		project.setNamespaceResolverInfos(getNamespaceResolverInfos());
+		return project;
+	}
+
+	private static List<DataModelParameter> copyParameters(List<ExtendedDataModelParameter> parameters) {
+		List<DataModelParameter> copy = new ArrayList<>();
+		if (parameters != null) {
+			for (ExtendedDataModelParameter parameter : parameters) {
+				DataModelParameter parameterCopy = new DataModelParameter();
+				parameterCopy.setKey(parameter.getKey());
+				parameterCopy.setSourceType(parameter.getSourceType());
+				parameterCopy.setDataMethodInvocation(parameter.isDataMethodInvocation());
+				copy.add(parameterCopy);
+			}
+		}
+		return copy;
+	}
+
+	private void update(List<ExtendedDataModelTemplate> templates, List<ValueResolverInfo> valueResolvers,
+			Map<String, NamespaceResolverInfo> namespaceResolverInfos) {
+		TemplatesIndex templatesIndex = new TemplatesIndex(templates);
+
+		List<TypeValueResolver> typeValueResolvers = new ArrayList<>();
+		List<FieldValueResolver> fieldValueResolvers = new ArrayList<>();
+		List<MethodValueResolver> methodValueResolvers = new ArrayList<MethodValueResolver>();
+		Map<String, ValueResolver> valueResolversByKey = new HashMap<>();
+		updateValueResolvers(typeValueResolvers, fieldValueResolvers, methodValueResolvers, valueResolversByKey,
+				this.valueResolversByKey, valueResolvers);
 		Collections.sort(methodValueResolvers, (r1, r2) -> {
 			if (MATCH_NAME_ANY.equals(r1.getMatchName())) {
 				return 1;
@@ -70,61 +234,87 @@ public class ExtendedDataModelProject extends DataModelProject<ExtendedDataModel
 			}
 			return 0;
 		});
-		allNamespaces = getAllNamespaces(project);
-		allTemplateExtensionsClasses = getAllTemplateExtensionsClasses(project);
-		similarNamespaces = getSimilarNamespaces(project);
+
+		super.setTemplates(templates);
+		super.setNamespaceResolverInfos(namespaceResolverInfos);
+		this.templatesIndex = templatesIndex;
+		this.valueResolverInfos = valueResolvers;
+		this.valueResolversByKey = valueResolversByKey;
+		this.typeValueResolvers = typeValueResolvers;
+		this.fieldValueResolvers = fieldValueResolvers;
+		this.methodValueResolvers = methodValueResolvers;
+		this.allNamespaces = getAllNamespaces(valueResolvers, namespaceResolverInfos);
+		this.allTemplateExtensionsClasses = getAllTemplateExtensionsClasses(valueResolvers);
+		this.similarNamespaces = getSimilarNamespaces(namespaceResolverInfos);
+		this.javaTypesSupportedInNativeMode = null;
 	}
 
 	private static void updateValueResolvers(List<TypeValueResolver> typeValueResolvers,
 			List<FieldValueResolver> fieldValueResolvers, List<MethodValueResolver> methodValueResolvers,
-			DataModelProject<DataModelTemplate<DataModelParameter>> project) {
-		project.getValueResolvers().forEach(resolver -> {
-			JavaElementKind kind = resolver.getJavaElementKind();
-			switch (kind) {
-			case TYPE:
-				TypeValueResolver typeValueResolver = new TypeValueResolver();
-				typeValueResolver.setNamed(resolver.getNamed());
-				typeValueResolver.setNamespace(resolver.getNamespace());
-				typeValueResolver.setSignature(resolver.getSignature());
-				typeValueResolver.setSourceType(resolver.getSourceType());
-				typeValueResolver.setGlobalVariable(resolver.isGlobalVariable());
-				typeValueResolvers.add(typeValueResolver);
-				break;
-			case FIELD:
-				FieldValueResolver fieldValueResolver = new FieldValueResolver();
-				fieldValueResolver.setNamed(resolver.getNamed());
-				fieldValueResolver.setNamespace(resolver.getNamespace());
-				fieldValueResolver.setSignature(resolver.getSignature());
-				fieldValueResolver.setSourceType(resolver.getSourceType());
-				fieldValueResolver.setGlobalVariable(resolver.isGlobalVariable());
-				fieldValueResolvers.add(fieldValueResolver);
-				break;
-			case METHOD:
-				MethodValueResolver methodValueResolver = new MethodValueResolver();
-				methodValueResolver.setNamed(resolver.getNamed());
-				methodValueResolver.setNamespace(resolver.getNamespace());
-				methodValueResolver.setMatchName(resolver.getMatchName());
-				methodValueResolver.setSignature(resolver.getSignature());
-				methodValueResolver.setSourceType(resolver.getSourceType());
-				methodValueResolver.setGlobalVariable(resolver.isGlobalVariable());
-				methodValueResolvers.add(methodValueResolver);
-				break;
-			default:
-				break;
-
+			Map<String, ValueResolver> valueResolversByKey, Map<String, ValueResolver> existingValueResolvers,
+			List<ValueResolverInfo> valueResolvers) {
+		valueResolvers.forEach(resolver -> {
+			String key = DataModelProjectDelta.getValueResolverKey(resolver);
+			ValueResolver valueResolver = existingValueResolvers != null ? existingValueResolvers.get(key) : null;
+			if (valueResolver == null) {
+				valueResolver = createValueResolver(resolver);
+			}
+			if (valueResolver instanceof TypeValueResolver) {
+				typeValueResolvers.add((TypeValueResolver) valueResolver);
+			} else if (valueResolver instanceof FieldValueResolver) {
+				fieldValueResolvers.add((FieldValueResolver) valueResolver);
+			} else if (valueResolver instanceof MethodValueResolver) {
+				methodValueResolvers.add((MethodValueResolver) valueResolver);
+			}
+			if (valueResolver != null) {
+				valueResolversByKey.put(key, valueResolver);
 			}
 		});
 	}
 
-	private static Set<String> getAllNamespaces(DataModelProject<DataModelTemplate<DataModelParameter>> project) {
-		Set<String> allNamespaces = project.getValueResolvers() //
+	private static ValueResolver createValueResolver(ValueResolverInfo resolver) {
+		JavaElementKind kind = resolver.getJavaElementKind();
+		switch (kind) {
+		case TYPE:
+			TypeValueResolver typeValueResolver = new TypeValueResolver();
+			typeValueResolver.setNamed(resolver.getNamed());
+			typeValueResolver.setNamespace(resolver.getNamespace());
+			typeValueResolver.setSignature(resolver.getSignature());
+			typeValueResolver.setSourceType(resolver.getSourceType());
+			typeValueResolver.setGlobalVariable(resolver.isGlobalVariable());
+			return typeValueResolver;
+		case FIELD:
+			FieldValueResolver fieldValueResolver = new FieldValueResolver();
+			fieldValueResolver.setNamed(resolver.getNamed());
+			fieldValueResolver.setNamespace(resolver.getNamespace());
+			fieldValueResolver.setSignature(resolver.getSignature());
+			fieldValueResolver.setSourceType(resolver.getSourceType());
+			fieldValueResolver.setGlobalVariable(resolver.isGlobalVariable());
+			return fieldValueResolver;
+		case METHOD:
+			MethodValueResolver methodValueResolver = new MethodValueResolver();
+			methodValueResolver.setNamed(resolver.getNamed());
+			methodValueResolver.setNamespace(resolver.getNamespace());
+			methodValueResolver.setMatchName(resolver.getMatchName());
+			methodValueResolver.setSignature(resolver.getSignature());
+			methodValueResolver.setSourceType(resolver.getSourceType());
+			methodValueResolver.setGlobalVariable(resolver.isGlobalVariable());
+			return methodValueResolver;
+		default:
+			return null;
+		}
+	}
+
+	private static Set<String> getAllNamespaces(List<ValueResolverInfo> valueResolvers,
+			Map<String, NamespaceResolverInfo> namespaceResolverInfos) {
+		Set<String> allNamespaces = valueResolvers //
 				.stream() //
 				.filter(resolver -> resolver.getNamespace() != null) //
 				.map(resolver -> resolver.getNamespace()) //
 				.distinct() //
 				.collect(Collectors.toSet());
 		allNamespaces.add(NamespacePart.DATA_NAMESPACE);
-		for (NamespaceResolverInfo info : project.getNamespaceResolverInfos().values()) {
+		for (NamespaceResolverInfo info : namespaceResolverInfos.values()) {
 			info.getNamespaces().forEach(namespace -> {
 				allNamespaces.add(namespace);
 			});
@@ -132,9 +322,8 @@ public class ExtendedDataModelProject extends DataModelProject<ExtendedDataModel
 		return allNamespaces;
 	}
 
-	private static Set<String> getAllTemplateExtensionsClasses(
-			DataModelProject<DataModelTemplate<DataModelParameter>> project) {
-		return project.getValueResolvers().stream() //
+	private static Set<String> getAllTemplateExtensionsClasses(List<ValueResolverInfo> valueResolvers) {
+		return valueResolvers.stream() //
 				.filter(resolver -> ValueResolverKind.TemplateExtensionOnClass.equals(resolver.getKind())
 						&& !resolver.isBinary()) //
 				.map(resolver -> resolver.getSourceType()) //
@@ -142,10 +331,9 @@ public class ExtendedDataModelProject extends DataModelProject<ExtendedDataModel
 				.collect(Collectors.toSet());
 	}
 
-	private static Map<String, String> getSimilarNamespaces(
-			DataModelProject<DataModelTemplate<DataModelParameter>> project) {
+	private static Map<String, String> getSimilarNamespaces(Map<String, NamespaceResolverInfo> namespaceResolverInfos) {
 		Map<String, String> similar = new HashMap<>();
-		for (Entry<String, NamespaceResolverInfo> entry : project.getNamespaceResolverInfos().entrySet()) {
+		for (Entry<String, NamespaceResolverInfo> entry : namespaceResolverInfos.entrySet()) {
 			String mainNamespace = entry.getKey();
 			List<String> namespaces = entry.getValue().getNamespaces();
 			for (String namespace : namespaces) {
@@ -155,7 +343,8 @@ public class ExtendedDataModelProject extends DataModelProject<ExtendedDataModel
 		return similar;
 	}
 
-	private List<ExtendedDataModelTemplate> createTemplates(List<DataModelTemplate<DataModelParameter>> templates) {
+	private static List<ExtendedDataModelTemplate> createTemplates(
+			List<DataModelTemplate<DataModelParameter>> templates) {
 		if (templates == null || templates.isEmpty()) {
 			return Collections.emptyList();
 		}
@@ -166,6 +355,74 @@ public class ExtendedDataModelProject extends DataModelProject<ExtendedDataModel
 				.collect(Collectors.toList());
 	}
 
+	/**
+	 * Returns data model template find by the given template uri and null
+	 * otherwise.
+	 * 
+	 * <p>
+	 * The data model templates are indexed by the last segment of their template
+	 * uri to avoid checking all the data model templates.
+	 * </p>
+	 * 
+	 * @param templateUri the template uri.
+	 * 
+	 * @return data model template find by the given template uri and null
+	 *         otherwise.
+	 */
+	@Override
+	public ExtendedDataModelTemplate findDataModelTemplate(String templateUri) {
+		// Read the snapshot once, the templates and their indexes must match
+		TemplatesIndex templatesIndex = this.templatesIndex;
+		if (templatesIndex.templates.isEmpty()) {
+			return null;
+		}
+
+		// Try to find template by the given uri (with extension)
+
+		// @Location("detail/items2_v1.html")
+		// Template items2;
+		ExtendedDataModelTemplate template = findIndexedDataModelTemplate(templateUri, templatesIndex);
+		if (template != null) {
+			return template;
+		}
+
+		// Try to find template by the given uri (without extension)
+
+		// @Location("detail/items2_v1.html")
+		// Template items2;
+		String templateUriWithoutExtension = getUriWithoutExtension(templateUri);
+		return findIndexedDataModelTemplate(templateUriWithoutExtension, templatesIndex);
+	}
+
+	private static ExtendedDataModelTemplate findIndexedDataModelTemplate(String templateUri,
+			TemplatesIndex templatesIndex) {
+		List<ExtendedDataModelTemplate> templates = templatesIndex.templates;
+		// A data model template uri which contains a '/' can only be a suffix of the
+		// given template uri if its last segment is the last segment of the given
+		// template uri.
+		String lastSegment = templateUri.substring(templateUri.lastIndexOf('/') + 1);
+		int found = findFirstMatch(templateUri, templatesIndex.templatesByLastSegment.get(lastSegment), templates);
+		// A data model template uri without '/' can be a suffix of the last segment.
+		int foundWithoutSegment = findFirstMatch(templateUri, templatesIndex.templatesWithoutSegment, templates);
+		if (found == -1 || (foundWithoutSegment != -1 && foundWithoutSegment < found)) {
+			found = foundWithoutSegment;
+		}
+		return found != -1 ? templates.get(found) : null;
+	}
+
+	private static int findFirstMatch(String templateUri, List<Integer> indexes,
+			List<ExtendedDataModelTemplate> templates) {
+		if (indexes == null) {
+			return -1;
+		}
+		for (Integer index : indexes) {
+			if (templateUri.endsWith(templates.get(index).getTemplateUri())) {
+				return index;
+			}
+		}
+		return -1;
+	}
+
 	public Set<String> getAllNamespaces() {
 		return allNamespaces;
 	}
@@ -42,8 +42,10 @@ import com.redhat.qute.project.JavaMemberResult;
 import com.redhat.qute.project.QuteProjectRegistry;
 import com.redhat.qute.project.datamodel.resolvers.MethodValueResolver;
 import com.redhat.qute.project.datamodel.resolvers.ValueResolver;
+import com.redhat.qute.services.completions.JavaMemberCompletionItems;
 import com.redhat.qute.services.nativemode.JavaTypeFilter;
 import com.redhat.qute.settings.QuteNativeSettings;
+import com.redhat.qute.utils.SimilarNamesIndex;
 import com.redhat.qute.utils.StringUtils;
 
 public class JavaDataModelCache implements DataModelTemplateProvider {
@@ -243,6 +245,38 @@ public class JavaDataModelCache implements DataModelTemplateProvider {
 		return projectRegistry.getDataModelTemplate(template);
 	}
 
+	/**
+	 * Returns the future which is completed when the Java types used by the given
+	 * template (data model parameters, parameter declarations, Java types of the
+	 * expressions parts and iterable element types) are resolved.
+	 *
+	 * <p>
+	 * All those Java types are resolved in one batch to validate the template
+	 * without waiting for each level of the property chains.
+	 * </p>
+	 *
+	 * @param template the Qute template.
+	 *
+	 * @return the future which is completed when the Java types used by the given
+	 *         template are resolved.
+	 */
+	public CompletableFuture<Void> prefetchJavaTypes(Template template) {
+		String projectUri = template.getProjectUri();
+		if (projectUri == null) {
+			return CompletableFuture.completedFuture(null);
+		}
+		// The Java types of the expressions can be found only when the data model
+		// project (@CheckedTemplate, global variables, namespaces) is loaded.
+		return getDataModelTemplate(template) //
+				.exceptionally(e -> null) //
+				.thenComposeAsync(dataModelTemplate -> {
+					JavaTypesPrefetcher prefetcher = new JavaTypesPrefetcher(this, projectUri);
+					prefetcher.prefetch(dataModelTemplate);
+					prefetcher.prefetch(template);
+					return prefetcher.getResolvedFuture();
+				});
+	}
+
 	public InvalidMethodReason getInvalidMethodReason(String property, ResolvedJavaTypeInfo resolvedType,
 			String projectUri) {
 		if (resolvedType == null) {
@@ -334,6 +368,22 @@ public class JavaDataModelCache implements DataModelTemplateProvider {
 		return projectRegistry.findMethod(baseType, namespace, methodName, parameterTypes, nativeMode, projectUri);
 	}
 
+	public JavaMemberCompletionItems getJavaMemberCompletionItems(String key, String projectUri) {
+		return projectRegistry.getJavaMemberCompletionItems(key, projectUri);
+	}
+
+	public void registerJavaMemberCompletionItems(String key, JavaMemberCompletionItems items, String projectUri) {
+		projectRegistry.registerJavaMemberCompletionItems(key, items, projectUri);
+	}
+
+	public SimilarNamesIndex getSimilarNamesIndex(String key, String projectUri) {
+		return projectRegistry.getSimilarNamesIndex(key, projectUri);
+	}
+
+	public void registerSimilarNamesIndex(String key, SimilarNamesIndex index, String projectUri) {
+		projectRegistry.registerSimilarNamesIndex(key, index, projectUri);
+	}
+
 	/**
 	 * Returns the java type filter according the given root java type and the
 	 * native mode.
@@ -0,0 +1,136 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.project.datamodel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import com.redhat.qute.parser.expression.MethodPart;
+import com.redhat.qute.parser.expression.Part;
+import com.redhat.qute.parser.expression.Parts;
+import com.redhat.qute.parser.template.ASTVisitor;
+import com.redhat.qute.parser.template.Parameter;
+import com.redhat.qute.parser.template.ParameterDeclaration;
+import com.redhat.qute.parser.template.Template;
+import com.redhat.qute.utils.StringUtils;
+
+/**
+ * AST visitor which starts, in one batch, the resolution of the Java types
+ * used by a Qute template:
+ *
+ * <ul>
+ * <li>the Java types of the data model template parameters
+ * (@CheckedTemplate).</li>
+ * <li>the Java types of the parameter declarations (ex : &#64;org.acme.Item
+ * item).</li>
+ * <li>the Java types of the expressions (ex : {item.review.name} resolves
+ * org.acme.Item, org.acme.Review and java.lang.String) and the iterable
+ * element types of the #for, #each sections.</li>
+ * </ul>
+ *
+ * <p>
+ * Once all those Java types are resolved, the validation of the template can
+ * be done in one pass instead of being retriggered for each level of the
+ * property chains.
+ * </p>
+ *
+ */
+class JavaTypesPrefetcher extends ASTVisitor {
+
+	private final JavaDataModelCache javaCache;
+
+	private final String projectUri;
+
+	private final List<CompletableFuture<?>> resolvingJavaTypes;
+
+	JavaTypesPrefetcher(JavaDataModelCache javaCache, String projectUri) {
+		this.javaCache = javaCache;
+		this.projectUri = projectUri;
+		this.resolvingJavaTypes = new ArrayList<>();
+	}
+
+	/**
+	 * Prefetch the Java types of the given data model template.
+	 *
+	 * @param dataModelTemplate the data model template and null otherwise.
+	 */
+	void prefetch(ExtendedDataModelTemplate dataModelTemplate) {
+		if (dataModelTemplate == null || dataModelTemplate.getParameters() == null) {
+			return;
+		}
+		for (ExtendedDataModelParameter parameter : dataModelTemplate.getParameters()) {
+			prefetch(parameter.getJavaType());
+		}
+	}
+
+	/**
+	 * Prefetch the Java types used in the given template.
+	 *
+	 * @param template the Qute template.
+	 */
+	void prefetch(Template template) {
+		template.accept(this);
+	}
+
+	/**
+	 * Returns the future which is completed when all prefetched Java types are
+	 * resolved (with or without error).
+	 *
+	 * @return the future which is completed when all prefetched Java types are
+	 *         resolved.
+	 */
+	CompletableFuture<Void> getResolvedFuture() {
+		return CompletableFuture.allOf(resolvingJavaTypes.toArray(new CompletableFuture[resolvingJavaTypes.size()]));
+	}
+
+	@Override
+	public boolean visit(ParameterDeclaration node) {
+		// {@org.acme.Item item}
+		prefetch(node.getJavaType());
+		return true;
+	}
+
+	@Override
+	public boolean visit(Parts node) {
+		// {item.review.name} : resolving the last part resolves the Java types of all
+		// the previous parts.
+		Part lastPart = (Part) node.getLastChild();
+		if (lastPart != null) {
+			add(javaCache.resolveJavaType(lastPart, projectUri));
+		}
+		return true;
+	}
+
+	@Override
+	public boolean visit(MethodPart node) {
+		// {item.isAvailable(index.value)}
+		for (Parameter parameter : node.getParameters()) {
+			parameter.accept(this);
+		}
+		return true;
+	}
+
+	private void prefetch(String javaType) {
+		if (!StringUtils.isEmpty(javaType)) {
+			add(javaCache.resolveJavaType(javaType, projectUri));
+		}
+	}
+
+	private void add(CompletableFuture<?> future) {
+		if (!future.isDone()) {
+			// An error while resolving a Java type must not prevent to wait for the others.
+			resolvingJavaTypes.add(future.exceptionally(e -> null));
+		}
+	}
+
+}
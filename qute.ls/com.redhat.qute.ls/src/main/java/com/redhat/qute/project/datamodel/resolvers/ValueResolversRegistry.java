@@ -11,31 +11,102 @@
 *******************************************************************************/
 package com.redhat.qute.project.datamodel.resolvers;
 
+import static com.redhat.qute.commons.json.JsonStreamUtils.nextBoolean;
+import static com.redhat.qute.commons.json.JsonStreamUtils.nextInternedString;
+import static com.redhat.qute.commons.json.JsonStreamUtils.nextInternedStringList;
+import static com.redhat.qute.commons.json.JsonStreamUtils.nextString;
+
+import java.io.IOException;
 import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
-import com.google.gson.Gson;
+import com.google.gson.stream.JsonReader;
 
 public class ValueResolversRegistry {
 
+	private static final Logger LOGGER = Logger.getLogger(ValueResolversRegistry.class.getName());
+
 	private List<MethodValueResolver> resolvers;
 
 	public ValueResolversRegistry() {
-		ValueResolverLoader loader = new Gson().fromJson(
-				new InputStreamReader(ValueResolversRegistry.class.getResourceAsStream("qute-resolvers.jsonc")),
-				ValueResolverLoader.class);
-		this.resolvers = loader.getResolvers();
+		try (JsonReader reader = new JsonReader(new InputStreamReader(
+				ValueResolversRegistry.class.getResourceAsStream("qute-resolvers.jsonc"), StandardCharsets.UTF_8))) {
+			// Lenient mode to support comments
+			reader.setLenient(true);
+			this.resolvers = readResolvers(reader);
+		} catch (IOException e) {
+			LOGGER.log(Level.SEVERE, "Error while loading Qute value resolvers", e);
+			this.resolvers = Collections.emptyList();
+		}
 	}
 
 	public List<MethodValueResolver> getResolvers() {
 		return resolvers;
 	}
 
-	private class ValueResolverLoader {
-		private List<MethodValueResolver> resolvers;
+	private static List<MethodValueResolver> readResolvers(JsonReader reader) throws IOException {
+		List<MethodValueResolver> resolvers = new ArrayList<>();
+		reader.beginObject();
+		while (reader.hasNext()) {
+			if ("resolvers".equals(reader.nextName())) {
+				reader.beginArray();
+				while (reader.hasNext()) {
+					resolvers.add(readResolver(reader));
+				}
+				reader.endArray();
+			} else {
+				reader.skipValue();
+			}
+		}
+		reader.endObject();
+		return resolvers;
+	}
 
-		public List<MethodValueResolver> getResolvers() {
-			return resolvers;
+	private static MethodValueResolver readResolver(JsonReader reader) throws IOException {
+		MethodValueResolver resolver = new MethodValueResolver();
+		reader.beginObject();
+		while (reader.hasNext()) {
+			switch (reader.nextName()) {
+			case "signature":
+				resolver.setSignature(nextInternedString(reader));
+				break;
+			case "named":
+				resolver.setNamed(nextInternedString(reader));
+				break;
+			case "namespace":
+				resolver.setNamespace(nextInternedString(reader));
+				break;
+			case "matchName":
+				resolver.setMatchName(nextInternedString(reader));
+				break;
+			case "sourceType":
+				resolver.setSourceType(nextInternedString(reader));
+				break;
+			case "description":
+				resolver.setDescription(nextString(reader));
+				break;
+			case "sample":
+				resolver.setSample(nextInternedStringList(reader));
+				break;
+			case "url":
+				resolver.setUrl(nextString(reader));
+				break;
+			case "globalVariable":
+				Boolean globalVariable = nextBoolean(reader);
+				if (globalVariable != null) {
+					resolver.setGlobalVariable(globalVariable);
+				}
+				break;
+			default:
+				reader.skipValue();
+			}
 		}
+		reader.endObject();
+		return resolver;
 	}
 }
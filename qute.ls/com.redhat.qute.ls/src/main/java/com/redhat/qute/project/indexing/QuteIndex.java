@@ -51,6 +51,10 @@ public class QuteIndex {
 		return position;
 	}
 
+	public SectionKind getKind() {
+		return kind;
+	}
+
 	public String toString() {
 		ToStringBuilder b = new ToStringBuilder(this);
 		b.add("tag", getTag());
@@ -13,14 +13,20 @@ package com.redhat.qute.project.indexing;
 
 import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
+import com.redhat.qute.parser.template.SectionKind;
 import com.redhat.qute.project.QuteProject;
+import com.redhat.qute.project.TemplateFileTree;
 
 /**
  * A Qute indexer is used to scan Qute templates for a Qute project which
@@ -47,22 +53,39 @@ import com.redhat.qute.project.QuteProject;
  */
 public class QuteIndexer {
 
+	private static final Logger LOGGER = Logger.getLogger(QuteIndexer.class.getName());
+
 	private final QuteProject project;
 
-	private final Map<String /* template id */, QuteTemplateIndex> indexes;
+	/**
+	 * Immutable snapshot of the template indexes, replaced at the end of each
+	 * scan. Readers always see a complete scan result.
+	 */
+	private volatile Map<String /* template id */, QuteTemplateIndex> indexes;
+
+	/**
+	 * Number of custom sections per tag name of the templates which include a
+	 * given template, computed once per publish of the indexes.
+	 */
+	private volatile Map<String /* included template */, Map<String /* tag name */, Integer>> referenceCounts;
+
+	private volatile long generation;
 
 	private CompletableFuture<Void> scanFuture;
 
+	private long scanGeneration;
+
 	public QuteIndexer(QuteProject project) {
 		this.project = project;
-		this.indexes = new HashMap<>();
+		this.indexes = Collections.emptyMap();
+		this.referenceCounts = Collections.emptyMap();
 	}
 
 	public CompletableFuture<Void> scanAsync() {
 		return scanAsync(false);
 	}
 
-	public CompletableFuture<Void> scanAsync(boolean force) {
+	public synchronized CompletableFuture<Void> scanAsync(boolean force) {
 		if (force) {
 			if (scanFuture != null) {
 				scanFuture.cancel(true);
@@ -70,8 +93,9 @@ public class QuteIndexer {
 			scanFuture = null;
 		}
 		if (scanFuture == null || scanFuture.isCompletedExceptionally() || scanFuture.isCancelled()) {
+			long generation = ++scanGeneration;
 			scanFuture = CompletableFuture.supplyAsync(() -> {
-				scan();
+				scan(generation);
 				return null;
 			});
 		}
@@ -79,13 +103,31 @@ public class QuteIndexer {
 	}
 
 	public void scan() {
-		this.indexes.clear();
+		long generation;
+		synchronized (this) {
+			generation = ++scanGeneration;
+		}
+		scan(generation);
+	}
+
+	private void scan(long generation) {
+		Map<String /* template id */, QuteTemplateIndex> indexes = new HashMap<>();
 		if (!Files.exists(project.getTemplateBaseDir())) {
+			if (publish(indexes, generation)) {
+				project.indexChanged();
+			}
 			return;
 		}
+		// Template files which are created / deleted during the walk are applied to
+		// the walked files when the scan ends
+		TemplateFileTree templateFileTree = project.getTemplateFileTree();
+		int scanStart = templateFileTree.beginScan();
+		List<Path> templateFiles = new ArrayList<>();
+		boolean walked = false;
 		try {
 			Files.walk(project.getTemplateBaseDir()).forEach(path -> {
 				if (!Files.isDirectory(path)) {
+					templateFiles.add(path);
 					try {
 						// System.err.println("---> " + path);
 
@@ -105,20 +147,161 @@ public class QuteIndexer {
 					// System.err.println(path.getFileName().toString());
 				}
 			});
+			walked = true;
 		} catch (Exception e) {
 			e.printStackTrace();
+		} finally {
+			// Refresh the template files snapshot with the walked files
+			templateFileTree.endScan(scanStart, walked ? templateFiles : null);
+		}
+		if (publish(indexes, generation)) {
+			project.indexChanged();
+		}
+	}
+
+	/**
+	 * Update asynchronously the index of the given template file (ex : when the
+	 * template is closed or changed on the file system) without scanning the
+	 * whole template base dir.
+	 *
+	 * @param templateFile the template file (or folder).
+	 *
+	 * @return the future of the update.
+	 */
+	public CompletableFuture<Void> updateAsync(Path templateFile) {
+		return CompletableFuture.runAsync(() -> update(templateFile));
+	}
+
+	private void update(Path templateFile) {
+		String templateId = project.getTemplateId(templateFile);
+		if (templateId == null) {
+			return;
+		}
+		QuteTemplateIndex templateIndex = null;
+		if (Files.isRegularFile(templateFile)) {
+			try {
+				templateIndex = new QuteTemplateIndex(templateFile, templateId);
+				templateIndex.collect();
+			} catch (IOException e) {
+				LOGGER.log(Level.WARNING, "Error while indexing the template '" + templateFile + "'.", e);
+				templateIndex = null;
+			}
+		}
+		synchronized (this) {
+			if (scanFuture != null && !scanFuture.isDone()) {
+				// The running scan could have read the template before it was changed, update
+				// it again once the scan is published
+				scanFuture.thenRun(() -> update(templateFile));
+				return;
+			}
+			Map<String /* template id */, QuteTemplateIndex> indexes = new HashMap<>(this.indexes);
+			if (templateIndex != null && !templateIndex.getIndexes().isEmpty()) {
+				indexes.put(templateId, templateIndex);
+			} else if (indexes.remove(templateId) == null) {
+				// the template file is perhaps a deleted folder
+				String folderId = templateId + "/";
+				indexes.keySet().removeIf(id -> id.startsWith(folderId));
+			}
+			doPublish(indexes);
+		}
+		project.indexChanged();
+	}
+
+	/**
+	 * Publish the given scanned indexes if no other scan has been started since.
+	 *
+	 * @param indexes    the scanned indexes.
+	 * @param generation the generation of the scan.
+	 *
+	 * @return true if the scanned indexes have been published and false otherwise.
+	 */
+	private synchronized boolean publish(Map<String, QuteTemplateIndex> indexes, long generation) {
+		if (generation == scanGeneration) {
+			doPublish(indexes);
+			return true;
+		}
+		return false;
+	}
+
+	private void doPublish(Map<String, QuteTemplateIndex> indexes) {
+		Map<String, Map<String, Integer>> referenceCounts = new HashMap<>();
+		for (QuteTemplateIndex templateIndex : indexes.values()) {
+			// The index doesn't keep the section nesting, the custom sections of a template
+			// are references of the #insert of each template that it includes.
+			List<String> includedTemplates = new ArrayList<>();
+			Map<String, Integer> tagCounts = new HashMap<>();
+			for (QuteIndex index : templateIndex.getIndexes()) {
+				if (index.getKind() == SectionKind.INCLUDE && index.getParameter() != null) {
+					includedTemplates.add(index.getParameter());
+				} else if (index.getKind() == SectionKind.CUSTOM) {
+					tagCounts.merge(index.getTag(), 1, Integer::sum);
+				}
+			}
+			for (String includedTemplate : includedTemplates) {
+				Map<String, Integer> counts = referenceCounts.computeIfAbsent(includedTemplate,
+						k -> new HashMap<>());
+				tagCounts.forEach((tag, count) -> counts.merge(tag, count, Integer::sum));
+			}
 		}
+		this.referenceCounts = referenceCounts;
+		this.indexes = Collections.unmodifiableMap(indexes);
+		this.generation++;
+	}
+
+	/**
+	 * Returns the number of custom sections which use the given tag name in the
+	 * templates which include the given template in the published indexes.
+	 *
+	 * @param templateId the included template id (ex : 'base.qute.html').
+	 * @param tag        the tag name of the #insert section.
+	 *
+	 * @return the number of custom sections which use the given tag name in the
+	 *         templates which include the given template in the published indexes.
+	 */
+	public int getReferenceCount(String templateId, String tag) {
+		if (templateId == null) {
+			return 0;
+		}
+		Map<String, Map<String, Integer>> referenceCounts = this.referenceCounts;
+		int total = 0;
+		// The template 'base.qute.html' can be included with '{#include base.qute.html}',
+		// '{#include base.qute}' or '{#include base}'
+		String includedTemplate = templateId;
+		int segmentStart = templateId.lastIndexOf('/') + 1;
+		while (includedTemplate != null) {
+			Map<String, Integer> counts = referenceCounts.get(includedTemplate);
+			if (counts != null) {
+				Integer count = counts.get(tag);
+				if (count != null) {
+					total += count;
+				}
+			}
+			int extensionIndex = includedTemplate.lastIndexOf('.');
+			includedTemplate = extensionIndex > segmentStart ? includedTemplate.substring(0, extensionIndex) : null;
+		}
+		return total;
+	}
+
+	/**
+	 * Returns the generation of the published indexes, updated at the end of each
+	 * scan.
+	 *
+	 * @return the generation of the published indexes.
+	 */
+	public long getGeneration() {
+		return generation;
 	}
 
 	public List<QuteIndex> find(String templateId, String tag, String parameter) {
+		Map<String, QuteTemplateIndex> snapshot = this.indexes;
 		if (templateId == null) {
 			List<QuteIndex> indexes = new ArrayList<>();
-			for (QuteTemplateIndex templateIndex : this.indexes.values()) {
+			for (QuteTemplateIndex templateIndex : snapshot.values()) {
 				find(templateIndex, tag, parameter, indexes);
 			}
 			return indexes;
 		}
-		QuteTemplateIndex templateIndex = indexes.get(templateId);
+		QuteTemplateIndex templateIndex = snapshot.get(templateId);
 		if (templateIndex == null) {
 			return null;
 		}
@@ -69,7 +69,7 @@ public class UserTagRegistry {
 	/**
 	 * Refresh user tags
 	 */
-	private void refresh() {
+	private synchronized void refresh() {
 		// Loop for files from src/main/resources/tags to update list of user tags.
 		completionsSourceUserTag.refresh(getTagsDir());
 		// Update from the 'templates.tags' entries of JARs of the classpath
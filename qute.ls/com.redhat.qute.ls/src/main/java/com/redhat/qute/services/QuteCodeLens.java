@@ -193,8 +193,8 @@ class QuteCodeLens {
 			Parameter parameter = section.getParameterAtIndex(0);
 			if (parameter != null) {
 				String tag = parameter.getValue();
-				// TODO : implement findNbreferencesOfInsertTag correctly
-				int nbReferences = 0; // project.findNbreferencesOfInsertTag(template.getTemplateId(), tag);
+				int nbReferences = project.findNbreferencesOfInsertTag(section.getOwnerTemplate().getTemplateId(),
+						tag);
 				if (nbReferences > 0) {
 					String title = nbReferences == 1 ? "1 reference" : nbReferences + " references";
 					Range range = QutePositionUtility.createRange(parameter);
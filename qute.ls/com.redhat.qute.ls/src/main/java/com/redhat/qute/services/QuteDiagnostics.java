@@ -16,14 +16,18 @@ import static com.redhat.qute.services.ResolvingJavaTypeContext.RESOLVING_JAVA_T
 import static com.redhat.qute.services.ResolvingJavaTypeContext.isResolvingJavaType;
 import static com.redhat.qute.services.diagnostics.DiagnosticDataFactory.createDiagnostic;
 
-import java.nio.file.Files;
-import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -88,10 +92,25 @@ class QuteDiagnostics {
 
 	private static final Logger LOGGER = Logger.getLogger(QuteDiagnostics.class.getName());
 
+	/**
+	 * Length from which the data model of a template is validated in parallel
+	 * when the validation parallelism is greater than 1. The data model of smaller
+	 * templates is validated in the current thread.
+	 */
+	private static final int PARALLEL_VALIDATION_MIN_LENGTH = 16 * 1024;
+
 	private final JavaDataModelCache javaCache;
 
 	private final QuteDiagnosticsForSyntax diagnosticsForSyntax;
 
+	/**
+	 * The validation pools by parallelism. A pool is never shut down because it
+	 * could be used by a validation of another template with the same parallelism
+	 * (the idle threads of a fork join pool are released after a keep alive
+	 * time).
+	 */
+	private final Map<Integer /* parallelism */, ForkJoinPool> validationPools;
+
 	private class ResolutionContext extends HashMap<String, ResolvedJavaTypeInfo> {
 
 		private static final long serialVersionUID = 1L;
@@ -114,6 +133,19 @@ class QuteDiagnostics {
 			return parent;
 		}
 
+		/**
+		 * Returns a child context of this context which can be updated without
+		 * updating this context.
+		 *
+		 * @return a child context of this context which can be updated without
+		 *         updating this context.
+		 */
+		public ResolutionContext fork() {
+			ResolutionContext context = new ResolutionContext(this);
+			context.whenObject = whenObject;
+			return context;
+		}
+
 		public void setWithObject(ResolvedJavaTypeInfo withObject) {
 			this.withObject = withObject;
 		}
@@ -129,23 +161,64 @@ class QuteDiagnostics {
 					return member;
 				}
 			}
-			// Search in parent context
-			ResolutionContext parent = this.parent;
-			while (parent != null) {
-				JavaMemberInfo member = parent.findMemberWithObject(property, projectUri);
-				if (member != null) {
-					return member;
-				}
-				parent = parent.getParent();
-			}
-			return null;
+			// Search in parent context (which searches in its own parent context)
+			return parent != null ? parent.findMemberWithObject(property, projectUri) : null;
 		}
 
 	}
 
+	/**
+	 * Validation of the children of a section, with the resolution context of the
+	 * section, which can be done in parallel with the other sections.
+	 */
+	private class SubtreeValidation implements Callable<Void> {
+
+		private final Node node;
+
+		private final Template template;
+
+		private final QuteValidationSettings validationSettings;
+
+		private final QuteNativeSettings nativeImagesSettings;
+
+		private final ResolutionContext context;
+
+		private final RangeOffset region;
+
+		private final int index;
+
+		private final ResolvingJavaTypeContext resolvingJavaTypeContext;
+
+		private final List<Diagnostic> diagnostics;
+
+		public SubtreeValidation(Node node, Template template, QuteValidationSettings validationSettings,
+				QuteNativeSettings nativeImagesSettings, ResolvingJavaTypeContext resolvingJavaTypeContext,
+				ResolutionContext context, RangeOffset region, int index) {
+			this.node = node;
+			this.template = template;
+			this.validationSettings = validationSettings;
+			this.nativeImagesSettings = nativeImagesSettings;
+			// The subtree updates its own context (ex : parameter declaration inside a
+			// section which doesn't change the context), the shared context is only read.
+			this.context = context.fork();
+			this.region = region;
+			this.index = index;
+			this.resolvingJavaTypeContext = resolvingJavaTypeContext.fork();
+			this.diagnostics = new ArrayList<>();
+		}
+
+		@Override
+		public Void call() {
+			validateDataModel(node, template, validationSettings, nativeImagesSettings, resolvingJavaTypeContext,
+					context, region, diagnostics, null);
+			return null;
+		}
+	}
+
 	public QuteDiagnostics(JavaDataModelCache javaCache) {
 		this.javaCache = javaCache;
 		this.diagnosticsForSyntax = new QuteDiagnosticsForSyntax();
+		this.validationPools = new ConcurrentHashMap<>();
 	}
 
 	/**
@@ -176,7 +249,73 @@ class QuteDiagnostics {
 					+ template.getUri() + "'.");
 		}
 		List<Diagnostic> diagnostics = new ArrayList<Diagnostic>();
-		// Validate Qute syntax
+		validateSyntax(template, diagnostics);
+		validateDataModel(template, validationSettings, nativeImagesSettings, resolvingJavaTypeContext, null,
+				diagnostics);
+		cancelChecker.checkCanceled();
+		return diagnostics;
+	}
+
+	/**
+	 * Validate the syntax of the given Qute <code>template</code>.
+	 *
+	 * @param template           the Qute template.
+	 * @param validationSettings the validation settings.
+	 * @param cancelChecker      the cancel checker.
+	 * @return the syntax errors of the template.
+	 */
+	public List<Diagnostic> doSyntaxDiagnostics(Template template, QuteValidationSettings validationSettings,
+			CancelChecker cancelChecker) {
+		cancelChecker.checkCanceled();
+		if (validationSettings == null) {
+			validationSettings = QuteValidationSettings.DEFAULT;
+		}
+		if (!validationSettings.canValidate(template.getUri())) {
+			// the validation is disabled for this template
+			return Collections.emptyList();
+		}
+		List<Diagnostic> diagnostics = new ArrayList<Diagnostic>();
+		validateSyntax(template, diagnostics);
+		cancelChecker.checkCanceled();
+		return diagnostics;
+	}
+
+	/**
+	 * Validate the data model of the nodes of the given Qute <code>template</code>
+	 * which start in the given region.
+	 *
+	 * <p>
+	 * Validating successive regions which cover the whole template reports the
+	 * same data model errors than {@link #doDiagnostics}.
+	 * </p>
+	 *
+	 * @param template                 the Qute template.
+	 * @param validationSettings       the validation settings.
+	 * @param nativeImagesSettings     the native images settings.
+	 * @param resolvingJavaTypeContext the resolving Java type context.
+	 * @param region                   the offset region to validate.
+	 * @param cancelChecker            the cancel checker.
+	 * @return the data model errors of the nodes which start in the given region.
+	 */
+	public List<Diagnostic> doDataModelDiagnostics(Template template, QuteValidationSettings validationSettings,
+			QuteNativeSettings nativeImagesSettings, ResolvingJavaTypeContext resolvingJavaTypeContext,
+			RangeOffset region, CancelChecker cancelChecker) {
+		cancelChecker.checkCanceled();
+		if (validationSettings == null) {
+			validationSettings = QuteValidationSettings.DEFAULT;
+		}
+		if (!validationSettings.canValidate(template.getUri())) {
+			// the validation is disabled for this template
+			return Collections.emptyList();
+		}
+		List<Diagnostic> diagnostics = new ArrayList<Diagnostic>();
+		validateDataModel(template, validationSettings, nativeImagesSettings, resolvingJavaTypeContext, region,
+				diagnostics);
+		cancelChecker.checkCanceled();
+		return diagnostics;
+	}
+
+	private void validateSyntax(Template template, List<Diagnostic> diagnostics) {
 		try {
 			diagnosticsForSyntax.validateWithRealQuteParser(template, diagnostics);
 		} catch (CancellationException e) {
@@ -184,29 +323,118 @@ class QuteDiagnostics {
 		} catch (Exception e) {
 			LOGGER.log(Level.SEVERE, "Error while validating Qute syntax'" + template.getUri() + "'.", e);
 		}
-		// Validate data model
+	}
+
+	private void validateDataModel(Template template, QuteValidationSettings validationSettings,
+			QuteNativeSettings nativeImagesSettings, ResolvingJavaTypeContext resolvingJavaTypeContext,
+			RangeOffset region, List<Diagnostic> diagnostics) {
 		try {
-			validateDataModel(template, template, validationSettings, nativeImagesSettings, resolvingJavaTypeContext,
-					new ResolutionContext(), diagnostics);
+			int parallelism = validationSettings.getParallelism();
+			if (parallelism > 1 && template.getText().length() >= PARALLEL_VALIDATION_MIN_LENGTH) {
+				validateDataModelInParallel(template, validationSettings, nativeImagesSettings,
+						resolvingJavaTypeContext, region, parallelism, diagnostics);
+			} else {
+				validateDataModel(template, template, validationSettings, nativeImagesSettings,
+						resolvingJavaTypeContext, new ResolutionContext(), region, diagnostics, null);
+			}
 		} catch (CancellationException e) {
 			throw e;
 		} catch (Exception e) {
 			LOGGER.log(Level.SEVERE, "Error while validating Qute data model'" + template.getUri() + "'.", e);
 		}
-		cancelChecker.checkCanceled();
-		return diagnostics;
 	}
 
+	/**
+	 * Validate the data model of the given template in parallel:
+	 *
+	 * <ul>
+	 * <li>the root nodes of the template are validated in the current thread to
+	 * compute the resolution context of each root section.</li>
+	 * <li>the children of the root sections are validated in parallel with those
+	 * resolution contexts, which are not updated anymore.</li>
+	 * <li>the diagnostics are merged in the document order.</li>
+	 * </ul>
+	 */
+	private void validateDataModelInParallel(Template template, QuteValidationSettings validationSettings,
+			QuteNativeSettings nativeImagesSettings, ResolvingJavaTypeContext resolvingJavaTypeContext,
+			RangeOffset region, int parallelism, List<Diagnostic> diagnostics) {
+		List<Diagnostic> rootDiagnostics = new ArrayList<>();
+		List<SubtreeValidation> subtrees = new ArrayList<>();
+		validateDataModel(template, template, validationSettings, nativeImagesSettings, resolvingJavaTypeContext,
+				new ResolutionContext(), region, rootDiagnostics, subtrees);
+
+		if (subtrees.size() < 2) {
+			for (SubtreeValidation subtree : subtrees) {
+				subtree.call();
+			}
+		} else {
+			try {
+				for (Future<Void> future : getValidationPool(parallelism).invokeAll(subtrees)) {
+					future.get();
+				}
+			} catch (ExecutionException e) {
+				Throwable cause = e.getCause();
+				if (cause instanceof RuntimeException) {
+					throw (RuntimeException) cause;
+				}
+				throw new RuntimeException(cause);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new CancellationException();
+			}
+		}
+
+		// Merge the diagnostics in the document order
+		int index = 0;
+		for (SubtreeValidation subtree : subtrees) {
+			diagnostics.addAll(rootDiagnostics.subList(index, subtree.index));
+			diagnostics.addAll(subtree.diagnostics);
+			resolvingJavaTypeContext.merge(subtree.resolvingJavaTypeContext);
+			index = subtree.index;
+		}
+		diagnostics.addAll(rootDiagnostics.subList(index, rootDiagnostics.size()));
+	}
+
+	private ForkJoinPool getValidationPool(int parallelism) {
+		return validationPools.computeIfAbsent(parallelism, ForkJoinPool::new);
+	}
+
+	/**
+	 * Validate the data model of the children of the given parent node.
+	 *
+	 * <p>
+	 * When a region is given, only the nodes which start in the region are
+	 * validated. The parameters of the sections which start before the region and
+	 * which change the resolution context (#for, #let, #with, etc) are resolved
+	 * without reporting errors to keep the same resolution context than a full
+	 * validation.
+	 * </p>
+	 *
+	 * <p>
+	 * When subtrees is not null, the children of the sections are not validated
+	 * but collected in subtrees with their resolution context.
+	 * </p>
+	 */
 	private void validateDataModel(Node parent, Template template, QuteValidationSettings validationSettings,
 			QuteNativeSettings nativeImagesSettings, ResolvingJavaTypeContext resolvingJavaTypeContext,
-			ResolutionContext currentContext, List<Diagnostic> diagnostics) {
+			ResolutionContext currentContext, RangeOffset region, List<Diagnostic> diagnostics,
+			List<SubtreeValidation> subtrees) {
 		String projectUri = template.getProjectUri();
 		JavaTypeFilter filter = javaCache.getJavaTypeFilter(projectUri, nativeImagesSettings);
 		ResolutionContext previousContext = currentContext;
 		List<Node> children = parent.getChildren();
 		for (Node node : children) {
+			if (region != null && node.getStart() >= region.getEnd()) {
+				// The next nodes are after the region
+				break;
+			}
+			boolean validateNode = region == null || node.getStart() >= region.getStart();
+			boolean validateChildren = region == null || node.getEnd() > region.getStart();
 			switch (node.getKind()) {
 			case ParameterDeclaration: {
+				if (!validateNode) {
+					break;
+				}
 				ParameterDeclaration parameter = (ParameterDeclaration) node;
 				validateParameterDeclaration(parameter, template, projectUri, resolvingJavaTypeContext, currentContext,
 						diagnostics);
@@ -214,7 +442,14 @@ class QuteDiagnostics {
 			}
 			case Section: {
 				Section section = (Section) node;
-				if (canChangeContext(section)) {
+				boolean changeContext = canChangeContext(section);
+				if (!validateNode && !changeContext) {
+					break;
+				}
+				// The errors of a section which starts before the region are not reported,
+				// its parameters are only resolved to update the resolution context.
+				List<Diagnostic> sectionDiagnostics = validateNode ? diagnostics : new ArrayList<>();
+				if (changeContext) {
 					currentContext = new ResolutionContext(currentContext);
 				}
 				List<Parameter> parameters = section.getParameters();
@@ -233,14 +468,15 @@ class QuteDiagnostics {
 											.stream() //
 											.map(Operator::getName) //
 											.collect(Collectors.joining(",", "[", "]")));
-							diagnostics.add(diagnostic);
+							sectionDiagnostics.add(diagnostic);
 						}
 					} else {
 						Expression expression = parameter.getJavaTypeExpression();
 						if (expression != null) {
 							// Validate object, property, method parts from the expression
 							ResolvedJavaTypeInfo result = validateExpression(expression, section, template,
-									validationSettings, filter, previousContext, resolvingJavaTypeContext, diagnostics);
+									validationSettings, filter, previousContext, resolvingJavaTypeContext,
+									sectionDiagnostics);
 							switch (section.getSectionKind()) {
 							case FOR:
 							case EACH:
@@ -264,6 +500,9 @@ class QuteDiagnostics {
 					}
 					shouldBeAnOperator = checkValidOperator && !shouldBeAnOperator;
 				}
+				if (!validateNode) {
+					break;
+				}
 				switch (section.getSectionKind()) {
 				case INCLUDE:
 					validateIncludeSection((IncludeSection) section, diagnostics);
@@ -295,14 +534,24 @@ class QuteDiagnostics {
 				break;
 			}
 			case Expression: {
+				if (!validateNode) {
+					break;
+				}
 				validateExpression((Expression) node, null, template, validationSettings, filter, previousContext,
 						resolvingJavaTypeContext, diagnostics);
 				break;
 			}
 			default:
 			}
-			validateDataModel(node, template, validationSettings, nativeImagesSettings, resolvingJavaTypeContext,
-					currentContext, diagnostics);
+			if (validateChildren) {
+				if (subtrees != null && node.getKind() == NodeKind.Section) {
+					subtrees.add(new SubtreeValidation(node, template, validationSettings, nativeImagesSettings,
+							resolvingJavaTypeContext, currentContext, region, diagnostics.size()));
+				} else {
+					validateDataModel(node, template, validationSettings, nativeImagesSettings,
+							resolvingJavaTypeContext, currentContext, region, diagnostics, null);
+				}
+			}
 		}
 	}
 
@@ -407,8 +656,7 @@ class QuteDiagnostics {
 		if (templateParameter != null) {
 			// include defines a template to include
 			// ex : {#include base}
-			Path templateFile = includeSection.getReferencedTemplateFile();
-			if (templateFile == null || Files.notExists(templateFile)) {
+			if (!includeSection.isReferencedTemplateFileExists()) {
 				// It doesn't exists a file named base, base.qute.html, base.html, etc
 				Range range = QutePositionUtility.createRange(templateParameter);
 				Diagnostic diagnostic = createDiagnostic(range, DiagnosticSeverity.Error,
@@ -1061,6 +1309,8 @@ class QuteDiagnostics {
 			return null;
 		}
 
+		// The validation result depends on the Java type, even if it doesn't exist.
+		resolvingJavaTypeContext.addJavaTypeDependency(javaTypeToResolve);
 		CompletableFuture<ResolvedJavaTypeInfo> resolvingJavaTypeFuture = null;
 		if (part.getPartKind() == PartKind.Object) {
 			// Object part case.
@@ -1089,6 +1339,7 @@ class QuteDiagnostics {
 			diagnostics.add(diagnostic);
 			return null;
 		}
+		resolvingJavaTypeContext.addJavaTypeDependency(resolvedJavaType, projectUri);
 
 		return validateIterable(part, ownerSection, resolvedJavaType, javaTypeToResolve, diagnostics);
 	}
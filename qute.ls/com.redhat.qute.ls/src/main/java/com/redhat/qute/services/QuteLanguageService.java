@@ -38,6 +38,7 @@ import com.redhat.qute.ls.api.QuteTemplateJavaTextEditProvider;
 import com.redhat.qute.ls.commons.snippets.Snippet;
 import com.redhat.qute.ls.commons.snippets.SnippetRegistry;
 import com.redhat.qute.ls.commons.snippets.SnippetRegistryProvider;
+import com.redhat.qute.parser.template.RangeOffset;
 import com.redhat.qute.parser.template.Template;
 import com.redhat.qute.project.datamodel.JavaDataModelCache;
 import com.redhat.qute.services.codeactions.QuteTemplateCodeActionResolvers;
@@ -68,6 +69,7 @@ public class QuteLanguageService implements SnippetRegistryProvider<Snippet> {
 	private final QuteLinkedEditing linkedEditing;
 	private final QuteReference reference;
 	private final QuteRename rename;
+	private final QuteSemanticTokens semanticTokens;
 	private final QuteSymbolsProvider symbolsProvider;
 	private final QuteTemplateCodeActionResolvers codeActionResolvers;
 
@@ -86,6 +88,7 @@ public class QuteLanguageService implements SnippetRegistryProvider<Snippet> {
 		this.linkedEditing = new QuteLinkedEditing();
 		this.reference = new QuteReference();
 		this.rename = new QuteRename();
+		this.semanticTokens = new QuteSemanticTokens(javaCache);
 		this.symbolsProvider = new QuteSymbolsProvider();
 		this.codeActionResolvers = new QuteTemplateCodeActionResolvers();
 	}
@@ -163,6 +166,38 @@ public class QuteLanguageService implements SnippetRegistryProvider<Snippet> {
 				cancelChecker);
 	}
 
+	/**
+	 * Validate the syntax of the given Qute <code>template</code>.
+	 *
+	 * @param template           the Qute template.
+	 * @param validationSettings the validation settings.
+	 * @param cancelChecker      the cancel checker.
+	 * @return the syntax errors of the template.
+	 */
+	public List<Diagnostic> doSyntaxDiagnostics(Template template, QuteValidationSettings validationSettings,
+			CancelChecker cancelChecker) {
+		return diagnostics.doSyntaxDiagnostics(template, validationSettings, cancelChecker);
+	}
+
+	/**
+	 * Validate the data model of the nodes of the given Qute <code>template</code>
+	 * which start in the given offset region.
+	 *
+	 * @param template                 the Qute template.
+	 * @param validationSettings       the validation settings.
+	 * @param nativeImagesSettings     the native images settings.
+	 * @param resolvingJavaTypeFutures the resolving Java type futures.
+	 * @param region                   the offset region to validate.
+	 * @param cancelChecker            the cancel checker.
+	 * @return the data model errors of the region.
+	 */
+	public List<Diagnostic> doDataModelDiagnostics(Template template, QuteValidationSettings validationSettings,
+			QuteNativeSettings nativeImagesSettings, ResolvingJavaTypeContext resolvingJavaTypeFutures,
+			RangeOffset region, CancelChecker cancelChecker) {
+		return diagnostics.doDataModelDiagnostics(template, validationSettings, nativeImagesSettings,
+				resolvingJavaTypeFutures, region, cancelChecker);
+	}
+
 	/**
 	 * Document links in the given Qute <code>template</code>.
 	 *
@@ -216,6 +251,23 @@ public class QuteLanguageService implements SnippetRegistryProvider<Snippet> {
 		return inlayHint.getInlayHint(template, range, sharedSettings, resolvingJavaTypeContext, cancelChecker);
 	}
 
+	/**
+	 * Semantic tokens of the given Qute <code>template</code> encoded with the LSP
+	 * relative format.
+	 *
+	 * @param template                 the Qute template.
+	 * @param range                    the range of the tokens and null for the
+	 *                                 whole template.
+	 * @param resolvingJavaTypeContext context filled with the Java types which are
+	 *                                 not loaded.
+	 * @param cancelChecker            the cancel checker.
+	 * @return the semantic tokens data.
+	 */
+	public List<Integer> getSemanticTokens(Template template, Range range,
+			ResolvingJavaTypeContext resolvingJavaTypeContext, CancelChecker cancelChecker) {
+		return semanticTokens.getSemanticTokens(template, range, resolvingJavaTypeContext, cancelChecker);
+	}
+
 	/**
 	 * Linked editing range(s) in the given Qute <code>template</code>.
 	 *
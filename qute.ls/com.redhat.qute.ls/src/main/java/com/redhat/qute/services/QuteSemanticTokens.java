@@ -0,0 +1,154 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.services;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.SemanticTokenModifiers;
+import org.eclipse.lsp4j.SemanticTokenTypes;
+import org.eclipse.lsp4j.SemanticTokensEdit;
+import org.eclipse.lsp4j.SemanticTokensLegend;
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
+
+import com.redhat.qute.ls.commons.BadLocationException;
+import com.redhat.qute.parser.template.Template;
+import com.redhat.qute.project.datamodel.JavaDataModelCache;
+import com.redhat.qute.services.semantictokens.SemanticTokensASTVisitor;
+
+/**
+ * Qute semantic tokens support.
+ *
+ */
+public class QuteSemanticTokens {
+
+	private static final Logger LOGGER = Logger.getLogger(QuteSemanticTokens.class.getName());
+
+	// Token types (index in the legend)
+
+	public static final int NAMESPACE = 0;
+	public static final int CLASS = 1;
+	public static final int PARAMETER = 2;
+	public static final int VARIABLE = 3;
+	public static final int PROPERTY = 4;
+	public static final int METHOD = 5;
+	public static final int FUNCTION = 6;
+	public static final int MACRO = 7;
+	public static final int KEYWORD = 8;
+	public static final int OPERATOR = 9;
+	public static final int STRING = 10;
+	public static final int NUMBER = 11;
+
+	// Token modifiers (bit in the legend)
+
+	public static final int DECLARATION = 1 << 0;
+
+	public static final SemanticTokensLegend LEGEND = new SemanticTokensLegend(Arrays.asList( //
+			SemanticTokenTypes.Namespace, //
+			SemanticTokenTypes.Class, //
+			SemanticTokenTypes.Parameter, //
+			SemanticTokenTypes.Variable, //
+			SemanticTokenTypes.Property, //
+			SemanticTokenTypes.Method, //
+			SemanticTokenTypes.Function, //
+			SemanticTokenTypes.Macro, //
+			SemanticTokenTypes.Keyword, //
+			SemanticTokenTypes.Operator, //
+			SemanticTokenTypes.String, //
+			SemanticTokenTypes.Number), //
+			Arrays.asList( //
+					SemanticTokenModifiers.Declaration));
+
+	private final JavaDataModelCache javaCache;
+
+	public QuteSemanticTokens(JavaDataModelCache javaCache) {
+		this.javaCache = javaCache;
+	}
+
+	/**
+	 * Returns the semantic tokens of the given template encoded with the LSP
+	 * relative format.
+	 *
+	 * @param template                 the Qute template.
+	 * @param range                    the range of the tokens to collect and null
+	 *                                 to collect the tokens of the whole template.
+	 * @param resolvingJavaTypeContext the resolving Java type context filled with
+	 *                                 the Java types which are not loaded.
+	 * @param cancelChecker            the cancel checker.
+	 *
+	 * @return the semantic tokens of the given template encoded with the LSP
+	 *         relative format.
+	 */
+	public List<Integer> getSemanticTokens(Template template, Range range,
+			ResolvingJavaTypeContext resolvingJavaTypeContext, CancelChecker cancelChecker) {
+		int startOffset = -1;
+		int endOffset = -1;
+		if (range != null) {
+			try {
+				startOffset = template.offsetAt(range.getStart());
+				endOffset = template.offsetAt(range.getEnd());
+			} catch (BadLocationException e) {
+				LOGGER.log(Level.SEVERE, "Error while getting offsets of semantic tokens range", e);
+			}
+		}
+		cancelChecker.checkCanceled();
+		SemanticTokensASTVisitor visitor = new SemanticTokensASTVisitor(template, javaCache, startOffset, endOffset,
+				resolvingJavaTypeContext);
+		template.accept(visitor);
+		cancelChecker.checkCanceled();
+		return visitor.getData();
+	}
+
+	/**
+	 * Returns the edits which transform the previous semantic tokens data to the
+	 * current semantic tokens data.
+	 *
+	 * <p>
+	 * An edit in a template generally updates a few consecutive tokens, so only
+	 * one edit is computed which replaces the data between the common prefix and
+	 * the common suffix of the two arrays.
+	 * </p>
+	 *
+	 * @param previous the previous semantic tokens data.
+	 * @param current  the current semantic tokens data.
+	 *
+	 * @return the edits which transform the previous semantic tokens data to the
+	 *         current semantic tokens data.
+	 */
+	public static List<SemanticTokensEdit> computeEdits(List<Integer> previous, List<Integer> current) {
+		int previousSize = previous.size();
+		int currentSize = current.size();
+		int prefix = 0;
+		int maxPrefix = Math.min(previousSize, currentSize);
+		while (prefix < maxPrefix && previous.get(prefix).equals(current.get(prefix))) {
+			prefix++;
+		}
+		if (prefix == previousSize && prefix == currentSize) {
+			// No change
+			return Collections.emptyList();
+		}
+		int suffix = 0;
+		int maxSuffix = maxPrefix - prefix;
+		while (suffix < maxSuffix
+				&& previous.get(previousSize - 1 - suffix).equals(current.get(currentSize - 1 - suffix))) {
+			suffix++;
+		}
+		List<Integer> data = new ArrayList<>(current.subList(prefix, currentSize - suffix));
+		SemanticTokensEdit edit = new SemanticTokensEdit(prefix, previousSize - prefix - suffix, data);
+		return Collections.singletonList(edit);
+	}
+}
@@ -12,10 +12,13 @@
 package com.redhat.qute.services;
 
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.regex.Pattern;
 
 import com.redhat.qute.commons.ResolvedJavaTypeInfo;
 import com.redhat.qute.parser.template.Parameter;
@@ -23,6 +26,7 @@ import com.redhat.qute.parser.template.Template;
 import com.redhat.qute.project.QuteProject;
 import com.redhat.qute.project.datamodel.JavaDataModelCache;
 import com.redhat.qute.services.diagnostics.QuteErrorCode;
+import com.redhat.qute.utils.StringUtils;
 
 /**
  * Resolving java type context host completable future of Java type to resolved.
@@ -38,6 +42,8 @@ public class ResolvingJavaTypeContext extends ArrayList<CompletableFuture<?>> {
 
 	public static final ResolvedJavaTypeInfo RESOLVING_JAVA_TYPE = new ResolvedJavaTypeInfo();
 
+	private static final Pattern JAVA_TYPE_SEPARATORS = Pattern.compile("[<>,\\s]+");
+
 	private final JavaDataModelCache javaCache;
 	private boolean projectResolved;
 
@@ -49,9 +55,15 @@ public class ResolvingJavaTypeContext extends ArrayList<CompletableFuture<?>> {
 
 	private final Template template;
 
+	private final Set<String /* Java type name without generic */> javaTypeDependencies;
+
+	private final Set<String /* Java type name without generic */> resolvedJavaTypeDependencies;
+
 	public ResolvingJavaTypeContext(Template template, JavaDataModelCache javaCache) {
 		this.javaCache = javaCache;
 		this.template = template;
+		this.javaTypeDependencies = new HashSet<>();
+		this.resolvedJavaTypeDependencies = new HashSet<>();
 		projectResolved = template.getProjectUri() != null;
 		if (projectResolved) {
 			// Get or load the data model template, data model defined
@@ -78,6 +90,43 @@ public class ResolvingJavaTypeContext extends ArrayList<CompletableFuture<?>> {
 		}
 	}
 
+	private ResolvingJavaTypeContext(ResolvingJavaTypeContext parent) {
+		this.javaCache = parent.javaCache;
+		this.template = parent.template;
+		this.javaTypeDependencies = new HashSet<>();
+		this.resolvedJavaTypeDependencies = new HashSet<>();
+		this.projectResolved = parent.projectResolved;
+		this.dataModelTemplateResolved = parent.dataModelTemplateResolved;
+		this.binaryUserTagResolved = parent.binaryUserTagResolved;
+		this.javaTypesSupportedInNativeMode = parent.javaTypesSupportedInNativeMode;
+	}
+
+	/**
+	 * Returns a new context with the same resolved state than this context, used
+	 * to validate a part of the template in another thread.
+	 *
+	 * @return a new context with the same resolved state than this context.
+	 *
+	 * @see #merge(ResolvingJavaTypeContext)
+	 */
+	public ResolvingJavaTypeContext fork() {
+		return new ResolvingJavaTypeContext(this);
+	}
+
+	/**
+	 * Merge the resolving Java types and the Java type dependencies of the given
+	 * forked context in this context.
+	 *
+	 * @param fork the context created with {@link #fork()}.
+	 */
+	public void merge(ResolvingJavaTypeContext fork) {
+		for (CompletableFuture<?> future : fork) {
+			add(future);
+		}
+		javaTypeDependencies.addAll(fork.javaTypeDependencies);
+		resolvedJavaTypeDependencies.addAll(fork.resolvedJavaTypeDependencies);
+	}
+
 	/**
 	 * Returns true if the Qute project has been resolved and false otherwise.
 	 * 
@@ -114,6 +163,7 @@ public class ResolvingJavaTypeContext extends ArrayList<CompletableFuture<?>> {
 	}
 
 	public ResolvedJavaTypeInfo resolveJavaType(String javaType, String projectUri) {
+		addJavaTypeDependency(javaType);
 		CompletableFuture<ResolvedJavaTypeInfo> resolvingJavaTypeFuture = javaCache.resolveJavaType(javaType,
 				projectUri);
 		ResolvedJavaTypeInfo resolvedJavaType = resolvingJavaTypeFuture.getNow(RESOLVING_JAVA_TYPE);
@@ -122,6 +172,7 @@ public class ResolvingJavaTypeContext extends ArrayList<CompletableFuture<?>> {
 			this.add(resolvingJavaTypeFuture);
 			return RESOLVING_JAVA_TYPE;
 		}
+		addJavaTypeDependency(resolvedJavaType, projectUri);
 		return resolvedJavaType;
 	}
 
@@ -137,9 +188,65 @@ public class ResolvingJavaTypeContext extends ArrayList<CompletableFuture<?>> {
 			this.add(resolvingJavaTypeFuture);
 			return RESOLVING_JAVA_TYPE;
 		}
+		addJavaTypeDependency(resolvedJavaType, projectUri);
 		return resolvedJavaType;
 	}
 
+	/**
+	 * Register the Java types declared in the given Java type signature (ex :
+	 * java.util.List<org.acme.Item> registers java.util.List and org.acme.Item)
+	 * as dependencies of the validated template, even if they don't exist.
+	 *
+	 * @param javaType the Java type signature.
+	 */
+	public void addJavaTypeDependency(String javaType) {
+		if (StringUtils.isEmpty(javaType)) {
+			return;
+		}
+		for (String name : JAVA_TYPE_SEPARATORS.split(javaType)) {
+			if (name.endsWith("[]")) {
+				name = name.substring(0, name.indexOf('['));
+			}
+			if (!name.isEmpty() && !"?".equals(name) && !"extends".equals(name) && !"super".equals(name)) {
+				javaTypeDependencies.add(name);
+			}
+		}
+	}
+
+	/**
+	 * Register the given resolved Java type and its extended types as
+	 * dependencies of the validated template.
+	 *
+	 * @param javaType   the resolved Java type.
+	 * @param projectUri the project Uri.
+	 */
+	public void addJavaTypeDependency(ResolvedJavaTypeInfo javaType, String projectUri) {
+		if (javaType == null || javaType.getName() == null
+				|| !resolvedJavaTypeDependencies.add(javaType.getName())) {
+			return;
+		}
+		javaTypeDependencies.add(javaType.getName());
+		// The members of the extended types are inherited.
+		List<String> extendedTypes = javaType.getExtendedTypes();
+		if (extendedTypes != null) {
+			for (String extendedType : extendedTypes) {
+				addJavaTypeDependency(extendedType);
+				addJavaTypeDependency(javaCache.resolveJavaType(extendedType, projectUri).getNow(null), projectUri);
+			}
+		}
+	}
+
+	/**
+	 * Returns the names (without generic) of the Java types used to validate the
+	 * template.
+	 *
+	 * @return the names (without generic) of the Java types used to validate the
+	 *         template.
+	 */
+	public Set<String> getJavaTypeDependencies() {
+		return javaTypeDependencies;
+	}
+
 	public Set<String> getJavaTypesSupportedInNativeMode() {
 		if (javaTypesSupportedInNativeMode == null) {
 			javaTypesSupportedInNativeMode = template.getJavaTypesSupportedInNativeMode();
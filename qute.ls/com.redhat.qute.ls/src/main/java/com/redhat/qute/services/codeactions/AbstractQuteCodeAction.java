@@ -37,6 +37,7 @@ import com.redhat.qute.services.nativemode.JavaTypeAccessibiltyRule;
 import com.redhat.qute.services.nativemode.JavaTypeFilter;
 import com.redhat.qute.settings.QuteValidationSettings.Severity;
 import com.redhat.qute.utils.QutePositionUtility;
+import com.redhat.qute.utils.SimilarNamesIndex;
 
 /**
  * Abstract class for Qute code action.
@@ -50,6 +51,8 @@ public abstract class AbstractQuteCodeAction {
 
 	private static final String DID_YOU_MEAN_TITLE = "Did you mean `{0}`?";
 
+	private static final int MAX_SIMILAR_VALUES = 10;
+
 	protected final JavaDataModelCache javaCache;
 
 	public AbstractQuteCodeAction(JavaDataModelCache javaCache) {
@@ -78,6 +81,30 @@ public abstract class AbstractQuteCodeAction {
 		}
 	}
 
+	/**
+	 * Generate code actions for the values of the given index which are similar
+	 * to the part name (Did you mean ...?)
+	 * 
+	 * @param part        the part node.
+	 * @param index       the similar names index of the values.
+	 * @param template    the Qute template.
+	 * @param diagnostic  the diagnostic.
+	 * @param codeActions list of CodeActions.
+	 */
+	protected void doCodeActionsForSimilarValues(Part part, SimilarNamesIndex index, Template template,
+			Diagnostic diagnostic, List<CodeAction> codeActions) {
+		List<String> similarValues = index.findSimilarNames(part.getPartName(), MAX_SIMILAR_VALUES);
+		if (similarValues.isEmpty()) {
+			return;
+		}
+		Range rangeValue = QutePositionUtility.createRange(part);
+		for (String value : similarValues) {
+			CodeAction similarCodeAction = CodeActionFactory.replace(MessageFormat.format(DID_YOU_MEAN_TITLE, value),
+					rangeValue, value, template.getTextDocument(), diagnostic);
+			codeActions.add(similarCodeAction);
+		}
+	}
+
 	/**
 	 * CodeAction to change severity setting value to "ignore"
 	 *
@@ -12,6 +12,7 @@
 package com.redhat.qute.services.codeactions;
 
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
@@ -33,6 +34,7 @@ import com.redhat.qute.services.diagnostics.QuteErrorCode;
 import com.redhat.qute.services.nativemode.JavaTypeAccessibiltyRule;
 import com.redhat.qute.services.nativemode.JavaTypeFilter;
 import com.redhat.qute.settings.QuteNativeSettings;
+import com.redhat.qute.utils.SimilarNamesIndex;
 
 /**
  * Code actions for {@link QuteErrorCode#UnknownMethod}.
@@ -95,59 +97,94 @@ public class QuteCodeActionForUnknownMethod extends AbstractQuteCodeAction {
 
 		String projectUri = template.getProjectUri();
 		JavaTypeFilter filter = javaCache.getJavaTypeFilter(projectUri, nativeImageSettings);
-		Set<String> existingProperties = new HashSet<>();
+		SimilarNamesIndex index = getSimilarMethodNamesIndex(template, projectUri, baseResolvedType, filter);
+		doCodeActionsForSimilarValues(part, index, template, diagnostic, codeActions);
+	}
+
+	/**
+	 * Returns the similar names index of the methods of the given Java type (with
+	 * super types and value resolvers).
+	 * 
+	 * <p>
+	 * In native mode, the method names depend on the template (parameter
+	 * declarations), so the index is not cached.
+	 * </p>
+	 *
+	 * @param template         the Qute template
+	 * @param projectUri       the project Uri
+	 * @param baseResolvedType the resolved Java type info
+	 * @param filter           the Java type filter
+	 *
+	 * @return the similar names index of the methods of the given Java type.
+	 */
+	private SimilarNamesIndex getSimilarMethodNamesIndex(Template template, String projectUri,
+			ResolvedJavaTypeInfo baseResolvedType, JavaTypeFilter filter) {
+		boolean cacheable = !filter.isInNativeMode();
+		String key = baseResolvedType.getSignature() + "|method";
+		if (cacheable) {
+			SimilarNamesIndex index = javaCache.getSimilarNamesIndex(key, projectUri);
+			if (index != null) {
+				return index;
+			}
+		}
 
-		// Collect similar code action for methods defined in Java type
-		collectSimilarCodeActionsForJavaMethods(part, template, projectUri, baseResolvedType, filter,
-				existingProperties, diagnostic, codeActions);
+		// Collect methods defined in Java type
+		Set<String> methodNames = new LinkedHashSet<>();
+		boolean resolved = collectJavaMethodNames(template, projectUri, baseResolvedType, filter, methodNames,
+				new HashSet<>());
 
-		// Collect similar code action for methods defined in built-in Qute value
-		// resolvers
-		List<MethodValueResolver> resolvers = javaCache.getResolversFor(baseResolvedType, template.getProjectUri());
+		// Collect methods defined in built-in Qute value resolvers
+		List<MethodValueResolver> resolvers = javaCache.getResolversFor(baseResolvedType, projectUri);
 		for (MethodValueResolver method : resolvers) {
 			if (method.isValidName()) {
-				doCodeActionsForSimilarValue(part, method.getMethodName(), template, existingProperties, diagnostic,
-						codeActions);
+				methodNames.add(method.getMethodName());
 			}
 		}
-	}
 
-	private void collectSimilarCodeActionsForJavaMethods(MethodPart part, Template template, String projectUri,
-			ResolvedJavaTypeInfo baseResolvedType, JavaTypeFilter filter, Set<String> existingProperties,
-			Diagnostic diagnostic, List<CodeAction> codeActions) {
-		collectSimilarCodeActionsForJavaMethods(part, template, projectUri, baseResolvedType, filter,
-				existingProperties, diagnostic, codeActions, new HashSet<>());
+		SimilarNamesIndex index = new SimilarNamesIndex(methodNames);
+		if (cacheable && resolved) {
+			// All super types are loaded, the index is complete, cache it.
+			javaCache.registerSimilarNamesIndex(key, index, projectUri);
+		}
+		return index;
 	}
 
-	private void collectSimilarCodeActionsForJavaMethods(MethodPart part, Template template, String projectUri,
-			ResolvedJavaTypeInfo baseResolvedType, JavaTypeFilter filter, Set<String> existingProperties,
-			Diagnostic diagnostic, List<CodeAction> codeActions, Set<ResolvedJavaTypeInfo> visited) {
+	private boolean collectJavaMethodNames(Template template, String projectUri,
+			ResolvedJavaTypeInfo baseResolvedType, JavaTypeFilter filter, Set<String> methodNames,
+			Set<ResolvedJavaTypeInfo> visited) {
 		if (visited.contains(baseResolvedType)) {
-			return;
+			return true;
 		}
 		visited.add(baseResolvedType);
 
-		// Java method similar code actions
+		boolean resolved = true;
+
+		// Java method names
 		for (JavaMethodInfo method : baseResolvedType.getMethods()) {
-			doCodeActionsForSimilarValue(part, method.getName(), template, existingProperties, diagnostic, codeActions);
+			methodNames.add(method.getName());
 		}
 
-		// Java super method similar code actions
+		// Java super method names
 		JavaTypeAccessibiltyRule javaTypeAccessibility = filter.getJavaTypeAccessibility(baseResolvedType,
 				template.getJavaTypesSupportedInNativeMode());
 		if (!isIgnoreSuperclasses(baseResolvedType, javaTypeAccessibility, filter)) {
 			List<String> extendedTypes = baseResolvedType.getExtendedTypes();
 			if (extendedTypes != null) {
 				for (String extendedType : extendedTypes) {
-					ResolvedJavaTypeInfo resolvedExtendedType = javaCache.resolveJavaType(extendedType, projectUri)
-							.getNow(null);
+					CompletableFuture<ResolvedJavaTypeInfo> future = javaCache.resolveJavaType(extendedType,
+							projectUri);
+					if (!future.isDone()) {
+						resolved = false;
+					}
+					ResolvedJavaTypeInfo resolvedExtendedType = future.getNow(null);
 					if (resolvedExtendedType != null) {
-						collectSimilarCodeActionsForJavaMethods(part, template, projectUri, resolvedExtendedType,
-								filter, existingProperties, diagnostic, codeActions, visited);
+						resolved &= collectJavaMethodNames(template, projectUri, resolvedExtendedType, filter,
+								methodNames, visited);
 					}
 				}
 			}
 		}
+		return resolved;
 	}
 
 }
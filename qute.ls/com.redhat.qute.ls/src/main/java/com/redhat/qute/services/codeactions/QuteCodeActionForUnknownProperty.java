@@ -16,6 +16,7 @@ import static com.redhat.qute.ls.commons.CodeActionFactory.createCodeActionWithD
 import java.text.MessageFormat;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
@@ -42,6 +43,7 @@ import com.redhat.qute.services.nativemode.JavaTypeAccessibiltyRule;
 import com.redhat.qute.services.nativemode.JavaTypeFilter;
 import com.redhat.qute.settings.QuteNativeSettings;
 import com.redhat.qute.settings.SharedSettings;
+import com.redhat.qute.utils.SimilarNamesIndex;
 
 /**
  * Code actions for {@link QuteErrorCode#UnknownProperty}.
@@ -135,74 +137,108 @@ public class QuteCodeActionForUnknownProperty extends AbstractQuteCodeAction {
 
 		String projectUri = template.getProjectUri();
 		JavaTypeFilter filter = javaCache.getJavaTypeFilter(projectUri, nativeImageSettings);
-		Set<String> existingProperties = new HashSet<>();
+		SimilarNamesIndex index = getSimilarPropertyNamesIndex(template, projectUri, baseResolvedType, filter);
+		doCodeActionsForSimilarValues(part, index, template, diagnostic, codeActions);
+	}
+
+	/**
+	 * Returns the similar names index of the properties of the given Java type
+	 * (with super types and value resolvers).
+	 * 
+	 * <p>
+	 * In native mode, the property names depend on the template (parameter
+	 * declarations), so the index is not cached.
+	 * </p>
+	 *
+	 * @param template         the Qute template
+	 * @param projectUri       the project Uri
+	 * @param baseResolvedType the resolved Java type info
+	 * @param filter           the Java type filter
+	 *
+	 * @return the similar names index of the properties of the given Java type.
+	 */
+	private SimilarNamesIndex getSimilarPropertyNamesIndex(Template template, String projectUri,
+			ResolvedJavaTypeInfo baseResolvedType, JavaTypeFilter filter) {
+		boolean cacheable = !filter.isInNativeMode();
+		String key = baseResolvedType.getSignature() + "|property";
+		if (cacheable) {
+			SimilarNamesIndex index = javaCache.getSimilarNamesIndex(key, projectUri);
+			if (index != null) {
+				return index;
+			}
+		}
 
-		// Collect similar code action for Java properties defined in Java type
-		collectSimilarCodeActionsForJavaProperties(part, template, projectUri, baseResolvedType, filter,
-				existingProperties, diagnostic, codeActions);
+		// Collect Java properties defined in Java type
+		Set<String> propertyNames = new LinkedHashSet<>();
+		boolean resolved = collectJavaPropertyNames(template, projectUri, baseResolvedType, filter, propertyNames,
+				new HashSet<>());
 
-		// Collect similar code action for methods (getter or method which have no
-		// parameters) defined in built-in Qute value
-		// resolvers
-		List<MethodValueResolver> resolvers = javaCache.getResolversFor(baseResolvedType, template.getProjectUri());
+		// Collect methods (getter or method which have no parameters) defined in
+		// built-in Qute value resolvers
+		List<MethodValueResolver> resolvers = javaCache.getResolversFor(baseResolvedType, projectUri);
 		for (MethodValueResolver method : resolvers) {
 			if (method.isValidName() && !method.hasParameters()) {
-				String methodName = method.getMethodName();
-				doCodeActionsForSimilarValue(part, methodName, template, existingProperties, diagnostic, codeActions);
+				propertyNames.add(method.getMethodName());
 				String getterName = method.getGetterName();
 				if (getterName != null) {
-					doCodeActionsForSimilarValue(part, getterName, template, existingProperties, diagnostic,
-							codeActions);
+					propertyNames.add(getterName);
 				}
 			}
 		}
-	}
 
-	private void collectSimilarCodeActionsForJavaProperties(PropertyPart part, Template template, String projectUri,
-			ResolvedJavaTypeInfo baseResolvedType, JavaTypeFilter filter, Set<String> existingProperties,
-			Diagnostic diagnostic, List<CodeAction> codeActions) {
-		collectSimilarCodeActionsForJavaProperties(part, template, projectUri, baseResolvedType, filter,
-				existingProperties, diagnostic, codeActions, new HashSet<>());
+		SimilarNamesIndex index = new SimilarNamesIndex(propertyNames);
+		if (cacheable && resolved) {
+			// All super types are loaded, the index is complete, cache it.
+			javaCache.registerSimilarNamesIndex(key, index, projectUri);
+		}
+		return index;
 	}
 
-	private void collectSimilarCodeActionsForJavaProperties(PropertyPart part, Template template, String projectUri,
-			ResolvedJavaTypeInfo baseResolvedType, JavaTypeFilter filter, Set<String> existingProperties,
-			Diagnostic diagnostic, List<CodeAction> codeActions, Set<ResolvedJavaTypeInfo> visited) {
+	private boolean collectJavaPropertyNames(Template template, String projectUri,
+			ResolvedJavaTypeInfo baseResolvedType, JavaTypeFilter filter, Set<String> propertyNames,
+			Set<ResolvedJavaTypeInfo> visited) {
 
 		if (visited.contains(baseResolvedType)) {
-			return;
+			return true;
 		}
 		visited.add(baseResolvedType);
 
-		// Java field similar code actions
+		boolean resolved = true;
+
+		// Java field names
 		for (JavaFieldInfo field : baseResolvedType.getFields()) {
-			doCodeActionsForSimilarValue(part, field.getName(), template, existingProperties, diagnostic, codeActions);
+			propertyNames.add(field.getName());
 		}
 
-		// Java getter methods similar code actions
+		// Java getter method names
 		for (JavaMethodInfo method : baseResolvedType.getMethods()) {
 			String getterName = method.getGetterName();
 			if (getterName != null) {
-				doCodeActionsForSimilarValue(part, getterName, template, existingProperties, diagnostic, codeActions);
+				propertyNames.add(getterName);
 			}
 		}
 
-		// Java super field similar code actions
+		// Java super field names
 		JavaTypeAccessibiltyRule rule = filter.getJavaTypeAccessibility(baseResolvedType,
 				template.getJavaTypesSupportedInNativeMode());
 		if (!isIgnoreSuperclasses(baseResolvedType, rule, filter)) {
 			List<String> extendedTypes = baseResolvedType.getExtendedTypes();
 			if (extendedTypes != null) {
 				for (String extendedType : extendedTypes) {
-					ResolvedJavaTypeInfo resolvedExtendedType = javaCache.resolveJavaType(extendedType, projectUri)
-							.getNow(null);
+					CompletableFuture<ResolvedJavaTypeInfo> future = javaCache.resolveJavaType(extendedType,
+							projectUri);
+					if (!future.isDone()) {
+						resolved = false;
+					}
+					ResolvedJavaTypeInfo resolvedExtendedType = future.getNow(null);
 					if (resolvedExtendedType != null) {
-						collectSimilarCodeActionsForJavaProperties(part, template, projectUri, resolvedExtendedType,
-								filter, existingProperties, diagnostic, codeActions, visited);
+						resolved &= collectJavaPropertyNames(template, projectUri, resolvedExtendedType, filter,
+								propertyNames, visited);
 					}
 				}
 			}
 		}
+		return resolved;
 	}
 
 	private static void doCodeActionToCreateField(String missingProperty, String resolvedType, String projectUri,
@@ -0,0 +1,190 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.services.completions;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.lsp4j.CompletionItem;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.TextEdit;
+import org.eclipse.lsp4j.jsonrpc.messages.Either;
+
+/**
+ * Prebuilt completion items for the fields, methods and value resolvers of a
+ * resolved Java type.
+ *
+ * <p>
+ * The items are built once without text edit range and are cached by the Qute
+ * project (see
+ * {@link com.redhat.qute.project.QuteProject#getJavaMemberCompletionItems(String)}).
+ * On each completion request, the items are filtered with the typed prefix
+ * and copied with the proper text edit range.
+ * </p>
+ *
+ * <p>
+ * The last filtered result is kept to reuse it when the user types the next
+ * character (ex : 'n' then 'na' for <code>{item.na|}</code>).
+ * </p>
+ *
+ */
+public class JavaMemberCompletionItems {
+
+	/**
+	 * Range used by the prebuilt completion items which is replaced by the range
+	 * of the completion request (see {@link #createItem(CompletionItem, Range)}).
+	 */
+	public static final Range PLACEHOLDER_RANGE = new Range(new Position(0, 0), new Position(0, 0));
+
+	private static class FilterResult {
+
+		private final String prefix;
+
+		private final List<CompletionItem> items;
+
+		public FilterResult(String prefix, List<CompletionItem> items) {
+			this.prefix = prefix;
+			this.items = items;
+		}
+	}
+
+	private final List<CompletionItem> items;
+
+	private volatile FilterResult lastFilterResult;
+
+	public JavaMemberCompletionItems(Collection<CompletionItem> items) {
+		this.items = Collections.unmodifiableList(new ArrayList<>(items));
+	}
+
+	/**
+	 * Returns the prebuilt completion items (without text edit range).
+	 *
+	 * @return the prebuilt completion items (without text edit range).
+	 */
+	public List<CompletionItem> getItems() {
+		return items;
+	}
+
+	/**
+	 * Returns the prebuilt completion items (without text edit range) which match
+	 * the given prefix.
+	 *
+	 * @param prefix the typed prefix.
+	 *
+	 * @return the prebuilt completion items (without text edit range) which match
+	 *         the given prefix.
+	 */
+	public List<CompletionItem> getItems(String prefix) {
+		if (prefix == null || prefix.isEmpty()) {
+			return items;
+		}
+		FilterResult last = lastFilterResult;
+		if (last != null) {
+			if (last.prefix.equals(prefix)) {
+				return last.items;
+			}
+			if (prefix.startsWith(last.prefix)) {
+				// ex : last prefix='n' and prefix='na', items which match 'na' are included in
+				// items which match 'n'.
+				List<CompletionItem> filtered = filter(last.items, prefix);
+				lastFilterResult = new FilterResult(prefix, filtered);
+				return filtered;
+			}
+		}
+		List<CompletionItem> filtered = filter(items, prefix);
+		lastFilterResult = new FilterResult(prefix, filtered);
+		return filtered;
+	}
+
+	/**
+	 * Returns the count of prebuilt completion items.
+	 *
+	 * @return the count of prebuilt completion items.
+	 */
+	public int size() {
+		return items.size();
+	}
+
+	/**
+	 * Returns a copy of the given prebuilt completion item with the given text
+	 * edit range.
+	 *
+	 * @param item  the prebuilt completion item.
+	 * @param range the text edit range.
+	 *
+	 * @return a copy of the given prebuilt completion item with the given text
+	 *         edit range.
+	 */
+	public static CompletionItem createItem(CompletionItem item, Range range) {
+		CompletionItem copy = new CompletionItem();
+		copy.setLabel(item.getLabel());
+		copy.setFilterText(item.getFilterText());
+		copy.setKind(item.getKind());
+		copy.setSortText(item.getSortText());
+		copy.setDetail(item.getDetail());
+		copy.setDocumentation(item.getDocumentation());
+		copy.setInsertTextFormat(item.getInsertTextFormat());
+		if (item.getTextEdit() != null && item.getTextEdit().isLeft()) {
+			TextEdit textEdit = new TextEdit(range, item.getTextEdit().getLeft().getNewText());
+			copy.setTextEdit(Either.forLeft(textEdit));
+		}
+		return copy;
+	}
+
+	private static List<CompletionItem> filter(List<CompletionItem> items, String prefix) {
+		List<CompletionItem> filtered = new ArrayList<>();
+		for (CompletionItem item : items) {
+			String filterText = item.getFilterText() != null ? item.getFilterText() : item.getLabel();
+			if (isMatchPrefix(filterText, prefix)) {
+				filtered.add(item);
+			}
+		}
+		return filtered;
+	}
+
+	/**
+	 * Returns true if all characters of the given prefix appear in order in the
+	 * given text (case insensitive) and false otherwise.
+	 *
+	 * <p>
+	 * This matching is the same than the fuzzy matching used by the most of LSP
+	 * clients (ex : 'gRv' matches 'getReview') to avoid removing an item that the
+	 * client would show.
+	 * </p>
+	 *
+	 * @param text   the text (filter text of the completion item).
+	 * @param prefix the typed prefix.
+	 *
+	 * @return true if all characters of the given prefix appear in order in the
+	 *         given text (case insensitive) and false otherwise.
+	 */
+	static boolean isMatchPrefix(String text, String prefix) {
+		int textIndex = 0;
+		for (int i = 0; i < prefix.length(); i++) {
+			char c = Character.toLowerCase(prefix.charAt(i));
+			boolean found = false;
+			while (textIndex < text.length()) {
+				if (Character.toLowerCase(text.charAt(textIndex++)) == c) {
+					found = true;
+					break;
+				}
+			}
+			if (!found) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
@@ -15,6 +15,7 @@ import static com.redhat.qute.parser.template.Section.isCaseSection;
 import static com.redhat.qute.project.datamodel.resolvers.ValueResolver.MATCH_NAME_ANY;
 import static com.redhat.qute.services.QuteCompletions.EMPTY_FUTURE_COMPLETION;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
@@ -82,6 +83,12 @@ import com.redhat.qute.utils.UserTagUtils;
  */
 public class QuteCompletionsForExpression {
 
+	/**
+	 * Count of completion items for Java type members above which the items are
+	 * filtered on server side with the typed prefix.
+	 */
+	private static final int MAX_UNFILTERED_MEMBER_ITEMS = 500;
+
 	private final QuteCompletionForTagSection completionForTagSection;
 
 	private final JavaDataModelCache javaCache;
@@ -136,7 +143,7 @@ public class QuteCompletionsForExpression {
 				// ex : { item.n| }
 				// ex : { item.n|ame }
 				Parts parts = part.getParent();
-				return doCompleteExpressionForMemberPart(part, parts, template, false, completionSettings,
+				return doCompleteExpressionForMemberPart(part, parts, offset, template, false, completionSettings,
 						formattingSettings, nativeImagesSettings, cancelChecker);
 			}
 			case Method: {
@@ -150,7 +157,7 @@ public class QuteCompletionsForExpression {
 				}
 				// ex : { item.getN|ame() }
 				Parts parts = part.getParent();
-				return doCompleteExpressionForMemberPart(part, parts, template, methodPart.isInfixNotation(),
+				return doCompleteExpressionForMemberPart(part, parts, offset, template, methodPart.isInfixNotation(),
 						completionSettings, formattingSettings, nativeImagesSettings, cancelChecker);
 			}
 			default:
@@ -176,7 +183,7 @@ public class QuteCompletionsForExpression {
 				// ex : { item.|getName() }
 				Parts parts = (Parts) nodeExpression;
 				Part part = parts.getPartAt(offset + 1);
-				return doCompleteExpressionForMemberPart(part, parts, template, false, completionSettings,
+				return doCompleteExpressionForMemberPart(part, parts, offset, template, false, completionSettings,
 						formattingSettings, nativeImagesSettings, cancelChecker);
 			}
 			case ' ': {
@@ -195,7 +202,7 @@ public class QuteCompletionsForExpression {
 				}
 				// ex : { item | }
 				// ex : { item |name }
-				return doCompleteExpressionForMemberPart(part, parts, template, true, completionSettings,
+				return doCompleteExpressionForMemberPart(part, parts, offset, template, true, completionSettings,
 						formattingSettings, nativeImagesSettings, cancelChecker);
 			}
 			}
@@ -209,6 +216,8 @@ public class QuteCompletionsForExpression {
 	 *
 	 * @param part                 the part.
 	 * @param parts                the owner parts.
+	 * @param offset               the offset where the completion has been
+	 *                             triggered.
 	 * @param template             the owner template.
 	 * @param infixNotation        true if the completion generates completion items
 	 *                             for infix notation (with spaces) and false
@@ -220,7 +229,7 @@ public class QuteCompletionsForExpression {
 	 *
 	 * @return the completion list.
 	 */
-	private CompletableFuture<CompletionList> doCompleteExpressionForMemberPart(Part part, Parts parts,
+	private CompletableFuture<CompletionList> doCompleteExpressionForMemberPart(Part part, Parts parts, int offset,
 			Template template, boolean infixNotation, QuteCompletionSettings completionSettings,
 			QuteFormattingSettings formattingSettings, QuteNativeSettings nativeImagesSettings,
 			CancelChecker cancelChecker) {
@@ -238,7 +247,7 @@ public class QuteCompletionsForExpression {
 
 					// Completion for member of the given Java class
 					// ex : org.acme.Item
-					CompletionList list = doCompleteForJavaTypeMembers(resolvedType, start, end, template,
+					CompletionList list = doCompleteForJavaTypeMembers(resolvedType, start, end, offset, template,
 							infixNotation, completionSettings, formattingSettings, nativeImagesSettings);
 					return CompletableFuture.completedFuture(list);
 				});
@@ -249,9 +258,17 @@ public class QuteCompletionsForExpression {
 	 * Returns the completion result for Java fields, methods of the given Java type
 	 * class, interface <code>resolvedType</code>
 	 *
+	 * <p>
+	 * The completion items are built once per (Java type, native mode, snippet
+	 * support) and cached in the Qute project, only the text edit range is
+	 * updated for each completion request.
+	 * </p>
+	 *
 	 * @param baseType             the Java class, interface.
 	 * @param start                the part start index to replace.
 	 * @param end                  the part end index to replace.
+	 * @param offset               the offset where the completion has been
+	 *                             triggered.
 	 * @param template             the owner Qute template.
 	 * @param infixNotation        true if the completion generates completion items
 	 *                             for infix notation (with spaces) and false
@@ -263,19 +280,74 @@ public class QuteCompletionsForExpression {
 	 * @return the completion list.
 	 */
 	private CompletionList doCompleteForJavaTypeMembers(ResolvedJavaTypeInfo baseType, int start, int end,
-			Template template, boolean infixNotation, QuteCompletionSettings completionSettings,
+			int offset, Template template, boolean infixNotation, QuteCompletionSettings completionSettings,
 			QuteFormattingSettings formattingSettings, QuteNativeSettings nativeImagesSettings) {
-		Set<CompletionItem> completionItems = new HashSet<>();
 		Range range = QutePositionUtility.createRange(start, end, template);
 		String projectUri = template.getProjectUri();
 
-		Set<String> existingProperties = new HashSet<>();
-		Set<String> existingMethodSignatures = new HashSet<>();
 		JavaTypeFilter filter = javaCache.getJavaTypeFilter(projectUri, nativeImagesSettings);
 		JavaTypeAccessibiltyRule javaTypeAccessibility = !filter.isInNativeMode()
 				? JavaTypeAccessibiltyRule.ALLOWED_WITHOUT_RESTRICTION
 				: filter.getJavaTypeAccessibility(baseType, template.getJavaTypesSupportedInNativeMode());
 
+		// Get the completion items of the Java type from the cache
+		String key = createJavaMemberCompletionKey(baseType, javaTypeAccessibility, filter, infixNotation,
+				completionSettings);
+		JavaMemberCompletionItems memberItems = javaCache.getJavaMemberCompletionItems(key, projectUri);
+		if (memberItems == null) {
+			memberItems = collectJavaTypeMembers(baseType, javaTypeAccessibility, filter, projectUri, infixNotation,
+					completionSettings, formattingSettings);
+			if (isResolvedWithSuperTypes(baseType, projectUri, new HashSet<>())) {
+				// All super types are loaded, the completion items are complete, cache them.
+				javaCache.registerJavaMemberCompletionItems(key, memberItems, projectUri);
+			}
+		}
+
+		// Filter the completion items on server side only for Java types which have a
+		// lot of members, in this case the completion list is marked as incomplete to
+		// ask the client to re-trigger the completion when the user types a new
+		// character.
+		String prefix = null;
+		if (memberItems.size() > MAX_UNFILTERED_MEMBER_ITEMS && offset >= start && offset <= end) {
+			prefix = template.getText().substring(start, offset);
+		}
+		List<CompletionItem> items = memberItems.getItems(prefix);
+		List<CompletionItem> completionItems = new ArrayList<>(items.size());
+		for (CompletionItem item : items) {
+			completionItems.add(JavaMemberCompletionItems.createItem(item, range));
+		}
+		CompletionList list = new CompletionList();
+		list.setItems(completionItems);
+		list.setIsIncomplete(prefix != null);
+		return list;
+	}
+
+	/**
+	 * Returns the completion items for Java fields, methods of the given Java type
+	 * class, interface <code>resolvedType</code> without text edit range.
+	 *
+	 * @param baseType              the Java class, interface.
+	 * @param javaTypeAccessibility the Java type accessibility.
+	 * @param filter                the Java type filter.
+	 * @param projectUri            the project Uri.
+	 * @param infixNotation         true if the completion generates completion
+	 *                              items for infix notation (with spaces) and false
+	 *                              otherwise.
+	 * @param completionSettings    the completion settings.
+	 * @param formattingSettings    the formatting settings.
+	 *
+	 * @return the completion items without text edit range.
+	 */
+	private JavaMemberCompletionItems collectJavaTypeMembers(ResolvedJavaTypeInfo baseType,
+			JavaTypeAccessibiltyRule javaTypeAccessibility, JavaTypeFilter filter, String projectUri,
+			boolean infixNotation, QuteCompletionSettings completionSettings,
+			QuteFormattingSettings formattingSettings) {
+		Set<CompletionItem> completionItems = new HashSet<>();
+		Range range = JavaMemberCompletionItems.PLACEHOLDER_RANGE;
+
+		Set<String> existingProperties = new HashSet<>();
+		Set<String> existingMethodSignatures = new HashSet<>();
+
 		if (javaTypeAccessibility != null) {
 
 			// Some fields and methods from Java reflection must be shown.
@@ -306,9 +378,67 @@ public class QuteCompletionsForExpression {
 						formattingSettings, completionItems);
 			}
 		}
-		CompletionList list = new CompletionList();
-		list.setItems(completionItems.stream().collect(Collectors.toList()));
-		return list;
+		return new JavaMemberCompletionItems(completionItems);
+	}
+
+	private static String createJavaMemberCompletionKey(ResolvedJavaTypeInfo baseType,
+			JavaTypeAccessibiltyRule javaTypeAccessibility, JavaTypeFilter filter, boolean infixNotation,
+			QuteCompletionSettings completionSettings) {
+		StringBuilder key = new StringBuilder(baseType.getSignature());
+		key.append('|');
+		if (filter.isInNativeMode()) {
+			// In native mode, the completion items depend on the accessibility of the Java
+			// type (@TemplateData, @RegisterForReflection, parameter declaration).
+			if (javaTypeAccessibility == null) {
+				key.append("native-none");
+			} else if (JavaTypeAccessibiltyRule.ALLOWED_WITHOUT_RESTRICTION.equals(javaTypeAccessibility)) {
+				key.append("native-all");
+			} else {
+				key.append("native-rule:");
+				key.append(javaTypeAccessibility.getKey());
+			}
+		} else {
+			key.append("reflection");
+		}
+		key.append('|');
+		key.append(infixNotation ? "infix" : "default");
+		key.append('|');
+		key.append(completionSettings.isCompletionSnippetsSupported() ? "snippet" : "plaintext");
+		return key.toString();
+	}
+
+	/**
+	 * Returns true if the given Java type and all its super types are loaded and
+	 * false otherwise.
+	 *
+	 * @param baseType   the Java type.
+	 * @param projectUri the project Uri.
+	 * @param visited    the Java types which have already been visited.
+	 *
+	 * @return true if the given Java type and all its super types are loaded and
+	 *         false otherwise.
+	 */
+	private boolean isResolvedWithSuperTypes(ResolvedJavaTypeInfo baseType, String projectUri,
+			Set<ResolvedJavaTypeInfo> visited) {
+		if (visited.contains(baseType)) {
+			return true;
+		}
+		visited.add(baseType);
+		List<String> extendedTypes = baseType.getExtendedTypes();
+		if (extendedTypes != null) {
+			for (String extendedType : extendedTypes) {
+				CompletableFuture<ResolvedJavaTypeInfo> future = javaCache.resolveJavaType(extendedType, projectUri);
+				if (!future.isDone()) {
+					return false;
+				}
+				ResolvedJavaTypeInfo resolvedExtendedType = future.getNow(null);
+				if (resolvedExtendedType != null
+						&& !isResolvedWithSuperTypes(resolvedExtendedType, projectUri, visited)) {
+					return false;
+				}
+			}
+		}
+		return true;
 	}
 
 	/**
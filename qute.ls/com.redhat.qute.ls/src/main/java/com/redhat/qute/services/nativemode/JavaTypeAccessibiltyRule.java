@@ -14,6 +14,7 @@ package com.redhat.qute.services.nativemode;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.regex.Pattern;
 
 import com.redhat.qute.commons.annotations.RegisterForReflectionAnnotation;
@@ -131,4 +132,29 @@ public class JavaTypeAccessibiltyRule {
 	public boolean hasRegisterForReflectionAnnotation() {
 		return hasRegisterForReflectionAnnotation;
 	}
+
+	/**
+	 * Returns a key which identifies the content of this rule (ignore list,
+	 * ignoreSuperClasses, properties, fields, methods, annotations).
+	 *
+	 * <p>
+	 * Two rules with the same content have the same key.
+	 * </p>
+	 *
+	 * @return a key which identifies the content of this rule.
+	 */
+	public String getKey() {
+		StringBuilder key = new StringBuilder();
+		key.append("ignore=");
+		if (ignore != null) {
+			key.append(String.join(",", new TreeSet<>(ignore)));
+		}
+		key.append(";ignoreSuperClasses=").append(ignoreSuperClasses);
+		key.append(";properties=").append(properties);
+		key.append(";fields=").append(fields);
+		key.append(";methods=").append(methods);
+		key.append(";templateData=").append(hasTemplateDataAnnotation);
+		key.append(";registerForReflection=").append(hasRegisterForReflectionAnnotation);
+		return key.toString();
+	}
 }
@@ -0,0 +1,369 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.services.semantictokens;
+
+import static com.redhat.qute.services.ResolvingJavaTypeContext.RESOLVING_JAVA_TYPE;
+import static com.redhat.qute.services.ResolvingJavaTypeContext.isResolvingJavaType;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.lsp4j.Position;
+
+import com.redhat.qute.commons.JavaMemberInfo;
+import com.redhat.qute.commons.JavaMethodInfo;
+import com.redhat.qute.commons.ResolvedJavaTypeInfo;
+import com.redhat.qute.ls.commons.BadLocationException;
+import com.redhat.qute.parser.expression.MethodPart;
+import com.redhat.qute.parser.expression.NamespacePart;
+import com.redhat.qute.parser.expression.ObjectPart;
+import com.redhat.qute.parser.expression.Part;
+import com.redhat.qute.parser.expression.Parts;
+import com.redhat.qute.parser.expression.PropertyPart;
+import com.redhat.qute.parser.template.ASTVisitor;
+import com.redhat.qute.parser.template.JavaTypeInfoProvider;
+import com.redhat.qute.parser.template.LiteralSupport;
+import com.redhat.qute.parser.template.Node;
+import com.redhat.qute.parser.template.NodeKind;
+import com.redhat.qute.parser.template.Parameter;
+import com.redhat.qute.parser.template.ParameterDeclaration;
+import com.redhat.qute.parser.template.ParameterDeclaration.JavaTypeRangeOffset;
+import com.redhat.qute.parser.template.Section;
+import com.redhat.qute.parser.template.SectionKind;
+import com.redhat.qute.parser.template.Template;
+import com.redhat.qute.parser.template.sections.AssignSection;
+import com.redhat.qute.parser.template.sections.LoopSection;
+import com.redhat.qute.project.datamodel.JavaDataModelCache;
+import com.redhat.qute.project.datamodel.resolvers.MethodValueResolver;
+import com.redhat.qute.services.QuteSemanticTokens;
+import com.redhat.qute.services.ResolvingJavaTypeContext;
+
+/**
+ * AST visitor used to collect the semantic tokens of a Qute template:
+ *
+ * <ul>
+ * <li>the Java type and the alias of the parameter declarations (ex :
+ * {&#64;org.acme.Item item}).</li>
+ * <li>the section tags (ex : #for, /for) and the user tags (ex : #form).</li>
+ * <li>the aliases and the operators of the section parameters.</li>
+ * <li>the namespace, object, property and method parts of the expressions. The
+ * properties and methods are classified with the resolved Java members when
+ * the Java types are loaded.</li>
+ * </ul>
+ *
+ */
+public class SemanticTokensASTVisitor extends ASTVisitor {
+
+	private static final Logger LOGGER = Logger.getLogger(SemanticTokensASTVisitor.class.getName());
+
+	private static class SemanticToken {
+
+		private final int start;
+
+		private final int end;
+
+		private final int tokenType;
+
+		private final int tokenModifiers;
+
+		public SemanticToken(int start, int end, int tokenType, int tokenModifiers) {
+			this.start = start;
+			this.end = end;
+			this.tokenType = tokenType;
+			this.tokenModifiers = tokenModifiers;
+		}
+	}
+
+	private final Template template;
+
+	private final JavaDataModelCache javaCache;
+
+	private final int startOffset;
+
+	private final int endOffset;
+
+	private final ResolvingJavaTypeContext resolvingJavaTypeContext;
+
+	private final List<SemanticToken> tokens;
+
+	public SemanticTokensASTVisitor(Template template, JavaDataModelCache javaCache, int startOffset,
+			int endOffset, ResolvingJavaTypeContext resolvingJavaTypeContext) {
+		this.template = template;
+		this.javaCache = javaCache;
+		this.startOffset = startOffset;
+		this.endOffset = endOffset;
+		this.resolvingJavaTypeContext = resolvingJavaTypeContext;
+		this.tokens = new ArrayList<>();
+	}
+
+	@Override
+	public boolean preVisit2(Node node) {
+		if (!isInRange(node.getStart(), node.getEnd())) {
+			// Ignore the nodes (and their children) which are outside the requested range
+			return false;
+		}
+		if (node.getKind() == NodeKind.Section) {
+			// {#for ...} or {#form ...}
+			Section section = (Section) node;
+			if (section.hasTag()) {
+				addToken(section.getStartTagNameOpenOffset(), section.getStartTagNameCloseOffset(),
+						getTagTokenType(section), 0);
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public void postVisit(Node node) {
+		if (node.getKind() == NodeKind.Section) {
+			// {/for}
+			Section section = (Section) node;
+			if (section.hasEndTag() && !section.isSelfClosed() && section.getEndTagCloseOffset() != -1) {
+				addToken(section.getEndTagNameOpenOffset(), section.getEndTagCloseOffset(),
+						getTagTokenType(section), 0);
+			}
+		}
+	}
+
+	@Override
+	public boolean visit(ParameterDeclaration node) {
+		// {@java.util.List<org.acme.Item> items}
+		List<JavaTypeRangeOffset> javaTypeRanges = node.getJavaTypeNameRanges();
+		if (javaTypeRanges != null) {
+			for (JavaTypeRangeOffset range : javaTypeRanges) {
+				addToken(range.getStart(), range.getEnd(), QuteSemanticTokens.CLASS, 0);
+			}
+		}
+		if (node.hasAlias()) {
+			addToken(node.getAliasStart(), node.getAliasEnd(), QuteSemanticTokens.PARAMETER,
+					QuteSemanticTokens.DECLARATION);
+		}
+		return false;
+	}
+
+	@Override
+	public boolean visit(Parameter node) {
+		Section section = node.getOwnerSection();
+		if (!node.canHaveExpression()) {
+			if (section == null) {
+				return false;
+			}
+			if (section.getSectionKind() == SectionKind.IF) {
+				// {#if item.active && item.valid}
+				if (section.isValidOperator(node.getName())) {
+					addToken(node.getStartName(), node.getEndName(), QuteSemanticTokens.OPERATOR, 0);
+				}
+			} else if (section instanceof LoopSection) {
+				// {#for item in items}
+				if (node == ((LoopSection) section).getAliasParameter()) {
+					addToken(node.getStartName(), node.getEndName(), QuteSemanticTokens.VARIABLE,
+							QuteSemanticTokens.DECLARATION);
+				} else {
+					addToken(node.getStartName(), node.getEndName(), QuteSemanticTokens.KEYWORD, 0);
+				}
+			}
+			return false;
+		}
+		if (node.hasValueAssigned() && section != null) {
+			// {#let name=item.name} or {#form id=item.id}
+			if (section instanceof AssignSection) {
+				addToken(node.getStartName(), node.getEndName(), QuteSemanticTokens.VARIABLE,
+						QuteSemanticTokens.DECLARATION);
+			} else {
+				addToken(node.getStartName(), node.getEndName(), QuteSemanticTokens.PARAMETER, 0);
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public boolean visit(NamespacePart node) {
+		// {inject:bean}
+		addToken(node.getStartName(), node.getEndName(), QuteSemanticTokens.NAMESPACE, 0);
+		return false;
+	}
+
+	@Override
+	public boolean visit(ObjectPart node) {
+		String partName = node.getPartName();
+		String literalJavaType = LiteralSupport.getLiteralJavaType(partName);
+		if (literalJavaType != null) {
+			// {'abc'}, {123}, {true}
+			addToken(node.getStartName(), node.getEndName(), getLiteralTokenType(literalJavaType), 0);
+			return false;
+		}
+		// {item} : a parameter of the template (parameter declaration, @CheckedTemplate)
+		// or a variable (#for, #let, etc)
+		boolean parameter = node.getNamespace() == null && isParameter(node);
+		addToken(node.getStartName(), node.getEndName(),
+				parameter ? QuteSemanticTokens.PARAMETER : QuteSemanticTokens.VARIABLE, 0);
+		return false;
+	}
+
+	/**
+	 * Returns true if the given object part is declared by the initial data model
+	 * of the template (not shadowed by a #for, #let, etc section) and false
+	 * otherwise.
+	 *
+	 * @param node the object part.
+	 * @return true if the given object part is declared by the initial data model
+	 *         of the template and false otherwise.
+	 */
+	private boolean isParameter(ObjectPart node) {
+		JavaTypeInfoProvider initialDataModel = template.findInInitialDataModel(node);
+		return initialDataModel != null && node.resolveJavaType() == initialDataModel;
+	}
+
+	@Override
+	public boolean visit(PropertyPart node) {
+		// {item.name}
+		JavaMemberInfo member = findMember(node);
+		int tokenType = QuteSemanticTokens.PROPERTY;
+		if (member instanceof MethodValueResolver) {
+			// {items.size} : value resolver (template extension, etc)
+			tokenType = QuteSemanticTokens.FUNCTION;
+		}
+		addToken(node.getStartName(), node.getEndName(), tokenType, 0);
+		return false;
+	}
+
+	@Override
+	public boolean visit(MethodPart node) {
+		// {item.isAvailable(index)}
+		JavaMemberInfo member = findMember(node);
+		int tokenType = QuteSemanticTokens.METHOD;
+		if (member instanceof MethodValueResolver) {
+			// {items.get(0)} : value resolver (template extension, etc)
+			tokenType = QuteSemanticTokens.FUNCTION;
+		} else if (member != null && !(member instanceof JavaMethodInfo)) {
+			tokenType = QuteSemanticTokens.PROPERTY;
+		}
+		addToken(node.getStartName(), node.getEndName(), tokenType, 0);
+		// The method parameters are not visited by MethodPart
+		for (Parameter parameter : node.getParameters()) {
+			parameter.accept(this);
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the Java member of the given property / method part and null if
+	 * the Java type of the previous part is not resolved.
+	 *
+	 * @param part the property / method part.
+	 *
+	 * @return the Java member of the given property / method part and null if
+	 *         the Java type of the previous part is not resolved.
+	 */
+	private JavaMemberInfo findMember(Part part) {
+		String projectUri = template.getProjectUri();
+		if (projectUri == null) {
+			return null;
+		}
+		Parts parts = part.getParent();
+		Part previousPart = parts.getPreviousPart(part);
+		if (previousPart == null) {
+			return null;
+		}
+		try {
+			CompletableFuture<ResolvedJavaTypeInfo> baseTypeFuture = javaCache.resolveJavaType(previousPart,
+					projectUri);
+			ResolvedJavaTypeInfo baseType = baseTypeFuture.getNow(RESOLVING_JAVA_TYPE);
+			if (isResolvingJavaType(baseType)) {
+				// The tokens will be more accurate once the Java type is loaded
+				resolvingJavaTypeContext.add(baseTypeFuture);
+				return null;
+			}
+			if (baseType == null) {
+				return null;
+			}
+			return javaCache.findMember(baseType, part.getPartName(), projectUri);
+		} catch (Exception e) {
+			LOGGER.log(Level.SEVERE, "Error while resolving the Java member of '" + part.getPartName() + "'.", e);
+			return null;
+		}
+	}
+
+	private static int getTagTokenType(Section section) {
+		return section.getSectionKind() == SectionKind.CUSTOM ? QuteSemanticTokens.MACRO : QuteSemanticTokens.KEYWORD;
+	}
+
+	private static int getLiteralTokenType(String literalJavaType) {
+		switch (literalJavaType) {
+		case "java.lang.String":
+		case "java.lang.Character":
+			return QuteSemanticTokens.STRING;
+		case "java.lang.Boolean":
+		case "null":
+			return QuteSemanticTokens.KEYWORD;
+		default:
+			return QuteSemanticTokens.NUMBER;
+		}
+	}
+
+	private boolean isInRange(int start, int end) {
+		return (startOffset == -1 || end >= startOffset) && (endOffset == -1 || start <= endOffset);
+	}
+
+	private void addToken(int start, int end, int tokenType, int tokenModifiers) {
+		if (start < 0 || end <= start || !isInRange(start, end)) {
+			return;
+		}
+		tokens.add(new SemanticToken(start, end, tokenType, tokenModifiers));
+	}
+
+	/**
+	 * Returns the collected semantic tokens encoded with the LSP relative format
+	 * (delta line, delta start character, length, token type, token modifiers).
+	 *
+	 * @return the collected semantic tokens encoded with the LSP relative format.
+	 */
+	public List<Integer> getData() {
+		tokens.sort(Comparator.comparingInt(token -> token.start));
+		List<Integer> data = new ArrayList<>(tokens.size() * 5);
+		int previousLine = 0;
+		int previousCharacter = 0;
+		int previousEnd = -1;
+		for (SemanticToken token : tokens) {
+			if (token.start < previousEnd) {
+				// Overlapping tokens are not supported
+				continue;
+			}
+			try {
+				Position start = template.positionAt(token.start);
+				Position end = template.positionAt(token.end);
+				if (start.getLine() != end.getLine()) {
+					// Multiline tokens are not supported
+					continue;
+				}
+				int deltaLine = start.getLine() - previousLine;
+				int deltaCharacter = deltaLine == 0 ? start.getCharacter() - previousCharacter
+						: start.getCharacter();
+				data.add(deltaLine);
+				data.add(deltaCharacter);
+				data.add(end.getCharacter() - start.getCharacter());
+				data.add(token.tokenType);
+				data.add(token.tokenModifiers);
+				previousLine = start.getLine();
+				previousCharacter = start.getCharacter();
+				previousEnd = token.end;
+			} catch (BadLocationException e) {
+				LOGGER.log(Level.SEVERE, "Error while computing semantic token position", e);
+			}
+		}
+		return data;
+	}
+}
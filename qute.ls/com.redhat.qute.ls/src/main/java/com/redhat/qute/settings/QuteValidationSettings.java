@@ -54,12 +54,15 @@ public class QuteValidationSettings {
 
 	private List<String> excluded;
 
+	private int parallelism;
+
 	private transient boolean updated;
 
 	private transient List<PathPatternMatcher> excludedPatterns;
 
 	public QuteValidationSettings() {
 		setEnabled(true);
+		setParallelism(1);
 	}
 
 	/**
@@ -99,6 +102,28 @@ public class QuteValidationSettings {
 		this.excludedPatterns = null;
 	}
 
+	/**
+	 * Returns the number of threads used to validate the data model of a large
+	 * template (1 to validate it in the current thread).
+	 *
+	 * @return the number of threads used to validate the data model of a large
+	 *         template.
+	 */
+	public int getParallelism() {
+		return parallelism;
+	}
+
+	/**
+	 * Set the number of threads used to validate the data model of a large
+	 * template (1 to validate it in the current thread).
+	 *
+	 * @param parallelism the number of threads used to validate the data model of
+	 *                    a large template.
+	 */
+	public void setParallelism(int parallelism) {
+		this.parallelism = parallelism;
+	}
+
 	/**
 	 * Update each kind of validation settings with default value if not defined.
 	 */
@@ -119,6 +144,7 @@ public class QuteValidationSettings {
 	public void update(QuteValidationSettings newValidation) {
 		this.setEnabled(newValidation.isEnabled());
 		this.setExcluded(newValidation.getExcluded());
+		this.setParallelism(newValidation.getParallelism());
 		this.setUndefinedObject(newValidation.getUndefinedObject());
 		this.setUndefinedNamespace(newValidation.getUndefinedNamespace());
 	}
@@ -243,6 +269,7 @@ public class QuteValidationSettings {
 		int result = 1;
 		result = prime * result + (enabled ? 1231 : 1237);
 		result = prime * result + ((excluded == null) ? 0 : excluded.hashCode());
+		result = prime * result + parallelism;
 		result = prime * result + ((undefinedObject == null) ? 0 : undefinedObject.hashCode());
 		result = prime * result + ((undefinedNamespace == null) ? 0 : undefinedNamespace.hashCode());
 		return result;
@@ -264,6 +291,8 @@ public class QuteValidationSettings {
 				return false;
 		} else if (!excluded.equals(other.excluded))
 			return false;
+		if (parallelism != other.parallelism)
+			return false;
 		if (undefinedObject == null) {
 			if (!getUndefinedObject().equals(other.getUndefinedObject())) {
 				return false;
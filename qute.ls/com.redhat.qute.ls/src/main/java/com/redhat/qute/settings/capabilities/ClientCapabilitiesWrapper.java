@@ -14,6 +14,7 @@ package com.redhat.qute.settings.capabilities;
 import org.eclipse.lsp4j.ClientCapabilities;
 import org.eclipse.lsp4j.DynamicRegistrationCapabilities;
 import org.eclipse.lsp4j.TextDocumentClientCapabilities;
+import org.eclipse.lsp4j.WorkspaceClientCapabilities;
 
 import com.redhat.qute.ls.commons.client.ExtendedClientCapabilities;
 
@@ -101,6 +102,22 @@ public class ClientCapabilitiesWrapper {
 		return v3Supported && isDynamicRegistrationSupported(getTextDocument().getInlayHint());
 	}
 
+	public boolean isSemanticTokensDynamicRegistered() {
+		return v3Supported && isDynamicRegistrationSupported(getTextDocument().getSemanticTokens());
+	}
+
+	public boolean isSemanticTokensRefreshSupported() {
+		WorkspaceClientCapabilities workspace = capabilities != null ? capabilities.getWorkspace() : null;
+		return workspace != null && workspace.getSemanticTokens() != null
+				&& Boolean.TRUE.equals(workspace.getSemanticTokens().getRefreshSupport());
+	}
+
+	public boolean isCodeLensRefreshSupported() {
+		WorkspaceClientCapabilities workspace = capabilities != null ? capabilities.getWorkspace() : null;
+		return workspace != null && workspace.getCodeLens() != null
+				&& Boolean.TRUE.equals(workspace.getCodeLens().getRefreshSupport());
+	}
+
 	public boolean isRenameDynamicRegistered() {
 		return v3Supported && isDynamicRegistrationSupported(getTextDocument().getRename());
 	}
@@ -12,13 +12,19 @@
 package com.redhat.qute.settings.capabilities;
 
 import java.util.Arrays;
+import java.util.List;
 import java.util.UUID;
 
 import org.eclipse.lsp4j.CodeActionKind;
 import org.eclipse.lsp4j.CodeActionOptions;
 import org.eclipse.lsp4j.CodeLensOptions;
 import org.eclipse.lsp4j.CompletionOptions;
+import org.eclipse.lsp4j.DocumentFilter;
 import org.eclipse.lsp4j.DocumentLinkOptions;
+import org.eclipse.lsp4j.SemanticTokensServerFull;
+import org.eclipse.lsp4j.SemanticTokensWithRegistrationOptions;
+
+import com.redhat.qute.services.QuteSemanticTokens;
 
 /**
  * Server Capabilities Constants
@@ -43,6 +49,7 @@ public class ServerCapabilitiesConstants {
 	public static final String TEXT_DOCUMENT_REFERENCES = "textDocument/references";
 	public static final String TEXT_DOCUMENT_RENAME = "textDocument/rename";
 	public static final String TEXT_DOCUMENT_INLAY_HINT = "textDocument/inlayHint";
+	public static final String TEXT_DOCUMENT_SEMANTIC_TOKENS = "textDocument/semanticTokens";
 	/* workspace/... */
 	public static final String WORKSPACE_EXECUTE_COMMAND = "workspace/executeCommand";
 	public static final String WORKSPACE_WATCHED_FILES = "workspace/didChangeWatchedFiles";
@@ -64,6 +71,14 @@ public class ServerCapabilitiesConstants {
 	public static final String WORKSPACE_EXECUTE_COMMAND_ID = UUID.randomUUID().toString();
 	public static final String WORKSPACE_WATCHED_FILES_ID = UUID.randomUUID().toString();
 	public static final String INLAY_HINT_ID = UUID.randomUUID().toString();
+	public static final String SEMANTIC_TOKENS_ID = UUID.randomUUID().toString();
+
+	/* Qute languages */
+	public static final List<DocumentFilter> QUTE_DOCUMENT_SELECTOR = Arrays.asList( //
+			new DocumentFilter("qute-html", null, null), //
+			new DocumentFilter("qute-json", null, null), //
+			new DocumentFilter("qute-yaml", null, null), //
+			new DocumentFilter("qute-txt", null, null));
 
 	/* Default Options */
 	public static final CodeLensOptions DEFAULT_CODELENS_OPTIONS = new CodeLensOptions();
@@ -75,5 +90,11 @@ public class ServerCapabilitiesConstants {
 		DEFAULT_CODE_ACTION_OPTIONS.setCodeActionKinds(Arrays.asList(CodeActionKind.QuickFix, CodeActionKind.Empty));
 		DEFAULT_CODE_ACTION_OPTIONS.setResolveProvider(true);
 	}
+	public static final SemanticTokensWithRegistrationOptions DEFAULT_SEMANTIC_TOKENS_OPTIONS = new SemanticTokensWithRegistrationOptions(
+			QuteSemanticTokens.LEGEND, new SemanticTokensServerFull(true), true);
+	static {
+		// Don't claim the semantic tokens of the non Qute documents
+		DEFAULT_SEMANTIC_TOKENS_OPTIONS.setDocumentSelector(QUTE_DOCUMENT_SELECTOR);
+	}
 
 }
\ No newline at end of file
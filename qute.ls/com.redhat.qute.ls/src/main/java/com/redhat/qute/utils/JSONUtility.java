@@ -49,7 +49,7 @@ public class JSONUtility {
 		return null;
 	}
 
-	private static GsonBuilder getDefaultGsonBuilder() {
+	public static GsonBuilder getDefaultGsonBuilder() {
 		return new GsonBuilder() //
 				// required to deserialize QuteFormattingOptions which extends FormattingOptions
 				// which uses Either
@@ -33,6 +33,7 @@ import com.redhat.qute.parser.template.RangeOffset;
 import com.redhat.qute.parser.template.Section;
 import com.redhat.qute.parser.template.SectionKind;
 import com.redhat.qute.parser.template.Template;
+import com.redhat.qute.parser.template.TemplateSymbolTable.Symbol;
 import com.redhat.qute.parser.template.sections.WhenSection;
 import com.redhat.qute.parser.template.sections.LoopSection;
 import com.redhat.qute.parser.template.sections.WithSection;
@@ -45,6 +46,11 @@ import com.redhat.qute.parser.template.sections.WithSection;
  * <li>declared object</li>
  * </ul>
  * 
+ * <p>
+ * The searched symbols are stored in the symbol table of the template, so a
+ * declaration or a reference is searched once per version of the template.
+ * </p>
+ * 
  * @author Angelo ZERR
  *
  */
@@ -73,6 +79,13 @@ public class QuteSearchUtils {
 			Range range = QutePositionUtility.createRange(part);
 			collector.accept(part, range);
 		}
+		List<Symbol> declarations = part.getOwnerTemplate().getSymbolTable().getDeclarations(part,
+				c -> searchDeclaredObject(part, c, cancelChecker));
+		collect(declarations, collector);
+	}
+
+	private static void searchDeclaredObject(ObjectPart part, BiConsumer<Node, Range> collector,
+			CancelChecker cancelChecker) {
 		String namespace = part.getNamespace();
 		if (NamespacePart.DATA_NAMESPACE.equals(namespace)) {
 			searchDeclaredObjectInParameterDeclaration(part, collector);
@@ -197,7 +210,9 @@ public class QuteSearchUtils {
 					Range range = QutePositionUtility.selectAlias(parameterDeclaration);
 					collector.accept(parameterDeclaration, range);
 				}
-				searchReferencedObjects(alias, PartNameMatcher.BOTH, node, collector, cancelChecker);
+				List<Symbol> references = node.getOwnerTemplate().getSymbolTable().getReferences(node,
+						c -> searchReferencedObjects(alias, PartNameMatcher.BOTH, node, c, cancelChecker));
+				collect(references, collector);
 			}
 			break;
 		}
@@ -208,7 +223,10 @@ public class QuteSearchUtils {
 				collector.accept(parameter, range);
 			}
 			String alias = parameter.getName();
-			searchReferencedObjects(alias, PartNameMatcher.ONLY_NAME, parameter.getParent(), collector, cancelChecker);
+			List<Symbol> references = node.getOwnerTemplate().getSymbolTable().getReferences(node,
+					c -> searchReferencedObjects(alias, PartNameMatcher.ONLY_NAME, parameter.getParent(), c,
+							cancelChecker));
+			collect(references, collector);
 			break;
 		}
 		case ExpressionPart: {
@@ -233,6 +251,12 @@ public class QuteSearchUtils {
 		}
 	}
 
+	private static void collect(List<Symbol> symbols, BiConsumer<Node, Range> collector) {
+		for (Symbol symbol : symbols) {
+			collector.accept(symbol.getNode(), symbol.getRange());
+		}
+	}
+
 	private static void searchReferencedObjects(String partName, PartNameMatcher matcher, Node owerNode,
 			BiConsumer<Node, Range> collector, CancelChecker cancelChecker) {
 		Template template = owerNode.getOwnerTemplate();
@@ -0,0 +1,191 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.utils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * BK-tree index of names used to find names similar to a given name (ex :
+ * 'Did you mean ...?' code actions) without computing the Levenshtein distance
+ * with all the names.
+ *
+ * <p>
+ * A name is similar to a given name if it respects
+ * {@link StringUtils#isSimilar(String, String)}.
+ * </p>
+ *
+ */
+public class SimilarNamesIndex {
+
+	private static class Node {
+
+		private final String name;
+
+		private final int order;
+
+		private Map<Integer /* distance with the parent */, Node> children;
+
+		public Node(String name, int order) {
+			this.name = name;
+			this.order = order;
+		}
+
+		public Node getChild(int distance) {
+			return children != null ? children.get(distance) : null;
+		}
+
+		public void addChild(int distance, Node child) {
+			if (children == null) {
+				children = new HashMap<>();
+			}
+			children.put(distance, child);
+		}
+	}
+
+	private static class Match {
+
+		private final Node node;
+
+		private final int distance;
+
+		public Match(Node node, int distance) {
+			this.node = node;
+			this.distance = distance;
+		}
+	}
+
+	private static final Comparator<Match> BY_DISTANCE = Comparator.<Match>comparingInt(m -> m.distance)
+			.thenComparingInt(m -> m.node.order);
+
+	private static final Comparator<Match> BY_ORDER = Comparator.comparingInt(m -> m.node.order);
+
+	private Node root;
+
+	private int size;
+
+	private int maxLength;
+
+	/**
+	 * Create the index with the given names.
+	 *
+	 * @param names the names to index. The order of the names is the order of
+	 *              the result of {@link #findSimilarNames(String, int)}.
+	 */
+	public SimilarNamesIndex(Collection<String> names) {
+		for (String name : names) {
+			add(name);
+		}
+	}
+
+	private void add(String name) {
+		if (root == null) {
+			root = new Node(name, size++);
+			maxLength = name.length();
+			return;
+		}
+		Node current = root;
+		while (true) {
+			int distance = distance(current.name, name);
+			if (distance == 0) {
+				// Name already indexed
+				return;
+			}
+			Node child = current.getChild(distance);
+			if (child == null) {
+				current.addChild(distance, new Node(name, size++));
+				maxLength = Math.max(maxLength, name.length());
+				return;
+			}
+			current = child;
+		}
+	}
+
+	/**
+	 * Returns the indexed names which are similar to the given name ordered like
+	 * the indexed names.
+	 *
+	 * <p>
+	 * When there are more than <code>limit</code> similar names, only the
+	 * <code>limit</code> closest names are returned.
+	 * </p>
+	 *
+	 * @param name  the name.
+	 * @param limit the max number of similar names to return.
+	 *
+	 * @return the indexed names which are similar to the given name ordered like
+	 *         the indexed names.
+	 */
+	public List<String> findSimilarNames(String name, int limit) {
+		if (root == null || limit <= 0) {
+			return new ArrayList<>();
+		}
+		// The allowed distance depends on the length of the indexed name, and the
+		// distance is greater than or equal to the length difference, so only indexed
+		// names with a length lower than (name.length + 1) / (1 - ratio) can be
+		// similar.
+		int maxCandidateLength = Math.min(maxLength,
+				(int) ((name.length() + 1) / (1 - StringUtils.MAX_DISTANCE_DIFF_RATIO)));
+		int radius = StringUtils.getMaxSimilarDistance(maxCandidateLength);
+
+		List<Match> matches = new ArrayList<>();
+		Deque<Node> nodes = new ArrayDeque<>();
+		nodes.push(root);
+		while (!nodes.isEmpty()) {
+			Node node = nodes.pop();
+			int distance = distance(node.name, name);
+			if (distance <= StringUtils.getMaxSimilarDistance(node.name.length())) {
+				matches.add(new Match(node, distance));
+			}
+			if (node.children != null) {
+				// Triangle inequality: the similar names are in the children with a distance
+				// in [distance - radius, distance + radius]
+				for (Map.Entry<Integer, Node> child : node.children.entrySet()) {
+					int childDistance = child.getKey();
+					if (childDistance >= distance - radius && childDistance <= distance + radius) {
+						nodes.push(child.getValue());
+					}
+				}
+			}
+		}
+
+		if (matches.size() > limit) {
+			matches.sort(BY_DISTANCE);
+			matches = new ArrayList<>(matches.subList(0, limit));
+		}
+		matches.sort(BY_ORDER);
+		List<String> names = new ArrayList<>(matches.size());
+		for (Match match : matches) {
+			names.add(match.node.name);
+		}
+		return names;
+	}
+
+	/**
+	 * Returns the count of indexed names.
+	 *
+	 * @return the count of indexed names.
+	 */
+	public int size() {
+		return size;
+	}
+
+	private static int distance(String left, String right) {
+		return LevenshteinDistance.getDefaultInstance().apply(left, right);
+	}
+}
@@ -26,7 +26,7 @@ public class StringUtils {
 	public static final String FALSE = "false";
 	public static final Collection<String> TRUE_FALSE_ARRAY = Arrays.asList(TRUE, FALSE);
 
-	private static final float MAX_DISTANCE_DIFF_RATIO = 0.4f;
+	static final float MAX_DISTANCE_DIFF_RATIO = 0.4f;
 
 	private StringUtils() {
 	}
@@ -390,9 +390,21 @@ public class StringUtils {
 	 * @return true if the two strings are similar, false otherwise
 	 */
 	public static boolean isSimilar(String reference, String current) {
-		int threshold = Math.round(MAX_DISTANCE_DIFF_RATIO * reference.length());
+		int threshold = getMaxSimilarDistance(reference.length());
 		LevenshteinDistance levenshteinDistance = new LevenshteinDistance(threshold);
 		return levenshteinDistance.apply(reference, current) != -1;
 	}
 
+	/**
+	 * Returns the max Levenshtein distance allowed to consider that a string is
+	 * similar to a reference string with the given length.
+	 *
+	 * @param referenceLength the length of the reference string.
+	 * @return the max Levenshtein distance allowed to consider that a string is
+	 *         similar to a reference string with the given length.
+	 */
+	public static int getMaxSimilarDistance(int referenceLength) {
+		return Math.round(MAX_DISTANCE_DIFF_RATIO * referenceLength);
+	}
+
 }
@@ -0,0 +1,204 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.validator;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.eclipse.lsp4j.Diagnostic;
+
+import com.redhat.qute.commons.ProjectInfo;
+import com.redhat.qute.ls.api.QuteJavaDefinitionProvider;
+import com.redhat.qute.ls.api.QuteJavaTypesProvider;
+import com.redhat.qute.ls.api.QuteJavadocProvider;
+import com.redhat.qute.parser.template.Template;
+import com.redhat.qute.parser.template.TemplateParser;
+import com.redhat.qute.project.QuteProject;
+import com.redhat.qute.project.QuteProjectRegistry;
+import com.redhat.qute.project.QuteProjectSnapshot;
+import com.redhat.qute.project.QuteProjectSnapshotProvider;
+import com.redhat.qute.project.datamodel.JavaDataModelCache;
+import com.redhat.qute.services.QuteLanguageService;
+import com.redhat.qute.services.ResolvingJavaTypeContext;
+import com.redhat.qute.settings.QuteNativeSettings;
+import com.redhat.qute.settings.QuteValidationSettings;
+
+/**
+ * Validates all the Qute templates of a template base dir in parallel, with the
+ * Java information loaded from a {@link QuteProjectSnapshot}.
+ *
+ * <p>
+ * All the templates share the same {@link QuteProjectRegistry}, so a Java type
+ * is resolved once for all the templates.
+ * </p>
+ *
+ */
+public class QuteTemplateValidator {
+
+	private static final int MAX_VALIDATION_ATTEMPTS = 5;
+
+	/**
+	 * The file extensions of the Qute templates (ex : 'items.html',
+	 * 'items.qute.html'), like the suffixes used to resolve the #include section.
+	 */
+	private static final String[] TEMPLATE_EXTENSIONS = { ".html", ".json", ".txt", ".yaml" };
+
+	private final Path templateBaseDir;
+
+	private final String projectUri;
+
+	private final QuteProjectSnapshotProvider snapshotProvider;
+
+	private final QuteProjectRegistry projectRegistry;
+
+	private final JavaDataModelCache javaCache;
+
+	private final QuteLanguageService languageService;
+
+	private final QuteValidationSettings validationSettings;
+
+	private final QuteNativeSettings nativeSettings;
+
+	public QuteTemplateValidator(Path templateBaseDir, QuteProjectSnapshot snapshot,
+			QuteValidationSettings validationSettings, QuteNativeSettings nativeSettings) {
+		this.templateBaseDir = templateBaseDir.toAbsolutePath().normalize();
+		this.projectUri = snapshot.getProjectUri() != null ? snapshot.getProjectUri()
+				: this.templateBaseDir.toUri().toString();
+		this.snapshotProvider = new QuteProjectSnapshotProvider(snapshot);
+		this.projectRegistry = new QuteProjectRegistry(new QuteJavaTypesProvider() {
+		}, new QuteJavaDefinitionProvider() {
+		}, snapshotProvider, snapshotProvider, snapshotProvider, new QuteJavadocProvider() {
+		});
+		this.javaCache = new JavaDataModelCache(projectRegistry);
+		this.languageService = new QuteLanguageService(javaCache);
+		this.validationSettings = validationSettings;
+		this.nativeSettings = nativeSettings;
+	}
+
+	/**
+	 * Validate all the templates of the template base dir with the given number
+	 * of threads.
+	 *
+	 * @param nbThreads the number of threads.
+	 *
+	 * @return the validation result of each template, ordered by template id.
+	 *
+	 * @throws IOException
+	 * @throws InterruptedException
+	 */
+	public List<TemplateValidationResult> validate(int nbThreads) throws IOException, InterruptedException {
+		ProjectInfo projectInfo = new ProjectInfo(projectUri, templateBaseDir.toUri().toString());
+		QuteProject project = projectRegistry.getProject(projectInfo);
+		warmUp(project);
+
+		List<Path> templatePaths = collectTemplatePaths();
+		ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, nbThreads));
+		try {
+			List<Future<TemplateValidationResult>> futures = new ArrayList<>(templatePaths.size());
+			for (Path templatePath : templatePaths) {
+				futures.add(executor.submit(() -> validate(templatePath, project)));
+			}
+			List<TemplateValidationResult> results = new ArrayList<>(futures.size());
+			for (Future<TemplateValidationResult> future : futures) {
+				try {
+					results.add(future.get());
+				} catch (ExecutionException e) {
+					Throwable cause = e.getCause();
+					if (cause instanceof IOException) {
+						throw (IOException) cause;
+					}
+					throw new IOException(cause);
+				}
+			}
+			return results;
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Load the data model, the user tags and the Java types of the snapshot before
+	 * the parallel validation.
+	 *
+	 * @param project the Qute project.
+	 */
+	private void warmUp(QuteProject project) {
+		project.getDataModelProject().join();
+		project.getBinaryUserTags().join();
+		project.getSourceUserTags();
+		for (String signature : snapshotProvider.getResolvedTypeSignatures()) {
+			javaCache.resolveJavaType(signature, projectUri).join();
+		}
+	}
+
+	private List<Path> collectTemplatePaths() throws IOException {
+		if (!Files.isDirectory(templateBaseDir)) {
+			return Collections.emptyList();
+		}
+		try (Stream<Path> paths = Files.walk(templateBaseDir)) {
+			return paths //
+					.filter(Files::isRegularFile) //
+					.filter(QuteTemplateValidator::isTemplateFile) //
+					.sorted() //
+					.collect(Collectors.toList());
+		}
+	}
+
+	private static boolean isTemplateFile(Path path) {
+		String fileName = path.getFileName().toString();
+		for (String extension : TEMPLATE_EXTENSIONS) {
+			if (fileName.endsWith(extension)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private TemplateValidationResult validate(Path templatePath, QuteProject project) throws IOException {
+		String content = new String(Files.readAllBytes(templatePath), StandardCharsets.UTF_8);
+		String uri = templatePath.toUri().toString();
+		String templateId = project.getTemplateId(templatePath);
+
+		Template template = TemplateParser.parse(content, uri);
+		template.setProjectUri(projectUri);
+		template.setTemplateId(templateId);
+		template.setProjectRegistry(projectRegistry);
+
+		List<Diagnostic> diagnostics = null;
+		for (int i = 0; i < MAX_VALIDATION_ATTEMPTS; i++) {
+			ResolvingJavaTypeContext resolvingJavaTypeContext = new ResolvingJavaTypeContext(template, javaCache);
+			diagnostics = languageService.doDiagnostics(template, validationSettings, nativeSettings,
+					resolvingJavaTypeContext, () -> {
+					});
+			if (resolvingJavaTypeContext.isEmpty()) {
+				break;
+			}
+			// Some Java types was not loaded, wait for that all Java types are resolved to
+			// validate again the template.
+			CompletableFuture.allOf(resolvingJavaTypeContext
+					.toArray(new CompletableFuture[resolvingJavaTypeContext.size()])).join();
+		}
+		return new TemplateValidationResult(uri, templateId, diagnostics);
+	}
+}
@@ -0,0 +1,222 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.validator;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.DiagnosticSeverity;
+import org.eclipse.lsp4j.Range;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.redhat.qute.utils.JSONUtility;
+
+/**
+ * Qute validation report which serializes the {@link TemplateValidationResult}
+ * as JSON or SARIF.
+ *
+ * @see <a href=
+ *      "https://docs.oasis-open.org/sarif/sarif/v2.1.0/sarif-v2.1.0.html">SARIF
+ *      2.1.0</a>
+ */
+public class QuteValidationReport {
+
+	public enum Format {
+		json, sarif;
+	}
+
+	private static final String SARIF_SCHEMA = "https://json.schemastore.org/sarif-2.1.0.json";
+
+	private static final String SARIF_VERSION = "2.1.0";
+
+	private static final String TOOL_NAME = "qute-validator";
+
+	private static final String TOOL_INFORMATION_URI = "https://github.com/redhat-developer/quarkus-ls";
+
+	private final List<TemplateValidationResult> results;
+
+	public QuteValidationReport(List<TemplateValidationResult> results) {
+		this.results = results;
+	}
+
+	/**
+	 * Returns the count of diagnostics with the given severity.
+	 *
+	 * @param severity the diagnostic severity.
+	 *
+	 * @return the count of diagnostics with the given severity.
+	 */
+	public int getCount(DiagnosticSeverity severity) {
+		int count = 0;
+		for (TemplateValidationResult result : results) {
+			for (Diagnostic diagnostic : result.getDiagnostics()) {
+				if (getSeverity(diagnostic) == severity) {
+					count++;
+				}
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Returns true if one template has at least one error and false otherwise.
+	 *
+	 * @return true if one template has at least one error and false otherwise.
+	 */
+	public boolean hasErrors() {
+		return results.stream().anyMatch(TemplateValidationResult::hasErrors);
+	}
+
+	/**
+	 * Returns the report with the given format.
+	 *
+	 * @param format the report format.
+	 *
+	 * @return the report with the given format.
+	 */
+	public String toString(Format format) {
+		switch (format) {
+		case sarif:
+			return toSarif();
+		default:
+			return toJson();
+		}
+	}
+
+	/**
+	 * Returns the report as JSON.
+	 *
+	 * @return the report as JSON.
+	 */
+	public String toJson() {
+		Gson gson = createGson();
+		JsonObject report = new JsonObject();
+		JsonArray templates = new JsonArray();
+		for (TemplateValidationResult result : results) {
+			JsonObject template = new JsonObject();
+			template.addProperty("uri", result.getUri());
+			template.addProperty("templateId", result.getTemplateId());
+			template.add("diagnostics", gson.toJsonTree(result.getDiagnostics()));
+			templates.add(template);
+		}
+		report.add("templates", templates);
+		report.addProperty("errors", getCount(DiagnosticSeverity.Error));
+		report.addProperty("warnings", getCount(DiagnosticSeverity.Warning));
+		return gson.toJson(report);
+	}
+
+	/**
+	 * Returns the report as SARIF 2.1.0.
+	 *
+	 * @return the report as SARIF 2.1.0.
+	 */
+	public String toSarif() {
+		Set<String> ruleIds = new LinkedHashSet<>();
+		JsonArray sarifResults = new JsonArray();
+		for (TemplateValidationResult result : results) {
+			for (Diagnostic diagnostic : result.getDiagnostics()) {
+				String ruleId = getRuleId(diagnostic);
+				ruleIds.add(ruleId);
+
+				JsonObject sarifResult = new JsonObject();
+				sarifResult.addProperty("ruleId", ruleId);
+				sarifResult.addProperty("level", getSarifLevel(diagnostic));
+				JsonObject message = new JsonObject();
+				message.addProperty("text", diagnostic.getMessage());
+				sarifResult.add("message", message);
+				JsonArray locations = new JsonArray();
+				locations.add(createSarifLocation(result.getUri(), diagnostic.getRange()));
+				sarifResult.add("locations", locations);
+				sarifResults.add(sarifResult);
+			}
+		}
+
+		JsonArray rules = new JsonArray();
+		for (String ruleId : ruleIds) {
+			JsonObject rule = new JsonObject();
+			rule.addProperty("id", ruleId);
+			rules.add(rule);
+		}
+		JsonObject driver = new JsonObject();
+		driver.addProperty("name", TOOL_NAME);
+		driver.addProperty("informationUri", TOOL_INFORMATION_URI);
+		driver.add("rules", rules);
+		JsonObject tool = new JsonObject();
+		tool.add("driver", driver);
+
+		JsonObject run = new JsonObject();
+		run.add("tool", tool);
+		run.add("results", sarifResults);
+		JsonArray runs = new JsonArray();
+		runs.add(run);
+
+		JsonObject sarif = new JsonObject();
+		sarif.addProperty("$schema", SARIF_SCHEMA);
+		sarif.addProperty("version", SARIF_VERSION);
+		sarif.add("runs", runs);
+		return createGson().toJson(sarif);
+	}
+
+	private static JsonObject createSarifLocation(String uri, Range range) {
+		JsonObject artifactLocation = new JsonObject();
+		artifactLocation.addProperty("uri", uri);
+		JsonObject region = new JsonObject();
+		// SARIF lines and columns are 1-based
+		region.addProperty("startLine", range.getStart().getLine() + 1);
+		region.addProperty("startColumn", range.getStart().getCharacter() + 1);
+		region.addProperty("endLine", range.getEnd().getLine() + 1);
+		region.addProperty("endColumn", range.getEnd().getCharacter() + 1);
+		JsonObject physicalLocation = new JsonObject();
+		physicalLocation.add("artifactLocation", artifactLocation);
+		physicalLocation.add("region", region);
+		JsonObject location = new JsonObject();
+		location.add("physicalLocation", physicalLocation);
+		return location;
+	}
+
+	private static String getRuleId(Diagnostic diagnostic) {
+		if (diagnostic.getCode() != null) {
+			if (diagnostic.getCode().isLeft()) {
+				return diagnostic.getCode().getLeft();
+			}
+			return String.valueOf(diagnostic.getCode().getRight());
+		}
+		return diagnostic.getSource() != null ? diagnostic.getSource() : "qute";
+	}
+
+	private static String getSarifLevel(Diagnostic diagnostic) {
+		switch (getSeverity(diagnostic)) {
+		case Warning:
+			return "warning";
+		case Information:
+		case Hint:
+			return "note";
+		default:
+			return "error";
+		}
+	}
+
+	private static DiagnosticSeverity getSeverity(Diagnostic diagnostic) {
+		return diagnostic.getSeverity() != null ? diagnostic.getSeverity() : DiagnosticSeverity.Error;
+	}
+
+	private static Gson createGson() {
+		return JSONUtility.getDefaultGsonBuilder() //
+				.setPrettyPrinting() //
+				.disableHtmlEscaping() //
+				.create();
+	}
+}
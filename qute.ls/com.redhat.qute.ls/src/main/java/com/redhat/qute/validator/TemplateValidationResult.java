@@ -0,0 +1,79 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.validator;
+
+import java.util.List;
+
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.DiagnosticSeverity;
+
+/**
+ * Validation result of a Qute template.
+ *
+ */
+public class TemplateValidationResult {
+
+	private final String uri;
+
+	private final String templateId;
+
+	private final List<Diagnostic> diagnostics;
+
+	public TemplateValidationResult(String uri, String templateId, List<Diagnostic> diagnostics) {
+		this.uri = uri;
+		this.templateId = templateId;
+		this.diagnostics = diagnostics;
+	}
+
+	/**
+	 * Returns the template Uri.
+	 *
+	 * @return the template Uri.
+	 */
+	public String getUri() {
+		return uri;
+	}
+
+	/**
+	 * Returns the template id (ex : 'detail/items').
+	 *
+	 * @return the template id (ex : 'detail/items').
+	 */
+	public String getTemplateId() {
+		return templateId;
+	}
+
+	/**
+	 * Returns the diagnostics of the template.
+	 *
+	 * @return the diagnostics of the template.
+	 */
+	public List<Diagnostic> getDiagnostics() {
+		return diagnostics;
+	}
+
+	/**
+	 * Returns true if the template has at least one error diagnostic and false
+	 * otherwise.
+	 *
+	 * @return true if the template has at least one error diagnostic and false
+	 *         otherwise.
+	 */
+	public boolean hasErrors() {
+		for (Diagnostic diagnostic : diagnostics) {
+			if (diagnostic.getSeverity() == null || diagnostic.getSeverity() == DiagnosticSeverity.Error) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
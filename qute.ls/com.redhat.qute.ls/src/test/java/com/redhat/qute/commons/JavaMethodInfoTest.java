@@ -132,4 +132,14 @@ public class JavaMethodInfoTest {
 		assertEquals("java.lang.String", method.getReturnType());
 		assertEquals("pretty(item : Item, elements : String...) : String", method.getSimpleSignature());
 	}
+	@Test
+	public void noReturnType() {
+		String signature = "set(name : java.lang.String)";
+		JavaMethodInfo method = new JavaMethodInfo();
+		method.setSignature(signature);
+		assertEquals("set", method.getName());
+		assertTrue(method.hasParameters());
+		assertNull(method.getReturnType());
+	}
+
 }
@@ -129,4 +129,16 @@ public class JavaTypeInfoTest {
 		assertFalse(type.isGenericType());
 	}
 
+	@Test
+	public void nestedTypeParameters() {
+		String signature = "java.util.Map<K,java.util.Map<java.lang.String,java.util.List<V>>>";
+		JavaTypeInfo type = new JavaTypeInfo();
+		type.setSignature(signature);
+		assertEquals("java.util.Map", type.getName());
+		assertTrue(type.isGenericType());
+		assertEquals(2, type.getTypeParameters().size());
+		assertEquals("K", type.getTypeParameters().get(0).getType());
+		assertEquals("java.util.Map<java.lang.String,java.util.List<V>>", type.getTypeParameters().get(1).getType());
+	}
+
 }
@@ -11,8 +11,11 @@
 *******************************************************************************/
 package com.redhat.qute.commons;
 
+import static com.redhat.qute.QuteAssert.TEMPLATE_BASE_DIR;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
@@ -21,6 +24,8 @@ import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
+import com.redhat.qute.project.MockQuteProjectRegistry;
+import com.redhat.qute.project.QuteProject;
 import com.redhat.qute.project.QuteProjectRegistry;
 
 /**
@@ -180,4 +185,64 @@ public class ResolvedJavaTypeInfoTest {
 		assertEquals("getD() : Map<List<Item>,String>", methods.get(2).getSimpleSignature());
 	}
 
+	@Test
+	public void nestedTypeParameters() {
+		ResolvedJavaTypeInfo map = new ResolvedJavaTypeInfo();
+		map.setSignature("java.util.Map<K,V>");
+		map.setFields(new ArrayList<JavaFieldInfo>());
+		map.setMethods(new ArrayList<JavaMethodInfo>());
+
+		JavaFieldInfo field = new JavaFieldInfo();
+		field.setSignature("entries : java.util.Map<K,java.util.Map<K,V>>");
+		map.getFields().add(field);
+
+		JavaMethodInfo method = new JavaMethodInfo();
+		method.setSignature("merge(entries : java.util.Map<K,java.util.List<V>>, key : K) : java.util.Set<java.util.Map$Entry<K,V>>");
+		map.getMethods().add(method);
+
+		Map<String, String> generics = map.createGenericMap("java.util.Map<java.lang.String,org.acme.Item>");
+		ResolvedJavaTypeInfo typeWithGenericApply = QuteProjectRegistry.updateJavaType(map, generics);
+
+		assertEquals("entries : java.util.Map<java.lang.String,java.util.Map<java.lang.String,org.acme.Item>>",
+				typeWithGenericApply.getFields().get(0).getSignature());
+		assertEquals(
+				"merge(entries : java.util.Map<java.lang.String,java.util.List<org.acme.Item>>, key : java.lang.String) : java.util.Set<java.util.Map$Entry<java.lang.String,org.acme.Item>>",
+				typeWithGenericApply.getMethods().get(0).getSignature());
+	}
+
+	@Test
+	public void shareGenericTypeInvocation() {
+		MockQuteProjectRegistry registry = new MockQuteProjectRegistry();
+		QuteProject project1 = registry.getProject(new ProjectInfo("project-1", TEMPLATE_BASE_DIR));
+		QuteProject project2 = registry.getProject(new ProjectInfo("project-2", TEMPLATE_BASE_DIR));
+
+		// java.util.List is a binary Java type shared between projects
+		ResolvedJavaTypeInfo list = new ResolvedJavaTypeInfo();
+		list.setSignature("java.util.List<E>");
+
+		// Same generic Map -> same Java type
+		ResolvedJavaTypeInfo listOfItem = QuteProjectRegistry.updateJavaType(list,
+				list.createGenericMap("java.util.List<org.acme.Item>"), project1);
+		assertEquals("java.util.List<org.acme.Item>", listOfItem.getSignature());
+		assertSame(listOfItem, QuteProjectRegistry.updateJavaType(list,
+				list.createGenericMap("java.util.List<org.acme.Item>"), project1));
+
+		// Other generic Map -> other Java type
+		ResolvedJavaTypeInfo listOfString = QuteProjectRegistry.updateJavaType(list,
+				list.createGenericMap("java.util.List<java.lang.String>"), project1);
+		assertEquals("java.util.List<java.lang.String>", listOfString.getSignature());
+		assertNotSame(listOfItem, listOfString);
+
+		// Other project -> other Java type
+		ResolvedJavaTypeInfo listOfItemInProject2 = QuteProjectRegistry.updateJavaType(list,
+				list.createGenericMap("java.util.List<org.acme.Item>"), project2);
+		assertEquals("java.util.List<org.acme.Item>", listOfItemInProject2.getSignature());
+		assertNotSame(listOfItem, listOfItemInProject2);
+
+		// Java types reset -> the Java type is created again
+		project1.resetJavaTypes();
+		assertNotSame(listOfItem, QuteProjectRegistry.updateJavaType(list,
+				list.createGenericMap("java.util.List<org.acme.Item>"), project1));
+	}
+
 }
\ No newline at end of file
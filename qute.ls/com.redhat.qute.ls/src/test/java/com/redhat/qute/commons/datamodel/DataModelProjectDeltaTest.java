@@ -0,0 +1,134 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.commons.datamodel;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import com.redhat.qute.commons.datamodel.resolvers.ValueResolverInfo;
+import com.redhat.qute.commons.datamodel.resolvers.ValueResolverKind;
+
+/**
+ * Tests for {@link DataModelProjectDelta}.
+ *
+ */
+public class DataModelProjectDeltaTest {
+
+	@Test
+	public void createDelta() {
+		DataModelProject<DataModelTemplate<DataModelParameter>> oldProject = createProject("1", //
+				Arrays.asList(createTemplate("templates/hello", "name", "java.lang.String"), //
+						createTemplate("templates/items", "items", "java.util.List<org.acme.Item>"), //
+						createTemplate("templates/removed", "name", "java.lang.String")), //
+				Arrays.asList(createResolver("org.acme.Bean", "bean : org.acme.Bean"), //
+						createResolver("org.acme.Removed", "removed : org.acme.Removed")));
+
+		DataModelProject<DataModelTemplate<DataModelParameter>> newProject = createProject("2", //
+				Arrays.asList(createTemplate("templates/hello", "name", "java.lang.String"), //
+						createTemplate("templates/items", "items", "java.util.List<org.acme.Product>"), //
+						createTemplate("templates/added", "name", "java.lang.String")), //
+				Arrays.asList(createResolver("org.acme.Bean", "bean : org.acme.Bean"), //
+						createResolver("org.acme.Added", "added : org.acme.Added")));
+
+		DataModelProject<DataModelTemplate<DataModelParameter>> delta = DataModelProjectDelta.createDelta(oldProject,
+				newProject);
+		assertTrue(delta.isDelta());
+		assertEquals("1", delta.getBaseGeneration());
+		assertEquals("2", delta.getGeneration());
+
+		// templates/hello has not changed
+		assertEquals(Arrays.asList("templates/items", "templates/added"), delta.getTemplates().stream() //
+				.map(DataModelTemplate::getTemplateUri) //
+				.collect(Collectors.toList()));
+		assertEquals(Arrays.asList("templates/removed"), delta.getRemovedTemplates());
+
+		assertEquals(1, delta.getValueResolvers().size());
+		assertEquals("org.acme.Added", delta.getValueResolvers().get(0).getSourceType());
+		assertEquals(
+				Arrays.asList(DataModelProjectDelta
+						.getValueResolverKey(createResolver("org.acme.Removed", "removed : org.acme.Removed"))),
+				delta.getRemovedValueResolvers());
+	}
+
+	@Test
+	public void noChanges() {
+		DataModelProject<DataModelTemplate<DataModelParameter>> oldProject = createProject("1", //
+				Arrays.asList(createTemplate("templates/hello", "name", "java.lang.String")), //
+				Arrays.asList(createResolver("org.acme.Bean", "bean : org.acme.Bean")));
+		DataModelProject<DataModelTemplate<DataModelParameter>> newProject = createProject("2", //
+				Arrays.asList(createTemplate("templates/hello", "name", "java.lang.String")), //
+				Arrays.asList(createResolver("org.acme.Bean", "bean : org.acme.Bean")));
+
+		DataModelProject<DataModelTemplate<DataModelParameter>> delta = DataModelProjectDelta.createDelta(oldProject,
+				newProject);
+		assertTrue(delta.getTemplates().isEmpty());
+		assertTrue(delta.getRemovedTemplates().isEmpty());
+		assertTrue(delta.getValueResolvers().isEmpty());
+		assertTrue(delta.getRemovedValueResolvers().isEmpty());
+	}
+
+	@Test
+	public void duplicateTemplateUri() {
+		DataModelProject<DataModelTemplate<DataModelParameter>> oldProject = createProject("1", //
+				Arrays.asList(createTemplate("templates/hello", "name", "java.lang.String"), //
+						createTemplate("templates/hello", "name", "java.lang.Integer")), //
+				Collections.emptyList());
+		DataModelProject<DataModelTemplate<DataModelParameter>> newProject = createProject("2", //
+				Arrays.asList(createTemplate("templates/hello", "name", "java.lang.String")), //
+				Collections.emptyList());
+
+		// The template cannot be identified by its uri, the whole data model project
+		// must be sent.
+		assertNull(DataModelProjectDelta.createDelta(oldProject, newProject));
+	}
+
+	private static DataModelProject<DataModelTemplate<DataModelParameter>> createProject(String generation,
+			List<DataModelTemplate<DataModelParameter>> templates, List<ValueResolverInfo> valueResolvers) {
+		DataModelProject<DataModelTemplate<DataModelParameter>> project = new DataModelProject<>();
+		project.setGeneration(generation);
+		project.setTemplates(templates);
+		project.setValueResolvers(valueResolvers);
+		project.setNamespaceResolverInfos(new HashMap<>());
+		return project;
+	}
+
+	private static DataModelTemplate<DataModelParameter> createTemplate(String templateUri, String key,
+			String sourceType) {
+		DataModelTemplate<DataModelParameter> template = new DataModelTemplate<>();
+		template.setTemplateUri(templateUri);
+		template.setSourceType("org.acme.Resource");
+		DataModelParameter parameter = new DataModelParameter();
+		parameter.setKey(key);
+		parameter.setSourceType(sourceType);
+		template.setParameters(new ArrayList<>(Arrays.asList(parameter)));
+		return template;
+	}
+
+	private static ValueResolverInfo createResolver(String sourceType, String signature) {
+		ValueResolverInfo resolver = new ValueResolverInfo();
+		resolver.setNamespace("inject");
+		resolver.setSourceType(sourceType);
+		resolver.setSignature(signature);
+		resolver.setKind(ValueResolverKind.InjectedBean);
+		return resolver;
+	}
+}
@@ -0,0 +1,173 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.commons.json;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.eclipse.lsp4j.jsonrpc.json.MessageJsonHandler;
+import org.junit.jupiter.api.Test;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import com.redhat.qute.commons.InvalidMethodReason;
+import com.redhat.qute.commons.JavaFieldInfo;
+import com.redhat.qute.commons.JavaMethodInfo;
+import com.redhat.qute.commons.JavaTypeKind;
+import com.redhat.qute.commons.ResolvedJavaTypeInfo;
+import com.redhat.qute.commons.datamodel.DataModelParameter;
+import com.redhat.qute.commons.datamodel.DataModelProject;
+import com.redhat.qute.commons.datamodel.DataModelTemplate;
+import com.redhat.qute.commons.datamodel.resolvers.ValueResolverInfo;
+import com.redhat.qute.commons.datamodel.resolvers.ValueResolverKind;
+import com.redhat.qute.commons.usertags.UserTagInfo;
+
+/**
+ * Tests for the streaming Gson type adapters of the Java data model.
+ *
+ */
+public class JsonTypeAdaptersTest {
+
+	private static final Gson GSON = new MessageJsonHandler(Collections.emptyMap()).getGson();
+
+	@Test
+	public void readResolvedJavaType() {
+		// JSON generated with the reflective Gson adapter
+		String json = "{" + //
+				"\"extendedTypes\":[\"java.util.Collection<E>\"]," + //
+				"\"fields\":[{\"signature\":\"EMPTY : java.util.List<E>\"}]," + //
+				"\"methods\":[{\"signature\":\"get(index : int) : E\",\"documentation\":\"Get the item.\"}]," + //
+				"\"binary\":true," + //
+				"\"binaryLocation\":\"/jdk/lib/jrt-fs.jar!/java.base@1\"," + //
+				"\"registerForReflectionAnnotation\":{\"methods\":false,\"targets\":[\"org.acme.Item\"]}," + //
+				"\"typeKind\":3," + //
+				"\"parameters\":[{\"name\":null,\"type\":\"E\"}]," + //
+				"\"name\":\"java.util.List\"," + //
+				"\"invalidMethods\":{\"clear\":\"VoidReturn\"}," + //
+				"\"signature\":\"java.util.List<E>\"," + //
+				"\"unknown\":{\"foo\":[1,2]}" + //
+				"}";
+
+		ResolvedJavaTypeInfo javaType = GSON.fromJson(json, ResolvedJavaTypeInfo.class);
+		assertEquals("java.util.List<E>", javaType.getSignature());
+		assertEquals("java.util.List", javaType.getName());
+		assertEquals(1, javaType.getTypeParameters().size());
+		assertEquals(Arrays.asList("java.util.Collection<E>"), javaType.getExtendedTypes());
+		assertTrue(javaType.isBinary());
+		assertEquals("/jdk/lib/jrt-fs.jar!/java.base@1", javaType.getBinaryLocation());
+		assertEquals(JavaTypeKind.Interface, javaType.getJavaTypeKind());
+		assertEquals(InvalidMethodReason.VoidReturn, javaType.getInvalidMethodReason("clear"));
+		assertFalse(javaType.getRegisterForReflectionAnnotation().isMethods());
+		assertEquals(Arrays.asList("org.acme.Item"), javaType.getRegisterForReflectionAnnotation().getTargets());
+
+		assertEquals(1, javaType.getFields().size());
+		JavaFieldInfo field = javaType.getFields().get(0);
+		assertEquals("EMPTY", field.getName());
+		assertEquals("java.util.List<E>", field.getType());
+
+		assertEquals(1, javaType.getMethods().size());
+		JavaMethodInfo method = javaType.getMethods().get(0);
+		assertEquals("get", method.getName());
+		assertEquals("Get the item.", method.getDocumentation());
+
+		// Signatures are interned
+		assertSame(javaType.getSignature(), "java.util.List<E>");
+		assertSame(method.getSignature(), "get(index : int) : E");
+	}
+
+	@Test
+	public void writeResolvedJavaType() {
+		ResolvedJavaTypeInfo javaType = new ResolvedJavaTypeInfo();
+		javaType.setSignature("org.acme.Item");
+		javaType.setBinary(false);
+		JavaFieldInfo field = new JavaFieldInfo();
+		field.setSignature("name : java.lang.String");
+		javaType.setFields(Arrays.asList(field));
+		javaType.setJavaTypeKind(JavaTypeKind.Class);
+		// Computed by the signature, must not be written
+		javaType.getTypeParameters();
+
+		String json = GSON.toJson(javaType);
+		assertEquals("{\"signature\":\"org.acme.Item\",\"typeKind\":2," + //
+				"\"fields\":[{\"signature\":\"name : java.lang.String\"}]}", json);
+
+		ResolvedJavaTypeInfo result = GSON.fromJson(json, ResolvedJavaTypeInfo.class);
+		assertEquals("org.acme.Item", result.getSignature());
+		assertEquals(JavaTypeKind.Class, result.getJavaTypeKind());
+		assertFalse(result.isBinary());
+		assertEquals(1, result.getFields().size());
+		assertTrue(result.getMethods().isEmpty());
+	}
+
+	@Test
+	public void dataModelProject() {
+		DataModelParameter parameter = new DataModelParameter();
+		parameter.setKey("item");
+		parameter.setSourceType("org.acme.Item");
+		parameter.setDataMethodInvocation(true);
+
+		DataModelTemplate<DataModelParameter> template = new DataModelTemplate<>();
+		template.setTemplateUri("src/main/resources/templates/item");
+		template.setSourceType("org.acme.ItemResource");
+		template.setParameters(Arrays.asList(parameter));
+
+		ValueResolverInfo resolver = new ValueResolverInfo();
+		resolver.setNamespace("inject");
+		resolver.setSignature("bean : org.acme.Bean");
+		resolver.setSourceType("org.acme.Bean");
+		resolver.setKind(ValueResolverKind.InjectedBean);
+
+		DataModelProject<DataModelTemplate<DataModelParameter>> project = new DataModelProject<>();
+		project.setTemplates(Arrays.asList(template));
+		project.setValueResolvers(Arrays.asList(resolver));
+
+		Type type = new TypeToken<DataModelProject<DataModelTemplate<DataModelParameter>>>() {
+		}.getType();
+		String json = GSON.toJson(project, type);
+		assertTrue(json.contains(
+				"{\"key\":\"item\",\"sourceType\":\"org.acme.Item\",\"dataMethodInvocation\":true}"), json);
+		assertTrue(json.contains(
+				"{\"namespace\":\"inject\",\"signature\":\"bean : org.acme.Bean\",\"sourceType\":\"org.acme.Bean\",\"kind\":5}"),
+				json);
+
+		DataModelProject<DataModelTemplate<DataModelParameter>> result = GSON.fromJson(json, type);
+		DataModelParameter resultParameter = result.getTemplates().get(0).getParameter("item");
+		assertEquals("org.acme.Item", resultParameter.getSourceType());
+		assertTrue(resultParameter.isDataMethodInvocation());
+		assertEquals(resolver, result.getValueResolvers().get(0));
+		assertEquals(ValueResolverKind.InjectedBean, result.getValueResolvers().get(0).getKind());
+		assertFalse(result.getValueResolvers().get(0).isBinary());
+	}
+
+	@Test
+	public void userTag() {
+		UserTagInfo tagInfo = new UserTagInfo();
+		tagInfo.setFileName("input.html");
+		tagInfo.setUri("jar:file:/qute.jar!/templates/tags/input.html");
+		tagInfo.setContent("<input name=\"{name}\" >");
+
+		String json = GSON.toJson(tagInfo);
+		UserTagInfo result = GSON.fromJson(json, UserTagInfo.class);
+		assertEquals("input.html", result.getFileName());
+		assertEquals("jar:file:/qute.jar!/templates/tags/input.html", result.getUri());
+		assertEquals("<input name=\"{name}\" >", result.getContent());
+
+		assertNull(GSON.fromJson("null", UserTagInfo.class));
+	}
+}
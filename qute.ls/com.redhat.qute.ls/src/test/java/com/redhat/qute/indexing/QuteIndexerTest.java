@@ -2,8 +2,11 @@ package com.redhat.qute.indexing;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.Test;
 
@@ -47,6 +50,20 @@ public class QuteIndexerTest {
 				"]", index.toString());
 	}
 
+	@Test
+	public void indexChangedListener() throws Exception {
+		MockQuteProjectRegistry registry = new MockQuteProjectRegistry();
+		CompletableFuture<QuteProject> indexChanged = new CompletableFuture<>();
+		registry.setIndexChangedListener(indexChanged::complete);
+		QuteProject project = registry
+				.getProject(new ProjectInfo("test-qute", "src/test/resources/templates"));
+
+		// The search of #insert starts the index scan, the listener is called when the
+		// scan is published
+		project.findInsertTagParameter("base.qute.html", "title");
+		assertSame(project, indexChanged.get(10, TimeUnit.SECONDS));
+	}
+
 	private static QuteProject createProject() {
 		ProjectInfo projectInfo = new ProjectInfo("test-qute", "src/test/resources/templates");
 		MockQuteProjectRegistry registry = new MockQuteProjectRegistry();
@@ -187,4 +204,26 @@ public class QuteIndexerTest {
 				"]]", indexes.toString());
 	}
 
+	@Test
+	public void referenceCount() {
+		QuteIndexer indexer = new QuteIndexer(createProject());
+		assertEquals(0, indexer.getGeneration());
+		assertEquals(0, indexer.getReferenceCount("base.qute.html", "title"));
+
+		indexer.scan();
+		assertEquals(1, indexer.getGeneration());
+
+		// BookPage/book.qute.html and BookPage/books.qute.html -->
+		// {#include base}
+		// {#title}...{/title}
+		// {#body}...{/body}
+		assertEquals(2, indexer.getReferenceCount("base.qute.html", "title"));
+		assertEquals(2, indexer.getReferenceCount("base.qute.html", "body"));
+		assertEquals(0, indexer.getReferenceCount("base.qute.html", "footer"));
+
+		// The other templates are not included
+		assertEquals(0, indexer.getReferenceCount("BookPage/book.qute.html", "title"));
+		assertEquals(0, indexer.getReferenceCount("tags/input.html", "title"));
+	}
+
 }
@@ -0,0 +1,60 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.ls.commons;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ValidatorBatcher}.
+ *
+ */
+public class ValidatorBatcherTest {
+
+	@Test
+	public void validateInBatch() throws Exception {
+		List<List<String>> batches = new CopyOnWriteArrayList<>();
+		ScheduledExecutorService executorService = Executors.newSingleThreadScheduledExecutor();
+		ValidatorBatcher<TextDocument> batcher = new ValidatorBatcher<>(executorService, documents -> {
+			batches.add(documents.stream().map(TextDocument::getUri).collect(Collectors.toList()));
+		}, 200, 3);
+
+		// a.java is validated twice in the window, b.java is closed before the end of
+		// the window
+		batcher.validateInBatch(new TextDocument("", "a.java"));
+		batcher.validateInBatch(new TextDocument("", "b.java"));
+		batcher.validateInBatch(new TextDocument("", "a.java"));
+		batcher.cleanPendingValidation("b.java");
+		Thread.sleep(400);
+		assertEquals(Arrays.asList(Arrays.asList("a.java")), batches);
+
+		// The batch is full before the end of the window
+		batches.clear();
+		for (int i = 0; i < 4; i++) {
+			batcher.validateInBatch(new TextDocument("", i + ".java"));
+		}
+		Thread.sleep(400);
+		assertEquals(Arrays.asList(Arrays.asList("0.java", "1.java", "2.java"), Arrays.asList("3.java")), batches);
+
+		executorService.shutdown();
+		executorService.awaitTermination(1, TimeUnit.SECONDS);
+	}
+}
@@ -0,0 +1,92 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.ls.commons.snippets;
+
+import static com.redhat.qute.QuteAssert.r;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.lsp4j.CompletionItem;
+import org.eclipse.lsp4j.InsertTextMode;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link SnippetRegistry} completion items computed with
+ * {@link CompiledSnippet}.
+ *
+ */
+public class SnippetRegistryTest {
+
+	private static class CountSnippetContext extends AbstractSnippetContext<String> {
+
+		private final AtomicInteger count = new AtomicInteger();
+
+		@Override
+		public boolean isMatch(String value, Map<String, String> model) {
+			count.incrementAndGet();
+			return true;
+		}
+	}
+
+	@Test
+	public void insertTextWithDelimiterAndIndent() {
+		SnippetRegistry<Snippet> registry = new SnippetRegistry<>(null, false);
+		registry.registerSnippet(createSnippet("for", null, "{#for ${1:item} in ${2:items}}", "	{${1:item}.${3:name}}$0",
+				"{/for}"));
+
+		// Snippet support
+		CompletionItem item = getCompletionItems(registry, "\n", null, true).get(0);
+		assertEquals("{#for ${1:item} in ${2:items}}\n	{${1:item}.${3:name}}$0\n{/for}",
+				item.getTextEdit().getLeft().getNewText());
+
+		// No snippet support + indentation
+		item = getCompletionItems(registry, "\r\n", "  ", false).get(0);
+		assertEquals("{#for item in items}\r\n  	{item.name}\r\n  {/for}", item.getTextEdit().getLeft().getNewText());
+		assertEquals("{#for item in items}\r\n	{item.name}\r\n{/for}", item.getDocumentation().getRight().getValue());
+
+		// The range is updated for each request
+		assertEquals(r(0, 0, 0, 1), item.getTextEdit().getLeft().getRange());
+	}
+
+	@Test
+	public void contextEvaluatedOncePerRequest() {
+		SnippetRegistry<Snippet> registry = new SnippetRegistry<>(null, false);
+		CountSnippetContext context = new CountSnippetContext();
+		registry.registerSnippet(createSnippet("a", context, "{#a /}"));
+		registry.registerSnippet(createSnippet("b", context, "{#b /}"));
+		registry.registerSnippet(createSnippet("c", context, "{#c /}"));
+
+		assertEquals(3, getCompletionItems(registry, "\n", null, true).size());
+		assertEquals(1, context.count.get());
+	}
+
+	private static List<CompletionItem> getCompletionItems(SnippetRegistry<Snippet> registry, String lineDelimiter,
+			String whitespacesIndent, boolean snippetsSupported) {
+		return registry.getCompletionItems(r(0, 0, 0, 1), lineDelimiter, whitespacesIndent, InsertTextMode.AsIs,
+				false, snippetsSupported, (context, model) -> context.isMatch(null, model), null, null, "");
+	}
+
+	private static Snippet createSnippet(String label, ISnippetContext<?> context, String... body) {
+		Snippet snippet = new Snippet();
+		snippet.setLabel(label);
+		snippet.setPrefixes(Arrays.asList(label));
+		snippet.setBody(Arrays.asList(body));
+		if (context != null) {
+			snippet.setContext(context);
+		}
+		return snippet;
+	}
+}
@@ -0,0 +1,82 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.ls.template;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the data model diagnostics of {@link QuteTextDocument}.
+ *
+ */
+public class QuteTextDocumentTest {
+
+	@Test
+	public void shiftDiagnosticsAfterInsertedLines() {
+		List<Diagnostic> diagnostics = Arrays.asList(d(1, "a"), d(5, "b"), d(10, "c"));
+		// Insert 2 lines at line 3
+		List<Diagnostic> shifted = QuteTextDocument.shiftDiagnostics(diagnostics,
+				Arrays.asList(change(3, 0, 3, 0, "\n\n")));
+		assertEquals(Arrays.asList("a:1", "b:7", "c:12"), toStrings(shifted));
+	}
+
+	@Test
+	public void shiftDiagnosticsAfterRemovedLines() {
+		List<Diagnostic> diagnostics = Arrays.asList(d(1, "a"), d(5, "b"), d(10, "c"));
+		// Remove the lines 4 to 6, the diagnostic of the line 5 is dropped
+		List<Diagnostic> shifted = QuteTextDocument.shiftDiagnostics(diagnostics,
+				Arrays.asList(change(4, 0, 7, 0, "")));
+		assertEquals(Arrays.asList("a:1", "c:7"), toStrings(shifted));
+	}
+
+	@Test
+	public void shiftDiagnosticsWithSeveralChanges() {
+		List<Diagnostic> diagnostics = Arrays.asList(d(1, "a"), d(5, "b"), d(10, "c"));
+		// Edit the line 1 and insert a line at line 2
+		List<Diagnostic> shifted = QuteTextDocument.shiftDiagnostics(diagnostics,
+				Arrays.asList(change(1, 0, 1, 2, "{foo}"), change(2, 0, 2, 0, "\n")));
+		assertEquals(Arrays.asList("b:6", "c:11"), toStrings(shifted));
+	}
+
+	@Test
+	public void shiftDiagnosticsWithFullContentChange() {
+		List<Diagnostic> diagnostics = Arrays.asList(d(1, "a"));
+		assertNull(QuteTextDocument.shiftDiagnostics(diagnostics,
+				Arrays.asList(new TextDocumentContentChangeEvent("{foo}"))));
+	}
+
+	private static Diagnostic d(int line, String message) {
+		return new Diagnostic(new Range(new Position(line, 1), new Position(line, 4)), message);
+	}
+
+	private static TextDocumentContentChangeEvent change(int startLine, int startCharacter, int endLine,
+			int endCharacter, String text) {
+		return new TextDocumentContentChangeEvent(
+				new Range(new Position(startLine, startCharacter), new Position(endLine, endCharacter)), text);
+	}
+
+	private static List<String> toStrings(List<Diagnostic> diagnostics) {
+		return diagnostics.stream() //
+				.map(d -> d.getMessage() + ":" + d.getRange().getStart().getLine()) //
+				.collect(Collectors.toList());
+	}
+}
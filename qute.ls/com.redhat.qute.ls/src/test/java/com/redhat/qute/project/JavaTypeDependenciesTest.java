@@ -0,0 +1,94 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.project;
+
+import static com.redhat.qute.QuteAssert.TEMPLATE_BASE_DIR;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import com.redhat.qute.commons.ProjectInfo;
+import com.redhat.qute.parser.template.Template;
+import com.redhat.qute.parser.template.TemplateParser;
+import com.redhat.qute.project.datamodel.JavaDataModelCache;
+import com.redhat.qute.services.QuteLanguageService;
+import com.redhat.qute.services.ResolvingJavaTypeContext;
+import com.redhat.qute.settings.QuteNativeSettings;
+import com.redhat.qute.settings.QuteValidationSettings;
+
+/**
+ * Tests for {@link JavaTypeDependencies}.
+ *
+ */
+public class JavaTypeDependenciesTest {
+
+	@Test
+	public void dependentTemplates() {
+		JavaTypeDependencies dependencies = new JavaTypeDependencies();
+		dependencies.update("item.html", new HashSet<>(Arrays.asList("org.acme.Item", "org.acme.Review")));
+		dependencies.update("review.html", new HashSet<>(Arrays.asList("org.acme.Review")));
+
+		assertEquals(new HashSet<>(Arrays.asList("item.html", "review.html")),
+				dependencies.getDependentTemplates(Arrays.asList("org.acme.Review")));
+		assertEquals(Collections.singleton("item.html"),
+				dependencies.getDependentTemplates(Arrays.asList("org.acme.Item", "org.acme.Order")));
+		assertTrue(dependencies.getDependentTemplates(Arrays.asList("org.acme.Order")).isEmpty());
+
+		// New version of item.html which doesn't use org.acme.Review
+		dependencies.update("item.html", Collections.singleton("org.acme.Item"));
+		assertEquals(Collections.singleton("review.html"),
+				dependencies.getDependentTemplates(Arrays.asList("org.acme.Review")));
+
+		// Close review.html
+		dependencies.remove("review.html");
+		assertFalse(dependencies.isValidated("review.html"));
+		assertTrue(dependencies.isValidated("item.html"));
+		assertTrue(dependencies.getDependentTemplates(Arrays.asList("org.acme.Review")).isEmpty());
+	}
+
+	@Test
+	public void validationRecordsJavaTypes() {
+		MockQuteProjectRegistry registry = new MockQuteProjectRegistry();
+		JavaDataModelCache javaCache = new JavaDataModelCache(registry);
+		registry.getProject(new ProjectInfo(QuteQuickStartProject.PROJECT_URI, TEMPLATE_BASE_DIR));
+
+		String templateId = "dependencies.qute.html";
+		Template template = TemplateParser.parse("{@org.acme.Item item}\r\n" + //
+				"{@org.acme.Unknown unknown}\r\n" + //
+				"{item.base}\r\n" + //
+				"{#for review in item.reviews}\r\n" + //
+				"	{review.name}\r\n" + //
+				"{/for}", templateId);
+		template.setProjectUri(QuteQuickStartProject.PROJECT_URI);
+		template.setTemplateId(templateId);
+		template.setProjectRegistry(registry);
+
+		ResolvingJavaTypeContext resolvingJavaTypeContext = new ResolvingJavaTypeContext(template, javaCache);
+		new QuteLanguageService(javaCache).doDiagnostics(template, new QuteValidationSettings(),
+				new QuteNativeSettings(), resolvingJavaTypeContext, () -> {
+				});
+
+		Set<String> javaTypes = resolvingJavaTypeContext.getJavaTypeDependencies();
+		// - org.acme.BaseItem : extended type of org.acme.Item which declares 'base'
+		// - org.acme.Unknown : doesn't exist but could be created
+		assertTrue(javaTypes.containsAll(Arrays.asList("org.acme.Item", "org.acme.BaseItem", "org.acme.Unknown",
+				"java.util.List", "org.acme.Review", "java.lang.String")), javaTypes.toString());
+		assertFalse(javaTypes.contains("org.acme.Order"), javaTypes.toString());
+	}
+}
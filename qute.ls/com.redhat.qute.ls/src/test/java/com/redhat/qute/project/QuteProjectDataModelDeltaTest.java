@@ -0,0 +1,111 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.project;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.redhat.qute.commons.ProjectInfo;
+import com.redhat.qute.commons.QuteResolvedJavaTypeParams;
+import com.redhat.qute.commons.ResolvedJavaTypeInfo;
+import com.redhat.qute.commons.datamodel.DataModelParameter;
+import com.redhat.qute.commons.datamodel.DataModelProject;
+import com.redhat.qute.commons.datamodel.DataModelTemplate;
+import com.redhat.qute.commons.datamodel.QuteDataModelProjectParams;
+import com.redhat.qute.ls.api.QuteDataModelProjectProvider;
+import com.redhat.qute.ls.api.QuteResolvedJavaTypeProvider;
+import com.redhat.qute.project.datamodel.ExtendedDataModelProject;
+
+/**
+ * Tests for the load of the data model project of a Qute project with deltas.
+ *
+ */
+public class QuteProjectDataModelDeltaTest {
+
+	private static final String PROJECT_URI = "delta-project";
+
+	private static class DeltaProviders implements QuteDataModelProjectProvider, QuteResolvedJavaTypeProvider {
+
+		private final List<QuteDataModelProjectParams> requests = new ArrayList<>();
+
+		@Override
+		public CompletableFuture<DataModelProject<DataModelTemplate<DataModelParameter>>> getDataModelProject(
+				QuteDataModelProjectParams params) {
+			requests.add(params);
+			if (params.getFullGeneration() != null) {
+				// The whole data model project of the given generation
+				return CompletableFuture.completedFuture(createDataModel(params.getFullGeneration(), "items.html"));
+			}
+			if (params.getGeneration() != null) {
+				// A delta which cannot be applied by the client (unknown base generation)
+				DataModelProject<DataModelTemplate<DataModelParameter>> delta = createDataModel("2",
+						"details.html");
+				delta.setBaseGeneration("unknown");
+				return CompletableFuture.completedFuture(delta);
+			}
+			return CompletableFuture.completedFuture(createDataModel("1", "items.html"));
+		}
+
+		@Override
+		public CompletableFuture<ResolvedJavaTypeInfo> getResolvedJavaType(QuteResolvedJavaTypeParams params) {
+			return CompletableFuture.completedFuture(null);
+		}
+	}
+
+	@Test
+	public void askWholeDataModelWhenDeltaCannotBeApplied() throws Exception {
+		DeltaProviders providers = new DeltaProviders();
+		QuteProjectRegistry registry = new QuteProjectRegistry(null, null, providers, providers, null, null);
+		QuteProject project = registry.getProject(new ProjectInfo(PROJECT_URI, "src/main/resources/templates"));
+
+		ExtendedDataModelProject dataModel = project.getDataModelProject().get(10, TimeUnit.SECONDS);
+		assertEquals("1", dataModel.getGeneration());
+		assertEquals(1, providers.requests.size());
+		assertNull(providers.requests.get(0).getGeneration());
+
+		// Reload the data model project: the client asks for the delta of the
+		// generation '1', cannot apply it, and asks for the whole data model project of
+		// the delta generation
+		project.resetJavaTypes();
+		dataModel = project.getDataModelProject().get(10, TimeUnit.SECONDS);
+		assertNotNull(dataModel);
+		assertEquals("2", dataModel.getGeneration());
+		assertEquals(3, providers.requests.size());
+		assertEquals("1", providers.requests.get(1).getGeneration());
+		assertNull(providers.requests.get(1).getFullGeneration());
+		assertEquals("2", providers.requests.get(2).getFullGeneration());
+	}
+
+	private static DataModelProject<DataModelTemplate<DataModelParameter>> createDataModel(String generation,
+			String templateUri) {
+		DataModelTemplate<DataModelParameter> template = new DataModelTemplate<>();
+		template.setTemplateUri(templateUri);
+		template.setParameters(new ArrayList<>());
+
+		DataModelProject<DataModelTemplate<DataModelParameter>> project = new DataModelProject<>();
+		project.setGeneration(generation);
+		project.setTemplates(new ArrayList<>(Arrays.asList(template)));
+		project.setValueResolvers(new ArrayList<>());
+		project.setNamespaceResolverInfos(new HashMap<>());
+		return project;
+	}
+}
@@ -0,0 +1,153 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.project;
+
+import static com.redhat.qute.QuteAssert.TEMPLATE_BASE_DIR;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.redhat.qute.commons.ProjectInfo;
+import com.redhat.qute.parser.template.Template;
+import com.redhat.qute.parser.template.TemplateParser;
+import com.redhat.qute.project.datamodel.JavaDataModelCache;
+import com.redhat.qute.services.QuteLanguageService;
+import com.redhat.qute.services.ResolvingJavaTypeContext;
+import com.redhat.qute.settings.QuteNativeSettings;
+import com.redhat.qute.settings.QuteValidationSettings;
+
+/**
+ * Stress test which opens, validates and closes Qute templates of several
+ * projects from many threads.
+ *
+ */
+public class QuteProjectRegistryConcurrencyTest {
+
+	private static final int NB_THREADS = 16;
+
+	private static final int NB_ITERATIONS = 50;
+
+	private static final String[] PROJECT_URIS = { QuteQuickStartProject.PROJECT_URI, "project-1", "project-2",
+			"project-3" };
+
+	private static class TestTemplateInfoProvider implements TemplateInfoProvider {
+
+		private final Template template;
+
+		private final ProjectInfo projectInfo;
+
+		public TestTemplateInfoProvider(Template template, ProjectInfo projectInfo) {
+			this.template = template;
+			this.projectInfo = projectInfo;
+		}
+
+		@Override
+		public Template getTemplate() {
+			return template;
+		}
+
+		@Override
+		public CompletableFuture<ProjectInfo> getProjectInfoFuture() {
+			return CompletableFuture.completedFuture(projectInfo);
+		}
+
+		@Override
+		public String getProjectUri() {
+			return projectInfo.getUri();
+		}
+
+		@Override
+		public String getTemplateId() {
+			return template.getTemplateId();
+		}
+	}
+
+	@Test
+	public void openValidateCloseFromManyThreads() throws Exception {
+		MockQuteProjectRegistry registry = new MockQuteProjectRegistry();
+		JavaDataModelCache javaCache = new JavaDataModelCache(registry);
+		QuteLanguageService languageService = new QuteLanguageService(javaCache);
+		Map<String, QuteProject> registeredProjects = new ConcurrentHashMap<>();
+
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(NB_THREADS);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int t = 0; t < NB_THREADS; t++) {
+				int threadIndex = t;
+				futures.add(executor.submit(() -> {
+					start.await();
+					for (int i = 0; i < NB_ITERATIONS; i++) {
+						String projectUri = PROJECT_URIS[(threadIndex + i) % PROJECT_URIS.length];
+						ProjectInfo projectInfo = new ProjectInfo(projectUri, TEMPLATE_BASE_DIR);
+
+						// Register the project, the same instance must be returned for all threads
+						QuteProject project = registry.getProject(projectInfo);
+						QuteProject registeredProject = registeredProjects.putIfAbsent(projectUri, project);
+						assertSame(registeredProject != null ? registeredProject : project, project);
+
+						// Open a template
+						String templateId = "thread-" + threadIndex + "/item-" + i + ".qute.html";
+						Template template = TemplateParser.parse("{#include base.qute.html}\r\n" + //
+								"{#title}{item.name}{/title}\r\n" + //
+								"{/include}", templateId);
+						template.setProjectUri(projectUri);
+						template.setTemplateId(templateId);
+						template.setProjectRegistry(registry);
+						TemplateInfoProvider document = new TestTemplateInfoProvider(template, projectInfo);
+						registry.onDidOpenTextDocument(document);
+
+						// Search in opened templates and in the indexes of closed templates
+						assertNotNull(project.findInsertTagParameter(templateId, "title"));
+						project.findInsertTagParameter("base.qute.html", "title");
+						project.findNbreferencesOfInsertTag(null, "insert");
+
+						// Validate the template
+						if (QuteQuickStartProject.PROJECT_URI.equals(projectUri)) {
+							languageService.doDiagnostics(template, new QuteValidationSettings(),
+									new QuteNativeSettings(), new ResolvingJavaTypeContext(template, javaCache), () -> {
+									});
+						}
+
+						// Close the template
+						registry.onDidCloseTextDocument(document);
+					}
+					return null;
+				}));
+			}
+			start.countDown();
+			for (Future<?> future : futures) {
+				future.get(60, TimeUnit.SECONDS);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertEquals(PROJECT_URIS.length, registeredProjects.size());
+		for (String projectUri : PROJECT_URIS) {
+			assertSame(registeredProjects.get(projectUri), registry.getProject(projectUri));
+		}
+	}
+}
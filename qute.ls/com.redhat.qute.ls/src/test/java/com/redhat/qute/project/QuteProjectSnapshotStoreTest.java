@@ -0,0 +1,237 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.project;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.redhat.qute.commons.JavaFieldInfo;
+import com.redhat.qute.commons.JavaTypeKind;
+import com.redhat.qute.commons.ProjectInfo;
+import com.redhat.qute.commons.QuteResolvedJavaTypeParams;
+import com.redhat.qute.commons.ResolvedJavaTypeInfo;
+import com.redhat.qute.commons.datamodel.DataModelParameter;
+import com.redhat.qute.commons.datamodel.DataModelProject;
+import com.redhat.qute.commons.datamodel.DataModelTemplate;
+import com.redhat.qute.commons.datamodel.JavaDataModelChangeEvent;
+import com.redhat.qute.commons.datamodel.QuteDataModelProjectParams;
+import com.redhat.qute.ls.api.QuteDataModelProjectProvider;
+import com.redhat.qute.ls.api.QuteResolvedJavaTypeProvider;
+import com.redhat.qute.project.datamodel.ExtendedDataModelProject;
+
+/**
+ * Tests for the warm start of Qute projects with
+ * {@link QuteProjectSnapshotStore}.
+ *
+ */
+public class QuteProjectSnapshotStoreTest {
+
+	private static final String PROJECT_URI = "snapshot-project";
+
+	private static final String TEMPLATE_URI = "src/main/resources/templates/item.html";
+
+	private static class TestProviders implements QuteDataModelProjectProvider, QuteResolvedJavaTypeProvider {
+
+		private final CompletableFuture<DataModelProject<DataModelTemplate<DataModelParameter>>> dataModel;
+
+		private final CompletableFuture<ResolvedJavaTypeInfo> javaType;
+
+		public TestProviders(CompletableFuture<DataModelProject<DataModelTemplate<DataModelParameter>>> dataModel,
+				CompletableFuture<ResolvedJavaTypeInfo> javaType) {
+			this.dataModel = dataModel;
+			this.javaType = javaType;
+		}
+
+		@Override
+		public CompletableFuture<DataModelProject<DataModelTemplate<DataModelParameter>>> getDataModelProject(
+				QuteDataModelProjectParams params) {
+			return dataModel;
+		}
+
+		@Override
+		public CompletableFuture<ResolvedJavaTypeInfo> getResolvedJavaType(QuteResolvedJavaTypeParams params) {
+			return "org.acme.Item".equals(params.getClassName()) ? javaType
+					: CompletableFuture.completedFuture(null);
+		}
+
+		public QuteProjectRegistry createRegistry() {
+			return new QuteProjectRegistry(null, null, this, this, null, null);
+		}
+	}
+
+	@Test
+	public void warmStartWithoutChanges(@TempDir Path snapshotDir) throws Exception {
+		QuteProjectSnapshotStore store = new QuteProjectSnapshotStore(snapshotDir);
+		saveSnapshot(store, "cp1");
+
+		// Restart the language server, the Java component is not ready
+		CompletableFuture<DataModelProject<DataModelTemplate<DataModelParameter>>> dataModel = new CompletableFuture<>();
+		CompletableFuture<ResolvedJavaTypeInfo> javaType = new CompletableFuture<>();
+		QuteProjectRegistry registry = new TestProviders(dataModel, javaType).createRegistry();
+		BlockingQueue<JavaDataModelChangeEvent> events = new LinkedBlockingQueue<>();
+		registry.setSnapshotStore(store, events::add);
+
+		QuteProject project = registry.getProject(createProjectInfo("cp1"));
+		assertTrue(project.isWarmStarted());
+
+		// The data model and the Java types are served from the snapshot
+		ExtendedDataModelProject warmDataModel = project.getDataModelProject().getNow(null);
+		assertNotNull(warmDataModel);
+		assertNotNull(warmDataModel.findDataModelTemplate(TEMPLATE_URI));
+		ResolvedJavaTypeInfo warmJavaType = registry.resolveJavaType("org.acme.Item", PROJECT_URI).getNow(null);
+		assertNotNull(warmJavaType);
+		assertEquals("org.acme.Item", warmJavaType.getSignature());
+		assertEquals(1, warmJavaType.getFields().size());
+
+		// The Java component reports the same data model and Java types
+		dataModel.complete(createDataModel());
+		javaType.complete(createJavaType("name : java.lang.String"));
+		waitForEndOfWarmStart(project);
+		assertTrue(events.isEmpty());
+	}
+
+	@Test
+	public void warmStartWithChanges(@TempDir Path snapshotDir) throws Exception {
+		QuteProjectSnapshotStore store = new QuteProjectSnapshotStore(snapshotDir);
+		saveSnapshot(store, "cp1");
+
+		CompletableFuture<DataModelProject<DataModelTemplate<DataModelParameter>>> dataModel = new CompletableFuture<>();
+		CompletableFuture<ResolvedJavaTypeInfo> javaType = new CompletableFuture<>();
+		QuteProjectRegistry registry = new TestProviders(dataModel, javaType).createRegistry();
+		BlockingQueue<JavaDataModelChangeEvent> events = new LinkedBlockingQueue<>();
+		registry.setSnapshotStore(store, events::add);
+
+		QuteProject project = registry.getProject(createProjectInfo("cp1"));
+		assertTrue(project.isWarmStarted());
+
+		// The source Java type has been updated while the language server was stopped
+		dataModel.complete(createDataModel());
+		javaType.complete(createJavaType("title : java.lang.String"));
+		JavaDataModelChangeEvent event = events.poll(10, TimeUnit.SECONDS);
+		assertNotNull(event);
+		assertEquals(Collections.singleton(PROJECT_URI), event.getProjectURIs());
+		waitForEndOfWarmStart(project);
+	}
+
+	@Test
+	public void saveSnapshotWhenDataModelIsLoaded(@TempDir Path snapshotDir) throws Exception {
+		QuteProjectSnapshotStore store = new QuteProjectSnapshotStore(snapshotDir);
+		QuteProjectRegistry registry = new TestProviders(CompletableFuture.completedFuture(createDataModel()),
+				CompletableFuture.completedFuture(createJavaType("name : java.lang.String"))).createRegistry();
+		registry.setSnapshotStore(store, event -> {
+		});
+		QuteProject project = registry.getProject(createProjectInfo("cp1"));
+		assertFalse(project.isWarmStarted());
+
+		// The snapshot is saved once the data model project is loaded, without
+		// waiting for the shutdown of the language server
+		assertNotNull(project.getDataModelProject().get(10, TimeUnit.SECONDS));
+		long end = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+		while (store.load(PROJECT_URI, "cp1") == null && System.currentTimeMillis() < end) {
+			Thread.sleep(10);
+		}
+		QuteProjectSnapshot snapshot = store.load(PROJECT_URI, "cp1");
+		assertNotNull(snapshot);
+		assertEquals(1, snapshot.getDataModel().getTemplates().size());
+	}
+
+	@Test
+	public void classpathChanged(@TempDir Path snapshotDir) throws Exception {
+		QuteProjectSnapshotStore store = new QuteProjectSnapshotStore(snapshotDir);
+		saveSnapshot(store, "cp1");
+
+		assertNotNull(store.load(PROJECT_URI, "cp1"));
+		assertNull(store.load(PROJECT_URI, "cp2"));
+		assertNull(store.load(PROJECT_URI, null));
+		assertNull(store.load("other-project", "cp1"));
+
+		QuteProjectRegistry registry = new TestProviders(new CompletableFuture<>(), new CompletableFuture<>())
+				.createRegistry();
+		registry.setSnapshotStore(store, event -> {
+		});
+		QuteProject project = registry.getProject(createProjectInfo("cp2"));
+		assertFalse(project.isWarmStarted());
+	}
+
+	private static void saveSnapshot(QuteProjectSnapshotStore store, String classpathFingerprint)
+			throws Exception {
+		QuteProjectRegistry registry = new TestProviders(CompletableFuture.completedFuture(createDataModel()),
+				CompletableFuture.completedFuture(createJavaType("name : java.lang.String"))).createRegistry();
+		registry.setSnapshotStore(store, event -> {
+		});
+		QuteProject project = registry.getProject(createProjectInfo(classpathFingerprint));
+		assertFalse(project.isWarmStarted());
+		assertNotNull(project.getDataModelProject().get(10, TimeUnit.SECONDS));
+		assertNotNull(registry.resolveJavaType("org.acme.Item", PROJECT_URI).get(10, TimeUnit.SECONDS));
+		registry.saveSnapshots();
+	}
+
+	private static void waitForEndOfWarmStart(QuteProject project) throws InterruptedException {
+		long end = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+		while (project.isWarmStarted() && System.currentTimeMillis() < end) {
+			Thread.sleep(10);
+		}
+		assertFalse(project.isWarmStarted());
+	}
+
+	private static ProjectInfo createProjectInfo(String classpathFingerprint) {
+		ProjectInfo projectInfo = new ProjectInfo(PROJECT_URI, "src/main/resources/templates");
+		projectInfo.setClasspathFingerprint(classpathFingerprint);
+		return projectInfo;
+	}
+
+	private static DataModelProject<DataModelTemplate<DataModelParameter>> createDataModel() {
+		DataModelParameter parameter = new DataModelParameter();
+		parameter.setKey("item");
+		parameter.setSourceType("org.acme.Item");
+
+		DataModelTemplate<DataModelParameter> template = new DataModelTemplate<>();
+		template.setTemplateUri(TEMPLATE_URI);
+		template.setSourceType("org.acme.ItemResource");
+		template.setParameters(new ArrayList<>(Arrays.asList(parameter)));
+
+		DataModelProject<DataModelTemplate<DataModelParameter>> project = new DataModelProject<>();
+		project.setTemplates(new ArrayList<>(Arrays.asList(template)));
+		project.setValueResolvers(new ArrayList<>());
+		project.setNamespaceResolverInfos(new HashMap<>());
+		return project;
+	}
+
+	private static ResolvedJavaTypeInfo createJavaType(String fieldSignature) {
+		ResolvedJavaTypeInfo javaType = new ResolvedJavaTypeInfo();
+		javaType.setSignature("org.acme.Item");
+		javaType.setBinary(false);
+		javaType.setJavaTypeKind(JavaTypeKind.Class);
+		JavaFieldInfo field = new JavaFieldInfo();
+		field.setSignature(fieldSignature);
+		List<JavaFieldInfo> fields = new ArrayList<>(Arrays.asList(field));
+		javaType.setFields(fields);
+		return javaType;
+	}
+}
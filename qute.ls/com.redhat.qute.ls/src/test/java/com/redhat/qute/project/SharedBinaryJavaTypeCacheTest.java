@@ -0,0 +1,149 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.project;
+
+import static com.redhat.qute.QuteAssert.TEMPLATE_BASE_DIR;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+
+import com.redhat.qute.commons.JavaFieldInfo;
+import com.redhat.qute.commons.ProjectInfo;
+import com.redhat.qute.commons.QuteResolvedJavaTypeParams;
+import com.redhat.qute.commons.ResolvedJavaTypeInfo;
+import com.redhat.qute.commons.datamodel.JavaDataModelChangeEvent;
+
+/**
+ * Test for {@link SharedBinaryJavaTypeCache}.
+ *
+ */
+public class SharedBinaryJavaTypeCacheTest {
+
+	private static final String JDK_LOCATION = "/jdk/lib/jrt-fs.jar!/java.base@1";
+
+	/**
+	 * Project registry which returns a new instance of the resolved Java type for
+	 * each request, like the JDT / IJ side does.
+	 */
+	private static class BinaryQuteProjectRegistry extends MockQuteProjectRegistry {
+
+		@Override
+		protected CompletableFuture<ResolvedJavaTypeInfo> getResolvedJavaType(QuteResolvedJavaTypeParams params) {
+			ResolvedJavaTypeInfo javaType = new ResolvedJavaTypeInfo();
+			javaType.setSignature(params.getClassName());
+			if ("java.util.ArrayList".equals(params.getClassName())) {
+				JavaFieldInfo size = new JavaFieldInfo();
+				size.setSignature("size : int");
+				javaType.setFields(Arrays.asList(size));
+				javaType.setExtendedTypes(Arrays.asList("java.lang.Iterable<java.lang.String>"));
+			}
+			if (params.getClassName().startsWith("java.")) {
+				javaType.setBinary(true);
+				// project-3 uses another JDK
+				javaType.setBinaryLocation(
+						"project-3".equals(params.getProjectUri()) ? "/jdk-17/lib/jrt-fs.jar!/java.base@1"
+								: JDK_LOCATION);
+			}
+			return CompletableFuture.completedFuture(javaType);
+		}
+	}
+
+	@Test
+	public void shareBinaryJavaTypes() {
+		BinaryQuteProjectRegistry registry = new BinaryQuteProjectRegistry();
+		registerProjects(registry, "project-1", "project-2", "project-3");
+
+		// Binary Java type from the same JDK
+		ResolvedJavaTypeInfo string1 = resolveJavaType(registry, "java.lang.String", "project-1");
+		ResolvedJavaTypeInfo string2 = resolveJavaType(registry, "java.lang.String", "project-2");
+		assertSame(string1, string2);
+
+		// Binary Java type from another JDK
+		ResolvedJavaTypeInfo string3 = resolveJavaType(registry, "java.lang.String", "project-3");
+		assertNotSame(string1, string3);
+
+		// Source Java type
+		ResolvedJavaTypeInfo item1 = resolveJavaType(registry, "org.acme.Item", "project-1");
+		ResolvedJavaTypeInfo item2 = resolveJavaType(registry, "org.acme.Item", "project-2");
+		assertNotSame(item1, item2);
+
+		// Generic Java type shares the raw binary Java type
+		ResolvedJavaTypeInfo list1 = resolveJavaType(registry, "java.util.List", "project-1");
+		resolveJavaType(registry, "java.util.List<java.lang.String>", "project-2");
+		assertSame(list1, resolveJavaType(registry, "java.util.List", "project-2"));
+
+		assertEquals(3, registry.getBinaryJavaTypes().size());
+	}
+
+	@Test
+	public void updateSharedBinaryJavaType() {
+		BinaryQuteProjectRegistry registry = new BinaryQuteProjectRegistry();
+		registerProjects(registry, "project-1", "project-2");
+
+		ResolvedJavaTypeInfo list1 = resolveJavaType(registry, "java.util.ArrayList", "project-1");
+		JavaFieldInfo size = list1.getFields().get(0);
+		assertSame(list1, size.getJavaTypeInfo());
+		String iterableOf = list1.getIterableOf();
+		assertNotNull(iterableOf);
+
+		// The update of the shared Java type by project-2 writes the same values
+		ResolvedJavaTypeInfo list2 = resolveJavaType(registry, "java.util.ArrayList", "project-2");
+		assertSame(list1, list2);
+		assertSame(size, list2.getFields().get(0));
+		assertSame(list1, size.getJavaTypeInfo());
+		assertEquals(iterableOf, list2.getIterableOf());
+	}
+
+	@Test
+	public void releaseBinaryJavaTypes() {
+		BinaryQuteProjectRegistry registry = new BinaryQuteProjectRegistry();
+		registerProjects(registry, "project-1", "project-2");
+
+		ResolvedJavaTypeInfo string1 = resolveJavaType(registry, "java.lang.String", "project-1");
+		resolveJavaType(registry, "java.lang.String", "project-2");
+		assertEquals(1, registry.getBinaryJavaTypes().size());
+
+		// project-2 is still using java.lang.String
+		dataModelChanged(registry, "project-1");
+		assertEquals(1, registry.getBinaryJavaTypes().size());
+		assertSame(string1, resolveJavaType(registry, "java.lang.String", "project-1"));
+
+		// No project uses java.lang.String
+		dataModelChanged(registry, "project-1", "project-2");
+		assertEquals(0, registry.getBinaryJavaTypes().size());
+		assertNotSame(string1, resolveJavaType(registry, "java.lang.String", "project-1"));
+	}
+
+	private static void registerProjects(QuteProjectRegistry registry, String... projectUris) {
+		for (String projectUri : projectUris) {
+			registry.getProject(new ProjectInfo(projectUri, TEMPLATE_BASE_DIR));
+		}
+	}
+
+	private static ResolvedJavaTypeInfo resolveJavaType(QuteProjectRegistry registry, String javaTypeName,
+			String projectUri) {
+		return registry.resolveJavaType(javaTypeName, projectUri).getNow(null);
+	}
+
+	private static void dataModelChanged(QuteProjectRegistry registry, String... projectUris) {
+		JavaDataModelChangeEvent event = new JavaDataModelChangeEvent();
+		event.setProjectURIs(new HashSet<>(Arrays.asList(projectUris)));
+		registry.dataModelChanged(event);
+	}
+}
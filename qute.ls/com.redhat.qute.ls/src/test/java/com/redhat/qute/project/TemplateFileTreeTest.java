@@ -0,0 +1,99 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.project;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for {@link TemplateFileTree}.
+ *
+ */
+public class TemplateFileTreeTest {
+
+	private static final String[] SUFFIXES = { "", ".html", ".qute.html" };
+
+	@Test
+	public void findTemplateFile(@TempDir Path templateBaseDir) throws IOException {
+		Path base = createFile(templateBaseDir.resolve("base.html"));
+		Path item = createFile(templateBaseDir.resolve("detail/item.qute.html"));
+
+		TemplateFileTree tree = new TemplateFileTree(templateBaseDir);
+		assertEquals(base, tree.findTemplateFile("base", SUFFIXES));
+		assertEquals(base, tree.findTemplateFile("base.html", SUFFIXES));
+		assertEquals(item, tree.findTemplateFile("detail/item", SUFFIXES));
+		assertNull(tree.findTemplateFile("unknown", SUFFIXES));
+	}
+
+	@Test
+	public void addAndRemoveTemplateFile(@TempDir Path templateBaseDir) throws IOException {
+		Path base = createFile(templateBaseDir.resolve("base.html"));
+		TemplateFileTree tree = new TemplateFileTree(templateBaseDir);
+		assertEquals(base, tree.findTemplateFile("base", SUFFIXES));
+
+		// Delete base.html
+		Files.delete(base);
+		tree.removeTemplateFile(base);
+		assertNull(tree.findTemplateFile("base", SUFFIXES));
+
+		// Create a new template file without sending a watched file event
+		Path item = createFile(templateBaseDir.resolve("detail/item.html"));
+		assertEquals(item, tree.findTemplateFile("detail/item", SUFFIXES));
+
+		// Delete the detail folder
+		Files.delete(item);
+		Files.delete(item.getParent());
+		tree.removeTemplateFile(item.getParent());
+		assertNull(tree.findTemplateFile("detail/item", SUFFIXES));
+	}
+
+	@Test
+	public void scan(@TempDir Path templateBaseDir) throws IOException {
+		Path base = templateBaseDir.resolve("base.html");
+		TemplateFileTree tree = new TemplateFileTree(templateBaseDir);
+		// base.html doesn't exist on the file system but is in the snapshot
+		tree.endScan(tree.beginScan(), Arrays.asList(base));
+		assertEquals(base, tree.findTemplateFile("base", SUFFIXES));
+	}
+
+	@Test
+	public void changesDuringScan(@TempDir Path templateBaseDir) throws IOException {
+		Path base = templateBaseDir.resolve("base.html");
+		Path item = templateBaseDir.resolve("item.html");
+		TemplateFileTree tree = new TemplateFileTree(templateBaseDir);
+		int scanStart = tree.beginScan();
+		// The scan walks base.html, then base.html is deleted and item.html is created
+		// before the end of the scan
+		tree.removeTemplateFile(base);
+		tree.addTemplateFile(item);
+		tree.endScan(scanStart, Arrays.asList(base));
+		assertNull(tree.findTemplateFile("base", SUFFIXES));
+		assertEquals(item, tree.findTemplateFile("item", SUFFIXES));
+
+		// A failed scan keeps the snapshot
+		tree.endScan(tree.beginScan(), null);
+		assertEquals(item, tree.findTemplateFile("item", SUFFIXES));
+	}
+
+	private static Path createFile(Path file) throws IOException {
+		Files.createDirectories(file.getParent());
+		return Files.createFile(file);
+	}
+}
@@ -0,0 +1,173 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.project.datamodel;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import com.redhat.qute.commons.datamodel.DataModelParameter;
+import com.redhat.qute.commons.datamodel.DataModelProject;
+import com.redhat.qute.commons.datamodel.DataModelProjectDelta;
+import com.redhat.qute.commons.datamodel.DataModelTemplate;
+import com.redhat.qute.commons.datamodel.resolvers.ValueResolverInfo;
+import com.redhat.qute.commons.datamodel.resolvers.ValueResolverKind;
+import com.redhat.qute.project.datamodel.resolvers.MethodValueResolver;
+
+/**
+ * Tests for {@link ExtendedDataModelProject}.
+ *
+ */
+public class ExtendedDataModelProjectTest {
+
+	private static final String TEMPLATES_BASE_DIR = "file:///project/src/main/resources/templates/";
+
+	@Test
+	public void findDataModelTemplate() {
+		DataModelProject<DataModelTemplate<DataModelParameter>> project = createProject( //
+				"src/main/resources/templates/hello", //
+				"src/main/resources/templates/detail/items2_v1.html", //
+				"src/main/resources/templates/ItemResource/items", //
+				"src/main/resources/templates/items");
+		ExtendedDataModelProject extendedProject = new ExtendedDataModelProject(project);
+
+		// With extension
+		assertTemplateUri("src/main/resources/templates/detail/items2_v1.html",
+				extendedProject.findDataModelTemplate(TEMPLATES_BASE_DIR + "detail/items2_v1.html"));
+		// Without extension
+		assertTemplateUri("src/main/resources/templates/hello",
+				extendedProject.findDataModelTemplate(TEMPLATES_BASE_DIR + "hello.html"));
+		assertTemplateUri("src/main/resources/templates/hello",
+				extendedProject.findDataModelTemplate(TEMPLATES_BASE_DIR + "hello.qute.html"));
+		assertTemplateUri("src/main/resources/templates/ItemResource/items",
+				extendedProject.findDataModelTemplate(TEMPLATES_BASE_DIR + "ItemResource/items.html"));
+		assertTemplateUri("src/main/resources/templates/items",
+				extendedProject.findDataModelTemplate(TEMPLATES_BASE_DIR + "items.html"));
+
+		// Unknown
+		assertNull(extendedProject.findDataModelTemplate(TEMPLATES_BASE_DIR + "goodbye.html"));
+		assertNull(extendedProject.findDataModelTemplate(TEMPLATES_BASE_DIR + "detail/hello.html"));
+	}
+
+	@Test
+	public void sameResultThanDataModelProject() {
+		DataModelProject<DataModelTemplate<DataModelParameter>> project = createProject( //
+				"src/main/resources/templates/a/items", //
+				"items", //
+				"ems", //
+				"src/main/resources/templates/b/items", //
+				"templates/a/items");
+		ExtendedDataModelProject extendedProject = new ExtendedDataModelProject(project);
+
+		for (String templateUri : Arrays.asList(TEMPLATES_BASE_DIR + "a/items.html", TEMPLATES_BASE_DIR + "b/items",
+				TEMPLATES_BASE_DIR + "c/items.html", TEMPLATES_BASE_DIR + "c/myitems.html",
+				TEMPLATES_BASE_DIR + "c/foo.html", "ems")) {
+			DataModelTemplate<DataModelParameter> expected = project.findDataModelTemplate(templateUri);
+			DataModelTemplate<?> actual = extendedProject.findDataModelTemplate(templateUri);
+			assertEquals(expected != null ? expected.getTemplateUri() : null,
+					actual != null ? actual.getTemplateUri() : null, templateUri);
+		}
+	}
+
+	@Test
+	public void noTemplates() {
+		ExtendedDataModelProject extendedProject = new ExtendedDataModelProject(createProject());
+		assertNull(extendedProject.findDataModelTemplate(TEMPLATES_BASE_DIR + "hello.html"));
+	}
+
+	@Test
+	public void applyDelta() {
+		DataModelProject<DataModelTemplate<DataModelParameter>> oldProject = createProject( //
+				"src/main/resources/templates/hello", //
+				"src/main/resources/templates/items", //
+				"src/main/resources/templates/removed");
+		oldProject.setGeneration("1");
+		oldProject.setValueResolvers(Arrays.asList( //
+				createResolver("org.acme.Item", "discount(item : org.acme.Item) : int"), //
+				createResolver("org.acme.Removed", "removed(item : org.acme.Removed) : int")));
+		ExtendedDataModelProject extendedProject = new ExtendedDataModelProject(oldProject);
+		ExtendedDataModelTemplate hello = extendedProject.findDataModelTemplate(TEMPLATES_BASE_DIR + "hello.html");
+		MethodValueResolver discount = extendedProject.getMethodValueResolvers().get(0);
+
+		DataModelProject<DataModelTemplate<DataModelParameter>> newProject = createProject( //
+				"src/main/resources/templates/hello", //
+				"src/main/resources/templates/items", //
+				"src/main/resources/templates/added");
+		newProject.setGeneration("2");
+		newProject.getTemplates().get(1).setSourceType("org.acme.ItemResource");
+		newProject.setValueResolvers(Arrays.asList( //
+				createResolver("org.acme.Item", "discount(item : org.acme.Item) : int"), //
+				createResolver("org.acme.Added", "added(item : org.acme.Added) : int")));
+		DataModelProject<DataModelTemplate<DataModelParameter>> delta = DataModelProjectDelta.createDelta(oldProject,
+				newProject);
+
+		assertTrue(extendedProject.applyDelta(delta));
+		assertEquals("2", extendedProject.getGeneration());
+
+		// Unchanged template and value resolver are kept
+		assertSame(hello, extendedProject.findDataModelTemplate(TEMPLATES_BASE_DIR + "hello.html"));
+		assertSame(discount, extendedProject.getMethodValueResolvers().get(0));
+
+		// Changed template
+		assertEquals("org.acme.ItemResource",
+				extendedProject.findDataModelTemplate(TEMPLATES_BASE_DIR + "items.html").getSourceType());
+		// Added template
+		assertTemplateUri("src/main/resources/templates/added",
+				extendedProject.findDataModelTemplate(TEMPLATES_BASE_DIR + "added.html"));
+		// Removed template
+		assertNull(extendedProject.findDataModelTemplate(TEMPLATES_BASE_DIR + "removed.html"));
+
+		assertEquals(Arrays.asList("org.acme.Item", "org.acme.Added"), extendedProject.getMethodValueResolvers() //
+				.stream() //
+				.map(MethodValueResolver::getSourceType) //
+				.collect(Collectors.toList()));
+
+		// The delta has already been applied
+		assertFalse(extendedProject.applyDelta(delta));
+	}
+
+	private static ValueResolverInfo createResolver(String sourceType, String signature) {
+		ValueResolverInfo resolver = new ValueResolverInfo();
+		resolver.setSourceType(sourceType);
+		resolver.setSignature(signature);
+		resolver.setKind(ValueResolverKind.TemplateExtensionOnMethod);
+		return resolver;
+	}
+
+	private static void assertTemplateUri(String expected, DataModelTemplate<?> template) {
+		assertEquals(expected, template != null ? template.getTemplateUri() : null);
+	}
+
+	private static DataModelProject<DataModelTemplate<DataModelParameter>> createProject(String... templateUris) {
+		List<DataModelTemplate<DataModelParameter>> templates = new ArrayList<>();
+		for (String templateUri : templateUris) {
+			DataModelTemplate<DataModelParameter> template = new DataModelTemplate<>();
+			template.setTemplateUri(templateUri);
+			templates.add(template);
+		}
+		DataModelProject<DataModelTemplate<DataModelParameter>> project = new DataModelProject<>();
+		project.setTemplates(templates);
+		project.setValueResolvers(new ArrayList<>());
+		project.setNamespaceResolverInfos(new HashMap<>());
+		return project;
+	}
+}
@@ -0,0 +1,88 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.project.datamodel;
+
+import static com.redhat.qute.QuteAssert.TEMPLATE_BASE_DIR;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.redhat.qute.commons.ProjectInfo;
+import com.redhat.qute.commons.QuteResolvedJavaTypeParams;
+import com.redhat.qute.commons.ResolvedJavaTypeInfo;
+import com.redhat.qute.parser.template.Template;
+import com.redhat.qute.parser.template.TemplateParser;
+import com.redhat.qute.project.MockQuteProjectRegistry;
+import com.redhat.qute.project.QuteQuickStartProject;
+import com.redhat.qute.services.QuteLanguageService;
+import com.redhat.qute.services.ResolvingJavaTypeContext;
+import com.redhat.qute.settings.QuteNativeSettings;
+import com.redhat.qute.settings.QuteValidationSettings;
+
+/**
+ * Tests for {@link JavaDataModelCache#prefetchJavaTypes(Template)}.
+ *
+ */
+public class JavaTypesPrefetcherTest {
+
+	/**
+	 * Project registry which resolves the Java types asynchronously, like the
+	 * Java component.
+	 */
+	private static class AsyncProjectRegistry extends MockQuteProjectRegistry {
+
+		private final Set<String> requestedJavaTypes = ConcurrentHashMap.newKeySet();
+
+		@Override
+		protected CompletableFuture<ResolvedJavaTypeInfo> getResolvedJavaType(QuteResolvedJavaTypeParams params) {
+			requestedJavaTypes.add(params.getClassName());
+			CompletableFuture<ResolvedJavaTypeInfo> javaType = super.getResolvedJavaType(params);
+			return CompletableFuture.supplyAsync(() -> javaType.join());
+		}
+	}
+
+	@Test
+	public void prefetchJavaTypes() throws Exception {
+		AsyncProjectRegistry registry = new AsyncProjectRegistry();
+		JavaDataModelCache javaCache = new JavaDataModelCache(registry);
+		registry.getProject(new ProjectInfo(QuteQuickStartProject.PROJECT_URI, TEMPLATE_BASE_DIR));
+
+		String templateId = "prefetch.qute.html";
+		Template template = TemplateParser.parse("{@org.acme.Item item}\r\n" + //
+				"{item.review.name}\r\n" + //
+				"{#for review in item.reviews}\r\n" + //
+				"	{review.average.toString()}\r\n" + //
+				"{/for}", templateId);
+		template.setProjectUri(QuteQuickStartProject.PROJECT_URI);
+		template.setTemplateId(templateId);
+		template.setProjectRegistry(registry);
+
+		javaCache.prefetchJavaTypes(template).get(10, TimeUnit.SECONDS);
+
+		// The transitive Java types have been resolved in one batch
+		assertTrue(registry.requestedJavaTypes.containsAll(Arrays.asList("org.acme.Item", "org.acme.Review",
+				"java.lang.String", "java.util.List", "java.lang.Integer")), registry.requestedJavaTypes.toString());
+
+		// The validation doesn't wait for any Java type
+		ResolvingJavaTypeContext resolvingJavaTypeContext = new ResolvingJavaTypeContext(template, javaCache);
+		new QuteLanguageService(javaCache).doDiagnostics(template, new QuteValidationSettings(),
+				new QuteNativeSettings(), resolvingJavaTypeContext, () -> {
+				});
+		assertTrue(resolvingJavaTypeContext.isEmpty(), resolvingJavaTypeContext.toString());
+	}
+}
@@ -0,0 +1,195 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.services;
+
+import static com.redhat.qute.QuteAssert.TEMPLATE_BASE_DIR;
+import static com.redhat.qute.services.QuteSemanticTokens.CLASS;
+import static com.redhat.qute.services.QuteSemanticTokens.DECLARATION;
+import static com.redhat.qute.services.QuteSemanticTokens.KEYWORD;
+import static com.redhat.qute.services.QuteSemanticTokens.METHOD;
+import static com.redhat.qute.services.QuteSemanticTokens.NAMESPACE;
+import static com.redhat.qute.services.QuteSemanticTokens.NUMBER;
+import static com.redhat.qute.services.QuteSemanticTokens.OPERATOR;
+import static com.redhat.qute.services.QuteSemanticTokens.PARAMETER;
+import static com.redhat.qute.services.QuteSemanticTokens.PROPERTY;
+import static com.redhat.qute.services.QuteSemanticTokens.VARIABLE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.SemanticTokensEdit;
+import org.junit.jupiter.api.Test;
+
+import com.redhat.qute.commons.ProjectInfo;
+import com.redhat.qute.parser.template.Template;
+import com.redhat.qute.parser.template.TemplateParser;
+import com.redhat.qute.project.MockQuteProjectRegistry;
+import com.redhat.qute.project.QuteQuickStartProject;
+import com.redhat.qute.project.datamodel.JavaDataModelCache;
+
+/**
+ * Tests for {@link QuteSemanticTokens}.
+ *
+ */
+public class QuteSemanticTokensTest {
+
+	private static final String TEMPLATE = "{@org.acme.Item item}\r\n" + //
+			"{#for review in item.reviews}\r\n" + //
+			"	{review.name}\r\n" + //
+			"{/for}\r\n" + //
+			"{#if item.price > 10}\r\n" + //
+			"	{item.name.toUpperCase()}\r\n" + //
+			"	{inject:bean}\r\n" + //
+			"{/if}";
+
+	@Test
+	public void semanticTokens() {
+		List<Integer> data = getSemanticTokens(TEMPLATE, null);
+		assertTokens(data, //
+				t(0, 2, 13, CLASS, 0), // org.acme.Item
+				t(0, 16, 4, PARAMETER, DECLARATION), // item
+				t(1, 1, 4, KEYWORD, 0), // #for
+				t(1, 6, 6, VARIABLE, DECLARATION), // review
+				t(1, 13, 2, KEYWORD, 0), // in
+				t(1, 16, 4, PARAMETER, 0), // item
+				t(1, 21, 7, PROPERTY, 0), // reviews
+				t(2, 2, 6, VARIABLE, 0), // review
+				t(2, 9, 4, PROPERTY, 0), // name
+				t(3, 1, 4, KEYWORD, 0), // /for
+				t(4, 1, 3, KEYWORD, 0), // #if
+				t(4, 5, 4, PARAMETER, 0), // item
+				t(4, 10, 5, PROPERTY, 0), // price
+				t(4, 16, 1, OPERATOR, 0), // >
+				t(4, 18, 2, NUMBER, 0), // 10
+				t(5, 2, 4, PARAMETER, 0), // item
+				t(5, 7, 4, PROPERTY, 0), // name
+				t(5, 12, 11, METHOD, 0), // toUpperCase
+				t(6, 2, 6, NAMESPACE, 0), // inject
+				t(6, 9, 4, VARIABLE, 0), // bean
+				t(7, 1, 3, KEYWORD, 0)); // /if
+	}
+
+	@Test
+	public void semanticTokensRange() {
+		List<Integer> data = getSemanticTokens(TEMPLATE, new Range(new Position(2, 0), new Position(3, 0)));
+		assertTokens(data, //
+				t(2, 2, 6, VARIABLE, 0), // review
+				t(2, 9, 4, PROPERTY, 0)); // name
+	}
+
+	@Test
+	public void shadowedParameter() {
+		String template = "{@org.acme.Item item}\r\n" + //
+				"{item.name}\r\n" + //
+				"{#for item in item.reviews}\r\n" + //
+				"	{item.name}\r\n" + //
+				"{/for}";
+		List<Integer> data = getSemanticTokens(template, null);
+		assertTokens(data, //
+				t(0, 2, 13, CLASS, 0), // org.acme.Item
+				t(0, 16, 4, PARAMETER, DECLARATION), // item
+				t(1, 1, 4, PARAMETER, 0), // item
+				t(1, 6, 4, PROPERTY, 0), // name
+				t(2, 1, 4, KEYWORD, 0), // #for
+				t(2, 6, 4, VARIABLE, DECLARATION), // item
+				t(2, 11, 2, KEYWORD, 0), // in
+				t(2, 14, 4, PARAMETER, 0), // item
+				t(2, 19, 7, PROPERTY, 0), // reviews
+				t(3, 2, 4, VARIABLE, 0), // item (the #for alias)
+				t(3, 7, 4, PROPERTY, 0), // name
+				t(4, 1, 4, KEYWORD, 0)); // /for
+	}
+
+	@Test
+	public void computeEdits() {
+		List<Integer> previous = Arrays.asList(0, 1, 4, 8, 0, 1, 2, 3, 2, 0, 1, 4, 2, 4, 0);
+		// No change
+		assertTrue(QuteSemanticTokens.computeEdits(previous, new ArrayList<>(previous)).isEmpty());
+
+		// Update the second token
+		List<Integer> current = Arrays.asList(0, 1, 4, 8, 0, 1, 2, 6, 3, 0, 1, 4, 2, 4, 0);
+		List<SemanticTokensEdit> edits = QuteSemanticTokens.computeEdits(previous, current);
+		assertEquals(1, edits.size());
+		assertEquals(7, edits.get(0).getStart());
+		assertEquals(2, edits.get(0).getDeleteCount());
+		assertEquals(Arrays.asList(6, 3), edits.get(0).getData());
+		assertEquals(current, applyEdits(previous, edits));
+
+		// Remove the last token
+		current = previous.subList(0, 10);
+		edits = QuteSemanticTokens.computeEdits(previous, current);
+		assertEquals(current, applyEdits(previous, edits));
+
+		// Insert a token at the start
+		current = new ArrayList<>(Arrays.asList(0, 0, 1, 9, 0));
+		current.addAll(previous);
+		edits = QuteSemanticTokens.computeEdits(previous, current);
+		assertEquals(1, edits.size());
+		assertEquals(5, edits.get(0).getData().size());
+		assertEquals(current, applyEdits(previous, edits));
+	}
+
+	private static List<Integer> getSemanticTokens(String content, Range range) {
+		MockQuteProjectRegistry registry = new MockQuteProjectRegistry();
+		JavaDataModelCache javaCache = new JavaDataModelCache(registry);
+		registry.getProject(new ProjectInfo(QuteQuickStartProject.PROJECT_URI, TEMPLATE_BASE_DIR));
+
+		String templateId = "semantictokens.qute.html";
+		Template template = TemplateParser.parse(content, templateId);
+		template.setProjectUri(QuteQuickStartProject.PROJECT_URI);
+		template.setTemplateId(templateId);
+		template.setProjectRegistry(registry);
+
+		return new QuteLanguageService(javaCache).getSemanticTokens(template, range,
+				new ResolvingJavaTypeContext(template, javaCache), () -> {
+				});
+	}
+
+	private static List<Integer> applyEdits(List<Integer> data, List<SemanticTokensEdit> edits) {
+		List<Integer> result = new ArrayList<>(data);
+		for (SemanticTokensEdit edit : edits) {
+			for (int i = 0; i < edit.getDeleteCount(); i++) {
+				result.remove(edit.getStart());
+			}
+			result.addAll(edit.getStart(), edit.getData());
+		}
+		return result;
+	}
+
+	private static int[] t(int line, int character, int length, int type, int modifiers) {
+		return new int[] { line, character, length, type, modifiers };
+	}
+
+	private static void assertTokens(List<Integer> data, int[]... expected) {
+		// Decode the relative positions
+		List<String> actual = new ArrayList<>();
+		int line = 0;
+		int character = 0;
+		for (int i = 0; i < data.size(); i += 5) {
+			int deltaLine = data.get(i);
+			line += deltaLine;
+			character = deltaLine == 0 ? character + data.get(i + 1) : data.get(i + 1);
+			actual.add(Arrays.toString(
+					new int[] { line, character, data.get(i + 2), data.get(i + 3), data.get(i + 4) }));
+		}
+		List<String> expectedTokens = new ArrayList<>();
+		for (int[] token : expected) {
+			expectedTokens.add(Arrays.toString(token));
+		}
+		assertEquals(String.join("\n", expectedTokens), String.join("\n", actual));
+	}
+}
@@ -0,0 +1,105 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.services.completions;
+
+import static com.redhat.qute.QuteAssert.r;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.eclipse.lsp4j.CompletionItem;
+import org.eclipse.lsp4j.CompletionItemKind;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.TextEdit;
+import org.eclipse.lsp4j.jsonrpc.messages.Either;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link JavaMemberCompletionItems}.
+ *
+ */
+public class JavaMemberCompletionItemsTest {
+
+	@Test
+	public void filterWithPrefix() {
+		JavaMemberCompletionItems items = new JavaMemberCompletionItems(Arrays.asList( //
+				item("name : String", "name"), //
+				item("price : BigInteger", "price"), //
+				item("review : Review", "review"), //
+				item("getReview2() : Review", "getReview2")));
+
+		assertEquals(4, items.getItems(null).size());
+		assertEquals(4, items.getItems("").size());
+		assertLabels(items.getItems("r"), "price", "review", "getReview2");
+		assertLabels(items.getItems("re"), "price", "review", "getReview2");
+		assertLabels(items.getItems("rev"), "review", "getReview2");
+		assertLabels(items.getItems("gRv"), "getReview2");
+		assertLabels(items.getItems("x"));
+	}
+
+	@Test
+	public void reuseLastFilterResult() {
+		JavaMemberCompletionItems items = new JavaMemberCompletionItems(Arrays.asList( //
+				item("name : String", "name"), //
+				item("review : Review", "review")));
+
+		List<CompletionItem> first = items.getItems("na");
+		assertSame(first, items.getItems("na"));
+
+		// 'nam' narrows the previous result of 'na'
+		assertLabels(items.getItems("nam"), "name");
+		// 'r' doesn't start with 'nam', filter from all items
+		assertLabels(items.getItems("r"), "review");
+	}
+
+	@Test
+	public void createItemWithRange() {
+		CompletionItem template = item("name : String", "name");
+		Range range = r(1, 12, 1, 14);
+		CompletionItem item = JavaMemberCompletionItems.createItem(template, range);
+		assertEquals("name : String", item.getLabel());
+		assertEquals(CompletionItemKind.Field, item.getKind());
+		assertEquals(range, item.getTextEdit().getLeft().getRange());
+		assertEquals("name", item.getTextEdit().getLeft().getNewText());
+		// The prebuilt item is not updated
+		assertEquals(JavaMemberCompletionItems.PLACEHOLDER_RANGE, template.getTextEdit().getLeft().getRange());
+	}
+
+	@Test
+	public void matchPrefix() {
+		assertTrue(JavaMemberCompletionItems.isMatchPrefix("getReview2", "get"));
+		assertTrue(JavaMemberCompletionItems.isMatchPrefix("getReview2", "GETR"));
+		assertTrue(JavaMemberCompletionItems.isMatchPrefix("getReview2", "gr2"));
+		assertFalse(JavaMemberCompletionItems.isMatchPrefix("getReview2", "2r"));
+		assertFalse(JavaMemberCompletionItems.isMatchPrefix("name", "names"));
+	}
+
+	private static CompletionItem item(String label, String insertText) {
+		CompletionItem item = new CompletionItem();
+		item.setLabel(label);
+		item.setFilterText(insertText);
+		item.setKind(CompletionItemKind.Field);
+		TextEdit textEdit = new TextEdit(JavaMemberCompletionItems.PLACEHOLDER_RANGE, insertText);
+		item.setTextEdit(Either.forLeft(textEdit));
+		return item;
+	}
+
+	private static void assertLabels(List<CompletionItem> items, String... expectedFilterTexts) {
+		assertEquals(Arrays.asList(expectedFilterTexts),
+				items.stream().map(CompletionItem::getFilterText).collect(Collectors.toList()));
+	}
+}
@@ -0,0 +1,125 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.services.diagnostics;
+
+import static com.redhat.qute.QuteAssert.TEMPLATE_BASE_DIR;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.Position;
+import org.junit.jupiter.api.Test;
+
+import com.redhat.qute.commons.ProjectInfo;
+import com.redhat.qute.parser.template.RangeOffset;
+import com.redhat.qute.parser.template.Template;
+import com.redhat.qute.parser.template.TemplateParser;
+import com.redhat.qute.project.MockQuteProjectRegistry;
+import com.redhat.qute.project.QuteQuickStartProject;
+import com.redhat.qute.project.datamodel.JavaDataModelCache;
+import com.redhat.qute.services.QuteLanguageService;
+import com.redhat.qute.services.ResolvingJavaTypeContext;
+import com.redhat.qute.settings.QuteNativeSettings;
+import com.redhat.qute.settings.QuteValidationSettings;
+
+/**
+ * Tests for
+ * {@link QuteLanguageService#doDataModelDiagnostics(Template, QuteValidationSettings, QuteNativeSettings, ResolvingJavaTypeContext, RangeOffset, org.eclipse.lsp4j.jsonrpc.CancelChecker)}
+ * used to validate large templates by chunks.
+ *
+ */
+public class QuteDiagnosticsByRegionTest {
+
+	private static final String TEMPLATE_CONTENT = "{@org.acme.Item item}\r\n" + // 0
+			"{item.XXX}\r\n" + // 1
+			"{#for review in item.reviews}\r\n" + // 2
+			"	{review.name}\r\n" + // 3
+			"	{review.XXX}\r\n" + // 4
+			"	{#let name=review.name}\r\n" + // 5
+			"		{name.XXX}\r\n" + // 6
+			"		{name}\r\n" + // 7
+			"	{/let}\r\n" + // 8
+			"{/for}\r\n" + // 9
+			"{#with item}\r\n" + // 10
+			"	{name}\r\n" + // 11
+			"	{XXX}\r\n" + // 12
+			"{/with}\r\n" + // 13
+			"{undefined}";
+
+	@Test
+	public void chunksReportSameDiagnosticsThanFullValidation() throws Exception {
+		MockQuteProjectRegistry registry = new MockQuteProjectRegistry();
+		JavaDataModelCache javaCache = new JavaDataModelCache(registry);
+		registry.getProject(new ProjectInfo(QuteQuickStartProject.PROJECT_URI, TEMPLATE_BASE_DIR));
+		QuteLanguageService languageService = new QuteLanguageService(javaCache);
+		Template template = createTemplate(registry);
+
+		List<Diagnostic> expected = languageService.doDiagnostics(template, new QuteValidationSettings(),
+				new QuteNativeSettings(), new ResolvingJavaTypeContext(template, javaCache), () -> {
+				});
+		assertFalse(expected.isEmpty());
+
+		int lineCount = 15;
+		for (int chunkLines = 1; chunkLines <= lineCount; chunkLines++) {
+			List<Diagnostic> actual = languageService.doSyntaxDiagnostics(template, new QuteValidationSettings(),
+					() -> {
+					});
+			for (int startLine = 0; startLine < lineCount; startLine += chunkLines) {
+				RangeOffset region = createRegion(template, startLine, Math.min(lineCount, startLine + chunkLines));
+				actual.addAll(languageService.doDataModelDiagnostics(template, new QuteValidationSettings(),
+						new QuteNativeSettings(), new ResolvingJavaTypeContext(template, javaCache), region, () -> {
+						}));
+			}
+			assertEquals(expected, actual, "Chunk of " + chunkLines + " lines");
+		}
+	}
+
+	@Test
+	public void onlyRegionIsReported() throws Exception {
+		MockQuteProjectRegistry registry = new MockQuteProjectRegistry();
+		JavaDataModelCache javaCache = new JavaDataModelCache(registry);
+		registry.getProject(new ProjectInfo(QuteQuickStartProject.PROJECT_URI, TEMPLATE_BASE_DIR));
+		QuteLanguageService languageService = new QuteLanguageService(javaCache);
+		Template template = createTemplate(registry);
+
+		// Lines of the #let section
+		List<Diagnostic> diagnostics = languageService.doDataModelDiagnostics(template,
+				new QuteValidationSettings(), new QuteNativeSettings(),
+				new ResolvingJavaTypeContext(template, javaCache), createRegion(template, 5, 9), () -> {
+				});
+		assertEquals(1, diagnostics.size(), diagnostics.toString());
+		// {name.XXX} : 'name' is resolved with the #let and #for sections which start
+		// before the region
+		Diagnostic diagnostic = diagnostics.get(0);
+		assertEquals(6, diagnostic.getRange().getStart().getLine());
+		assertTrue(diagnostic.getMessage().contains("XXX"), diagnostic.getMessage());
+	}
+
+	private static Template createTemplate(MockQuteProjectRegistry registry) {
+		String templateId = "chunks.qute.html";
+		Template template = TemplateParser.parse(TEMPLATE_CONTENT, templateId);
+		template.setProjectUri(QuteQuickStartProject.PROJECT_URI);
+		template.setTemplateId(templateId);
+		template.setProjectRegistry(registry);
+		return template;
+	}
+
+	private static RangeOffset createRegion(Template template, int startLine, int endLine) throws Exception {
+		int start = template.offsetAt(new Position(startLine, 0));
+		int end = endLine >= 15 ? template.getText().length() : template.offsetAt(new Position(endLine, 0));
+		return new RangeOffset(start, end);
+	}
+}
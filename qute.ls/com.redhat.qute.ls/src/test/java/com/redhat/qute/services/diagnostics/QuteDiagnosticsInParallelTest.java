@@ -0,0 +1,153 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.services.diagnostics;
+
+import static com.redhat.qute.QuteAssert.TEMPLATE_BASE_DIR;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.lsp4j.Diagnostic;
+import org.junit.jupiter.api.Test;
+
+import com.redhat.qute.commons.ProjectInfo;
+import com.redhat.qute.parser.template.Template;
+import com.redhat.qute.parser.template.TemplateParser;
+import com.redhat.qute.project.MockQuteProjectRegistry;
+import com.redhat.qute.project.QuteQuickStartProject;
+import com.redhat.qute.project.datamodel.JavaDataModelCache;
+import com.redhat.qute.services.QuteLanguageService;
+import com.redhat.qute.services.ResolvingJavaTypeContext;
+import com.redhat.qute.settings.QuteNativeSettings;
+import com.redhat.qute.settings.QuteValidationSettings;
+
+/**
+ * Tests for the parallel validation of the data model of large templates.
+ *
+ */
+public class QuteDiagnosticsInParallelTest {
+
+	private static final String BLOCK = "{item.XXX}\r\n" + //
+			"{#for review in item.reviews}\r\n" + //
+			"	{review.name}\r\n" + //
+			"	{review.XXX}\r\n" + //
+			"	{#let name=review.name}\r\n" + //
+			"		{name.XXX}\r\n" + //
+			"	{/let}\r\n" + //
+			"{/for}\r\n" + //
+			"{#with item}\r\n" + //
+			"	{name}\r\n" + //
+			"	{XXX}\r\n" + //
+			"	{#if name}{base.XXX}{/if}\r\n" + //
+			"{/with}\r\n" + //
+			"{undefined}\r\n";
+
+	// %1$d is replaced with the index of the block to declare unique parameters
+	private static final String BLOCK_WITH_DECLARATIONS = "{@org.acme.Review review%1$d}\r\n" + //
+			"{#if item}\r\n" + //
+			"	{@org.acme.Item other%1$d}\r\n" + //
+			"	{@org.acme.XXX unknown%1$d}\r\n" + //
+			"	{review%1$d.XXX}\r\n" + //
+			"{/if}\r\n" + //
+			"{#switch item.name}\r\n" + //
+			"	{#case 'a'}\r\n" + //
+			"		{item.XXX}\r\n" + //
+			"	{#case 123}\r\n" + //
+			"{/switch}\r\n";
+
+	@Test
+	public void parallelValidationReportsSameDiagnostics() throws Exception {
+		assertSameDiagnostics(BLOCK, 200 * 6);
+	}
+
+	@Test
+	public void parallelValidationWithParameterDeclarations() throws Exception {
+		// The subtrees declare parameters while they share the root resolution context
+		assertSameDiagnostics(BLOCK_WITH_DECLARATIONS, 200 * 4);
+	}
+
+	@Test
+	public void parallelValidationWithDifferentParallelism() throws Exception {
+		MockQuteProjectRegistry registry = new MockQuteProjectRegistry();
+		JavaDataModelCache javaCache = new JavaDataModelCache(registry);
+		registry.getProject(new ProjectInfo(QuteQuickStartProject.PROJECT_URI, TEMPLATE_BASE_DIR));
+		QuteLanguageService languageService = new QuteLanguageService(javaCache);
+		Template template = createTemplate(BLOCK, registry);
+		List<Diagnostic> expected = languageService.doDiagnostics(template, new QuteValidationSettings(),
+				new QuteNativeSettings(), new ResolvingJavaTypeContext(template, javaCache), () -> {
+				});
+
+		// Templates validated at the same time with different parallelism settings
+		// share the language service
+		ExecutorService executor = Executors.newFixedThreadPool(6);
+		try {
+			List<Future<List<Diagnostic>>> results = new ArrayList<>();
+			for (int i = 0; i < 12; i++) {
+				int parallelism = 2 + i % 3;
+				results.add(executor.submit(() -> {
+					QuteValidationSettings settings = new QuteValidationSettings();
+					settings.setParallelism(parallelism);
+					return languageService.doDiagnostics(template, settings, new QuteNativeSettings(),
+							new ResolvingJavaTypeContext(template, javaCache), () -> {
+							});
+				}));
+			}
+			for (Future<List<Diagnostic>> result : results) {
+				assertEquals(expected, result.get(30, TimeUnit.SECONDS));
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static Template createTemplate(String block, MockQuteProjectRegistry registry) {
+		StringBuilder content = new StringBuilder("{@org.acme.Item item}\r\n");
+		for (int i = 0; i < 200; i++) {
+			content.append(String.format(block, i));
+		}
+		String templateId = "parallel.qute.html";
+		Template template = TemplateParser.parse(content.toString(), templateId);
+		template.setProjectUri(QuteQuickStartProject.PROJECT_URI);
+		template.setTemplateId(templateId);
+		template.setProjectRegistry(registry);
+		return template;
+	}
+
+	private static void assertSameDiagnostics(String block, int expectedCount) {
+		MockQuteProjectRegistry registry = new MockQuteProjectRegistry();
+		JavaDataModelCache javaCache = new JavaDataModelCache(registry);
+		registry.getProject(new ProjectInfo(QuteQuickStartProject.PROJECT_URI, TEMPLATE_BASE_DIR));
+		QuteLanguageService languageService = new QuteLanguageService(javaCache);
+		Template template = createTemplate(block, registry);
+
+		QuteValidationSettings sequentialSettings = new QuteValidationSettings();
+		ResolvingJavaTypeContext sequentialContext = new ResolvingJavaTypeContext(template, javaCache);
+		List<Diagnostic> expected = languageService.doDiagnostics(template, sequentialSettings,
+				new QuteNativeSettings(), sequentialContext, () -> {
+				});
+		assertEquals(expectedCount, expected.size());
+
+		QuteValidationSettings parallelSettings = new QuteValidationSettings();
+		parallelSettings.setParallelism(4);
+		ResolvingJavaTypeContext parallelContext = new ResolvingJavaTypeContext(template, javaCache);
+		List<Diagnostic> actual = languageService.doDiagnostics(template, parallelSettings, new QuteNativeSettings(),
+				parallelContext, () -> {
+				});
+		assertEquals(expected, actual);
+		assertEquals(sequentialContext.getJavaTypeDependencies(), parallelContext.getJavaTypeDependencies());
+	}
+}
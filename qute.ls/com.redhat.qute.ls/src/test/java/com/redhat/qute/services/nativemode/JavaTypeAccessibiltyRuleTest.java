@@ -0,0 +1,55 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.services.nativemode;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import com.redhat.qute.commons.annotations.RegisterForReflectionAnnotation;
+import com.redhat.qute.commons.annotations.TemplateDataAnnotation;
+
+/**
+ * Tests for {@link JavaTypeAccessibiltyRule}.
+ *
+ */
+public class JavaTypeAccessibiltyRuleTest {
+
+	@Test
+	public void keyDependsOnContent() {
+		JavaTypeAccessibiltyRule ignoreName = createRule("name", "price");
+		JavaTypeAccessibiltyRule ignorePrice = createRule("price");
+
+		// Different ignore list -> different keys
+		assertNotEquals(ignoreName.getKey(), ignorePrice.getKey());
+		// Same ignore list (in another order) -> same key
+		assertEquals(ignoreName.getKey(), createRule("price", "name").getKey());
+
+		// @RegisterForReflection(fields = false)
+		JavaTypeAccessibiltyRule noFields = createRule("price");
+		RegisterForReflectionAnnotation registerForReflection = new RegisterForReflectionAnnotation();
+		registerForReflection.setFields(false);
+		noFields.merge(registerForReflection);
+		assertNotEquals(ignorePrice.getKey(), noFields.getKey());
+	}
+
+	private static JavaTypeAccessibiltyRule createRule(String... ignore) {
+		TemplateDataAnnotation templateData = new TemplateDataAnnotation();
+		templateData.setIgnore(Arrays.asList(ignore));
+		JavaTypeAccessibiltyRule rule = new JavaTypeAccessibiltyRule();
+		rule.merge(templateData);
+		return rule;
+	}
+}
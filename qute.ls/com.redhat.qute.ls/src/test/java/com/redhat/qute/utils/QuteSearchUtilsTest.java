@@ -0,0 +1,98 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.junit.jupiter.api.Test;
+
+import com.redhat.qute.parser.expression.ObjectPart;
+import com.redhat.qute.parser.template.Node;
+import com.redhat.qute.parser.template.NodeKind;
+import com.redhat.qute.parser.template.Template;
+import com.redhat.qute.parser.template.TemplateParser;
+
+/**
+ * Tests for {@link QuteSearchUtils} with the symbol table of the template.
+ *
+ */
+public class QuteSearchUtilsTest {
+
+	@Test
+	public void searchReferencedObjects() {
+		String text = "{@org.acme.Item item}\r\n" + //
+				"{item.name}\r\n" + //
+				"{#for i in item.items}\r\n" + //
+				"	{i.name} {item.name}\r\n" + //
+				"{/for}";
+		Template template = TemplateParser.parse(text, "test.qute");
+		int offset = text.indexOf("item}");
+		Node node = QutePositionUtility.findBestNode(offset, template.findNodeAt(offset));
+		assertEquals(NodeKind.ParameterDeclaration, node.getKind());
+
+		List<Range> ranges = searchReferencedObjects(node, offset);
+		assertEquals(4, ranges.size());
+		assertEquals(r(0, 16, 0, 20), ranges.get(0));
+		assertEquals(r(1, 1, 1, 5), ranges.get(1));
+		assertEquals(r(2, 11, 2, 15), ranges.get(2));
+		assertEquals(r(3, 11, 3, 15), ranges.get(3));
+
+		// The references are stored in the symbol table of the template
+		assertSame(template.getSymbolTable().getReferences(node, c -> {
+			throw new IllegalStateException("References must not be searched again");
+		}), template.getSymbolTable().getReferences(node, null));
+		assertEquals(ranges, searchReferencedObjects(node, offset));
+	}
+
+	@Test
+	public void searchDeclaredObject() {
+		String text = "{@org.acme.Item item}\r\n" + //
+				"{#for item in item.items}\r\n" + //
+				"	{item.name}\r\n" + //
+				"{/for}";
+		Template template = TemplateParser.parse(text, "test.qute");
+		int offset = text.indexOf("item.name") + 1;
+		Node node = QutePositionUtility.findBestNode(offset, template.findNodeAt(offset));
+		assertEquals(NodeKind.ExpressionPart, node.getKind());
+
+		List<Range> ranges = searchDeclaredObject(node);
+		assertEquals(1, ranges.size());
+		assertEquals(r(1, 6, 1, 10), ranges.get(0));
+		// second search uses the symbol table
+		assertEquals(ranges, searchDeclaredObject(node));
+	}
+
+	private static List<Range> searchReferencedObjects(Node node, int offset) {
+		List<Range> ranges = new ArrayList<>();
+		QuteSearchUtils.searchReferencedObjects(node, offset, (n, range) -> ranges.add(range), true, () -> {
+		});
+		return ranges;
+	}
+
+	private static List<Range> searchDeclaredObject(Node node) {
+		List<Range> ranges = new ArrayList<>();
+		QuteSearchUtils.searchDeclaredObject((ObjectPart) node,
+				(n, range) -> ranges.add(range), false, () -> {
+				});
+		return ranges;
+	}
+
+	private static Range r(int startLine, int startCharacter, int endLine, int endCharacter) {
+		return new Range(new Position(startLine, startCharacter), new Position(endLine, endCharacter));
+	}
+}
@@ -0,0 +1,73 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link SimilarNamesIndex}.
+ *
+ */
+public class SimilarNamesIndexTest {
+
+	private static final List<String> NAMES = Arrays.asList("name", "price", "review", "review2", "available",
+			"isAvailable", "discountedPrice", "getName", "getPrice", "getReview2", "orEmpty", "size", "get", "take",
+			"takeLast", "or", "ifTruthy", "toString", "hashCode", "equals", "name");
+
+	@Test
+	public void findSimilarNames() {
+		SimilarNamesIndex index = new SimilarNamesIndex(NAMES);
+		assertEquals(20, index.size());
+
+		assertEquals(Arrays.asList("name"), index.findSimilarNames("nme", 10));
+		assertEquals(Arrays.asList("available", "isAvailable"), index.findSimilarNames("avilable", 10));
+		assertEquals(Arrays.asList("review", "review2"), index.findSimilarNames("reviw", 10));
+		assertEquals(Arrays.asList("discountedPrice"), index.findSimilarNames("discountedPrce", 10));
+		assertEquals(Arrays.asList(), index.findSimilarNames("xyz", 10));
+	}
+
+	@Test
+	public void limit() {
+		SimilarNamesIndex index = new SimilarNamesIndex(NAMES);
+		// 'review2' is closer than 'review' to 'reviw2'
+		assertEquals(Arrays.asList("review", "review2"), index.findSimilarNames("reviw2", 10));
+		assertEquals(Arrays.asList("review2"), index.findSimilarNames("reviw2", 1));
+	}
+
+	@Test
+	public void sameResultThanIsSimilar() {
+		SimilarNamesIndex index = new SimilarNamesIndex(NAMES);
+		for (String name : Arrays.asList("nme", "prise", "reviw", "tke", "orEmty", "sze", "gt", "o", "hashcode",
+				"tostring", "getPrise", "isAvalable", "a", "")) {
+			List<String> expected = new ArrayList<>();
+			for (String value : NAMES) {
+				if (!expected.contains(value) && StringUtils.isSimilar(value, name)) {
+					expected.add(value);
+				}
+			}
+			assertEquals(expected, index.findSimilarNames(name, NAMES.size()), name);
+		}
+	}
+
+	@Test
+	public void empty() {
+		SimilarNamesIndex index = new SimilarNamesIndex(new ArrayList<>());
+		assertEquals(0, index.size());
+		assertEquals(Arrays.asList(), index.findSimilarNames("name", 10));
+	}
+}
@@ -0,0 +1,157 @@
+/*******************************************************************************
+* Copyright (c) 2023 Red Hat Inc. and others.
+* All rights reserved. This program and the accompanying materials
+* which accompanies this distribution, and is available at
+* http://www.eclipse.org/legal/epl-v20.html
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package com.redhat.qute.validator;
+
+import static com.redhat.qute.QuteAssert.d;
+import static com.redhat.qute.QuteAssert.assertDiagnostics;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.DiagnosticSeverity;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.redhat.qute.ls.QuteValidatorLauncher;
+import com.redhat.qute.project.QuteProjectSnapshot;
+import com.redhat.qute.services.diagnostics.JavaBaseTypeOfPartData;
+import com.redhat.qute.services.diagnostics.QuteErrorCode;
+import com.redhat.qute.settings.QuteNativeSettings;
+import com.redhat.qute.settings.QuteValidationSettings;
+
+/**
+ * Tests for {@link QuteTemplateValidator}.
+ *
+ */
+public class QuteTemplateValidatorTest {
+
+	private static final String SNAPSHOT = "{\r\n" + //
+			"  \"projectUri\": \"qute-validator\",\r\n" + //
+			"  \"dataModel\": {\r\n" + //
+			"    \"templates\": [\r\n" + //
+			"      {\r\n" + //
+			"        \"templateUri\": \"templates/items\",\r\n" + //
+			"        \"sourceType\": \"org.acme.ItemResource\",\r\n" + //
+			"        \"sourceMethod\": \"items\",\r\n" + //
+			"        \"parameters\": [\r\n" + //
+			"          { \"key\": \"item\", \"sourceType\": \"org.acme.Item\" }\r\n" + //
+			"        ]\r\n" + //
+			"      }\r\n" + //
+			"    ]\r\n" + //
+			"  },\r\n" + //
+			"  \"resolvedTypes\": [\r\n" + //
+			"    {\r\n" + //
+			"      \"signature\": \"org.acme.Item\",\r\n" + //
+			"      \"fields\": [ { \"signature\": \"name : java.lang.String\" } ],\r\n" + //
+			"      \"methods\": []\r\n" + //
+			"    },\r\n" + //
+			"    {\r\n" + //
+			"      \"signature\": \"java.lang.String\",\r\n" + //
+			"      \"fields\": [],\r\n" + //
+			"      \"methods\": []\r\n" + //
+			"    }\r\n" + //
+			"  ]\r\n" + //
+			"}";
+
+	@Test
+	public void validate(@TempDir Path tempDir) throws Exception {
+		Path templatesDir = createTemplates(tempDir);
+		QuteTemplateValidator validator = new QuteTemplateValidator(templatesDir,
+				QuteProjectSnapshot.load(new StringReader(SNAPSHOT)), new QuteValidationSettings(),
+				new QuteNativeSettings());
+
+		List<TemplateValidationResult> results = validator.validate(4);
+		assertEquals(3, results.size());
+
+		// Results are ordered by path
+		assertEquals("items.html", results.get(0).getTemplateId());
+		Diagnostic d = d(1, 6, 1, 9, QuteErrorCode.UnknownProperty,
+				"`nme` cannot be resolved or is not a field of `org.acme.Item` Java type.", DiagnosticSeverity.Error);
+		d.setData(new JavaBaseTypeOfPartData("org.acme.Item"));
+		assertDiagnostics(results.get(0).getDiagnostics(), d);
+		assertTrue(results.get(0).hasErrors());
+
+		assertEquals("valid.html", results.get(1).getTemplateId());
+		assertDiagnostics(results.get(1).getDiagnostics());
+		assertFalse(results.get(1).hasErrors());
+
+		assertEquals("valid2.html", results.get(2).getTemplateId());
+		assertDiagnostics(results.get(2).getDiagnostics());
+	}
+
+	@Test
+	public void sarif(@TempDir Path tempDir) throws Exception {
+		Path templatesDir = createTemplates(tempDir);
+		QuteTemplateValidator validator = new QuteTemplateValidator(templatesDir,
+				QuteProjectSnapshot.load(new StringReader(SNAPSHOT)), new QuteValidationSettings(),
+				new QuteNativeSettings());
+		QuteValidationReport report = new QuteValidationReport(validator.validate(2));
+
+		JsonObject sarif = JsonParser.parseString(report.toSarif()).getAsJsonObject();
+		assertEquals("2.1.0", sarif.get("version").getAsString());
+		JsonObject run = sarif.getAsJsonArray("runs").get(0).getAsJsonObject();
+		assertEquals(1, run.getAsJsonArray("results").size());
+		JsonObject result = run.getAsJsonArray("results").get(0).getAsJsonObject();
+		assertEquals("UnknownProperty", result.get("ruleId").getAsString());
+		assertEquals("error", result.get("level").getAsString());
+		JsonObject region = result.getAsJsonArray("locations").get(0).getAsJsonObject()
+				.getAsJsonObject("physicalLocation").getAsJsonObject("region");
+		assertEquals(2, region.get("startLine").getAsInt());
+		assertEquals(7, region.get("startColumn").getAsInt());
+	}
+
+	@Test
+	public void launcher(@TempDir Path tempDir) throws Exception {
+		Path templatesDir = createTemplates(tempDir);
+		Path snapshotFile = tempDir.resolve("snapshot.json");
+		Files.write(snapshotFile, SNAPSHOT.getBytes(StandardCharsets.UTF_8));
+		Path outputFile = tempDir.resolve("report.json");
+
+		ByteArrayOutputStream err = new ByteArrayOutputStream();
+		int exitCode = QuteValidatorLauncher.run(new String[] { "--templates", templatesDir.toString(), "--snapshot",
+				snapshotFile.toString(), "--output", outputFile.toString() }, System.out, new PrintStream(err));
+		assertEquals(1, exitCode);
+		JsonObject report = JsonParser.parseString(Files.readString(outputFile)).getAsJsonObject();
+		assertEquals(3, report.getAsJsonArray("templates").size());
+		assertEquals(1, report.get("errors").getAsInt());
+
+		// Invalid arguments
+		assertEquals(2, QuteValidatorLauncher.run(new String[] { "--format", "xml" }, System.out,
+				new PrintStream(err)));
+	}
+
+	private static Path createTemplates(Path tempDir) throws IOException {
+		Path templatesDir = tempDir.resolve("templates");
+		Files.createDirectories(templatesDir);
+		Files.write(templatesDir.resolve("items.html"),
+				"{item.name}\r\n{item.nme}".getBytes(StandardCharsets.UTF_8));
+		Files.write(templatesDir.resolve("valid.html"),
+				"{@org.acme.Item item}\r\n{item.name}".getBytes(StandardCharsets.UTF_8));
+		Files.write(templatesDir.resolve("valid2.html"), "<p>Hello</p>".getBytes(StandardCharsets.UTF_8));
+		// Files which are not Qute templates are not validated
+		Files.write(templatesDir.resolve(".gitkeep"), new byte[0]);
+		Files.write(templatesDir.resolve("logo.png"), "{item.nme}".getBytes(StandardCharsets.UTF_8));
+		return templatesDir;
+	}
+}